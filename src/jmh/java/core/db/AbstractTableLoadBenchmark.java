@@ -0,0 +1,119 @@
+package core.db;
+
+import core.model.player.Player;
+import core.util.AmountOfMoney;
+import core.util.HODateTime;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares loading the player table with the compiled row mapper of {@link AbstractTable}
+ * against the former reflective, column name based mapping.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AbstractTableLoadBenchmark {
+
+    @Param({"100000"})
+    private int rows;
+
+    private Connection connection;
+    private ConnectionManager connectionManager;
+    private SpielerTable table;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        connection = DriverManager.getConnection("jdbc:hsqldb:mem:loadbenchmark", "SA", "");
+        connectionManager = new ConnectionManager();
+        connectionManager.connect(connection);
+        table = new SpielerTable(connectionManager);
+        table.createTable();
+
+        BenchmarkTables.fill(table, connection, rows);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        connectionManager.executeUpdate("DROP TABLE " + table.getTableName());
+        connectionManager.disconnect();
+    }
+
+    @Benchmark
+    public List<Player> compiledRowMapper() throws Exception {
+        return table.load(Player.class, selectAll());
+    }
+
+    @Benchmark
+    public List<Player> reflectiveByName() throws Exception {
+        var rs = selectAll();
+        var ret = new ArrayList<Player>();
+        while (rs.next()) {
+            var object = Player.class.getConstructor().newInstance();
+            for (var c : table.getColumns()) {
+                var name = c.getColumnName();
+                var value = switch (c.getType()) {
+                    case Types.VARCHAR -> {
+                        var v = rs.getString(name);
+                        yield rs.wasNull() ? "" : v;
+                    }
+                    case Types.INTEGER -> {
+                        var v = rs.getInt(name);
+                        yield rs.wasNull() ? null : v;
+                    }
+                    case Types.TIMESTAMP -> {
+                        var v = rs.getTimestamp(name);
+                        yield rs.wasNull() ? null : HODateTime.fromDbTimestamp(v);
+                    }
+                    case Types.BOOLEAN -> {
+                        var v = rs.getBoolean(name);
+                        yield rs.wasNull() ? null : v;
+                    }
+                    case Types.DOUBLE -> {
+                        var v = rs.getDouble(name);
+                        yield rs.wasNull() ? null : v;
+                    }
+                    case Types.DECIMAL -> {
+                        var v = rs.getBigDecimal(name);
+                        yield rs.wasNull() ? null : new AmountOfMoney(v);
+                    }
+                    case Types.REAL -> {
+                        var v = rs.getFloat(name);
+                        yield rs.wasNull() ? null : v;
+                    }
+                    default -> throw new IllegalStateException("Unexpected value: " + c.getType());
+                };
+                c.setter.accept(object, value);
+            }
+            object.setIsStored(true);
+            ret.add(object);
+        }
+        rs.close();
+        return ret;
+    }
+
+    private ResultSet selectAll() throws Exception {
+        return connectionManager.executeQuery("SELECT * FROM " + table.getTableName());
+    }
+}
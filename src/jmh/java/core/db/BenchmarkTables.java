@@ -0,0 +1,51 @@
+package core.db;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+
+/**
+ * Helpers to fill tables with synthetic rows for the database benchmarks.
+ */
+final class BenchmarkTables {
+
+    private BenchmarkTables() {
+    }
+
+    /**
+     * Insert synthetic rows into the table.
+     * The first column is numbered by row, all other columns get a constant
+     * value of their column type.
+     *
+     * @param table      table to fill
+     * @param connection database connection
+     * @param rows       number of rows
+     */
+    static void fill(AbstractTable table, Connection connection, int rows) throws SQLException {
+        var columns = table.getColumns();
+        var sql = "INSERT INTO " + table.getTableName() + " VALUES (" + DBManager.getPlaceholders(columns.length) + ")";
+        var timestamp = new Timestamp(System.currentTimeMillis());
+        try (var insert = connection.prepareStatement(sql)) {
+            for (int row = 0; row < rows; row++) {
+                for (int i = 0; i < columns.length; i++) {
+                    var value = switch (columns[i].getType()) {
+                        case Types.INTEGER -> i == 0 ? row : 1;
+                        case Types.VARCHAR -> "2020-01-01 12:00:00";
+                        case Types.TIMESTAMP -> timestamp;
+                        case Types.REAL -> 0.5f;
+                        case Types.DOUBLE -> 0.5d;
+                        case Types.DECIMAL -> 10000;
+                        case Types.BOOLEAN -> false;
+                        default -> null;
+                    };
+                    insert.setObject(i + 1, value);
+                }
+                insert.addBatch();
+                if (row % 1000 == 999 || row == rows - 1) {
+                    insert.executeBatch();
+                }
+            }
+        }
+    }
+}
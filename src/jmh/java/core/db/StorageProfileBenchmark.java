@@ -0,0 +1,133 @@
+package core.db;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.DriverManager;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the {@link StorageProfile} DEFAULT (HSQLDB defaults) against AUTO on a file database
+ * with a large player table: opening the database and reading ranges of the player history.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class StorageProfileBenchmark {
+
+    private static final int QUERIES = 200;
+    private static final int QUERY_ROWS = 500;
+
+    @State(Scope.Benchmark)
+    public static class Database {
+
+        @Param({"DEFAULT", "AUTO"})
+        private String profile;
+
+        @Param({"300000"})
+        private int rows;
+
+        private Path directory;
+
+        @Setup(Level.Trial)
+        public void setUp() throws Exception {
+            directory = Files.createTempDirectory("profilebenchmark");
+            var connectionManager = connect();
+            var table = new SpielerTable(connectionManager);
+            table.createTable();
+            for (var statement : table.getCreateIndexStatement()) {
+                connectionManager.executeUpdate(statement);
+            }
+            BenchmarkTables.fill(table, connectionManager.getConnection(), rows);
+            connectionManager.executeUpdate("CHECKPOINT");
+            var dataFileSize = new File(directory.resolve("database.data").toString()).length();
+            System.out.println("\ndata file: " + (dataFileSize >> 20) + " MB, " + profile + " settings: "
+                    + StorageProfile.valueOf(profile).getSettings(dataFileSize, Runtime.getRuntime().maxMemory()));
+            StorageProfile.valueOf(profile).apply(connectionManager, dataFileSize, Runtime.getRuntime().maxMemory());
+            connectionManager.disconnect();
+        }
+
+        ConnectionManager connect() throws Exception {
+            var connectionManager = new ConnectionManager();
+            connectionManager.connect(DriverManager.getConnection(
+                    "jdbc:hsqldb:file:" + directory.resolve("database"), "SA", ""));
+            return connectionManager;
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws Exception {
+            try (var files = Files.walk(directory)) {
+                files.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+            }
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class OpenDatabase {
+
+        private ConnectionManager connectionManager;
+
+        @Setup(Level.Iteration)
+        public void setUp(Database database) throws Exception {
+            connectionManager = database.connect();
+        }
+
+        @TearDown(Level.Iteration)
+        public void tearDown() {
+            connectionManager.disconnect();
+        }
+    }
+
+    private static int readRanges(ConnectionManager connectionManager, int rows, long seed) throws Exception {
+        var random = new Random(seed);
+        var ret = 0;
+        for (int i = 0; i < QUERIES; i++) {
+            var from = random.nextInt(rows - QUERY_ROWS);
+            try (var rs = connectionManager.executePreparedQuery(
+                    "SELECT * FROM SPIELER WHERE HRF_ID BETWEEN ? AND ?", from, from + QUERY_ROWS)) {
+                while (rs.next()) {
+                    ret += rs.getInt(1);
+                }
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * Open the database, read the history and close the database again, like a start of HO
+     */
+    @Benchmark
+    public int startup(Database database) throws Exception {
+        var connectionManager = database.connect();
+        try {
+            return readRanges(connectionManager, database.rows, 1);
+        } finally {
+            connectionManager.disconnect();
+        }
+    }
+
+    /**
+     * Read ranges of the player history from the open database
+     */
+    @Benchmark
+    public int queries(Database database, OpenDatabase openDatabase) throws Exception {
+        return readRanges(openDatabase.connectionManager, database.rows, 2);
+    }
+}
@@ -0,0 +1,109 @@
+package core.db;
+
+import core.model.match.MatchEvent;
+import core.model.match.MatchLineupPosition;
+import core.model.player.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rows per second of storing records one by one against {@link AbstractTable#storeAll}.
+ * The tables are the ones written by the HRF import and subskill recalculation (SPIELER)
+ * and by the match archive download (MATCHLINEUPPLAYER, MATCHHIGHLIGHTS).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@OperationsPerInvocation(StoreAllBenchmark.ROWS)
+public class StoreAllBenchmark {
+
+    static final int ROWS = 1000;
+
+    @Param({ SpielerTable.TABLENAME, MatchLineupPlayerTable.TABLENAME, MatchHighlightsTable.TABLENAME })
+    private String tableName;
+
+    private Path directory;
+    private ConnectionManager connectionManager;
+    private AbstractTable table;
+    private List<? extends AbstractTable.Storable> records;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        // file database, so that the cost of logging and committing is part of the measurement
+        directory = Files.createTempDirectory("storebenchmark");
+        Connection connection = DriverManager.getConnection(
+                "jdbc:hsqldb:file:" + directory.resolve("database") + ";shutdown=true", "SA", "");
+        connectionManager = new ConnectionManager();
+        connectionManager.connect(connection);
+        table = switch (tableName) {
+            case SpielerTable.TABLENAME -> new SpielerTable(connectionManager);
+            case MatchLineupPlayerTable.TABLENAME -> new MatchLineupPlayerTable(connectionManager);
+            default -> new MatchHighlightsTable(connectionManager);
+        };
+        table.createTable();
+        BenchmarkTables.fill(table, connection, ROWS);
+        records = switch (tableName) {
+            case SpielerTable.TABLENAME -> table.load(Player.class,
+                    connectionManager.executeQuery("SELECT * FROM " + tableName));
+            case MatchLineupPlayerTable.TABLENAME -> table.load(MatchLineupPosition.class,
+                    connectionManager.executeQuery("SELECT * FROM " + tableName));
+            default -> table.load(MatchEvent.class,
+                    connectionManager.executeQuery("SELECT * FROM " + tableName));
+        };
+        if (records.size() != ROWS) {
+            throw new IllegalStateException("Expected " + ROWS + " records, loaded " + records.size());
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void truncate() {
+        table.truncateTable();
+        for (var record : records) {
+            record.setIsStored(false);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        connectionManager.executeUpdate("DROP TABLE " + tableName);
+        connectionManager.disconnect();
+        try (var files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    @Benchmark
+    public void storeEach() {
+        for (var record : records) {
+            table.store(record);
+        }
+    }
+
+    @Benchmark
+    public int storeAll() {
+        return table.storeAll(records);
+    }
+}
@@ -0,0 +1,78 @@
+package core.file.xml;
+
+import core.model.match.MatchLineup;
+import core.model.match.MatchLineupTeam;
+import core.model.match.Matchdetails;
+import core.model.match.MatchKurzInfo;
+import core.util.ResourceUtils;
+import module.series.MatchFixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.io.IOException;
+import java.util.List;
+import java.util.Vector;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parses the sample CHPP files of the test resources: a cup match with 76 events,
+ * a match archive of 40 matches, a squad of 30 players and the 56 fixtures of a league season.
+ * {@code matchdetailsWithHighlights} additionally converts the event list, as done when a
+ * match is downloaded with its lineup.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class XMLParserBenchmark {
+
+    private String matchdetails;
+    private String matchesArchive;
+    private String players;
+    private String leagueFixtures;
+
+    @Setup
+    public void setUp() throws IOException {
+        matchdetails = ResourceUtils.getResourceFileAsString("matchdetails.xml");
+        matchesArchive = ResourceUtils.getResourceFileAsString("matchesarchive.xml");
+        players = ResourceUtils.getResourceFileAsString("players.xml");
+        leagueFixtures = ResourceUtils.getResourceFileAsString("leaguefixtures.xml");
+    }
+
+    @Benchmark
+    public Matchdetails matchdetails() {
+        return XMLMatchdetailsParser.parseMatchdetailsFromString(matchdetails, null);
+    }
+
+    @Benchmark
+    public Matchdetails matchdetailsWithHighlights() {
+        var lineup = new MatchLineup();
+        lineup.setHomeTeam(new MatchLineupTeam());
+        lineup.setGuestTeam(new MatchLineupTeam());
+        return XMLMatchdetailsParser.parseMatchdetailsFromString(matchdetails, lineup);
+    }
+
+    @Benchmark
+    public List<MatchKurzInfo> matchesArchive() {
+        return XMLMatchArchivParser.parseMatchesFromString(matchesArchive);
+    }
+
+    @Benchmark
+    public Vector<SafeInsertMap> players() {
+        return new XMLPlayersParser().parsePlayersFromString(players);
+    }
+
+    @Benchmark
+    public MatchFixtures leagueFixtures() {
+        return XMLSpielplanParser.parseSpielplanFromString(leagueFixtures);
+    }
+}
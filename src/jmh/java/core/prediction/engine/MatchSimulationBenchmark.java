@@ -0,0 +1,69 @@
+package core.prediction.engine;
+
+import core.model.match.IMatchDetails;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Matches per second of the single threaded simulation, creating an {@link Action} per chance and
+ * a generator per match, against the allocation free outcome buffers.
+ * Run with {@code -prof gc} to compare the allocation rates.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@OperationsPerInvocation(MatchSimulationBenchmark.MATCHES)
+public class MatchSimulationBenchmark {
+
+    static final int MATCHES = 10_000;
+
+    private TeamData home;
+    private TeamData away;
+    private SplittableRandom random;
+
+    @Setup
+    public void setUp() {
+        var manager = MatchPredictionManager.instance();
+        home = manager.generateTeamData("home", manager.generateTeamRatings(9, 8, 9, 8, 7, 8, 7),
+                IMatchDetails.TAKTIK_KONTER, 12);
+        away = manager.generateTeamData("away", manager.generateTeamRatings(11, 7, 8, 7, 9, 8, 9),
+                IMatchDetails.TAKTIK_NORMAL, 0);
+        random = new SplittableRandom(42);
+    }
+
+    @Benchmark
+    public MatchResult actions() {
+        var result = new MatchResult();
+        for (int i = 0; i < MATCHES; i++) {
+            var generator = new ActionGenerator(random);
+            generator.setTeams(home, away);
+            result.addActions(generator.simulate());
+        }
+        return result;
+    }
+
+    @Benchmark
+    public MatchResult outcomes() {
+        var result = new MatchResult();
+        var generator = new ActionGenerator(random);
+        generator.setTeams(home, away);
+        for (int i = 0; i < MATCHES; i++) {
+            generator.simulate(result);
+        }
+        return result;
+    }
+}
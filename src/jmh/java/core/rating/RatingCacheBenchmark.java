@@ -0,0 +1,106 @@
+package core.rating;
+
+import core.constants.player.PlayerSkill;
+import core.model.Team;
+import core.model.player.IMatchRoleID;
+import core.model.player.MatchRoleID;
+import core.model.player.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replays the rating queries of a {@code LineupAssistant.doLineup} run on a squad of 30 players:
+ * the ideal position pass over all position/behaviour combinations and the optimization pass over
+ * all lineup roles and their behaviours, followed by the minute ratings shown by the lineup panel.
+ * doLineup itself reads the assistant settings from the lineup panel and cannot run headless.
+ * <p>
+ * {@code coldLineup} starts with an empty model, as after a player or team change,
+ * {@code warmLineup} repeats the queries on filled caches.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RatingCacheBenchmark {
+
+    private static final byte[] POSITIONS = {
+            IMatchRoleID.KEEPER, IMatchRoleID.CENTRAL_DEFENDER, IMatchRoleID.CENTRAL_DEFENDER_OFF,
+            IMatchRoleID.CENTRAL_DEFENDER_TOWING, IMatchRoleID.BACK, IMatchRoleID.BACK_OFF, IMatchRoleID.BACK_TOMID,
+            IMatchRoleID.BACK_DEF, IMatchRoleID.MIDFIELDER, IMatchRoleID.MIDFIELDER_OFF, IMatchRoleID.MIDFIELDER_DEF,
+            IMatchRoleID.MIDFIELDER_TOWING, IMatchRoleID.WINGER, IMatchRoleID.WINGER_OFF, IMatchRoleID.WINGER_DEF,
+            IMatchRoleID.WINGER_TOMID, IMatchRoleID.FORWARD, IMatchRoleID.FORWARD_DEF, IMatchRoleID.FORWARD_TOWING
+    };
+
+    private final Team team = new Team();
+    private final List<Player> players = new ArrayList<>();
+    private RatingPredictionModel warmModel;
+
+    @Setup
+    public void setUp() {
+        var random = new Random(42);
+        for (int i = 1; i <= 30; i++) {
+            var player = new Player();
+            player.setPlayerId(i);
+            for (var skill : new PlayerSkill[]{PlayerSkill.KEEPER, PlayerSkill.DEFENDING, PlayerSkill.PLAYMAKING,
+                    PlayerSkill.WINGER, PlayerSkill.PASSING, PlayerSkill.SCORING, PlayerSkill.SETPIECES}) {
+                player.setValue4Skill(skill, 2 + random.nextInt(15));
+                player.setSubskill4PlayerSkill(skill, random.nextInt(100) / 100.);
+            }
+            player.setExperience(3 + random.nextInt(8));
+            player.setForm(3 + random.nextInt(6));
+            player.setStamina(4 + random.nextInt(5));
+            player.setLoyalty(1 + random.nextInt(20));
+            player.setSpecialty(random.nextInt(6));
+            players.add(player);
+        }
+        warmModel = new RatingPredictionModel(team);
+        lineup(warmModel);
+    }
+
+    @Benchmark
+    public double coldLineup() {
+        return lineup(new RatingPredictionModel(team));
+    }
+
+    @Benchmark
+    public double warmLineup() {
+        return lineup(warmModel);
+    }
+
+    private double lineup(RatingPredictionModel model) {
+        var ret = 0.;
+        for (var position : POSITIONS) {
+            var roleId = RatingPredictionModel.getPlayerRatingPosition(position);
+            var behaviour = RatingPredictionModel.getBehaviour(position);
+            for (var player : players) {
+                ret += model.getPlayerMatchAverageRating(player, roleId, behaviour);
+            }
+        }
+        for (int roleId = IMatchRoleID.keeper; roleId <= IMatchRoleID.leftForward; roleId++) {
+            var behaviours = MatchRoleID.getBehaviours(roleId);
+            for (var behaviour : behaviours) {
+                for (var player : players) {
+                    ret += model.getPlayerRatingMatchBeginning(player, roleId, behaviour);
+                    for (int minute = 0; minute <= 90; minute += 5) {
+                        ret += model.getPlayerRating(player, roleId, behaviour, minute);
+                    }
+                }
+            }
+        }
+        return ret;
+    }
+}
@@ -12,6 +12,8 @@ import core.gui.SplashFrame;
 import core.gui.model.UserColumnController;
 import core.gui.theme.ImageUtilities;
 import core.gui.theme.ThemeManager;
+import core.jmx.EventBusMonitor;
+import core.jmx.StartupMonitor;
 import core.jmx.StatementCacheMonitor;
 import core.model.HOModelManager;
 import core.model.TranslationFacility;
@@ -20,6 +22,8 @@ import core.training.TrainingManager;
 import core.util.ExceptionHandler;
 import core.util.HOLogger;
 import core.util.OSUtils;
+import core.util.StartupProfiler;
+import core.util.StartupTaskGraph;
 
 import javax.imageio.ImageIO;
 import javax.management.*;
@@ -30,6 +34,7 @@ import java.text.NumberFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static java.awt.event.KeyEvent.VK_1;
 
@@ -41,11 +46,18 @@ public class HO {
     private static OSUtils.OS platform;
     private static boolean portable_version; // Used to determine the location of the DB
     private static ApplicationContext context; // The Application Context
+    private static final StartupProfiler startupProfiler = new StartupProfiler(); // Timing of the boot phases
+    /** Lock of the boot phases using the database */
+    private static final String DATABASE = "database";
 
     public static ApplicationContext getApplicationContext() {
         return context;
     }
 
+    public static StartupProfiler getStartupProfiler() {
+        return startupProfiler;
+    }
+
     public static String getVersionType() {
         return versionType;
     }
@@ -125,6 +137,8 @@ public class HO {
                 }
             }
         }
+        // log messages are written by a background thread, the callers do not wait for the log file
+        HOLogger.instance().setAsync(true);
 
         // Get HO version from manifest
         String sVERSION = HO.class.getPackage().getImplementationVersion();
@@ -173,14 +187,13 @@ public class HO {
 
         // start display splash image
         final SplashFrame interruptionWindow = new SplashFrame();
-
-        // Backup
-        interruptionWindow.setInfoText(1, "Backup Database");
-        BackupHelper.backup(new File(UserManager.instance().getCurrentUser().getDbFolder()));
+        var step = new AtomicInteger(1);
+        startupProfiler.setListener((phase, millis) ->
+                interruptionWindow.setInfoText(step.incrementAndGet(), phase + ": " + millis + " ms"));
 
         // Load user parameters from the DB
-        interruptionWindow.setInfoText(2, "Initialize Database");
-        DBManager.instance().loadUserParameter();
+        interruptionWindow.setInfoText(step.get(), "Initialize Database");
+        startupProfiler.time("Initialize Database", () -> DBManager.instance().loadUserParameter());
 
         new Thread(() -> {
             RT.var("user", "dbManager", DBManager.instance());
@@ -193,43 +206,91 @@ public class HO {
             startServer.invoke(Clojure.read("{:port 5555 :name \"HO\"}"));
         }).start();
 
-        // init Theme
-        try {
-            ThemeManager.instance().setCurrentTheme();
-        } catch (Exception e) {
-            HOLogger.instance().log(HO.class, "Can´t load Theme:" + UserParameter.instance().theme);
-            JOptionPane.showMessageDialog(null, e.getMessage(), "Can´t load Theme: "
-                    + UserParameter.instance().theme, JOptionPane.WARNING_MESSAGE);
+        // Boot phases run concurrently as far as their dependencies allow.
+        // The phases using the database are serialized by the DATABASE lock.
+        var firstStart = DBManager.instance().isFirstStart();
+        var boot = new StartupTaskGraph(startupProfiler);
+        boot.add("Theme", HO::initTheme);
+        boot.add("Theme colors", DATABASE, HO::initUserDefinedColors, "Theme");
+        boot.add("Icons", () -> ThemeManager.instance().preloadIcons(), "Theme");
+        if (firstStart) {
+            // Ask for language at first start
+            boot.add("Options", () -> {
+                interruptionWindow.setVisible(false);
+                new core.option.InitOptionsDialog();
+                interruptionWindow.setVisible(true);
+            }, "Theme colors");
+            boot.add("Language", HO::initLanguage, "Options");
+            boot.add("Welcome", () -> {
+                interruptionWindow.setVisible(false);
+                JOptionPane.showMessageDialog(null,
+                        TranslationFacility.tr("firststartup.infowinmessage"),
+                        TranslationFacility.tr("firststartup.infowinmessage.title"), JOptionPane.INFORMATION_MESSAGE);
+                interruptionWindow.setVisible(true);
+            }, "Language");
+        } else {
+            boot.add("Language", HO::initLanguage);
+        }
+        // the model classes may translate texts when they are loaded
+        boot.add("Load latest Data", DATABASE, HO::initModel, "Language");
+        // Load table columns information
+        boot.add("Table columns", DATABASE, () -> UserColumnController.instance().load(), "Load latest Data");
+        var configured = "Table columns";
+        if (!firstStart) {
+            // Upgrade database configuration
+            configured = "Upgrade DB configuration";
+            boot.add(configured, DATABASE, () -> DBManager.instance().updateConfig(), "Table columns");
         }
-        // Init!
-        interruptionWindow.setInfoText(3, "Initialize Data-Administration");
+        // Training estimation calculated on DB manual entries
+        boot.add("Initialize Training", DATABASE, TrainingManager::instance, configured);
+        boot.run();
+
+        // Initialize Application Context
+        context = new core.context.ApplicationContext(DBManager.instance(),
+                                                      HOModelManager.instance(),
+                                                      core.gui.RefreshManager.instance(),
+                                                      core.gui.theme.ThemeManager.instance());
+
+        initJmxSupport();
 
-        // Ask for language at first start
-        if (DBManager.instance().isFirstStart()) {
+        interruptionWindow.setInfoText(step.incrementAndGet(), "Prepare to show");
+        SwingUtilities.invokeLater(() -> {
+            startupProfiler.time("Main frame", () -> {
+                HOMainFrame.instance().setApplicationContext(context);
+                HOMainFrame.instance().setVisible(true);
+            });
+            startupProfiler.finish();
+
+            // stop display splash image
             interruptionWindow.setVisible(false);
-            new core.option.InitOptionsDialog();
-            interruptionWindow.setVisible(true);
+            interruptionWindow.dispose();
+
+            // Backup, the database stays usable while the backup is running
+            BackupHelper.backupInBackground(new File(UserManager.instance().getCurrentUser().getDbFolder()));
+        });
+    }
+
+    private static void initTheme() {
+        var themeName = ThemeManager.instance().loadLookAndFeel(UserParameter.instance().skin);
+        if (themeName == null) {
+            HOLogger.instance().log(HO.class, "Can´t load Theme:" + UserParameter.instance().theme);
+            JOptionPane.showMessageDialog(null, "Can´t load Theme: " + UserParameter.instance().theme,
+                    "Can´t load Theme: " + UserParameter.instance().theme, JOptionPane.WARNING_MESSAGE);
         }
+    }
+
+    private static void initUserDefinedColors() {
+        ThemeManager.instance().loadUserDefinedColors(ThemeManager.getCurrentThemeName());
+    }
 
+    private static void initLanguage() {
         // Check if language file available
-        interruptionWindow.setInfoText(4, "Check Language files");
         HOModelManager.checkLanguageFile(UserParameter.instance().sprachDatei);
         TranslationFacility.setLanguage(UserParameter.instance().sprachDatei);
+    }
 
-        if (DBManager.instance().isFirstStart()) {
-            interruptionWindow.setVisible(false);
-            JOptionPane.showMessageDialog(null,
-                    TranslationFacility.tr("firststartup.infowinmessage"),
-                    TranslationFacility.tr("firststartup.infowinmessage.title"), JOptionPane.INFORMATION_MESSAGE);
-            interruptionWindow.setVisible(true);
-        }
-
-        interruptionWindow.setInfoText(5, "Load latest Data");
+    private static void initModel() {
         HOModelManager.instance().loadLatestHoModel();
-        interruptionWindow.setInfoText(6, "Load  XtraDaten");
-
-        // Load table columns information
-        UserColumnController.instance().load();
 
         // Set the currency from HRF
         var model = HOModelManager.instance().getModel();
@@ -241,35 +302,6 @@ public class HO {
                     UserParameter.instance().currencyRate = fxRate;
             }
         }
-        // Upgrade database configuration
-        if (!DBManager.instance().isFirstStart()) {
-            interruptionWindow.setInfoText(7, "Upgrade DB configuration");
-            DBManager.instance().updateConfig();
-        }
-
-        initJmxSupport();
-
-        // Training
-        interruptionWindow.setInfoText(8, "Initialize Training");
-
-        // Training estimation calculated on DB manual entries
-        TrainingManager.instance();
-
-        // Initialize Application Context
-        context = new core.context.ApplicationContext(DBManager.instance(),
-                                                      HOModelManager.instance(),
-                                                      core.gui.RefreshManager.instance(),
-                                                      core.gui.theme.ThemeManager.instance());
-
-        interruptionWindow.setInfoText(9, "Prepare to show");
-        SwingUtilities.invokeLater(() -> {
-            HOMainFrame.instance().setApplicationContext(context);
-            HOMainFrame.instance().setVisible(true);
-
-            // stop display splash image
-            interruptionWindow.setVisible(false);
-            interruptionWindow.dispose();
-        });
     }
 
     private static void initJmxSupport() {
@@ -279,6 +311,12 @@ public class HO {
                 platformMBeanServer.registerMBean(
                         new StatementCacheMonitor(),
                         new ObjectName("io.github.ho-dev:name=StatementCacheMonitor"));
+                platformMBeanServer.registerMBean(
+                        new StartupMonitor(startupProfiler),
+                        new ObjectName("io.github.ho-dev:name=StartupMonitor"));
+                platformMBeanServer.registerMBean(
+                        new EventBusMonitor(context.getEventBus()),
+                        new ObjectName("io.github.ho-dev:name=EventBusMonitor"));
             } catch (MalformedObjectNameException | NotCompliantMBeanException | InstanceAlreadyExistsException
                     | MBeanRegistrationException e) {
                 throw new RuntimeException(e);
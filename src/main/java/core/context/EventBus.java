@@ -1,53 +1,279 @@
 package core.context;
 
+import core.util.HOLogger;
+
+import javax.swing.SwingUtilities;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
 
 /**
- * A simple synchronous Event Bus.
+ * Event Bus, which may be used by any thread.
+ * <p>
+ * Listeners are kept in copy-on-write arrays, posting an event takes no lock and does not
+ * allocate for synchronous listeners. Listeners registered for a super class or an interface
+ * of an event receive the event too. Each listener chooses its {@link Delivery}.
+ * The latency from posting an event until a listener has handled it is measured per event type.
  */
 public class EventBus {
 
-    private final Map<Class<?>, List<Consumer<?>>> listeners = new HashMap<>();
+    /**
+     * Thread, which calls a listener
+     */
+    public enum Delivery {
+        /** The posting thread calls the listener */
+        SYNCHRONOUS,
+        /** The event dispatch thread calls the listener, immediately if the event is posted on it */
+        EDT,
+        /** A background thread calls the listener, the posting thread does not wait */
+        BACKGROUND
+    }
+
+    private record Subscription(Class<?> eventType, Consumer<Object> listener, Delivery delivery) {
+    }
+
+    /**
+     * Listeners of an event class, including those of its super types
+     *
+     * @param generation generation of the listeners, from which the dispatch was resolved
+     */
+    private record Dispatch(Subscription[] subscriptions, DispatchStatistics statistics, long generation) {
+    }
 
     /**
-     * Register a listener for a specific event type.
-     * 
+     * Dispatch latency of one event type
+     */
+    public static final class DispatchStatistics {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+        void record(long nanos) {
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+        }
+
+        /**
+         * Number of listener calls
+         */
+        public long getCount() {
+            return count.sum();
+        }
+
+        public long getAverageNanos() {
+            var n = count.sum();
+            return n > 0 ? totalNanos.sum() / n : 0;
+        }
+
+        public long getMaxNanos() {
+            return maxNanos.get();
+        }
+
+        @Override
+        public String toString() {
+            return "count=" + getCount() + " avg=" + getAverageNanos() / 1000 + "µs max=" + getMaxNanos() / 1000 + "µs";
+        }
+    }
+
+    private static final Subscription[] NO_SUBSCRIPTIONS = new Subscription[0];
+
+    /** Listeners by the event type they registered for */
+    private final Map<Class<?>, Subscription[]> listeners = new ConcurrentHashMap<>();
+
+    /** Resolved listeners by event class, cleared when listeners change */
+    private final Map<Class<?>, Dispatch> dispatchCache = new ConcurrentHashMap<>();
+
+    /** Incremented when listeners change, cached dispatches of an older generation are resolved again */
+    private final AtomicLong generation = new AtomicLong();
+
+    private final Map<Class<?>, DispatchStatistics> statistics = new ConcurrentHashMap<>();
+
+    private final Executor backgroundExecutor;
+
+    public EventBus() {
+        this(createBackgroundExecutor());
+    }
+
+    /**
+     * @param backgroundExecutor executor of the {@link Delivery#BACKGROUND} listeners
+     */
+    public EventBus(Executor backgroundExecutor) {
+        this.backgroundExecutor = backgroundExecutor;
+    }
+
+    private static ExecutorService createBackgroundExecutor() {
+        var threadNumber = new AtomicInteger();
+        return Executors.newCachedThreadPool(r -> {
+            var thread = new Thread(r, "EventBus-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Register a listener for a specific event type. The listener is called by the posting thread.
+     *
      * @param eventType The class of the event to listen for.
      * @param listener  The listener to callback when the event is fired.
      * @param <T>       The event type.
      */
-    public synchronized <T> void register(Class<T> eventType, Consumer<T> listener) {
-        listeners.computeIfAbsent(eventType, k -> new ArrayList<>()).add(listener);
+    public <T> void register(Class<T> eventType, Consumer<T> listener) {
+        register(eventType, listener, Delivery.SYNCHRONOUS);
+    }
+
+    /**
+     * Register a listener for a specific event type and its sub types.
+     *
+     * @param eventType The class of the event to listen for.
+     * @param listener  The listener to callback when the event is fired.
+     * @param delivery  The thread calling the listener.
+     * @param <T>       The event type.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> void register(Class<T> eventType, Consumer<T> listener, Delivery delivery) {
+        var subscription = new Subscription(eventType, (Consumer<Object>) listener, delivery);
+        listeners.compute(eventType, (k, list) -> {
+            if (list == null) {
+                return new Subscription[]{subscription};
+            }
+            var ret = Arrays.copyOf(list, list.length + 1);
+            ret[list.length] = subscription;
+            return ret;
+        });
+        generation.incrementAndGet();
+        dispatchCache.clear();
     }
 
     /**
      * Unregister a listener.
      */
-    public synchronized <T> void unregister(Class<T> eventType, Consumer<T> listener) {
-        List<Consumer<?>> list = listeners.get(eventType);
-        if (list != null) {
-            list.remove(listener);
-        }
+    public <T> void unregister(Class<T> eventType, Consumer<T> listener) {
+        listeners.computeIfPresent(eventType, (k, list) -> {
+            for (int i = 0; i < list.length; i++) {
+                if (list[i].listener() == listener) {
+                    if (list.length == 1) {
+                        return null;
+                    }
+                    var ret = new Subscription[list.length - 1];
+                    System.arraycopy(list, 0, ret, 0, i);
+                    System.arraycopy(list, i + 1, ret, i, ret.length - i);
+                    return ret;
+                }
+            }
+            return list;
+        });
+        generation.incrementAndGet();
+        dispatchCache.clear();
     }
 
     /**
-     * Post an event to all registered listeners.
-     * 
+     * Post an event to all registered listeners of its type and super types.
+     *
      * @param event The event object.
      */
-    @SuppressWarnings("unchecked")
-    public synchronized void post(Object event) {
-        List<Consumer<?>> list = listeners.get(event.getClass());
-        if (list != null) {
-            // Copy list to avoid ConcurrentModificationException if listener unregisters
-            // during event
-            for (Consumer<?> listener : new ArrayList<>(list)) {
-                ((Consumer<Object>) listener).accept(event);
+    public void post(Object event) {
+        var current = generation.get();
+        var dispatch = dispatchCache.get(event.getClass());
+        if (dispatch == null || dispatch.generation() != current) {
+            dispatch = resolve(event.getClass(), current);
+            // a dispatch resolved while the listeners changed is not cached
+            if (generation.get() == current) {
+                dispatchCache.put(event.getClass(), dispatch);
+            }
+        }
+        var start = System.nanoTime();
+        for (var subscription : dispatch.subscriptions()) {
+            switch (subscription.delivery()) {
+                case SYNCHRONOUS -> deliver(subscription, event, start, dispatch.statistics());
+                case EDT -> {
+                    if (SwingUtilities.isEventDispatchThread()) {
+                        deliver(subscription, event, start, dispatch.statistics());
+                    } else {
+                        var statistics = dispatch.statistics();
+                        SwingUtilities.invokeLater(() -> deliver(subscription, event, start, statistics));
+                    }
+                }
+                case BACKGROUND -> {
+                    var statistics = dispatch.statistics();
+                    backgroundExecutor.execute(() -> deliver(subscription, event, start, statistics));
+                }
+            }
+        }
+    }
+
+    private void deliver(Subscription subscription, Object event, long start, DispatchStatistics statistics) {
+        try {
+            subscription.listener().accept(event);
+        } catch (RuntimeException e) {
+            HOLogger.instance().error(getClass(), e);
+        }
+        statistics.record(System.nanoTime() - start);
+    }
+
+    /**
+     * Collect the listeners of the event class, its super classes and its interfaces
+     *
+     * @param generation generation of the listeners, read before they are collected
+     */
+    private Dispatch resolve(Class<?> eventClass, long generation) {
+        var ret = new ArrayList<Subscription>();
+        for (var type : getTypeHierarchy(eventClass)) {
+            var list = listeners.get(type);
+            if (list != null) {
+                ret.addAll(Arrays.asList(list));
+            }
+        }
+        return new Dispatch(ret.isEmpty() ? NO_SUBSCRIPTIONS : ret.toArray(Subscription[]::new),
+                statistics.computeIfAbsent(eventClass, k -> new DispatchStatistics()), generation);
+    }
+
+    private static LinkedHashSet<Class<?>> getTypeHierarchy(Class<?> eventClass) {
+        var ret = new LinkedHashSet<Class<?>>();
+        var queue = new ArrayDeque<Class<?>>();
+        queue.add(eventClass);
+        while (!queue.isEmpty()) {
+            var type = queue.poll();
+            if (ret.add(type)) {
+                if (type.getSuperclass() != null) {
+                    queue.add(type.getSuperclass());
+                }
+                queue.addAll(Arrays.asList(type.getInterfaces()));
             }
         }
+        return ret;
+    }
+
+    /**
+     * Get the dispatch latency of an event type
+     *
+     * @param eventType event class, as posted
+     * @return statistics, null if no event of this type was posted
+     */
+    public DispatchStatistics getStatistics(Class<?> eventType) {
+        return statistics.get(eventType);
+    }
+
+    /**
+     * Dispatch latency of all posted event types
+     *
+     * @return map of event class name to statistics description
+     */
+    public Map<String, String> getStatistics() {
+        var ret = new LinkedHashMap<String, String>();
+        statistics.forEach((type, value) -> ret.put(type.getName(), value.toString()));
+        return ret;
     }
 }
@@ -1,14 +1,18 @@
 package core.db;
 
-import core.util.AmountOfMoney;
-import core.util.HODateTime;
 import core.util.HOLogger;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.sql.Types;
+import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 public abstract class AbstractTable {
@@ -34,6 +38,22 @@ public abstract class AbstractTable {
 	 **/
 	protected ConnectionManager connectionManager;
 
+	/**
+	 * Maximum number of values of a generated IN list
+	 */
+	protected static final int MAX_IN_LIST = 1000;
+
+	/**
+	 * Name and columns of a CREATE INDEX statement
+	 */
+	private static final Pattern CREATE_INDEX_PATTERN = Pattern.compile(
+			"CREATE INDEX (\\w+) ON \\w+\\s*\\(([^)]+)\\)", Pattern.CASE_INSENSITIVE);
+
+	/**
+	 * Compiled row mappers by storable class
+	 */
+	private final Map<Class<?>, RowMapper<?>> rowMappers = new ConcurrentHashMap<>();
+
 	/**
 	 * constructor
 	 *
@@ -54,7 +74,9 @@ public abstract class AbstractTable {
 	 */
 	static String truncateString(String s, int maxLength) {
 		if (s != null && s.length() > maxLength) {
-			HOLogger.instance().warning(AbstractTable.class, "truncated string: " + s);
+			if (HOLogger.instance().isEnabled(HOLogger.WARNING)) {
+				HOLogger.instance().warning(AbstractTable.class, "truncated string: " + s);
+			}
 			return s.substring(0, maxLength);
 		}
 		return s;
@@ -64,6 +86,15 @@ public abstract class AbstractTable {
 		return "CACHED";
 	}
 
+	/**
+	 * Small tables, which are loaded completely, may be kept in memory, see {@link StorageProfile}
+	 *
+	 * @return true, if the table is a small lookup table
+	 */
+	protected boolean isLookupTable() {
+		return false;
+	}
+
 	/**
 	 * derived table class has to create the columns array
 	 */
@@ -134,6 +165,138 @@ public abstract class AbstractTable {
 		}
 	}
 
+	/**
+	 * Stores the given objects in a single transaction.
+	 * Objects already stored in database are updated, the others are inserted.
+	 * Updates and inserts are each sent as one JDBC batch.
+	 * <p>
+	 * If a surrounding transaction is running, an error is thrown as {@link UncheckedSQLException},
+	 * so that the surrounding transaction is rolled back. Otherwise, the objects are stored one by
+	 * one after an error, so that only the failing records are missing.
+	 *
+	 * @param objects that should be stored
+	 * @param <T>     Storable class (extends AbstractTable.Storable)
+	 * @return number of stored records
+	 */
+	public <T extends Storable> int storeAll(Collection<T> objects) {
+		if (objects == null || objects.isEmpty()) {
+			return 0;
+		}
+		var start = System.nanoTime();
+		var inserts = new ArrayList<T>();
+		var insertValues = new ArrayList<Object[]>();
+		var updateValues = new ArrayList<Object[]>();
+		for (var object : objects) {
+			if (object.isStored()) {
+				updateValues.add(getUpdateValues(object));
+			} else {
+				inserts.add(object);
+				insertValues.add(getInsertValues(object));
+			}
+		}
+		var inTransaction = false;
+		try {
+			inTransaction = connectionManager.isInTransaction();
+			var ret = connectionManager.executeInTransaction(() -> {
+				var count = countUpdates(connectionManager.executePreparedBatch(createUpdateStatement(), updateValues));
+				count += countUpdates(connectionManager.executePreparedBatch(createInsertStatement(), insertValues));
+				return count;
+			});
+			for (var object : inserts) {
+				object.setIsStored(true);
+			}
+			var millis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+			HOLogger.instance().debug(getClass(), "storeAll " + getTableName() + ": " + ret + " rows in " + millis
+					+ "ms (" + (ret * 1000L / millis) + " rows/s)");
+			return ret;
+		} catch (SQLException e) {
+			if (inTransaction) {
+				throw new UncheckedSQLException("storeAll " + getTableName(), e);
+			}
+			HOLogger.instance().error(getClass(), "storeAll " + getTableName() + ": " + e + ", storing one by one");
+			return storeOneByOne(objects);
+		}
+	}
+
+	/**
+	 * Store the objects by one statement each. Failing records are logged and skipped.
+	 *
+	 * @return number of stored records
+	 */
+	private <T extends Storable> int storeOneByOne(Collection<T> objects) {
+		var ret = 0;
+		for (var object : objects) {
+			var count = object.isStored() ? update(object) : insert(object);
+			if (count > 0) {
+				object.setIsStored(true);
+				ret += count;
+			}
+		}
+		return ret;
+	}
+
+	/**
+	 * Sum up the update counts of a batch.
+	 * Statements that succeeded without giving a row count are counted as one row.
+	 *
+	 * @param updateCounts result of executeBatch
+	 * @return number of updated rows
+	 */
+	private static int countUpdates(int[] updateCounts) {
+		var ret = 0;
+		for (var count : updateCounts) {
+			if (count > 0) {
+				ret += count;
+			} else if (count == Statement.SUCCESS_NO_INFO) {
+				ret++;
+			}
+		}
+		return ret;
+	}
+
+	/**
+	 * Set the stored flag of the given objects, checking the existence of all
+	 * records with one select per chunk of objects instead of one select per
+	 * object. The query is restricted by the first id column, the remaining id
+	 * columns are compared in memory.
+	 *
+	 * @param objects Storable objects
+	 * @param <T>     Storable class (extends AbstractTable.Storable)
+	 */
+	protected <T extends Storable> void updateStoredFlags(Collection<T> objects) {
+		var keyColumn = columns[0];
+		var list = new ArrayList<>(objects);
+		for (int from = 0; from < list.size(); from += MAX_IN_LIST) {
+			var chunk = list.subList(from, Math.min(list.size(), from + MAX_IN_LIST));
+			var sql = createSelectStatement(
+					Arrays.stream(columns).limit(idColumns).map(ColumnDescriptor::getColumnName)
+							.collect(Collectors.joining(",")),
+					"WHERE " + keyColumn.getColumnName() + " IN (" + DBManager.getPlaceholders(chunk.size()) + ")");
+			var storedKeys = new HashSet<List<String>>();
+			try (var rs = connectionManager.executePreparedQuery(sql,
+					chunk.stream().map(keyColumn.getter).toArray())) {
+				if (rs != null) {
+					while (rs.next()) {
+						var key = new ArrayList<String>(idColumns);
+						for (int i = 1; i <= idColumns; i++) {
+							key.add(String.valueOf(rs.getObject(i)));
+						}
+						storedKeys.add(key);
+					}
+				}
+			} catch (SQLException e) {
+				HOLogger.instance().error(getClass(), e);
+			}
+			for (var object : chunk) {
+				object.setIsStored(storedKeys.contains(getKey(object)));
+			}
+		}
+	}
+
+	private List<String> getKey(Object object) {
+		return Arrays.stream(columns).limit(idColumns).map(c -> String.valueOf(c.getter.apply(object))).toList();
+	}
+
 	/**
 	 * Create a new record of the storable object
 	 * 
@@ -142,8 +305,11 @@ public abstract class AbstractTable {
 	 * @return 1 on success, 0 on error
 	 */
 	private <T extends Storable> int insert(T object) {
-		return executePreparedInsert(Arrays.stream(columns).map(
-				c -> c.getter.apply(object)).toArray());
+		return executePreparedInsert(getInsertValues(object));
+	}
+
+	private Object[] getInsertValues(Object object) {
+		return Arrays.stream(columns).map(c -> c.getter.apply(object)).toArray();
 	}
 
 	/**
@@ -157,10 +323,14 @@ public abstract class AbstractTable {
 	 * @return 1 on success, 0 on error
 	 */
 	private <T extends Storable> int update(T object) {
+		return executePreparedUpdate(getUpdateValues(object));
+	}
+
+	private Object[] getUpdateValues(Object object) {
 		var values = new ArrayList<>();
 		values.addAll(Arrays.stream(columns).skip(idColumns).map(c -> c.getter.apply(object)).toList());
 		values.addAll(Arrays.stream(columns).limit(idColumns).map(c -> c.getter.apply(object)).toList()); // where
-		return executePreparedUpdate(values.toArray());
+		return values.toArray();
 	}
 
 	/**
@@ -231,147 +401,31 @@ public abstract class AbstractTable {
 	 */
 	protected <T extends Storable> List<T> load(Class<T> tClass, ResultSet rs, int max) {
 		var ret = new ArrayList<T>();
-		ColumnDescriptor columnDescriptor = null;
 		try {
 			if (rs != null) {
-				while (rs.next() && 0 != max--) {
-					var constructor = tClass.getConstructor();
-					var object = constructor.newInstance();
-					for (var c : columns) {
-						columnDescriptor = c;
-						var value = switch (c.getType()) {
-							case Types.CHAR, Types.LONGVARCHAR, Types.VARCHAR -> getString(rs, c.getColumnName());
-							case Types.BIT, Types.SMALLINT, Types.TINYINT, Types.BIGINT, Types.INTEGER ->
-								getInteger(rs, c.getColumnName());
-							case Types.TIME, Types.DATE, Types.TIMESTAMP_WITH_TIMEZONE, Types.TIME_WITH_TIMEZONE,
-									Types.TIMESTAMP ->
-								getHODateTime(rs, c.getColumnName());
-							case Types.BOOLEAN -> getBoolean(rs, c.getColumnName());
-							case Types.DOUBLE -> getDouble(rs, c.getColumnName());
-							case Types.DECIMAL -> getAmountOfMoney(rs, c.getColumnName());
-							case Types.FLOAT, Types.REAL -> getFloat(rs, c.getColumnName());
-							default -> throw new IllegalStateException("Unexpected value: " + c.getType());
-						};
-						c.setter.accept(object, value);
-					}
-					object.setIsStored(true);
-					ret.add(object);
-				}
+				getRowMapper(tClass).map(rs, max, ret);
+				var statementCache = connectionManager.getStatementCache();
+				statementCache.recordRows(rs.getStatement(), ret.size());
 				rs.close();
+				statementCache.closeRetiredStatements();
 			}
 		} catch (Exception exception) {
-			var stringBuilder = new StringBuilder("load");
-			if (columnDescriptor != null) {
-				stringBuilder.append(" ").append(columnDescriptor.getColumnName());
-			}
-			stringBuilder.append(": ").append(exception);
-			HOLogger.instance().error(getClass(), stringBuilder.toString());
-		}
-		return ret;
-	}
-
-	private AmountOfMoney getAmountOfMoney(ResultSet rs, String columnName) throws SQLException {
-		var ret = rs.getBigDecimal(columnName);
-		if (rs.wasNull()) {
-			return null;
-		}
-		return new AmountOfMoney(ret);
-	}
-
-	/**
-	 * Return a float from a result set column
-	 * 
-	 * @param rs         result set
-	 * @param columnName column name
-	 * @return Float, null if the column was empty (null)
-	 * @throws SQLException sql exception
-	 */
-	private Float getFloat(ResultSet rs, String columnName) throws SQLException {
-		var ret = rs.getFloat(columnName);
-		if (rs.wasNull()) {
-			return null;
-		}
-		return ret;
-	}
-
-	/**
-	 * Return String from a result set column
-	 * 
-	 * @param rs         result set
-	 * @param columnName column name
-	 * @return String, null if column was empty (null)
-	 * @throws SQLException sql exception
-	 */
-	private String getString(ResultSet rs, String columnName) throws SQLException {
-		var ret = rs.getString(columnName);
-		if (rs.wasNull()) {
-			return "";
-		}
-		return ret;
-	}
-
-	/**
-	 * Return HODateTime from a result set column
-	 * 
-	 * @param rs         result set
-	 * @param columnName column name
-	 * @return HODateTime, null if the column was empty (null)
-	 * @throws SQLException sql exception
-	 */
-	private HODateTime getHODateTime(ResultSet rs, String columnName) throws SQLException {
-		var ts = rs.getTimestamp(columnName);
-		if (rs.wasNull()) {
-			return null;
-		}
-		return HODateTime.fromDbTimestamp(ts);
-	}
-
-	/**
-	 * Return Double from a result set column
-	 * 
-	 * @param rs         result set
-	 * @param columnName column name
-	 * @return Double, null if column was empty (null)
-	 * @throws SQLException sql exception
-	 */
-	private Double getDouble(ResultSet rs, String columnName) throws SQLException {
-		var ret = rs.getDouble(columnName);
-		if (rs.wasNull()) {
-			return null;
-		}
-		return ret;
-	}
-
-	/**
-	 * Return Boolean from result set column
-	 * 
-	 * @param rs         result set
-	 * @param columnName column name
-	 * @return Boolean, null if column was empty (null)
-	 * @throws SQLException sql exception
-	 */
-	private Boolean getBoolean(ResultSet rs, String columnName) throws SQLException {
-		var ret = rs.getBoolean(columnName);
-		if (rs.wasNull()) {
-			return null;
+			HOLogger.instance().error(getClass(), "load: " + exception);
 		}
 		return ret;
 	}
 
 	/**
-	 * Return Integer from result set colum
-	 * 
-	 * @param rs         result set
-	 * @param columnName column name
-	 * @return Integer, null if column was empty (null)
-	 * @throws SQLException sql exception
+	 * Get the compiled row mapper of the storable class.
+	 * The mapper is created on first use and reused by all following loads.
+	 *
+	 * @param tClass Storable class (extends AbstractTable.Storable)
+	 * @param <T>    the object class to create
+	 * @return RowMapper of the class
 	 */
-	private Integer getInteger(ResultSet rs, String columnName) throws SQLException {
-		var ret = rs.getInt(columnName);
-		if (rs.wasNull()) {
-			return null;
-		}
-		return ret;
+	@SuppressWarnings("unchecked")
+	private <T extends Storable> RowMapper<T> getRowMapper(Class<T> tClass) {
+		return (RowMapper<T>) rowMappers.computeIfAbsent(tClass, c -> RowMapper.create(tClass, columns));
 	}
 
 	// Prepared Statements
@@ -479,6 +533,64 @@ public abstract class AbstractTable {
 		}
 	}
 
+	/**
+	 * Delete all rows whose column value is in the given collection.
+	 * One statement is executed per chunk of values, all chunks in one transaction.
+	 *
+	 * @param column column name
+	 * @param values column values of the rows to delete
+	 * @param dryRun if true, the rows are only counted
+	 * @return number of deleted (or counted) rows, 0 on error
+	 */
+	protected int deleteWhereIn(String column, Collection<?> values, boolean dryRun) {
+		if (values.isEmpty()) {
+			return 0;
+		}
+		var list = new ArrayList<>(values);
+		try {
+			return connectionManager.executeInTransaction(() -> {
+				var count = 0;
+				for (int from = 0; from < list.size(); from += MAX_IN_LIST) {
+					var chunk = list.subList(from, Math.min(list.size(), from + MAX_IN_LIST));
+					count += deleteWhere("WHERE " + column + " IN (" + DBManager.getPlaceholders(chunk.size()) + ")",
+							dryRun, chunk.toArray());
+				}
+				return count;
+			});
+		} catch (SQLException e) {
+			HOLogger.instance().error(getClass(), "deleteWhereIn: " + e);
+			return 0;
+		}
+	}
+
+	/**
+	 * Delete all rows whose columns are in the result of the given select statement
+	 * by one statement, e.g. DELETE FROM MATCHDETAILS WHERE (MatchID,MatchTyp) IN (SELECT ...)
+	 *
+	 * @param columns comma separated column names
+	 * @param select  select statement returning the values of the columns
+	 * @param dryRun  if true, the rows are only counted
+	 * @param params  parameters of the select statement
+	 * @return number of deleted (or counted) rows, 0 on error
+	 */
+	protected int deleteWhereIn(String columns, String select, boolean dryRun, Object... params) {
+		try {
+			return deleteWhere("WHERE (" + columns + ") IN (" + select + ")", dryRun, params);
+		} catch (SQLException e) {
+			HOLogger.instance().error(getClass(), "deleteWhereIn: " + e);
+			return 0;
+		}
+	}
+
+	private int deleteWhere(String whereClause, boolean dryRun, Object... params) throws SQLException {
+		if (!dryRun) {
+			return connectionManager.executePreparedUpdate(createDeleteStatement(whereClause), params);
+		}
+		try (var rs = connectionManager.executePreparedQuery(createSelectStatement("COUNT(*)", whereClause), params)) {
+			return rs != null && rs.next() ? rs.getInt(1) : 0;
+		}
+	}
+
 	// Select
 
 	/**
@@ -736,6 +848,52 @@ public abstract class AbstractTable {
 		}
 	}
 
+	/**
+	 * Load the columns of the indexes of the table, including the primary key index.
+	 *
+	 * @return upper case column names by index name
+	 */
+	private Map<String, List<String>> loadIndexColumns() throws SQLException {
+		var ret = new LinkedHashMap<String, List<String>>();
+		var sql = "SELECT INDEX_NAME, COLUMN_NAME FROM INFORMATION_SCHEMA.SYSTEM_INDEXINFO WHERE TABLE_SCHEM='PUBLIC'"
+				+ " AND TABLE_NAME='" + getTableName().toUpperCase() + "' ORDER BY INDEX_NAME, ORDINAL_POSITION";
+		try (ResultSet rs = connectionManager.executeQuery(sql)) {
+			while (rs != null && rs.next()) {
+				ret.computeIfAbsent(rs.getString(1), k -> new ArrayList<>()).add(rs.getString(2));
+			}
+		}
+		return ret;
+	}
+
+	/**
+	 * Create the indexes of {@link #getCreateIndexStatement()} which are missing in the database.
+	 * An index is regarded as existing, if an index with the same name or with the same columns
+	 * exists, so that indexes covered by a primary key are not created again.
+	 *
+	 * @return number of created indexes
+	 */
+	int createMissingIndexes() throws SQLException {
+		var existing = loadIndexColumns();
+		var ret = 0;
+		for (var statement : getCreateIndexStatement()) {
+			var matcher = CREATE_INDEX_PATTERN.matcher(statement);
+			if (!matcher.matches()) {
+				continue;
+			}
+			var indexName = matcher.group(1).toUpperCase();
+			var columns = Arrays.stream(matcher.group(2).split(","))
+					.map(c -> c.trim().toUpperCase())
+					.toList();
+			if (!existing.containsKey(indexName) && !existing.containsValue(columns)) {
+				HOLogger.instance().info(getClass(), "Create index " + indexName + " on " + getTableName() + columns);
+				connectionManager.executeUpdate(statement);
+				existing.put(indexName, columns);
+				ret++;
+			}
+		}
+		return ret;
+	}
+
 	public boolean primaryKeyExists() throws SQLException {
 		String sql = "SELECT 1 FROM information_schema.table_constraints WHERE constraint_type = 'PRIMARY KEY' AND table_name = '"
 				+ getTableName().toUpperCase() + "'";
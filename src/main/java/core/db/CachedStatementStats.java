@@ -1,7 +1,103 @@
 package core.db;
 
 import java.time.Instant;
+import java.util.concurrent.atomic.LongAdder;
 
-public record CachedStatementStats(Instant created, Instant lastAccessed, int count) {
+/**
+ * Usage counters of a prepared statement of the {@link StatementCache}.
+ * <p>
+ * Counters are updated without locking and without allocation, so that
+ * tracking a cache hit or an execution is cheap.
+ */
+public final class CachedStatementStats {
 
+    private final Instant created;
+    private volatile long lastAccessed;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder executions = new LongAdder();
+    private final LongAdder executionNanos = new LongAdder();
+    private final LongAdder rows = new LongAdder();
+
+    CachedStatementStats() {
+        this.created = Instant.now();
+        this.lastAccessed = created.toEpochMilli();
+    }
+
+    void hit() {
+        hits.increment();
+        lastAccessed = System.currentTimeMillis();
+    }
+
+    void miss() {
+        misses.increment();
+        lastAccessed = System.currentTimeMillis();
+    }
+
+    void executed(long nanos, long rowCount) {
+        executions.increment();
+        executionNanos.add(nanos);
+        if (rowCount > 0) {
+            rows.add(rowCount);
+        }
+    }
+
+    void addRows(long rowCount) {
+        rows.add(rowCount);
+    }
+
+    public Instant created() {
+        return created;
+    }
+
+    public Instant lastAccessed() {
+        return Instant.ofEpochMilli(lastAccessed);
+    }
+
+    /**
+     * @return number of accesses (hits and misses)
+     */
+    public long count() {
+        return hits.sum() + misses.sum();
+    }
+
+    public long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return number of times the statement had to be prepared
+     */
+    public long misses() {
+        return misses.sum();
+    }
+
+    public long executions() {
+        return executions.sum();
+    }
+
+    public long executionNanos() {
+        return executionNanos.sum();
+    }
+
+    /**
+     * @return rows returned by queries, resp. updated by DML statements
+     */
+    public long rows() {
+        return rows.sum();
+    }
+
+    @Override
+    public String toString() {
+        var executionCount = executions();
+        var nanos = executionNanos();
+        return "CachedStatementStats[created=" + created
+                + ", lastAccessed=" + lastAccessed()
+                + ", hits=" + hits()
+                + ", misses=" + misses()
+                + ", executions=" + executionCount
+                + ", totalMillis=" + nanos / 1_000_000
+                + ", avgMicros=" + (executionCount > 0 ? nanos / executionCount / 1000 : 0)
+                + ", rows=" + rows() + "]";
+    }
 }
@@ -3,6 +3,7 @@ package core.db;
 import java.sql.Types;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
+import java.util.function.ObjIntConsumer;
 
 /**
  * @author Thorsten Dietz
@@ -20,6 +21,12 @@ public final class ColumnDescriptor {
     public Function<Object, Object> getter;
     public BiConsumer<Object, Object> setter;
 
+    /**
+     * Optional primitive setter of integer columns. If defined, the row mapper
+     * passes the column value without boxing it.
+     */
+    public ObjIntConsumer<Object> intSetter;
+
     public ColumnDescriptor(Builder builder) {
         this.columnName = builder.columnName;
         this.type = builder.type;
@@ -28,6 +35,7 @@ public final class ColumnDescriptor {
         this.primaryKey = builder.primaryKey;
         this.getter = builder.getter;
         this.setter = builder.setter;
+        this.intSetter = builder.intSetter;
     }
 
     public static class Builder {
@@ -39,6 +47,7 @@ public final class ColumnDescriptor {
 
         private Function<Object, Object> getter;
         private BiConsumer<Object, Object> setter;
+        private ObjIntConsumer<Object> intSetter;
 
         public static Builder newInstance() {
             return new Builder();
@@ -79,6 +88,24 @@ public final class ColumnDescriptor {
             return this;
         }
 
+        /**
+         * Set a primitive setter for integer columns.
+         * The boxed setter is derived from it. It skips SQL NULL values, so the
+         * object keeps the default value of the property.
+         *
+         * @param intSetter setter receiving the int column value
+         * @return Builder
+         */
+        public Builder setIntSetter(ObjIntConsumer<Object> intSetter) {
+            this.intSetter = intSetter;
+            this.setter = (o, v) -> {
+                if (v != null) {
+                    intSetter.accept(o, (Integer) v);
+                }
+            };
+            return this;
+        }
+
         public ColumnDescriptor build() {
             return new ColumnDescriptor(this);
         }
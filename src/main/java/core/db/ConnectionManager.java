@@ -1,15 +1,22 @@
 package core.db;
 
 import core.util.HOLogger;
+import java.io.Serial;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Collection;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Provides the connection functions to the database
+ * <p>
+ * All threads share one connection. A transaction of {@link #executeInTransaction(Transaction)} holds the
+ * connection lock until it is committed or rolled back, so that statements of other threads wait and
+ * do not join the transaction.
  */
 public class ConnectionManager {
 
@@ -18,6 +25,10 @@ public class ConnectionManager {
     private DBInfo dbInfo;
     private StatementCache statementCache = new StatementCache(this);
 
+    private final ReentrantLock lock = new ReentrantLock();
+    /** Thread running the transaction of {@link #executeInTransaction(Transaction)}, null if none is running */
+    private volatile Thread transactionOwner;
+
     public Connection getConnection() {
         return connection;
     }
@@ -77,7 +88,12 @@ public class ConnectionManager {
     public ResultSet executeQuery(String sqlStatement) throws SQLException {
         checkConnectionNotClosed();
         if (statement != null) {
-            return statement.executeQuery(sqlStatement);
+            lock.lock();
+            try {
+                return statement.executeQuery(sqlStatement);
+            } finally {
+                lock.unlock();
+            }
         }
         return null;
     }
@@ -91,7 +107,11 @@ public class ConnectionManager {
     public ResultSet executePreparedQuery(String query, Object... params) throws SQLException {
         PreparedStatement preparedStatement = statementCache.getPreparedStatement(query);
         if (preparedStatement != null) {
-            return executePreparedQuery(preparedStatement, params);
+            try {
+                return executePreparedQuery(preparedStatement, params);
+            } finally {
+                statementCache.release(preparedStatement);
+            }
         }
         return null;
     }
@@ -101,7 +121,15 @@ public class ConnectionManager {
         for (int i = 0; i < params.length; i++) {
             preparedStatement.setObject(i + 1, params[i]);
         }
-        return preparedStatement.executeQuery();
+        lock.lock();
+        try {
+            var start = System.nanoTime();
+            var ret = preparedStatement.executeQuery();
+            statementCache.recordExecution(preparedStatement, System.nanoTime() - start, 0);
+            return ret;
+        } finally {
+            lock.unlock();
+        }
     }
 
     /**
@@ -119,7 +147,12 @@ public class ConnectionManager {
     public int executeUpdate(String sqlStatement) throws SQLException {
         checkConnectionNotClosed();
         if (statement != null) {
-            return statement.executeUpdate(sqlStatement);
+            lock.lock();
+            try {
+                return statement.executeUpdate(sqlStatement);
+            } finally {
+                lock.unlock();
+            }
         }
         return 0;
     }
@@ -127,7 +160,11 @@ public class ConnectionManager {
     public int executePreparedUpdate(String insert, Object... params) throws SQLException {
         PreparedStatement preparedStatement = statementCache.getPreparedStatement(insert);
         if (preparedStatement != null) {
-            return executePreparedUpdate(preparedStatement, params);
+            try {
+                return executePreparedUpdate(preparedStatement, params);
+            } finally {
+                statementCache.release(preparedStatement);
+            }
         }
         return 0;
     }
@@ -136,7 +173,166 @@ public class ConnectionManager {
         for (int i = 0; i < params.length; i++) {
             preparedStatement.setObject(i + 1, params[i]);
         }
-        return preparedStatement.executeUpdate();
+        lock.lock();
+        try {
+            var start = System.nanoTime();
+            var ret = preparedStatement.executeUpdate();
+            statementCache.recordExecution(preparedStatement, System.nanoTime() - start, ret);
+            return ret;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Executes an SQL INSERT, UPDATE or DELETE statement once for every parameter
+     * set, using JDBC batching.
+     *
+     * @param sql        prepared statement sql
+     * @param paramsList parameter sets, one per row
+     * @return the update counts of the batch
+     */
+    public int[] executePreparedBatch(String sql, Collection<Object[]> paramsList) throws SQLException {
+        checkConnectionNotClosed();
+        PreparedStatement preparedStatement = statementCache.getPreparedStatement(sql);
+        if (preparedStatement == null) {
+            return new int[0];
+        }
+        if (paramsList.isEmpty()) {
+            statementCache.release(preparedStatement);
+            return new int[0];
+        }
+        try {
+            for (var params : paramsList) {
+                for (int i = 0; i < params.length; i++) {
+                    preparedStatement.setObject(i + 1, params[i]);
+                }
+                preparedStatement.addBatch();
+            }
+            lock.lock();
+            try {
+                var start = System.nanoTime();
+                var ret = preparedStatement.executeBatch();
+                var rows = 0L;
+                for (var count : ret) {
+                    rows += Math.max(0, count);
+                }
+                statementCache.recordExecution(preparedStatement, System.nanoTime() - start, rows);
+                return ret;
+            } finally {
+                lock.unlock();
+            }
+        } finally {
+            try {
+                preparedStatement.clearBatch();
+            } finally {
+                statementCache.release(preparedStatement);
+            }
+        }
+    }
+
+    /**
+     * @return true, if the current thread runs a transaction of {@link #executeInTransaction(Transaction)}
+     */
+    public boolean isInTransaction() throws SQLException {
+        checkConnectionNotClosed();
+        return transactionOwner == Thread.currentThread();
+    }
+
+    /**
+     * Work executed by {@link #executeInTransaction(Transaction)}
+     *
+     * @param <T> result type
+     */
+    @FunctionalInterface
+    public interface Transaction<T> {
+        T execute() throws SQLException;
+    }
+
+    /**
+     * Executes the given work in a single transaction. The transaction is
+     * committed if the work completes, otherwise it is rolled back.
+     * If the current thread already runs a transaction, the work joins it. If the joined work fails,
+     * only its own changes are rolled back.
+     * Statements and transactions of other threads wait until the transaction is finished.
+     * An {@link UncheckedSQLException} of the work is rethrown as its SQLException cause.
+     *
+     * @param transaction work to execute
+     * @return result of the work
+     */
+    public <T> T executeInTransaction(Transaction<T> transaction) throws SQLException {
+        checkConnectionNotClosed();
+        lock.lock();
+        try {
+            if (transactionOwner == Thread.currentThread()) {
+                return executeNested(transaction);
+            }
+            connection.setAutoCommit(false);
+            transactionOwner = Thread.currentThread();
+            try {
+                var ret = transaction.execute();
+                connection.commit();
+                return ret;
+            } catch (UncheckedSQLException e) {
+                connection.rollback();
+                throw e.getCause();
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                transactionOwner = null;
+                connection.setAutoCommit(true);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private <T> T executeNested(Transaction<T> transaction) throws SQLException {
+        var savepoint = connection.setSavepoint();
+        try {
+            var ret = transaction.execute();
+            connection.releaseSavepoint(savepoint);
+            return ret;
+        } catch (UncheckedSQLException e) {
+            connection.rollback(savepoint);
+            throw e.getCause();
+        } catch (SQLException | RuntimeException e) {
+            connection.rollback(savepoint);
+            throw e;
+        }
+    }
+
+    /**
+     * Executes the given work like {@link #executeInTransaction(Transaction)}. If the work reports
+     * a failure by returning false, its changes are rolled back as well.
+     *
+     * @param transaction work to execute, returns false if it failed
+     * @return result of the work
+     */
+    public boolean executeInTransactionIfSuccessful(Transaction<Boolean> transaction) throws SQLException {
+        try {
+            return executeInTransaction(() -> {
+                if (!transaction.execute()) {
+                    throw new FailedTransaction();
+                }
+                return true;
+            });
+        } catch (FailedTransaction e) {
+            return false;
+        }
+    }
+
+    /**
+     * Thrown to roll back the changes of a work, which reported its failure
+     */
+    private static final class FailedTransaction extends RuntimeException {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        FailedTransaction() {
+            super(null, null, false, false);
+        }
     }
 
     /**
@@ -3,6 +3,7 @@ package core.db;
 import core.HO;
 import core.constants.TeamConfidence;
 import core.constants.TeamSpirit;
+import core.constants.player.PlayerSkill;
 import core.db.backup.BackupDialog;
 import core.db.user.User;
 import core.db.user.UserManager;
@@ -20,6 +21,7 @@ import core.model.misc.Basics;
 import core.model.misc.Economy;
 import core.model.misc.Verein;
 import core.model.player.Player;
+import core.model.player.SkillChange;
 import core.training.FuturePlayerSkillTraining;
 import core.util.AmountOfMoney;
 import core.util.HODateTime;
@@ -45,10 +47,12 @@ import module.youth.YouthTraining;
 import org.hsqldb.error.ErrorCode;
 import tool.arenasizer.Stadium;
 import java.io.File;
+import java.sql.DriverManager;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.util.*;
+import java.util.function.BooleanSupplier;
 import java.util.stream.Collectors;
 
 /**
@@ -251,6 +255,7 @@ public class DBManager implements PersistenceManager {
 		tables.put(VereinTable.TABLENAME, new VereinTable(connectionManager));
 		tables.put(LigaTable.TABLENAME, new LigaTable(connectionManager));
 		tables.put(SpielerTable.TABLENAME, new SpielerTable(connectionManager));
+		tables.put(SkillChangeTable.TABLENAME, new SkillChangeTable(connectionManager));
 		tables.put(EconomyTable.TABLENAME, new EconomyTable(connectionManager));
 		tables.put(YouthPlayerTable.TABLENAME, new YouthPlayerTable(connectionManager));
 		tables.put(YouthScoutCommentTable.TABLENAME, new YouthScoutCommentTable(connectionManager));
@@ -312,6 +317,24 @@ public class DBManager implements PersistenceManager {
 		this.firstStart = firstStart;
 	}
 
+	/**
+	 * Copy the database files into the directory using the HSQLDB online backup.
+	 * The database stays open for reads and writes during the backup.
+	 * The backup opens a connection of its own, so it may run on a background thread without
+	 * blocking the shared connection of the application.
+	 *
+	 * @param directory target directory, created if missing
+	 * @throws SQLException if the backup fails
+	 */
+	public void backupDatabase(File directory) throws SQLException {
+		var path = directory.getAbsolutePath().replace("'", "''") + File.separator;
+		var user = UserManager.instance().getCurrentUser();
+		try (var connection = DriverManager.getConnection(user.getDbURL(), user.getDbUsername(), user.getDbPwd());
+			 var statement = connection.createStatement()) {
+			statement.execute("BACKUP DATABASE TO '" + path + "' NOT BLOCKING AS FILES");
+		}
+	}
+
 	/**
 	 * Is first start boolean.
 	 *
@@ -332,6 +355,23 @@ public class DBManager implements PersistenceManager {
 		m_clInstance = null;
 	}
 
+	/**
+	 * Run database updates, which report their success, in one transaction. If a transaction is
+	 * already running, the updates join it. If they fail by returning false or by an exception,
+	 * only their own changes are rolled back.
+	 *
+	 * @param updates database updates, returning false if they failed
+	 * @return true, if the updates succeeded
+	 */
+	public boolean runInTransactionIfSuccessful(BooleanSupplier updates) {
+		try {
+			return connectionManager.executeInTransactionIfSuccessful(updates::getAsBoolean);
+		} catch (SQLException | RuntimeException e) {
+			HOLogger.instance().error(getClass(), "runInTransactionIfSuccessful: " + e);
+			return false;
+		}
+	}
+
 	/**
 	 * connect to the database
 	 */
@@ -428,6 +468,97 @@ public class DBManager implements PersistenceManager {
 				.loadPlayersAfter(playerName, before);
 	}
 
+	/**
+	 * Load the skill changes of a player
+	 *
+	 * @param playerId player id
+	 * @return skill changes ordered by date
+	 */
+	public List<SkillChange> loadSkillChanges(int playerId) {
+		return ((SkillChangeTable) getTable(SkillChangeTable.TABLENAME)).loadSkillChanges(playerId);
+	}
+
+	/**
+	 * Load the skill changes of one skill of a player
+	 *
+	 * @param playerId player id
+	 * @param skill    skill
+	 * @return skill changes ordered by date
+	 */
+	public List<SkillChange> loadSkillChanges(int playerId, PlayerSkill skill) {
+		return ((SkillChangeTable) getTable(SkillChangeTable.TABLENAME)).loadSkillChanges(playerId, skill);
+	}
+
+	/**
+	 * Update the skill changes of stored players.
+	 * The changes to the previous download of each player are stored, and the changes of the
+	 * next download are recalculated, if an older download was imported.
+	 *
+	 * @param players players of one download
+	 */
+	public void updateSkillChanges(List<Player> players) {
+		var spielerTable = (SpielerTable) getTable(SpielerTable.TABLENAME);
+		var skillChangeTable = (SkillChangeTable) getTable(SkillChangeTable.TABLENAME);
+		for (var player : players) {
+			var date = player.getHrfDate().toDbTimestamp();
+			var previous = spielerTable.loadPreviousPlayer(player.getPlayerId(), date);
+			skillChangeTable.replaceSkillChanges(player.getPlayerId(), player.getHrfId(),
+					SkillChange.compare(previous, player));
+			var next = spielerTable.loadNextPlayer(player.getPlayerId(), date);
+			if (next != null) {
+				skillChangeTable.replaceSkillChanges(next.getPlayerId(), next.getHrfId(),
+						SkillChange.compare(player, next));
+			}
+		}
+	}
+
+	/**
+	 * Remove the skill changes of a download, which is deleted.
+	 * The changes of the next download of each player are recalculated.
+	 *
+	 * @param hrfId hrf id
+	 */
+	private void deleteSkillChanges(int hrfId) {
+		var spielerTable = (SpielerTable) getTable(SpielerTable.TABLENAME);
+		var skillChangeTable = (SkillChangeTable) getTable(SkillChangeTable.TABLENAME);
+		for (var player : spielerTable.loadPlayersBefore(hrfId)) {
+			skillChangeTable.replaceSkillChanges(player.getPlayerId(), hrfId, List.of());
+			var date = player.getHrfDate().toDbTimestamp();
+			var next = spielerTable.loadNextPlayer(player.getPlayerId(), date);
+			if (next != null) {
+				var previous = spielerTable.loadPreviousPlayer(player.getPlayerId(), date);
+				skillChangeTable.replaceSkillChanges(next.getPlayerId(), next.getHrfId(),
+						SkillChange.compare(previous, next));
+			}
+		}
+	}
+
+	/**
+	 * Calculate the skill changes of all players from the player history
+	 */
+	void rebuildSkillChanges() {
+		rebuildSkillChanges(((SpielerTable) getTable(SpielerTable.TABLENAME)).loadPlayerIds());
+	}
+
+	/**
+	 * Calculate the skill changes of the given players from their player history
+	 *
+	 * @param playerIds player ids
+	 */
+	private void rebuildSkillChanges(Collection<Integer> playerIds) {
+		var spielerTable = (SpielerTable) getTable(SpielerTable.TABLENAME);
+		var skillChangeTable = (SkillChangeTable) getTable(SkillChangeTable.TABLENAME);
+		for (var playerId : playerIds) {
+			var skillChanges = new ArrayList<SkillChange>();
+			Player previous = null;
+			for (var player : spielerTable.loadPlayerHistory(playerId)) {
+				skillChanges.addAll(SkillChange.compare(previous, player));
+				previous = player;
+			}
+			skillChangeTable.replaceSkillChanges(playerId, skillChanges);
+		}
+	}
+
 	/**
 	 * store youth players
 	 *
@@ -1396,6 +1527,34 @@ public class DBManager implements PersistenceManager {
 		UserConfigurationTable table = (UserConfigurationTable) getTable(UserConfigurationTable.TABLENAME);
 		table.loadConfigurations(UserParameter.instance());
 		table.loadConfigurations(HOParameter.instance());
+		applyStorageProfile();
+	}
+
+	/**
+	 * Apply the storage profile and the table types configured in the user parameters.
+	 * The changed cache settings are used from the next start of HO on.
+	 */
+	private void applyStorageProfile() {
+		var parameter = UserParameter.instance();
+		var profile = StorageProfile.fromName(parameter.dbStorageProfile);
+		try {
+			profile.apply(connectionManager, getDataFileSize(), Runtime.getRuntime().maxMemory());
+			StorageProfile.setTableTypes(connectionManager, tables.values(), parameter.dbMemoryLookupTables);
+		} catch (SQLException e) {
+			HOLogger.instance().error(getClass(), "applyStorageProfile: " + e);
+		}
+	}
+
+	/**
+	 * @return size of the database .data file in bytes, 0 if the database is not stored in a file
+	 */
+	private long getDataFileSize() {
+		var url = UserManager.instance().getCurrentUser().getDbURL();
+		var prefix = "jdbc:hsqldb:file:";
+		if (url.startsWith(prefix)) {
+			return new File(url.substring(prefix.length()) + ".data").length();
+		}
+		return 0;
 	}
 
 	/**
@@ -1788,26 +1947,34 @@ public class DBManager implements PersistenceManager {
 				playerMatchCBItems.add(playerMatchCBItem);
 			}
 
-			Timestamp filter;
+			// Player history, HRF dates and team data are loaded once and assigned to the matches in memory
+			var playerHistory = SpielerTable.indexByDate(loadPlayerHistory(playerID));
+			var hrfIds = HRFTable.indexByDate(loadAllHRFs(true));
+			var hrfIdOfMatch = new HashMap<PlayerMatchCBItem, Integer>();
+			for (final PlayerMatchCBItem item : playerMatchCBItems) {
+				hrfIdOfMatch.put(item, HRFTable.getHrfIdNearDate(hrfIds, item.getMatchdate().toDbTimestamp()));
+			}
+			var teams = ((TeamTable) getTable(TeamTable.TABLENAME)).loadTeams(new HashSet<>(hrfIdOfMatch.values()));
+			// Match details are loaded with one query, so that the table of the matches does not load them one by one
+			record MatchKey(int matchId, int matchType) {}
+			var matchDetails = new HashMap<MatchKey, Matchdetails>();
+			for (var details : ((MatchDetailsTable) getTable(MatchDetailsTable.TABLENAME)).loadPlayerMatchDetails(playerID)) {
+				matchDetails.put(new MatchKey(details.getMatchID(), details.getMatchType().getId()), details);
+			}
+
 			// Get the player data for the matches
 			for (final PlayerMatchCBItem item : playerMatchCBItems) {
-				filter = item.getMatchdate().toDbTimestamp();
 				// Player
-				final Player player = getSpielerAtDate(playerID, filter);
-				// Matchdetails
-				final Matchdetails details = loadMatchDetails(item.getMatchType().getMatchTypeId(), item.getMatchID());
-				// Stimmung und Selbstvertrauen
-				var team = getTeam(getHRFID4Date(filter));
-				final String[] sTSandConfidences = {
-						TeamSpirit.toString(team.getTeamSpiritLevel()),
-						TeamConfidence.toString(team.getConfidence())
-				};
+				final Player player = SpielerTable.getPlayerNearDate(playerHistory, item.getMatchdate().toDbTimestamp());
 				// Only if player data has been found, pass it into the return vector
-				if (player != null && details != null) {
+				if (player != null) {
+					item.setMatchdetails(matchDetails.getOrDefault(
+							new MatchKey(item.getMatchID(), item.getMatchType().getMatchTypeId()), new Matchdetails()));
+					// Stimmung und Selbstvertrauen
+					var team = teams.getOrDefault(hrfIdOfMatch.get(item), new Team());
 					item.setSpieler(player);
-					item.setMatchdetails(details);
-					item.setTeamSpirit(sTSandConfidences[0]);
-					item.setConfidence(sTSandConfidences[1]);
+					item.setTeamSpirit(TeamSpirit.toString(team.getTeamSpiritLevel()));
+					item.setConfidence(TeamConfidence.toString(team.getConfidence()));
 					spielerMatchCBItems.add(item);
 				}
 			}
@@ -1824,6 +1991,7 @@ public class DBManager implements PersistenceManager {
 	 * @param hrfid the hrfid
 	 */
 	public void deleteHRF(int hrfid) {
+		deleteSkillChanges(hrfid);
 		getTable(StadionTable.TABLENAME).executePreparedDelete(hrfid);
 		getTable(HRFTable.TABLENAME).executePreparedDelete(hrfid);
 		getTable(LigaTable.TABLENAME).executePreparedDelete(hrfid);
@@ -1836,6 +2004,95 @@ public class DBManager implements PersistenceManager {
 		getTable(StaffTable.TABLENAME).executePreparedDelete(hrfid);
 	}
 
+	/**
+	 * Delete the given downloads and all data stored with them.
+	 * The rows of each table are deleted in one transaction, instead of one delete per table and download.
+	 * The skill changes of the players of the deleted downloads are rebuilt from the remaining history.
+	 *
+	 * @param hrfIds ids of the downloads to delete
+	 * @param dryRun if true, nothing is deleted and the rows are only counted
+	 * @return number of deleted rows per table
+	 */
+	public Map<String, Integer> deleteHRFs(Collection<Integer> hrfIds, boolean dryRun) {
+		var ret = new LinkedHashMap<String, Integer>();
+		if (hrfIds.isEmpty()) {
+			return ret;
+		}
+		var playerIds = ((SpielerTable) getTable(SpielerTable.TABLENAME)).loadPlayerIds(hrfIds);
+		var hrfColumns = new LinkedHashMap<String, String>();
+		hrfColumns.put(SkillChangeTable.TABLENAME, "HRF_ID");
+		hrfColumns.put(StadionTable.TABLENAME, "HRF_ID");
+		hrfColumns.put(LigaTable.TABLENAME, "HRF_ID");
+		hrfColumns.put(VereinTable.TABLENAME, "HRF_ID");
+		hrfColumns.put(TeamTable.TABLENAME, "HRF_ID");
+		hrfColumns.put(EconomyTable.TABLENAME, "HRF_ID");
+		hrfColumns.put(BasicsTable.TABLENAME, "HRF_ID");
+		hrfColumns.put(SpielerTable.TABLENAME, "HRF_ID");
+		hrfColumns.put(XtraDataTable.TABLENAME, "HRF_ID");
+		hrfColumns.put(StaffTable.TABLENAME, "HrfID");
+		hrfColumns.put(HRFTable.TABLENAME, "HRF_ID");
+		hrfColumns.forEach((table, column) -> ret.put(table, getTable(table).deleteWhereIn(column, hrfIds, dryRun)));
+		if (!dryRun) {
+			rebuildSkillChanges(playerIds);
+		}
+		return ret;
+	}
+
+	/**
+	 * Delete all data of the matches selected by match type and date.
+	 * The matches are selected by one query, which is used as sub query of one delete statement per table.
+	 *
+	 * @param teamId              own team id
+	 * @param ownTeamMatchTypes   match types of own team's matches to delete
+	 * @param ownTeamBefore       delete own team's matches played before this date (null: keep all)
+	 * @param otherTeamMatchTypes match types of other teams' matches to delete
+	 * @param otherTeamBefore     delete other teams' matches played before this date (null: keep all)
+	 * @param dryRun              if true, nothing is deleted and the rows are only counted
+	 * @return number of deleted rows per table
+	 */
+	public Map<String, Integer> deleteMatches(int teamId, Collection<MatchType> ownTeamMatchTypes, Timestamp ownTeamBefore,
+											  Collection<MatchType> otherTeamMatchTypes, Timestamp otherTeamBefore,
+											  boolean dryRun) {
+		var ret = new LinkedHashMap<String, Integer>();
+		var conditions = new ArrayList<String>();
+		var params = new ArrayList<Object>();
+		if (ownTeamBefore != null && !ownTeamMatchTypes.isEmpty()) {
+			conditions.add("(HeimID=? OR GastID=?) AND MatchDate<? AND MatchTyp IN ("
+					+ getPlaceholders(ownTeamMatchTypes.size()) + ")");
+			params.addAll(List.of(teamId, teamId, ownTeamBefore));
+			ownTeamMatchTypes.forEach(t -> params.add(t.getId()));
+		}
+		if (otherTeamBefore != null && !otherTeamMatchTypes.isEmpty()) {
+			conditions.add("HeimID<>? AND GastID<>? AND MatchDate<? AND MatchTyp IN ("
+					+ getPlaceholders(otherTeamMatchTypes.size()) + ")");
+			params.addAll(List.of(teamId, teamId, otherTeamBefore));
+			otherTeamMatchTypes.forEach(t -> params.add(t.getId()));
+		}
+		if (conditions.isEmpty()) {
+			return ret;
+		}
+		var select = "SELECT MatchID,MatchTyp FROM " + MatchesKurzInfoTable.TABLENAME + " WHERE ("
+				+ String.join(") OR (", conditions) + ")";
+		// MATCHESKURZINFO is the source of the sub query and is deleted last
+		for (var table : List.of(MatchDetailsTable.TABLENAME, MatchHighlightsTable.TABLENAME,
+				MatchLineupTable.TABLENAME, MatchLineupTeamTable.TABLENAME, MatchLineupPlayerTable.TABLENAME,
+				MatchSubstitutionTable.TABLENAME, MatchesKurzInfoTable.TABLENAME)) {
+			ret.put(table, getTable(table).deleteWhereIn("MatchID,MatchTyp", select, dryRun, params.toArray()));
+		}
+		return ret;
+	}
+
+	/**
+	 * Rewrite the database files to release the space of deleted rows
+	 */
+	public void compactDatabase() {
+		try {
+			connectionManager.executeUpdate("CHECKPOINT DEFRAG");
+		} catch (SQLException e) {
+			HOLogger.instance().error(getClass(), "compactDatabase: " + e);
+		}
+	}
+
 	/**
 	 * Deletes all data for the given match
 	 *
@@ -1882,15 +2139,22 @@ public class DBManager implements PersistenceManager {
 
 			// deleteMatch( info.getMatchID(), info.getMatchType().getId());
 
-			var matches = new ArrayList<MatchKurzInfo>();
-			matches.add(info);
-			((MatchesKurzInfoTable) getTable(MatchesKurzInfoTable.TABLENAME))
-					.storeMatchKurzInfos(matches);
-
-			storeMatchDetails(details);
-			storeMatchLineup(lineup, null);
-
-			return true;
+			try {
+				// one transaction for all rows of the match
+				return connectionManager.executeInTransaction(() -> {
+					var matches = new ArrayList<MatchKurzInfo>();
+					matches.add(info);
+					((MatchesKurzInfoTable) getTable(MatchesKurzInfoTable.TABLENAME))
+							.storeMatchKurzInfos(matches);
+
+					storeMatchDetails(details);
+					storeMatchLineup(lineup, null);
+					return true;
+				});
+			} catch (SQLException e) {
+				HOLogger.instance().error(getClass(), "storeMatch: " + e);
+				return false;
+			}
 		}
 		return false;
 	}
@@ -1921,6 +2185,18 @@ public class DBManager implements PersistenceManager {
 		}
 	}
 
+	/**
+	 * Create the indexes declared by the tables which are missing in the database,
+	 * e.g. because they were declared after the database was created.
+	 */
+	void createMissingIndexes() throws SQLException {
+		var count = 0;
+		for (var table : tables.values()) {
+			count += table.createMissingIndexes();
+		}
+		HOLogger.instance().info(getClass(), "Created " + count + " missing indexes");
+	}
+
 	/**
 	 * Load module configs map.
 	 *
@@ -2116,6 +2392,34 @@ public class DBManager implements PersistenceManager {
 		((IfaMatchTable) getTable(IfaMatchTable.TABLENAME)).insertMatch(match);
 	}
 
+	/**
+	 * Insert ifa matches in one batch.
+	 *
+	 * @param matches the matches
+	 */
+	public void insertIFAMatches(List<IfaMatch> matches) {
+		((IfaMatchTable) getTable(IfaMatchTable.TABLENAME)).insertMatches(matches);
+	}
+
+	/**
+	 * Get the ifa matches, which are not stored yet. Checks all matches with one query.
+	 *
+	 * @param matches the matches
+	 * @return the new matches
+	 */
+	public List<IfaMatch> getNewIFAMatches(List<IfaMatch> matches) {
+		return ((IfaMatchTable) getTable(IfaMatchTable.TABLENAME)).getNewMatches(matches);
+	}
+
+	/**
+	 * Get the league ids of all teams of the stored ifa matches.
+	 *
+	 * @return league id by team id
+	 */
+	public Map<Integer, Integer> getIFATeamLeagues() {
+		return ((IfaMatchTable) getTable(IfaMatchTable.TABLENAME)).getTeamLeagues();
+	}
+
 	/**
 	 * Deletes all the content of the IFA match table.
 	 */
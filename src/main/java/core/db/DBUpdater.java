@@ -146,6 +146,15 @@ final class DBUpdater {
 		var stadiumTable = dbManager.getTable(StadionTable.TABLENAME);
 		stadiumTable.tryChangeColumn("AusbauKosten", "NULL");
 
+		// Index of the skill changes in the player history
+		if (!tableExists(SkillChangeTable.TABLENAME)) {
+			dbManager.getTable(SkillChangeTable.TABLENAME).createTable();
+			dbManager.rebuildSkillChanges();
+		}
+
+		// Indexes of the per HRF, youth and training tables, which were scanned completely before
+		dbManager.createMissingIndexes();
+
 		updateDBVersion(dbVersion, 1000);
 	}
 
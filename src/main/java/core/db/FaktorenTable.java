@@ -65,4 +65,9 @@ public final class FaktorenTable extends AbstractTable {
             FormulaFactors.instance().importDefaults();
         }
     }
+
+    @Override
+    protected boolean isLookupTable() {
+        return true;
+    }
 }
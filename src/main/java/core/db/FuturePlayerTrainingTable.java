@@ -28,6 +28,13 @@ public class FuturePlayerTrainingTable extends AbstractTable {
         };
     }
 
+    @Override
+    protected String[] getCreateIndexStatement() {
+        return new String[] {
+                "CREATE INDEX iFuturePlayerTraining_1 ON " + getTableName() + "(playerId)"
+        };
+    }
+
     List<FuturePlayerTraining> getFuturePlayerTrainingPlan(int playerId) {
         return load(FuturePlayerTraining.class, playerId);
     }
@@ -36,4 +36,9 @@ public class HOColorTable extends AbstractTable {
     public List<HOColor> load(String theme) {
         return load(HOColor.class, theme);
     }
+
+    @Override
+    protected boolean isLookupTable() {
+        return true;
+    }
 }
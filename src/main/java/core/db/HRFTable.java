@@ -9,6 +9,8 @@ import java.sql.Timestamp;
 import java.sql.Types;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
 
 public final class HRFTable extends AbstractTable {
 
@@ -105,6 +107,36 @@ public final class HRFTable extends AbstractTable {
 		return hrfID;
 	}
 
+	/**
+	 * Select the HRF near a date. The search is the same as in {@link #getHrfIdNearDate(Timestamp)},
+	 * without database access.
+	 *
+	 * @param hrfIds HRF ids by date in milliseconds, see {@link #indexByDate(HRF[])}
+	 * @param time date
+	 * @return HRF id, 0 if none is found
+	 */
+	static int getHrfIdNearDate(NavigableMap<Long, Integer> hrfIds, Timestamp time) {
+		var entry = hrfIds.floorEntry(time.getTime());
+		if (entry == null) {
+			entry = hrfIds.higherEntry(time.getTime());
+		}
+		return entry != null ? entry.getValue() : 0;
+	}
+
+	/**
+	 * Index the HRF ids by date
+	 *
+	 * @param hrfs HRFs, like {@link #loadAllHRFs(boolean)}
+	 * @return HRF ids by date in milliseconds
+	 */
+	static NavigableMap<Long, Integer> indexByDate(HRF[] hrfs) {
+		var ret = new TreeMap<Long, Integer>();
+		for (var hrf : hrfs) {
+			ret.put(hrf.getDatum().toDbTimestamp().getTime(), hrf.getHrfId());
+		}
+		return ret;
+	}
+
 	/**
 	 * Get a list of all HRFs
 	 * 
@@ -5,8 +5,12 @@ import core.util.HODateTime;
 import core.util.HOLogger;
 import module.ifa.IfaMatch;
 import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.sql.Types;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 public class IfaMatchTable extends AbstractTable {
 
@@ -64,6 +68,14 @@ public class IfaMatchTable extends AbstractTable {
 		return new String[] { " PRIMARY KEY (MATCHID, MATCHTYP)" };
 	}
 
+	@Override
+	protected String[] getCreateIndexStatement() {
+		return new String[] {
+				"CREATE INDEX iIfaMatches_1 ON " + getTableName() + "(HOMETEAMID)",
+				"CREATE INDEX iIfaMatches_2 ON " + getTableName() + "(AWAYTEAMID)"
+		};
+	}
+
 	boolean isMatchInDB(int matchId, int matchTyp) {
 		var match = loadOne(IfaMatch.class, matchId, matchTyp);
 		return match != null;
@@ -106,6 +118,39 @@ public class IfaMatchTable extends AbstractTable {
 		store(match);
 	}
 
+	void insertMatches(List<IfaMatch> matches) {
+		storeAll(matches);
+	}
+
+	/**
+	 * Get the matches, which are not stored yet
+	 */
+	List<IfaMatch> getNewMatches(List<IfaMatch> matches) {
+		updateStoredFlags(matches);
+		return matches.stream().filter(m -> !m.isStored()).toList();
+	}
+
+	/**
+	 * Get the league ids of all teams of the stored matches
+	 *
+	 * @return league id by team id
+	 */
+	Map<Integer, Integer> getTeamLeagues() {
+		var ret = new HashMap<Integer, Integer>();
+		var sql = "SELECT HOMETEAMID, HOME_LEAGUEID FROM " + getTableName()
+				+ " UNION SELECT AWAYTEAMID, AWAY_LEAGUEID FROM " + getTableName();
+		try (var rs = connectionManager.executeQuery(sql)) {
+			while (rs != null && rs.next()) {
+				if (rs.getInt(2) > 0) {
+					ret.put(rs.getInt(1), rs.getInt(2));
+				}
+			}
+		} catch (SQLException e) {
+			HOLogger.instance().error(this.getClass(), e);
+		}
+		return ret;
+	}
+
 	@Override
 	protected String createDeleteStatement() {
 		return createDeleteStatement(" WHERE TRUE");
@@ -0,0 +1,219 @@
+package core.db;
+
+import core.util.HOLogger;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Suggests indexes for the statements recorded by the {@link StatementCache}.
+ * <p>
+ * The statements are grouped by their shape, i.e. the SQL with IN lists of any length reduced to a
+ * single placeholder, so that the chunked queries of one method are counted together.
+ * HSQLDB explains the plan of each shape. Tables read by a full scan get an index suggestion on
+ * the columns compared in their conditions: equality columns first, followed by one range column.
+ * <p>
+ * The advisor is a development tool. Its results are shown by the StatementCacheMonitor via JMX.
+ */
+public class IndexAdvisor {
+
+	private static final Pattern EXPLAINABLE = Pattern.compile("^(SELECT|UPDATE|DELETE)\\b", Pattern.CASE_INSENSITIVE);
+	private static final Pattern PLAN_TABLE = Pattern.compile("\\btable=(\\w+)");
+	private static final Pattern PLAN_CONDITION = Pattern.compile(
+			"(?<![A-Z_])(EQUAL|GREATER_EQUAL|GREATER|SMALLER_EQUAL|SMALLER) arg_left=\\[\\s*(?:ROW =\\s*)?COLUMN: \\w+\\.(\\w+)\\.(\\w+)");
+
+	/**
+	 * Statements of the same shape with their summed up execution statistics
+	 *
+	 * @param shape          normalized SQL
+	 * @param sql            one of the statements of the shape
+	 * @param executions     number of executions
+	 * @param executionNanos total execution time
+	 */
+	public record QueryShape(String shape, String sql, long executions, long executionNanos) {
+		@Override
+		public String toString() {
+			return "QueryShape[executions=" + executions
+					+ ", totalMillis=" + executionNanos / 1_000_000
+					+ ", avgMicros=" + (executions > 0 ? executionNanos / executions / 1000 : 0) + "]";
+		}
+	}
+
+	/**
+	 * Index suggested for a query shape
+	 *
+	 * @param table   table name
+	 * @param columns index columns
+	 * @param query   query shape reading the table by a full scan
+	 */
+	public record Suggestion(String table, List<String> columns, QueryShape query) {
+		public String createIndexStatement() {
+			return "CREATE INDEX i" + table + "_" + String.join("_", columns) + " ON " + table
+					+ "(" + String.join(",", columns) + ")";
+		}
+	}
+
+	private final ConnectionManager connectionManager;
+
+	public IndexAdvisor(ConnectionManager connectionManager) {
+		this.connectionManager = connectionManager;
+	}
+
+	/**
+	 * Group the executed statements by their shape
+	 *
+	 * @param statementStats statistics by SQL statement, see {@link StatementCache#getStatementStats()}
+	 * @return query shapes sorted by descending total execution time
+	 */
+	public static List<QueryShape> getQueryShapes(Map<String, CachedStatementStats> statementStats) {
+		var shapes = new HashMap<String, QueryShape>();
+		for (var entry : statementStats.entrySet()) {
+			var stats = entry.getValue();
+			if (stats.executions() == 0) {
+				continue;
+			}
+			var shape = StatementCache.shapeOf(entry.getKey());
+			shapes.merge(shape, new QueryShape(shape, entry.getKey(), stats.executions(), stats.executionNanos()),
+					(a, b) -> new QueryShape(shape, a.sql(), a.executions() + b.executions(),
+							a.executionNanos() + b.executionNanos()));
+		}
+		return shapes.values().stream()
+				.sorted(Comparator.comparingLong(QueryShape::executionNanos).reversed())
+				.toList();
+	}
+
+	/**
+	 * Suggest indexes for the executed statements. Tables already having an index starting with the
+	 * suggested columns get no suggestion, HSQLDB decided not to use that index.
+	 *
+	 * @param statementStats statistics by SQL statement, see {@link StatementCache#getStatementStats()}
+	 * @return suggestions, the one of the query shape with the highest total execution time first
+	 */
+	public List<Suggestion> getSuggestions(Map<String, CachedStatementStats> statementStats) {
+		var ret = new ArrayList<Suggestion>();
+		try {
+			var indexes = loadIndexColumns();
+			var suggested = new HashSet<String>();
+			for (var shape : getQueryShapes(statementStats)) {
+				if (!EXPLAINABLE.matcher(shape.sql()).find()) {
+					continue;
+				}
+				var plan = explain(shape.sql());
+				if (plan == null) {
+					continue;
+				}
+				for (var scan : parseFullScans(plan).entrySet()) {
+					var columns = scan.getValue();
+					var tableIndexes = indexes.getOrDefault(scan.getKey(), List.of());
+					var covered = tableIndexes.stream().anyMatch(
+							index -> index.size() >= columns.size() && index.subList(0, columns.size()).equals(columns));
+					var suggestion = new Suggestion(scan.getKey(), columns, shape);
+					if (!covered && suggested.add(suggestion.createIndexStatement())) {
+						ret.add(suggestion);
+					}
+				}
+			}
+		} catch (SQLException e) {
+			HOLogger.instance().error(getClass(), "getSuggestions: " + e);
+		}
+		return ret;
+	}
+
+	/**
+	 * Find the tables read by a full scan in a query plan of HSQLDB
+	 *
+	 * @param plan result of EXPLAIN PLAN FOR
+	 * @return upper case columns compared in the conditions of the scanned tables by table name.
+	 * 	Tables without conditions are not returned.
+	 */
+	static Map<String, List<String>> parseFullScans(String plan) {
+		var ret = new LinkedHashMap<String, List<String>>();
+		var tables = PLAN_TABLE.matcher(plan);
+		var starts = new ArrayList<Integer>();
+		var names = new ArrayList<String>();
+		while (tables.find()) {
+			starts.add(tables.start());
+			names.add(tables.group(1));
+		}
+		for (int i = 0; i < starts.size(); i++) {
+			var table = names.get(i);
+			var block = plan.substring(starts.get(i), i + 1 < starts.size() ? starts.get(i + 1) : plan.length());
+			if (table.startsWith("SYSTEM_") || !block.contains("access=FULL SCAN")) {
+				continue;
+			}
+			var columns = new ArrayList<String>();
+			String rangeColumn = null;
+			var conditions = PLAN_CONDITION.matcher(block);
+			while (conditions.find()) {
+				if (!conditions.group(2).equals(table)) {
+					continue;
+				}
+				var column = conditions.group(3);
+				if (conditions.group(1).equals("EQUAL")) {
+					if (!columns.contains(column)) {
+						columns.add(column);
+					}
+				} else if (rangeColumn == null) {
+					rangeColumn = column;
+				}
+			}
+			if (rangeColumn != null && !columns.contains(rangeColumn)) {
+				columns.add(rangeColumn);
+			}
+			if (!columns.isEmpty()) {
+				ret.putIfAbsent(table, columns);
+			}
+		}
+		return ret;
+	}
+
+	/**
+	 * Explain the plan of a statement. A statement of its own is used, so that the result sets of the
+	 * connection manager are not closed, when the advisor is called by JMX.
+	 *
+	 * @return plan or null, if the statement cannot be explained
+	 */
+	private String explain(String sql) {
+		try (var statement = connectionManager.getConnection().createStatement();
+			 var rs = statement.executeQuery("EXPLAIN PLAN FOR " + sql)) {
+			var ret = new StringBuilder();
+			while (rs.next()) {
+				ret.append(rs.getString(1)).append('\n');
+			}
+			return ret.toString();
+		} catch (SQLException e) {
+			HOLogger.instance().debug(getClass(), "Cannot explain " + sql + ": " + e.getMessage());
+			return null;
+		}
+	}
+
+	/**
+	 * Load the columns of all indexes of the database
+	 *
+	 * @return lists of upper case index columns by table name
+	 */
+	private Map<String, List<List<String>>> loadIndexColumns() throws SQLException {
+		var indexes = new LinkedHashMap<String, List<String>>();
+		var tables = new HashMap<String, String>();
+		try (var statement = connectionManager.getConnection().createStatement();
+			 var rs = statement.executeQuery("SELECT TABLE_NAME, INDEX_NAME, COLUMN_NAME"
+					 + " FROM INFORMATION_SCHEMA.SYSTEM_INDEXINFO WHERE TABLE_SCHEM='PUBLIC'"
+					 + " ORDER BY TABLE_NAME, INDEX_NAME, ORDINAL_POSITION")) {
+			while (rs.next()) {
+				tables.put(rs.getString(2), rs.getString(1));
+				indexes.computeIfAbsent(rs.getString(2), k -> new ArrayList<>()).add(rs.getString(3));
+			}
+		}
+		var ret = new HashMap<String, List<List<String>>>();
+		for (var index : indexes.entrySet()) {
+			ret.computeIfAbsent(tables.get(index.getKey()), k -> new ArrayList<>()).add(index.getValue());
+		}
+		return ret;
+	}
+}
@@ -25,12 +25,6 @@ public final class LigaTable extends AbstractTable {
 		};
 	}
 
-	@Override
-	protected String[] getCreateIndexStatement() {
-		return new String[] {
-			"CREATE INDEX ILIGA_1 ON " + getTableName() + "(" + columns[0].getColumnName() + ")"};
-	}
-
 	/**
 	 * store league
 	 */
@@ -6,9 +6,11 @@ import core.model.match.Matchdetails;
 import core.util.HODateTime;
 import core.util.HOLogger;
 import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.sql.Types;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.stream.Collectors;
 
 final class MatchDetailsTable extends AbstractTable {
@@ -106,6 +108,24 @@ final class MatchDetailsTable extends AbstractTable {
 		return ret;
 	}
 
+	private final String loadPlayerMatchDetailsSql = createSelectStatement(
+			"WHERE (MatchID, MatchTyp) IN (SELECT MatchID, MatchTyp FROM MATCHLINEUPPLAYER WHERE SpielerID=? AND Rating>0)");
+
+	/**
+	 * Load the details of all matches, in which the player got a rating
+	 *
+	 * @param playerId player id
+	 * @return list of match details
+	 */
+	List<Matchdetails> loadPlayerMatchDetails(int playerId) {
+		try {
+			return load(Matchdetails.class, connectionManager.executePreparedQuery(loadPlayerMatchDetailsSql, playerId));
+		} catch (SQLException e) {
+			HOLogger.instance().error(getClass(), e);
+		}
+		return new ArrayList<>();
+	}
+
 	void storeMatchDetails(Matchdetails details) {
 		if (details != null) {
 			details.setIsStored(isStored(details.getMatchID(), details.getMatchType().getId()));
@@ -61,8 +61,8 @@ final class MatchHighlightsTable extends AbstractTable {
 				highlight.setMatchDate(details.getMatchDate());
 				highlight.setMatchType(details.getMatchType());
 				highlight.setMatchId(details.getMatchID());
-				store(highlight);
 			}
+			storeAll(vHighlights);
 		}
 	}
 
@@ -30,27 +30,27 @@ public final class MatchLineupPlayerTable extends AbstractTable {
 		columns = new ColumnDescriptor[] {
 				ColumnDescriptor.Builder.newInstance().setColumnName("MatchID")
 						.setGetter((o) -> ((MatchLineupPosition) o).getMatchId())
-						.setSetter((o, v) -> ((MatchLineupPosition) o).setMatchId((int) v)).setType(Types.INTEGER)
+						.setIntSetter((o, v) -> ((MatchLineupPosition) o).setMatchId(v)).setType(Types.INTEGER)
 						.isNullable(false).build(),
 				ColumnDescriptor.Builder.newInstance().setColumnName("MatchTyp")
 						.setGetter((o) -> ((MatchLineupPosition) o).getMatchType().getId())
-						.setSetter((o, v) -> ((MatchLineupPosition) o).setMatchType(MatchType.getById((int) v)))
+						.setIntSetter((o, v) -> ((MatchLineupPosition) o).setMatchType(MatchType.getById(v)))
 						.setType(Types.INTEGER).isNullable(false).build(),
 				ColumnDescriptor.Builder.newInstance().setColumnName("TeamID")
 						.setGetter((o) -> ((MatchLineupPosition) o).getTeamId())
-						.setSetter((o, v) -> ((MatchLineupPosition) o).setTeamId((int) v)).setType(Types.INTEGER)
+						.setIntSetter((o, v) -> ((MatchLineupPosition) o).setTeamId(v)).setType(Types.INTEGER)
 						.isNullable(false).build(),
 				ColumnDescriptor.Builder.newInstance().setColumnName("SpielerID")
 						.setGetter((o) -> ((MatchLineupPosition) o).getPlayerId())
-						.setSetter((o, v) -> ((MatchLineupPosition) o).setPlayerId((int) v)).setType(Types.INTEGER)
+						.setIntSetter((o, v) -> ((MatchLineupPosition) o).setPlayerId(v)).setType(Types.INTEGER)
 						.isNullable(false).build(),
 				ColumnDescriptor.Builder.newInstance().setColumnName("RoleID")
 						.setGetter((o) -> ((MatchLineupPosition) o).getRoleId())
-						.setSetter((o, v) -> ((MatchLineupPosition) o).setRoleId((int) v)).setType(Types.INTEGER)
+						.setIntSetter((o, v) -> ((MatchLineupPosition) o).setRoleId(v)).setType(Types.INTEGER)
 						.isNullable(false).build(),
 				ColumnDescriptor.Builder.newInstance().setColumnName("Taktik")
 						.setGetter((o) -> ((MatchLineupPosition) o).getBehaviour())
-						.setSetter((o, v) -> ((MatchLineupPosition) o).setBehaviour((byte) (int) v))
+						.setIntSetter((o, v) -> ((MatchLineupPosition) o).setBehaviour((byte) v))
 						.setType(Types.INTEGER).isNullable(false).build(),
 				ColumnDescriptor.Builder.newInstance().setColumnName("VName")
 						.setGetter((o) -> ((MatchLineupPosition) o).getSpielerVName())
@@ -70,11 +70,11 @@ public final class MatchLineupPlayerTable extends AbstractTable {
 						.isNullable(false).build(),
 				ColumnDescriptor.Builder.newInstance().setColumnName("HoPosCode")
 						.setGetter((o) -> ((MatchLineupPosition) o).getHoPosCode())
-						.setSetter((o, v) -> ((MatchLineupPosition) o).setHoPosCode((int) v)).setType(Types.INTEGER)
+						.setIntSetter((o, v) -> ((MatchLineupPosition) o).setHoPosCode(v)).setType(Types.INTEGER)
 						.isNullable(false).build(),
 				ColumnDescriptor.Builder.newInstance().setColumnName("STATUS")
 						.setGetter((o) -> ((MatchLineupPosition) o).getStatus())
-						.setSetter((o, v) -> ((MatchLineupPosition) o).setStatus((int) v)).setType(Types.INTEGER)
+						.setIntSetter((o, v) -> ((MatchLineupPosition) o).setStatus(v)).setType(Types.INTEGER)
 						.isNullable(false).build(),
 				ColumnDescriptor.Builder.newInstance().setColumnName("RatingStarsEndOfMatch")
 						.setGetter((o) -> ((MatchLineupPosition) o).getRatingStarsEndOfMatch())
@@ -82,11 +82,11 @@ public final class MatchLineupPlayerTable extends AbstractTable {
 						.setType(Types.REAL).isNullable(false).build(),
 				ColumnDescriptor.Builder.newInstance().setColumnName("StartPosition")
 						.setGetter((o) -> ((MatchLineupPosition) o).getStartPosition())
-						.setSetter((o, v) -> ((MatchLineupPosition) o).setStartPosition((int) v)).setType(Types.INTEGER)
+						.setIntSetter((o, v) -> ((MatchLineupPosition) o).setStartPosition(v)).setType(Types.INTEGER)
 						.isNullable(false).build(),
 				ColumnDescriptor.Builder.newInstance().setColumnName("StartBehaviour")
 						.setGetter((o) -> ((MatchLineupPosition) o).getStartBehavior())
-						.setSetter((o, v) -> ((MatchLineupPosition) o).setStartBehavior((int) v)).setType(Types.INTEGER)
+						.setIntSetter((o, v) -> ((MatchLineupPosition) o).setStartBehavior(v)).setType(Types.INTEGER)
 						.isNullable(false).build(),
 				ColumnDescriptor.Builder.newInstance().setColumnName("StartSetPieces")
 						.setGetter((o) -> ((MatchLineupPosition) o).isStartSetPiecesTaker())
@@ -213,6 +213,7 @@ public final class MatchLineupPlayerTable extends AbstractTable {
 			int teamID) {
 		if (matchLineupPositions != null) {
 			executePreparedDelete(matchID, matchType.getId(), teamID);
+			var positions = new ArrayList<MatchLineupPosition>();
 			for (var p : matchLineupPositions) {
 				if (p.getPlayerId() > 0) {
 					p.setMatchId(matchID);
@@ -220,9 +221,10 @@ public final class MatchLineupPlayerTable extends AbstractTable {
 					p.setTeamId(teamID);
 					p.setIsStored(false); // replace (if record was available in database, it has to be deleted before
 											// storing)
-					store(p);
+					positions.add(p);
 				}
 			}
+			storeAll(positions);
 		}
 	}
 
@@ -6,6 +6,7 @@ import module.lineup.substitution.model.MatchOrderType;
 import module.lineup.substitution.model.RedCardCriteria;
 import module.lineup.substitution.model.Substitution;
 import java.sql.Types;
+import java.util.ArrayList;
 import java.util.List;
 
 public class MatchSubstitutionTable extends AbstractTable {
@@ -70,6 +71,7 @@ public class MatchSubstitutionTable extends AbstractTable {
 			return;
 		}
 		executePreparedDelete(matchId, matchType.getId(), teamId);
+		var substitutions = new ArrayList<Substitution>();
 		for (Substitution sub : subs) {
 			if (sub == null) {
 				continue;
@@ -78,7 +80,8 @@ public class MatchSubstitutionTable extends AbstractTable {
 			sub.setMatchType(matchType);
 			sub.setTeamId(teamId);
 			sub.setIsStored(false);
-			store(sub);
+			substitutions.add(sub);
 		}
+		storeAll(substitutions);
 	}
 }
@@ -147,12 +147,10 @@ final class MatchesKurzInfoTable extends AbstractTable {
 	 * Saves matches into storeMatchKurzInfo table
 	 */
 	void storeMatchKurzInfos(List<MatchKurzInfo> matches) {
-		if (matches == null)
+		if (matches == null || matches.isEmpty())
 			return;
-		for (var match : matches) {
-			match.setIsStored(isStored(match.getMatchID(), match.getMatchType().getId()));
-			store(match);
-		}
+		updateStoredFlags(matches);
+		storeAll(matches);
 	}
 
 	void update(MatchKurzInfo match) {
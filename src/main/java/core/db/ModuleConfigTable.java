@@ -124,4 +124,8 @@ final class ModuleConfigTable extends AbstractTable {
 		}
 	}
 
+	@Override
+	protected boolean isLookupTable() {
+		return true;
+	}
 }
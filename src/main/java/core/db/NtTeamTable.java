@@ -125,6 +125,13 @@ final class NtTeamTable extends AbstractTable {
 		};
 	}
 
+	@Override
+	protected String[] getCreateIndexStatement() {
+		return new String[] {
+				"CREATE INDEX iNtTeam_1 ON " + getTableName() + "(TEAM_ID,HRF_ID)"
+		};
+	}
+
 	void storeNTTeam(NtTeamDetails ntTeamDetails) {
 		if (ntTeamDetails != null) {
 			store(ntTeamDetails);
@@ -33,6 +33,13 @@ public final class PaarungTable extends AbstractTable {
 		};
 	}
 
+	@Override
+	protected String[] getCreateIndexStatement() {
+		return new String[] {
+				"CREATE INDEX iPaarung_1 ON " + getTableName() + "(LigaID,Saison)"
+		};
+	}
+
 	/**
 	 * Saves a list of games to a given game schedule, i.e. {@link MatchFixtures}.
 	 */
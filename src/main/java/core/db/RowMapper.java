@@ -0,0 +1,175 @@
+package core.db;
+
+import core.util.AmountOfMoney;
+import core.util.HODateTime;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Compiled mapping of result set rows to {@link AbstractTable.Storable} objects.
+ * <p>
+ * The mapper is created once per table and storable class. It resolves the
+ * constructor of the storable class and a typed reader for each column at
+ * creation time, so that loading a row does not involve any reflection or
+ * type dispatching. Column indexes are resolved once per result set instead of
+ * looking up each column by name on every row.
+ *
+ * @param <T> Storable class
+ */
+final class RowMapper<T extends AbstractTable.Storable> {
+
+    /**
+     * Reads one column of the current row and passes it to the object.
+     */
+    @FunctionalInterface
+    private interface ColumnReader {
+        void read(ResultSet rs, int index, Object object) throws SQLException;
+    }
+
+    private final Supplier<T> factory;
+    private final ColumnDescriptor[] columns;
+    private final ColumnReader[] readers;
+
+    private RowMapper(Supplier<T> factory, ColumnDescriptor[] columns) {
+        this.factory = factory;
+        this.columns = columns;
+        this.readers = new ColumnReader[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            readers[i] = createReader(columns[i]);
+        }
+    }
+
+    /**
+     * Create the row mapper of a storable class.
+     *
+     * @param tClass  Storable class, must provide a public no-arg constructor
+     * @param columns column descriptors of the table
+     * @param <T>     Storable class
+     * @return RowMapper
+     */
+    static <T extends AbstractTable.Storable> RowMapper<T> create(Class<T> tClass, ColumnDescriptor[] columns) {
+        return new RowMapper<>(createFactory(tClass), columns);
+    }
+
+    /**
+     * Map the rows of the result set to objects.
+     * Objects are added to the given list, so rows mapped before an error
+     * occurred are kept by the caller.
+     *
+     * @param rs  result set
+     * @param max 1 to load one object, -1 to load all objects
+     * @param ret list the created objects are added to
+     * @throws SQLException if a column could not be read
+     */
+    void map(ResultSet rs, int max, List<T> ret) throws SQLException {
+        int[] indexes = null;
+        while (rs.next() && 0 != max--) {
+            if (indexes == null) {
+                indexes = resolveIndexes(rs);
+            }
+            var object = factory.get();
+            for (int i = 0; i < readers.length; i++) {
+                try {
+                    readers[i].read(rs, indexes[i], object);
+                } catch (RuntimeException e) {
+                    throw new SQLException(columns[i].getColumnName() + ": " + e, e);
+                }
+            }
+            object.setIsStored(true);
+            ret.add(object);
+        }
+    }
+
+    private int[] resolveIndexes(ResultSet rs) throws SQLException {
+        var indexes = new int[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            try {
+                indexes[i] = rs.findColumn(columns[i].getColumnName());
+            } catch (SQLException e) {
+                throw new SQLException(columns[i].getColumnName() + ": " + e, e);
+            }
+        }
+        return indexes;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Supplier<T> createFactory(Class<T> tClass) {
+        try {
+            var lookup = MethodHandles.publicLookup();
+            var constructor = lookup.findConstructor(tClass, MethodType.methodType(void.class));
+            var site = LambdaMetafactory.metafactory(MethodHandles.lookup(), "get",
+                    MethodType.methodType(Supplier.class), MethodType.methodType(Object.class), constructor,
+                    MethodType.methodType(tClass));
+            return (Supplier<T>) site.getTarget().invoke();
+        } catch (Throwable e) {
+            // e.g. classes not accessible by the lookup, fall back to a cached constructor
+            try {
+                var constructor = tClass.getConstructor();
+                return () -> {
+                    try {
+                        return constructor.newInstance();
+                    } catch (ReflectiveOperationException ex) {
+                        throw new IllegalStateException(ex);
+                    }
+                };
+            } catch (NoSuchMethodException ex) {
+                throw new IllegalArgumentException(tClass.getName() + " has no public default constructor", ex);
+            }
+        }
+    }
+
+    private static ColumnReader createReader(ColumnDescriptor c) {
+        var setter = c.setter;
+        return switch (c.getType()) {
+            case Types.CHAR, Types.LONGVARCHAR, Types.VARCHAR -> (rs, i, o) -> {
+                var v = rs.getString(i);
+                setter.accept(o, rs.wasNull() ? "" : v);
+            };
+            case Types.BIT, Types.SMALLINT, Types.TINYINT, Types.BIGINT, Types.INTEGER -> {
+                var intSetter = c.intSetter;
+                if (intSetter != null) {
+                    yield (rs, i, o) -> {
+                        var v = rs.getInt(i);
+                        if (rs.wasNull()) {
+                            setter.accept(o, null);
+                        } else {
+                            intSetter.accept(o, v);
+                        }
+                    };
+                }
+                yield (rs, i, o) -> {
+                    var v = rs.getInt(i);
+                    setter.accept(o, rs.wasNull() ? null : v);
+                };
+            }
+            case Types.TIME, Types.DATE, Types.TIMESTAMP_WITH_TIMEZONE, Types.TIME_WITH_TIMEZONE, Types.TIMESTAMP ->
+                (rs, i, o) -> {
+                    var v = rs.getTimestamp(i);
+                    setter.accept(o, rs.wasNull() ? null : HODateTime.fromDbTimestamp(v));
+                };
+            case Types.BOOLEAN -> (rs, i, o) -> {
+                var v = rs.getBoolean(i);
+                setter.accept(o, rs.wasNull() ? null : v);
+            };
+            case Types.DOUBLE -> (rs, i, o) -> {
+                var v = rs.getDouble(i);
+                setter.accept(o, rs.wasNull() ? null : v);
+            };
+            case Types.DECIMAL -> (rs, i, o) -> {
+                var v = rs.getBigDecimal(i);
+                setter.accept(o, rs.wasNull() ? null : new AmountOfMoney(v));
+            };
+            case Types.FLOAT, Types.REAL -> (rs, i, o) -> {
+                var v = rs.getFloat(i);
+                setter.accept(o, rs.wasNull() ? null : v);
+            };
+            default -> throw new IllegalStateException("Unexpected value: " + c.getType());
+        };
+    }
+}
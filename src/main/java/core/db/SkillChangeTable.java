@@ -0,0 +1,140 @@
+package core.db;
+
+import core.constants.player.PlayerSkill;
+import core.model.player.SkillChange;
+import core.util.HODateTime;
+import core.util.HOLogger;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Skill changes of the players between consecutive downloads.
+ * <p>
+ * The table is an index of the player history in {@link SpielerTable}. It is updated
+ * when players are stored or deleted, so skill changes of a player are loaded by one
+ * query instead of comparing the complete player history.
+ */
+final class SkillChangeTable extends AbstractTable {
+	static final String TABLENAME = "SKILLCHANGE";
+
+	SkillChangeTable(ConnectionManager adapter) {
+		super(TABLENAME, adapter);
+		idColumns = 3;
+	}
+
+	@Override
+	protected void initColumns() {
+		columns = new ColumnDescriptor[] {
+				ColumnDescriptor.Builder.newInstance().setColumnName("PLAYER_ID")
+						.setGetter((p) -> ((SkillChange) p).getPlayerId())
+						.setSetter((p, v) -> ((SkillChange) p).setPlayerId((int) v)).setType(Types.INTEGER)
+						.isNullable(false).build(),
+				ColumnDescriptor.Builder.newInstance().setColumnName("HRF_ID")
+						.setGetter((p) -> ((SkillChange) p).getHrfId())
+						.setSetter((p, v) -> ((SkillChange) p).setHrfId((int) v)).setType(Types.INTEGER)
+						.isNullable(false).build(),
+				ColumnDescriptor.Builder.newInstance().setColumnName("SKILL")
+						.setGetter((p) -> ((SkillChange) p).getType().toInt())
+						.setSetter((p, v) -> ((SkillChange) p).setType(PlayerSkill.fromInteger((Integer) v)))
+						.setType(Types.INTEGER).isNullable(false).build(),
+				ColumnDescriptor.Builder.newInstance().setColumnName("DATUM")
+						.setGetter((p) -> ((SkillChange) p).getDate().toDbTimestamp())
+						.setSetter((p, v) -> ((SkillChange) p).setDate((HODateTime) v)).setType(Types.TIMESTAMP)
+						.isNullable(false).build(),
+				ColumnDescriptor.Builder.newInstance().setColumnName("NEWVALUE")
+						.setGetter((p) -> (int) ((SkillChange) p).getValue())
+						.setSetter((p, v) -> ((SkillChange) p).setValue((int) v)).setType(Types.INTEGER)
+						.isNullable(false).build(),
+				ColumnDescriptor.Builder.newInstance().setColumnName("DIFF")
+						.setGetter((p) -> ((SkillChange) p).getChange())
+						.setSetter((p, v) -> ((SkillChange) p).setChange((int) v)).setType(Types.INTEGER)
+						.isNullable(false).build()
+		};
+	}
+
+	@Override
+	protected String[] getCreateIndexStatement() {
+		return new String[] {
+				"CREATE INDEX iSkillChange_1 ON " + getTableName() + "(PLAYER_ID,SKILL,DATUM)",
+				"CREATE INDEX iSkillChange_2 ON " + getTableName() + "(HRF_ID)"
+		};
+	}
+
+	private final String loadSkillChangesSql = createSelectStatement("WHERE PLAYER_ID=? ORDER BY DATUM");
+
+	/**
+	 * Load all skill changes of a player
+	 *
+	 * @param playerId player id
+	 * @return skill changes ordered by date
+	 */
+	List<SkillChange> loadSkillChanges(int playerId) {
+		try {
+			return load(SkillChange.class, connectionManager.executePreparedQuery(loadSkillChangesSql, playerId), -1);
+		} catch (SQLException e) {
+			HOLogger.instance().error(getClass(), e);
+			return Collections.emptyList();
+		}
+	}
+
+	private final String loadSkillChangesOfSkillSql = createSelectStatement("WHERE PLAYER_ID=? AND SKILL=? ORDER BY DATUM");
+
+	/**
+	 * Load the skill changes of one skill of a player
+	 *
+	 * @param playerId player id
+	 * @param skill    skill
+	 * @return skill changes ordered by date
+	 */
+	List<SkillChange> loadSkillChanges(int playerId, PlayerSkill skill) {
+		try {
+			return load(SkillChange.class,
+					connectionManager.executePreparedQuery(loadSkillChangesOfSkillSql, playerId, skill.toInt()), -1);
+		} catch (SQLException e) {
+			HOLogger.instance().error(getClass(), e);
+			return Collections.emptyList();
+		}
+	}
+
+	private final String deleteSkillChangesSql = createDeleteStatement("WHERE PLAYER_ID=? AND HRF_ID=?");
+
+	/**
+	 * Replace the skill changes of a player in one download
+	 *
+	 * @param playerId     player id
+	 * @param hrfId        hrf id
+	 * @param skillChanges new skill changes of the player in this download
+	 */
+	void replaceSkillChanges(int playerId, int hrfId, List<SkillChange> skillChanges) {
+		try {
+			connectionManager.executeInTransaction(() -> {
+				connectionManager.executePreparedUpdate(deleteSkillChangesSql, playerId, hrfId);
+				return storeAll(skillChanges);
+			});
+		} catch (SQLException e) {
+			HOLogger.instance().error(getClass(), e);
+		}
+	}
+
+	private final String deletePlayerSkillChangesSql = createDeleteStatement("WHERE PLAYER_ID=?");
+
+	/**
+	 * Replace all skill changes of a player
+	 *
+	 * @param playerId     player id
+	 * @param skillChanges new skill changes of the player
+	 */
+	void replaceSkillChanges(int playerId, List<SkillChange> skillChanges) {
+		try {
+			connectionManager.executeInTransaction(() -> {
+				connectionManager.executePreparedUpdate(deletePlayerSkillChangesSql, playerId);
+				return storeAll(skillChanges);
+			});
+		} catch (SQLException e) {
+			HOLogger.instance().error(getClass(), e);
+		}
+	}
+}
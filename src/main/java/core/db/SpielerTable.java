@@ -32,11 +32,11 @@ final class SpielerTable extends AbstractTable {
 		columns = new ColumnDescriptor[] {
 
 				ColumnDescriptor.Builder.newInstance().setColumnName("HRF_ID").setGetter((p) -> ((Player) p).getHrfId())
-						.setSetter((p, v) -> ((Player) p).setHrfId((int) v)).setType(Types.INTEGER).isNullable(false)
+						.setIntSetter((p, v) -> ((Player) p).setHrfId(v)).setType(Types.INTEGER).isNullable(false)
 						.build(),
 				ColumnDescriptor.Builder.newInstance().setColumnName("SpielerID")
 						.setGetter((p) -> ((Player) p).getPlayerId())
-						.setSetter((p, v) -> ((Player) p).setPlayerId((int) v)).setType(Types.INTEGER).isNullable(false)
+						.setIntSetter((p, v) -> ((Player) p).setPlayerId(v)).setType(Types.INTEGER).isNullable(false)
 						.build(),
 				ColumnDescriptor.Builder.newInstance().setColumnName("Datum")
 						.setGetter((p) -> ((Player) p).getHrfDate().toDbTimestamp())
@@ -44,7 +44,7 @@ final class SpielerTable extends AbstractTable {
 						.isNullable(false).build(),
 				ColumnDescriptor.Builder.newInstance().setColumnName("GelbeKarten")
 						.setGetter((p) -> ((Player) p).getTotalCards())
-						.setSetter((p, v) -> ((Player) p).setTotalCards((int) v)).setType(Types.INTEGER)
+						.setIntSetter((p, v) -> ((Player) p).setTotalCards(v)).setType(Types.INTEGER)
 						.isNullable(false).build(),
 				ColumnDescriptor.Builder.newInstance().setColumnName("FirstName")
 						.setGetter((p) -> ((Player) p).getFirstName())
@@ -59,42 +59,42 @@ final class SpielerTable extends AbstractTable {
 						.setSetter((p, v) -> ((Player) p).setLastName((String) v)).setType(Types.VARCHAR)
 						.isNullable(false).setLength(100).build(),
 				ColumnDescriptor.Builder.newInstance().setColumnName("Age").setGetter((p) -> ((Player) p).getAge())
-						.setSetter((p, v) -> ((Player) p).setAge((int) v)).setType(Types.INTEGER).isNullable(false)
+						.setIntSetter((p, v) -> ((Player) p).setAge(v)).setType(Types.INTEGER).isNullable(false)
 						.build(),
 				ColumnDescriptor.Builder.newInstance().setColumnName("Kondition")
 						.setGetter((p) -> ((Player) p).getStamina())
-						.setSetter((p, v) -> ((Player) p).setStamina((int) v)).setType(Types.INTEGER).isNullable(false)
+						.setIntSetter((p, v) -> ((Player) p).setStamina(v)).setType(Types.INTEGER).isNullable(false)
 						.build(),
 				ColumnDescriptor.Builder.newInstance().setColumnName("Form").setGetter((p) -> ((Player) p).getForm())
-						.setSetter((p, v) -> ((Player) p).setForm((int) v)).setType(Types.INTEGER).isNullable(false)
+						.setIntSetter((p, v) -> ((Player) p).setForm(v)).setType(Types.INTEGER).isNullable(false)
 						.build(),
 				ColumnDescriptor.Builder.newInstance().setColumnName("Torwart")
 						.setGetter((p) -> ((Player) p).getGoalkeeperSkill())
-						.setSetter((p, v) -> ((Player) p).setGoalkeeperSkill((int) v)).setType(Types.INTEGER)
+						.setIntSetter((p, v) -> ((Player) p).setGoalkeeperSkill(v)).setType(Types.INTEGER)
 						.isNullable(false).build(),
 				ColumnDescriptor.Builder.newInstance().setColumnName("Verteidigung")
 						.setGetter((p) -> ((Player) p).getDefendingSkill())
-						.setSetter((p, v) -> ((Player) p).setDefendingSkill((int) v)).setType(Types.INTEGER)
+						.setIntSetter((p, v) -> ((Player) p).setDefendingSkill(v)).setType(Types.INTEGER)
 						.isNullable(false).build(),
 				ColumnDescriptor.Builder.newInstance().setColumnName("Spielaufbau")
 						.setGetter((p) -> ((Player) p).getPlaymakingSkill())
-						.setSetter((p, v) -> ((Player) p).setPlaymakingSkill((int) v)).setType(Types.INTEGER)
+						.setIntSetter((p, v) -> ((Player) p).setPlaymakingSkill(v)).setType(Types.INTEGER)
 						.isNullable(false).build(),
 				ColumnDescriptor.Builder.newInstance().setColumnName("Fluegel")
 						.setGetter((p) -> ((Player) p).getWingerSkill())
-						.setSetter((p, v) -> ((Player) p).setWingerSkill((int) v)).setType(Types.INTEGER)
+						.setIntSetter((p, v) -> ((Player) p).setWingerSkill(v)).setType(Types.INTEGER)
 						.isNullable(false).build(),
 				ColumnDescriptor.Builder.newInstance().setColumnName("Torschuss")
 						.setGetter((p) -> ((Player) p).getScoringSkill())
-						.setSetter((p, v) -> ((Player) p).setScoringSkill((int) v)).setType(Types.INTEGER)
+						.setIntSetter((p, v) -> ((Player) p).setScoringSkill(v)).setType(Types.INTEGER)
 						.isNullable(false).build(),
 				ColumnDescriptor.Builder.newInstance().setColumnName("Passpiel")
 						.setGetter((p) -> ((Player) p).getPassingSkill())
-						.setSetter((p, v) -> ((Player) p).setPassingSkill((int) v)).setType(Types.INTEGER)
+						.setIntSetter((p, v) -> ((Player) p).setPassingSkill(v)).setType(Types.INTEGER)
 						.isNullable(false).build(),
 				ColumnDescriptor.Builder.newInstance().setColumnName("Standards")
 						.setGetter((p) -> ((Player) p).getSetPiecesSkill())
-						.setSetter((p, v) -> ((Player) p).setSetPiecesSkill((int) v)).setType(Types.INTEGER)
+						.setIntSetter((p, v) -> ((Player) p).setSetPiecesSkill(v)).setType(Types.INTEGER)
 						.isNullable(false).build(),
 				ColumnDescriptor.Builder.newInstance().setColumnName("SubTorwart")
 						.setGetter((p) -> ((Player) p).getSub4Skill(PlayerSkill.KEEPER))
@@ -134,27 +134,27 @@ final class SpielerTable extends AbstractTable {
 						.setType(Types.REAL).isNullable(false).build(),
 				ColumnDescriptor.Builder.newInstance().setColumnName("iSpezialitaet")
 						.setGetter((p) -> ((Player) p).getSpecialty())
-						.setSetter((p, v) -> ((Player) p).setSpecialty((int) v)).setType(Types.INTEGER)
+						.setIntSetter((p, v) -> ((Player) p).setSpecialty(v)).setType(Types.INTEGER)
 						.isNullable(false).build(),
 				ColumnDescriptor.Builder.newInstance().setColumnName("iCharakter")
 						.setGetter((p) -> ((Player) p).getGentleness())
-						.setSetter((p, v) -> ((Player) p).setGentleness((int) v)).setType(Types.INTEGER)
+						.setIntSetter((p, v) -> ((Player) p).setGentleness(v)).setType(Types.INTEGER)
 						.isNullable(false).build(),
 				ColumnDescriptor.Builder.newInstance().setColumnName("iAnsehen")
 						.setGetter((p) -> ((Player) p).getHonesty())
-						.setSetter((p, v) -> ((Player) p).setHonesty((int) v)).setType(Types.INTEGER).isNullable(false)
+						.setIntSetter((p, v) -> ((Player) p).setHonesty(v)).setType(Types.INTEGER).isNullable(false)
 						.build(),
 				ColumnDescriptor.Builder.newInstance().setColumnName("iAgressivitaet")
 						.setGetter((p) -> ((Player) p).getAggressivity())
-						.setSetter((p, v) -> ((Player) p).setAggressivity((int) v)).setType(Types.INTEGER)
+						.setIntSetter((p, v) -> ((Player) p).setAggressivity(v)).setType(Types.INTEGER)
 						.isNullable(false).build(),
 				ColumnDescriptor.Builder.newInstance().setColumnName("Fuehrung")
 						.setGetter((p) -> ((Player) p).getLeadership())
-						.setSetter((p, v) -> ((Player) p).setLeadership((int) v)).setType(Types.INTEGER)
+						.setIntSetter((p, v) -> ((Player) p).setLeadership(v)).setType(Types.INTEGER)
 						.isNullable(false).build(),
 				ColumnDescriptor.Builder.newInstance().setColumnName("Erfahrung")
 						.setGetter((p) -> ((Player) p).getExperience())
-						.setSetter((p, v) -> ((Player) p).setExperience((int) v)).setType(Types.INTEGER)
+						.setIntSetter((p, v) -> ((Player) p).setExperience(v)).setType(Types.INTEGER)
 						.isNullable(false).build(),
 				ColumnDescriptor.Builder.newInstance().setColumnName("Gehalt")
 						.setGetter((p) -> ((Player) p).getWage().getSwedishKrona())
@@ -162,65 +162,65 @@ final class SpielerTable extends AbstractTable {
 						.isNullable(false).build(),
 				ColumnDescriptor.Builder.newInstance().setColumnName("Land")
 						.setGetter((p) -> ((Player) p).getNationalityId())
-						.setSetter((p, v) -> ((Player) p).setNationalityId((int) v)).setType(Types.INTEGER)
+						.setIntSetter((p, v) -> ((Player) p).setNationalityId(v)).setType(Types.INTEGER)
 						.isNullable(false).build(),
 				ColumnDescriptor.Builder.newInstance().setColumnName("Marktwert")
-						.setGetter((p) -> ((Player) p).getTsi()).setSetter((p, v) -> ((Player) p).setTsi((int) v))
+						.setGetter((p) -> ((Player) p).getTsi()).setIntSetter((p, v) -> ((Player) p).setTsi(v))
 						.setType(Types.INTEGER).isNullable(false).build(),
 				ColumnDescriptor.Builder.newInstance().setColumnName("Verletzt")
 						.setGetter((p) -> ((Player) p).getInjuryWeeks())
-						.setSetter((p, v) -> ((Player) p).setInjuryWeeks((int) v)).setType(Types.INTEGER)
+						.setIntSetter((p, v) -> ((Player) p).setInjuryWeeks(v)).setType(Types.INTEGER)
 						.isNullable(false).build(),
 				ColumnDescriptor.Builder.newInstance().setColumnName("ToreFreund")
 						.setGetter((p) -> ((Player) p).getFriendlyGoals())
-						.setSetter((p, v) -> ((Player) p).setFriendlyGoals((int) v)).setType(Types.INTEGER)
+						.setIntSetter((p, v) -> ((Player) p).setFriendlyGoals(v)).setType(Types.INTEGER)
 						.isNullable(false).build(),
 				ColumnDescriptor.Builder.newInstance().setColumnName("ToreLiga")
 						.setGetter((p) -> ((Player) p).getLeagueGoals())
-						.setSetter((p, v) -> ((Player) p).setLeagueGoals((int) v)).setType(Types.INTEGER)
+						.setIntSetter((p, v) -> ((Player) p).setLeagueGoals(v)).setType(Types.INTEGER)
 						.isNullable(false).build(),
 				ColumnDescriptor.Builder.newInstance().setColumnName("TorePokal")
 						.setGetter((p) -> ((Player) p).getCupGameGoals())
-						.setSetter((p, v) -> ((Player) p).setCupGameGoals((int) v)).setType(Types.INTEGER)
+						.setIntSetter((p, v) -> ((Player) p).setCupGameGoals(v)).setType(Types.INTEGER)
 						.isNullable(false).build(),
 				ColumnDescriptor.Builder.newInstance().setColumnName("ToreGesamt")
 						.setGetter((p) -> ((Player) p).getTotalGoals())
-						.setSetter((p, v) -> ((Player) p).setTotalGoals((int) v)).setType(Types.INTEGER)
+						.setIntSetter((p, v) -> ((Player) p).setTotalGoals(v)).setType(Types.INTEGER)
 						.isNullable(false).build(),
 				ColumnDescriptor.Builder.newInstance().setColumnName("Hattrick")
 						.setGetter((p) -> ((Player) p).getHatTricks())
-						.setSetter((p, v) -> ((Player) p).setHatTricks((int) v)).setType(Types.INTEGER)
+						.setIntSetter((p, v) -> ((Player) p).setHatTricks(v)).setType(Types.INTEGER)
 						.isNullable(false).build(),
 				ColumnDescriptor.Builder.newInstance().setColumnName("Bewertung")
-						.setGetter((p) -> ((Player) p).getRating()).setSetter((p, v) -> ((Player) p).setRating((int) v))
+						.setGetter((p) -> ((Player) p).getRating()).setIntSetter((p, v) -> ((Player) p).setRating(v))
 						.setType(Types.INTEGER).isNullable(false).build(),
 				ColumnDescriptor.Builder.newInstance().setColumnName("TrainerTyp")
 						.setGetter((p) -> TrainerType.toInt(((Player) p).getTrainerType()))
-						.setSetter((p, v) -> ((Player) p).setTrainerType(TrainerType.fromInt((int) v)))
+						.setIntSetter((p, v) -> ((Player) p).setTrainerType(TrainerType.fromInt(v)))
 						.setType(Types.INTEGER).isNullable(false).build(),
 				ColumnDescriptor.Builder.newInstance().setColumnName("Trainer")
 						.setGetter((p) -> ((Player) p).getCoachSkill())
-						.setSetter((p, v) -> ((Player) p).setCoachSkill((int) v)).setType(Types.INTEGER)
+						.setIntSetter((p, v) -> ((Player) p).setCoachSkill(v)).setType(Types.INTEGER)
 						.isNullable(false).build(),
 				ColumnDescriptor.Builder.newInstance().setColumnName("PlayerNumber")
 						.setGetter((p) -> ((Player) p).getShirtNumber())
-						.setSetter((p, v) -> ((Player) p).setShirtNumber((int) v)).setType(Types.INTEGER)
+						.setIntSetter((p, v) -> ((Player) p).setShirtNumber(v)).setType(Types.INTEGER)
 						.isNullable(false).build(),
 				ColumnDescriptor.Builder.newInstance().setColumnName("TransferListed")
 						.setGetter((p) -> ((Player) p).getTransferListed())
-						.setSetter((p, v) -> ((Player) p).setTransferListed((int) v)).setType(Types.INTEGER)
+						.setIntSetter((p, v) -> ((Player) p).setTransferListed(v)).setType(Types.INTEGER)
 						.isNullable(false).build(),
 				ColumnDescriptor.Builder.newInstance().setColumnName("Caps")
 						.setGetter((p) -> ((Player) p).getInternalMatches())
-						.setSetter((p, v) -> ((Player) p).setInternationalMatches((int) v)).setType(Types.INTEGER)
+						.setIntSetter((p, v) -> ((Player) p).setInternationalMatches(v)).setType(Types.INTEGER)
 						.isNullable(false).build(),
 				ColumnDescriptor.Builder.newInstance().setColumnName("CapsU20")
 						.setGetter((p) -> ((Player) p).getU20InternationalMatches())
-						.setSetter((p, v) -> ((Player) p).setU20InternationalMatches((int) v)).setType(Types.INTEGER)
+						.setIntSetter((p, v) -> ((Player) p).setU20InternationalMatches(v)).setType(Types.INTEGER)
 						.isNullable(false).build(),
 				ColumnDescriptor.Builder.newInstance().setColumnName("AgeDays")
 						.setGetter((p) -> ((Player) p).getAgeDays())
-						.setSetter((p, v) -> ((Player) p).setAgeDays((int) v)).setType(Types.INTEGER).isNullable(false)
+						.setIntSetter((p, v) -> ((Player) p).setAgeDays(v)).setType(Types.INTEGER).isNullable(false)
 						.build(),
 				ColumnDescriptor.Builder.newInstance().setColumnName("TrainingBlock")
 						.setGetter((p) -> ((Player) p).hasTrainingBlock())
@@ -228,7 +228,7 @@ final class SpielerTable extends AbstractTable {
 						.isNullable(false).build(),
 				ColumnDescriptor.Builder.newInstance().setColumnName("Loyalty")
 						.setGetter((p) -> ((Player) p).getLoyalty())
-						.setSetter((p, v) -> ((Player) p).setLoyalty((int) v)).setType(Types.INTEGER).isNullable(false)
+						.setIntSetter((p, v) -> ((Player) p).setLoyalty(v)).setType(Types.INTEGER).isNullable(false)
 						.build(),
 				ColumnDescriptor.Builder.newInstance().setColumnName("HomeGrown")
 						.setGetter((p) -> ((Player) p).isHomeGrown())
@@ -328,11 +328,7 @@ final class SpielerTable extends AbstractTable {
 	 * @param players list of players
 	 */
 	void store(List<Player> players) {
-		if (players != null) {
-			for (var p : players) {
-				store(p);
-			}
-		}
+		storeAll(players);
 	}
 
 	@Override
@@ -406,6 +402,9 @@ final class SpielerTable extends AbstractTable {
 		return bewertung;
 	}
 
+	/** Player status is searched 6 days before a date */
+	private static final long NEAR_DATE_SPAN = 518400000L;
+
 	private final String getSpielerNearDateBeforeSql = createSelectStatement(
 			"WHERE Datum<=? AND Datum>=? AND SpielerID=? ORDER BY Datum DESC LIMIT 1");
 	private final String getSpielerNearDateAfterSql = createSelectStatement(
@@ -414,8 +413,7 @@ final class SpielerTable extends AbstractTable {
 	Player getSpielerNearDate(int spielerid, Timestamp time) {
 		Player player;
 
-		// 6 Tage //1209600000 //14 Tage vorher
-		final int spanne = 518400000;
+		final long spanne = NEAR_DATE_SPAN;
 
 		if (time == null) {
 			return null;
@@ -460,6 +458,46 @@ final class SpielerTable extends AbstractTable {
 		return player;
 	}
 
+	/**
+	 * Select the player status near a date from the player history.
+	 * The search is the same as in {@link #getSpielerNearDate(int, Timestamp)}, without database access.
+	 *
+	 * @param history player status by date in milliseconds, see {@link #indexByDate(List)}
+	 * @param time date
+	 * @return player status, null if none is found
+	 */
+	static Player getPlayerNearDate(NavigableMap<Long, Player> history, Timestamp time) {
+		if (time == null) {
+			return null;
+		}
+		final long time2 = time.getTime() - NEAR_DATE_SPAN;
+		var entry = history.floorEntry(time.getTime());
+		if (entry == null || entry.getKey() < time2) {
+			entry = history.ceilingEntry(time.getTime());
+		}
+		if (entry == null) {
+			entry = history.floorEntry(time2);
+			if (entry != null && entry.getKey() < time2 - 2 * NEAR_DATE_SPAN) {
+				entry = null;
+			}
+		}
+		return entry != null ? entry.getValue() : null;
+	}
+
+	/**
+	 * Index the player history by date
+	 *
+	 * @param history player status ordered by date, like {@link #loadPlayerHistory(int)}
+	 * @return player status by date in milliseconds
+	 */
+	static NavigableMap<Long, Player> indexByDate(List<Player> history) {
+		var ret = new TreeMap<Long, Player>();
+		for (var player : history) {
+			ret.put(player.getHrfDate().toDbTimestamp().getTime(), player);
+		}
+		return ret;
+	}
+
 	// ------------------------------------------------------------------------------
 
 	private final String getSpielerFirstHRFSql = createSelectStatement(
@@ -517,6 +555,83 @@ final class SpielerTable extends AbstractTable {
 		}
 	}
 
+	private final String loadPreviousPlayerSql = createSelectStatement(
+			" WHERE SpielerID=? AND Datum<? ORDER BY Datum DESC LIMIT 1");
+
+	/**
+	 * Load the player status of the download before the given date
+	 *
+	 * @return player, null if there is no older download of the player
+	 */
+	Player loadPreviousPlayer(int playerId, Timestamp date) {
+		try {
+			return loadOne(Player.class, connectionManager.executePreparedQuery(loadPreviousPlayerSql, playerId, date));
+		} catch (SQLException e) {
+			HOLogger.instance().error(getClass(), e);
+			return null;
+		}
+	}
+
+	private final String loadNextPlayerSql = createSelectStatement(
+			" WHERE SpielerID=? AND Datum>? ORDER BY Datum ASC LIMIT 1");
+
+	/**
+	 * Load the player status of the download after the given date
+	 *
+	 * @return player, null if there is no newer download of the player
+	 */
+	Player loadNextPlayer(int playerId, Timestamp date) {
+		try {
+			return loadOne(Player.class, connectionManager.executePreparedQuery(loadNextPlayerSql, playerId, date));
+		} catch (SQLException e) {
+			HOLogger.instance().error(getClass(), e);
+			return null;
+		}
+	}
+
+	/**
+	 * Load the ids of all players in the database
+	 */
+	List<Integer> loadPlayerIds() {
+		var ret = new ArrayList<Integer>();
+		try (var rs = connectionManager.executeQuery("SELECT DISTINCT SpielerID FROM " + getTableName())) {
+			if (rs != null) {
+				while (rs.next()) {
+					ret.add(rs.getInt(1));
+				}
+			}
+		} catch (SQLException e) {
+			HOLogger.instance().error(getClass(), e);
+		}
+		return ret;
+	}
+
+	/**
+	 * Load the ids of the players stored in the given downloads
+	 *
+	 * @param hrfIds hrf ids
+	 * @return player ids
+	 */
+	Set<Integer> loadPlayerIds(Collection<Integer> hrfIds) {
+		var ret = new HashSet<Integer>();
+		var list = new ArrayList<>(hrfIds);
+		for (int from = 0; from < list.size(); from += MAX_IN_LIST) {
+			var chunk = list.subList(from, Math.min(list.size(), from + MAX_IN_LIST));
+			var sql = createSelectStatement("DISTINCT SpielerID",
+					"WHERE HRF_ID IN (" + DBManager.getPlaceholders(chunk.size()) + ")");
+			try (var rs = connectionManager.executePreparedQuery(sql, chunk.toArray())) {
+				if (rs != null) {
+					while (rs.next()) {
+						ret.add(rs.getInt(1));
+					}
+				}
+			} catch (SQLException e) {
+				HOLogger.instance().error(getClass(), e);
+			}
+		}
+		return ret;
+	}
+
 	public List<Player> loadPlayersBefore(String playerName, Timestamp before) {
 		String loadPlayersBeforeSql = "SELECT S.* FROM SPIELER S INNER JOIN ( SELECT SPIELERID, MAX(DATUM) AS DATUM  FROM SPIELER WHERE DATUM<=? AND (FIRSTNAME IS NULL AND LASTNAME=? OR FIRSTNAME=? AND LASTNAME=?) GROUP BY SPIELERID ) IJ ON S.SPIELERID = IJ.SPIELERID AND S.DATUM = IJ.DATUM";
 		return loadPlayers(loadPlayersBeforeSql, playerName, before);
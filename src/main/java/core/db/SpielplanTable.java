@@ -38,6 +38,13 @@ final class SpielplanTable extends AbstractTable {
 		};
 	}
 
+	@Override
+	protected String[] getCreateIndexStatement() {
+		return new String[] {
+				"CREATE INDEX iSpielplan_1 ON " + getTableName() + "(Saison,LigaID)"
+		};
+	}
+
 	private final String getAllSpielplaeneSql = createSelectStatement("ORDER BY Saison DESC");
 
 	/**
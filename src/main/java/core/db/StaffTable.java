@@ -27,6 +27,13 @@ public class StaffTable extends AbstractTable{
 		};
 	}
 
+	@Override
+	protected String[] getCreateIndexStatement() {
+		return new String[] {
+				"CREATE INDEX iStaff_1 ON " + getTableName() + "(HrfID)"
+		};
+	}
+
 	@Override
 	protected String createSelectStatement() {
 		return createSelectStatement(" WHERE HrfID = ? ORDER BY index");
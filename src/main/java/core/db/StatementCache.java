@@ -1,22 +1,43 @@
 package core.db;
 
 import core.util.HOLogger;
+import java.io.Serial;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
-import java.time.Instant;
-import java.util.Collections;
-import java.util.HashMap;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
 
 /**
  * Cache for {@link PreparedStatement}s instances.
  * <p>
+ * The cache is bounded: it is split into lock-striped segments, each of them
+ * evicting its least recently used statement when it is full. Evicted
+ * statements are closed. Statements which are leased by
+ * {@link #getPreparedStatement(String)} and not yet released by
+ * {@link #release(PreparedStatement)}, or whose result set is still open, are
+ * closed as soon as they are released and the result set is closed. At most
+ * {@value #MAX_RETIRED_STATEMENTS} of them are kept, beyond that the oldest
+ * released ones are closed even if their result set was never closed.
+ * <p>
  * This cache tracks statistics about the various prepared statements:
  * <ul>
  * <li>Creation timestamp,</li>
  * <li>Last access timestamp,</li>
- * <li>Number of accesses.</li>
+ * <li>Number of hits and misses,</li>
+ * <li>Number of executions and total execution time,</li>
+ * <li>Number of rows returned or updated.</li>
  * </ul>
+ * Statistics are kept by statement shape, i.e. IN lists of any length count as
+ * one statement, and for at most {@value #MAX_STATEMENT_STATS} shapes.
+ * Statistics of evicted statements are kept, so that hot queries are visible in
+ * a long-running session.
  * <p>
  * The cache can be disabled by setting `cachedEnabled` to `false`. When the
  * cache
@@ -27,13 +48,67 @@ import java.util.Map;
  */
 public class StatementCache {
 
+    /** Default maximum number of cached statements */
+    public static final int DEFAULT_MAX_SIZE = 256;
+
+    /** Maximum number of lock stripes, must be a power of two */
+    private static final int MAX_STRIPES = 16;
+
+    /** Maximum number of statement shapes with statistics */
+    static final int MAX_STATEMENT_STATS = 2000;
+
+    /** Maximum number of evicted statements waiting to be closed */
+    static final int MAX_RETIRED_STATEMENTS = 64;
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern IN_LIST = Pattern.compile("\\bIN\\s*\\(\\s*\\?(\\s*,\\s*\\?)*\\s*\\)",
+            Pattern.CASE_INSENSITIVE);
+
     private final ConnectionManager connectionManager;
-    private boolean cachedEnabled = true;
-    private final Map<String, PreparedStatement> cache = Collections.synchronizedMap(new HashMap<>());
-    private final Map<String, CachedStatementStats> statementStats = Collections.synchronizedMap(new HashMap<>());
+    private volatile boolean cachedEnabled = true;
+    private volatile Segment[] segments;
+    private final Map<String, CachedStatementStats> statementStats = new ConcurrentHashMap<>();
+    private final Map<Statement, CachedStatementStats> statsByStatement = new ConcurrentHashMap<>();
+    private final Map<PreparedStatement, Integer> leases = new ConcurrentHashMap<>();
+    private final List<PreparedStatement> retiredStatements = new ArrayList<>();
+    private volatile boolean hasRetiredStatements;
+    private final LongAdder evictions = new LongAdder();
 
     public StatementCache(ConnectionManager connectionManager) {
+        this(connectionManager, DEFAULT_MAX_SIZE);
+    }
+
+    public StatementCache(ConnectionManager connectionManager, int maxSize) {
         this.connectionManager = connectionManager;
+        this.segments = createSegments(maxSize);
+    }
+
+    /**
+     * One lock stripe of the cache, holding the statements in access order.
+     */
+    private final class Segment extends LinkedHashMap<String, PreparedStatement> {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final int capacity;
+
+        Segment(int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest) {
+            if (size() > capacity) {
+                evict(eldest.getKey(), eldest.getValue());
+                return true;
+            }
+            return false;
+        }
+    }
+
+    ConnectionManager getConnectionManager() {
+        return connectionManager;
     }
 
     public void setCachedEnabled(boolean enabled) {
@@ -48,18 +123,91 @@ public class StatementCache {
         return cachedEnabled;
     }
 
+    /**
+     * Set the maximum number of cached statements.
+     * The cached statements are closed and evicted.
+     *
+     * @param maxSize maximum number of cached statements
+     */
+    public synchronized void setMaxSize(int maxSize) {
+        closeStatements();
+        segments = createSegments(maxSize);
+    }
+
+    private Segment[] createSegments(int maxSize) {
+        var stripes = Integer.highestOneBit(Math.max(1, Math.min(MAX_STRIPES, maxSize)));
+        var capacity = Math.max(1, maxSize / stripes);
+        var ret = new Segment[stripes];
+        for (int i = 0; i < stripes; i++) {
+            ret[i] = new Segment(capacity);
+        }
+        return ret;
+    }
+
+    public int getMaxSize() {
+        var current = segments;
+        return current[0].capacity * current.length;
+    }
+
+    /**
+     * @return number of currently cached statements
+     */
+    public int size() {
+        var ret = 0;
+        for (var segment : segments) {
+            synchronized (segment) {
+                ret += segment.size();
+            }
+        }
+        return ret;
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * @return statistics by statement shape, see {@link #shapeOf(String)}
+     */
     public Map<String, CachedStatementStats> getStatementStats() {
         return statementStats;
     }
 
+    /**
+     * Get the statistics of the statements with the highest total execution time.
+     *
+     * @param count maximum number of statements
+     * @return statistics sorted by descending total execution time
+     */
+    public List<Map.Entry<String, CachedStatementStats>> getHotStatements(int count) {
+        return statementStats.entrySet().stream()
+                .sorted(Comparator.comparingLong(
+                        (Map.Entry<String, CachedStatementStats> e) -> e.getValue().executionNanos()).reversed())
+                .limit(count)
+                .toList();
+    }
+
+    private Segment segmentFor(String query) {
+        var current = segments;
+        var h = query.hashCode();
+        return current[(h ^ (h >>> 16)) & (current.length - 1)];
+    }
+
     private PreparedStatement getFromCache(String query) {
         if (cachedEnabled) {
-            PreparedStatement statement = cache.get(query);
+            var segment = segmentFor(query);
+            PreparedStatement statement;
+            synchronized (segment) {
+                statement = segment.get(query);
+                if (statement != null) {
+                    // leased under the segment lock, so that it is not closed by a concurrent eviction
+                    lease(statement);
+                }
+            }
             if (statement != null) {
-                CachedStatementStats stats = statementStats.get(query);
+                var stats = statsByStatement.get(statement);
                 if (stats != null) {
-                    statementStats.put(query,
-                            new CachedStatementStats(stats.created(), Instant.now(), stats.count() + 1));
+                    stats.hit();
                 }
                 return statement;
             }
@@ -75,8 +223,25 @@ public class StatementCache {
             }
 
             if (cachedEnabled && statement != null) {
-                cache.put(query, statement);
-                statementStats.put(query, new CachedStatementStats(Instant.now(), Instant.now(), 1));
+                var shape = shapeOf(query);
+                var stats = statementStats.get(shape);
+                if (stats == null && statementStats.size() < MAX_STATEMENT_STATS) {
+                    stats = statementStats.computeIfAbsent(shape, k -> new CachedStatementStats());
+                }
+                if (stats != null) {
+                    stats.miss();
+                    statsByStatement.put(statement, stats);
+                }
+                lease(statement);
+                var segment = segmentFor(query);
+                PreparedStatement replaced;
+                synchronized (segment) {
+                    replaced = segment.put(query, statement);
+                }
+                if (replaced != null && replaced != statement) {
+                    // another thread prepared the same query concurrently
+                    evict(query, replaced);
+                }
             }
 
             return statement;
@@ -87,7 +252,15 @@ public class StatementCache {
         }
     }
 
+    /**
+     * Get the prepared statement of the query. If the cache is enabled, the statement is leased and not
+     * closed by an eviction until it is released by {@link #release(PreparedStatement)}.
+     *
+     * @param query SQL statement
+     * @return prepared statement, null if there is no connection
+     */
     public PreparedStatement getPreparedStatement(String query) throws SQLException {
+        closeRetiredStatements();
         PreparedStatement statement = getFromCache(query);
         if (statement == null) {
             statement = createStatement(query);
@@ -95,23 +268,167 @@ public class StatementCache {
         return statement;
     }
 
-    private void clearCache() {
-        for (Map.Entry<String, PreparedStatement> entry : cache.entrySet()) {
-            try {
-                if (entry.getValue() != null) {
-                    entry.getValue().close();
+    /**
+     * Release the lease of a statement of {@link #getPreparedStatement(String)}.
+     * Evicted statements are closed when all leases are released and their result sets are closed.
+     *
+     * @param statement prepared statement, may be null
+     */
+    public void release(PreparedStatement statement) {
+        if (statement != null && leases.computeIfPresent(statement, (s, n) -> n > 1 ? n - 1 : null) == null) {
+            closeRetiredStatements();
+        }
+    }
+
+    private void lease(PreparedStatement statement) {
+        leases.merge(statement, 1, Integer::sum);
+    }
+
+    /**
+     * Record an execution of a cached statement.
+     *
+     * @param statement prepared statement
+     * @param nanos     execution time
+     * @param rows      number of updated rows, 0 for queries
+     */
+    void recordExecution(Statement statement, long nanos, long rows) {
+        var stats = statsByStatement.get(statement);
+        if (stats != null) {
+            stats.executed(nanos, rows);
+        }
+    }
+
+    /**
+     * Record the number of rows read from the result set of a cached statement.
+     *
+     * @param statement prepared statement
+     * @param rows      number of rows
+     */
+    void recordRows(Statement statement, long rows) {
+        if (statement != null) {
+            var stats = statsByStatement.get(statement);
+            if (stats != null) {
+                stats.addRows(rows);
+            }
+        }
+    }
+
+    private void evict(String query, PreparedStatement statement) {
+        evictions.increment();
+        retire(query, statement);
+    }
+
+    /**
+     * Close the statement, or keep it until it is released and its result set is closed.
+     */
+    private void retire(String query, PreparedStatement statement) {
+        statsByStatement.remove(statement);
+        synchronized (retiredStatements) {
+            retiredStatements.add(statement);
+            retiredStatements.removeIf(s -> tryClose(query, s));
+            if (retiredStatements.size() > MAX_RETIRED_STATEMENTS) {
+                closeAbandonedStatements();
+            }
+            hasRetiredStatements = !retiredStatements.isEmpty();
+        }
+    }
+
+    /**
+     * Close the oldest released statements, whose result sets were never closed, until at most
+     * {@link #MAX_RETIRED_STATEMENTS} are left. Must be called holding the lock of the retired statements.
+     */
+    private void closeAbandonedStatements() {
+        var it = retiredStatements.iterator();
+        while (retiredStatements.size() > MAX_RETIRED_STATEMENTS && it.hasNext()) {
+            var statement = it.next();
+            if (!leases.containsKey(statement)) {
+                HOLogger.instance().warning(StatementCache.class,
+                        "Closing evicted statement with unclosed result set");
+                close("retired statement", statement);
+                it.remove();
+            }
+        }
+    }
+
+    /**
+     * Close the evicted statements whose result sets were still being read at eviction.
+     * HSQLDB does not support closeOnCompletion, so this is called when a result set of the
+     * cache is closed and at the next access to the cache.
+     */
+    void closeRetiredStatements() {
+        if (hasRetiredStatements) {
+            synchronized (retiredStatements) {
+                retiredStatements.removeIf(s -> tryClose("retired statement", s));
+                hasRetiredStatements = !retiredStatements.isEmpty();
+            }
+        }
+    }
+
+    /**
+     * Get the shape of a statement
+     *
+     * @param sql SQL statement
+     * @return SQL with normalized whitespace and IN lists reduced to one placeholder
+     */
+    static String shapeOf(String sql) {
+        var ret = WHITESPACE.matcher(sql.trim()).replaceAll(" ");
+        return IN_LIST.matcher(ret).replaceAll("IN (?)");
+    }
+
+    /**
+     * Close the statement unless it is leased or one of its result sets is still being read.
+     *
+     * @return true if the statement is closed
+     */
+    private boolean tryClose(String query, PreparedStatement statement) {
+        if (leases.containsKey(statement)) {
+            return false;
+        }
+        try {
+            if (!statement.isClosed()) {
+                var rs = statement.getResultSet();
+                if (rs != null && !rs.isClosed()) {
+                    return false;
                 }
-            } catch (SQLException e) {
-                HOLogger.instance().error(StatementCache.class,
-                        "Error closing prepared statement: " + entry.getKey() + "\n " + e.getMessage());
             }
+        } catch (SQLException e) {
+            HOLogger.instance().error(StatementCache.class,
+                    "Error closing prepared statement: " + query + "\n " + e.getMessage());
+        }
+        close(query, statement);
+        return true;
+    }
+
+    private static void close(String query, PreparedStatement statement) {
+        try {
+            statement.close();
+        } catch (SQLException e) {
+            HOLogger.instance().error(StatementCache.class,
+                    "Error closing prepared statement: " + query + "\n " + e.getMessage());
+        }
+    }
+
+    private void closeStatements() {
+        closeRetiredStatements();
+        for (var segment : segments) {
+            Map<String, PreparedStatement> statements;
+            synchronized (segment) {
+                statements = new LinkedHashMap<>(segment);
+                segment.clear();
+            }
+            statements.forEach(this::retire);
         }
-        cache.clear();
+        statsByStatement.clear();
+    }
+
+    private void clearCache() {
+        closeStatements();
         dumpStats();
         statementStats.clear();
     }
 
     public void dumpStats() {
+        if (!HOLogger.instance().isEnabled(HOLogger.INFORMATION)) return;
         for (Map.Entry<String, CachedStatementStats> entry : statementStats.entrySet()) {
             HOLogger.instance().info(StatementCache.class, entry.getKey() + ": " + entry.getValue());
         }
@@ -0,0 +1,168 @@
+package core.db;
+
+import core.util.HOLogger;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * HSQLDB storage settings of the database files.
+ * <p>
+ * The settings are applied by SET FILES statements. HSQLDB stores them with the database, so
+ * the cache and nio settings are used from the next start of HO on.
+ * The database stores no LOB columns, so the LOB settings keep their defaults.
+ */
+public enum StorageProfile {
+	/**
+	 * HSQLDB default settings
+	 */
+	DEFAULT,
+	/**
+	 * Settings chosen by the size of the database. Small databases keep the default settings.
+	 */
+	AUTO;
+
+	static final String CACHE_ROWS = "hsqldb.cache_rows";
+	static final String CACHE_SIZE = "hsqldb.cache_size";
+	static final String NIO_DATA_FILE = "hsqldb.nio_data_file";
+	static final String NIO_MAX_SIZE = "hsqldb.nio_max_size";
+	static final String LOG_SIZE = "hsqldb.log_size";
+	static final String WRITE_DELAY_MILLIS = "hsqldb.write_delay_millis";
+	static final String DEFRAG_LIMIT = "hsqldb.defrag_limit";
+
+	/**
+	 * Size of the data file (bytes) from which on a database is tuned by the AUTO profile
+	 */
+	static final long LARGE_DATABASE_SIZE = 64L << 20;
+
+	/**
+	 * Get the profile by name
+	 *
+	 * @param name profile name
+	 * @return profile, AUTO if the name is unknown
+	 */
+	public static StorageProfile fromName(String name) {
+		for (var profile : values()) {
+			if (profile.name().equalsIgnoreCase(name)) {
+				return profile;
+			}
+		}
+		return AUTO;
+	}
+
+	/**
+	 * Get the HSQLDB properties of the profile
+	 *
+	 * @param dataFileSize size of the database .data file in bytes
+	 * @param maxMemory    maximum heap size in bytes
+	 * @return property values by HSQLDB property name
+	 */
+	Map<String, String> getSettings(long dataFileSize, long maxMemory) {
+		var ret = new LinkedHashMap<String, String>();
+		ret.put(CACHE_ROWS, "50000");
+		ret.put(CACHE_SIZE, "10000");
+		ret.put(NIO_DATA_FILE, "true");
+		ret.put(NIO_MAX_SIZE, "256");
+		ret.put(LOG_SIZE, "50");
+		ret.put(WRITE_DELAY_MILLIS, "500");
+		ret.put(DEFRAG_LIMIT, "0");
+		if (this == AUTO && dataFileSize >= LARGE_DATABASE_SIZE) {
+			// cache half of the data file (KB), but not more than an eighth of the heap
+			var cacheSize = (int) Math.max(10_000, Math.min(dataFileSize / 2, maxMemory / 8) >> 10);
+			ret.put(CACHE_SIZE, String.valueOf(cacheSize));
+			// rows of the large tables (players, lineups, highlights) take a few hundred bytes
+			ret.put(CACHE_ROWS, String.valueOf(Math.max(50_000, cacheSize * 4)));
+			// map the complete data file with room to grow
+			var nioSize = Integer.highestOneBit((int) Math.min(4096, (dataFileSize >> 20) * 2));
+			ret.put(NIO_MAX_SIZE, String.valueOf(Math.max(256, nioSize)));
+			// smaller log, which is replayed faster at startup after HO was not closed properly
+			ret.put(LOG_SIZE, "10");
+			ret.put(WRITE_DELAY_MILLIS, "1000");
+			// rewrite the data file at checkpoints, if a quarter of it is unused
+			ret.put(DEFRAG_LIMIT, "25");
+		}
+		return ret;
+	}
+
+	/**
+	 * Create the statement setting a property
+	 *
+	 * @param property HSQLDB property name
+	 * @param value    property value
+	 * @return SQL statement
+	 */
+	static String createSetStatement(String property, String value) {
+		return switch (property) {
+			case CACHE_ROWS -> "SET FILES CACHE ROWS " + value;
+			case CACHE_SIZE -> "SET FILES CACHE SIZE " + value;
+			case NIO_DATA_FILE -> "SET FILES NIO " + value.toUpperCase();
+			case NIO_MAX_SIZE -> "SET FILES NIO SIZE " + value;
+			case LOG_SIZE -> "SET FILES LOG SIZE " + value;
+			case WRITE_DELAY_MILLIS -> "SET FILES WRITE DELAY " + value + " MILLIS";
+			case DEFRAG_LIMIT -> "SET FILES DEFRAG " + value;
+			default -> throw new IllegalArgumentException(property);
+		};
+	}
+
+	/**
+	 * Apply the profile to the database. Only the settings which differ from the current ones are changed.
+	 *
+	 * @param connectionManager database connection
+	 * @param dataFileSize      size of the database .data file in bytes
+	 * @param maxMemory         maximum heap size in bytes
+	 * @return number of changed settings
+	 */
+	int apply(ConnectionManager connectionManager, long dataFileSize, long maxMemory) throws SQLException {
+		var current = new HashMap<String, String>();
+		try (var rs = connectionManager.executeQuery(
+				"SELECT PROPERTY_NAME, PROPERTY_VALUE FROM INFORMATION_SCHEMA.SYSTEM_PROPERTIES")) {
+			while (rs != null && rs.next()) {
+				current.put(rs.getString(1), rs.getString(2));
+			}
+		}
+		var ret = 0;
+		for (var setting : getSettings(dataFileSize, maxMemory).entrySet()) {
+			if (!setting.getValue().equalsIgnoreCase(current.get(setting.getKey()))) {
+				HOLogger.instance().info(StorageProfile.class, this + ": " + setting.getKey() + "="
+						+ current.get(setting.getKey()) + " -> " + setting.getValue());
+				connectionManager.executeUpdate(createSetStatement(setting.getKey(), setting.getValue()));
+				ret++;
+			}
+		}
+		return ret;
+	}
+
+	/**
+	 * Convert the tables to their storage type. Lookup tables are kept in memory, if requested,
+	 * all other tables are cached.
+	 *
+	 * @param connectionManager  database connection
+	 * @param tables             tables of the database
+	 * @param memoryLookupTables true, if the lookup tables are memory tables
+	 * @return number of converted tables
+	 */
+	static int setTableTypes(ConnectionManager connectionManager, Collection<AbstractTable> tables,
+							 boolean memoryLookupTables) throws SQLException {
+		var current = new HashMap<String, String>();
+		try (var rs = connectionManager.executeQuery(
+				"SELECT TABLE_NAME, HSQLDB_TYPE FROM INFORMATION_SCHEMA.SYSTEM_TABLES WHERE TABLE_SCHEM='PUBLIC'")) {
+			while (rs != null && rs.next()) {
+				current.put(rs.getString(1), rs.getString(2));
+			}
+		}
+		var ret = 0;
+		for (var table : tables) {
+			var type = memoryLookupTables && table.isLookupTable() ? "MEMORY" : table.getTableType();
+			var currentType = current.get(table.getTableName().toUpperCase());
+			if (currentType != null && !currentType.equals(type)) {
+				HOLogger.instance().info(StorageProfile.class, table.getTableName() + ": " + currentType + " -> " + type);
+				connectionManager.executeUpdate("SET TABLE " + table.getTableName() + " TYPE " + type);
+				ret++;
+			}
+		}
+		return ret;
+	}
+}
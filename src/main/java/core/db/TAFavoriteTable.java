@@ -60,4 +60,9 @@ final class TAFavoriteTable extends AbstractTable {
             return java.util.Collections.emptyList();
         }
     }
+
+    @Override
+    protected boolean isLookupTable() {
+        return true;
+    }
 }
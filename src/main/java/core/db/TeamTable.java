@@ -1,7 +1,13 @@
 package core.db;
 
 import core.model.Team;
+import core.util.HOLogger;
+import java.sql.SQLException;
 import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 
 final class TeamTable extends AbstractTable {
 	public static final String TABLENAME = "TEAM";
@@ -101,4 +107,26 @@ final class TeamTable extends AbstractTable {
 		if ( ret == null) ret = new Team();
 		return ret;
 	}
+
+	/**
+	 * load the team data of the given HRF ids
+	 *
+	 * @return team data by HRF id, HRF ids without team data are missing
+	 */
+	Map<Integer, Team> loadTeams(Collection<Integer> hrfIds) {
+		var ret = new HashMap<Integer, Team>();
+		var list = new ArrayList<>(hrfIds);
+		for (int from = 0; from < list.size(); from += MAX_IN_LIST) {
+			var chunk = list.subList(from, Math.min(list.size(), from + MAX_IN_LIST));
+			var sql = createSelectStatement("WHERE HRF_ID IN (" + DBManager.getPlaceholders(chunk.size()) + ")");
+			try {
+				for (var team : load(Team.class, connectionManager.executePreparedQuery(sql, chunk.toArray()))) {
+					ret.put(team.getHrfId(), team);
+				}
+			} catch (SQLException e) {
+				HOLogger.instance().error(getClass(), e);
+			}
+		}
+		return ret;
+	}
 }
\ No newline at end of file
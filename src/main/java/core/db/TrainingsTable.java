@@ -58,6 +58,13 @@ final class TrainingsTable extends AbstractTable {
 		};
 	}
 
+	@Override
+	protected String[] getCreateIndexStatement() {
+		return new String[] {
+				"CREATE INDEX iTraining_1 ON " + getTableName() + "(TRAINING_DATE)"
+		};
+	}
+
 	/**
 	 * save provided training in database (trainings still in the future will be
 	 * skipped)
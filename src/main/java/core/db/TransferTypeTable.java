@@ -29,4 +29,8 @@ public class TransferTypeTable extends AbstractTable {
         return loadOne(TransferType.class, playerId);
     }
 
+    @Override
+    protected boolean isLookupTable() {
+        return true;
+    }
 }
@@ -0,0 +1,24 @@
+package core.db;
+
+import java.io.Serial;
+import java.sql.SQLException;
+
+/**
+ * Wraps a {@link SQLException} of a database update, which has no checked exception in its
+ * signature, so that the surrounding transaction is rolled back.
+ * {@link ConnectionManager#executeInTransaction} rethrows the cause.
+ */
+public class UncheckedSQLException extends RuntimeException {
+
+	@Serial
+	private static final long serialVersionUID = 1L;
+
+	public UncheckedSQLException(String message, SQLException cause) {
+		super(message, cause);
+	}
+
+	@Override
+	public synchronized SQLException getCause() {
+		return (SQLException) super.getCause();
+	}
+}
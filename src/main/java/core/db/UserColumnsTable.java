@@ -102,6 +102,11 @@ class UserColumnsTable extends AbstractTable {
 		}
 	}
 
+	@Override
+	protected boolean isLookupTable() {
+		return true;
+	}
+
 	/**
 	 * kind of a clone of abstract class UserColumn used to load and store user column information
 	 */
@@ -192,4 +197,4 @@ class UserColumnsTable extends AbstractTable {
 			return sortPriority;
 		}
 	}
-}
\ No newline at end of file
+}
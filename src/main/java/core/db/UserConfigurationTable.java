@@ -132,6 +132,11 @@ final class UserConfigurationTable extends AbstractTable {
 		return null;
 	}
 
+	@Override
+	protected boolean isLookupTable() {
+		return true;
+	}
+
 	public static class _Configuration extends AbstractTable.Storable {
 		public _Configuration() {
 		}
@@ -155,4 +160,4 @@ final class UserConfigurationTable extends AbstractTable {
 			this.value = value;
 		}
 	}
-}
\ No newline at end of file
+}
@@ -46,4 +46,9 @@ class WorldDetailsTable extends AbstractTable {
 		}
 		return ret;
 	}
+
+	@Override
+	protected boolean isLookupTable() {
+		return true;
+	}
 }
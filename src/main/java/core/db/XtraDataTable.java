@@ -31,6 +31,13 @@ final class XtraDataTable extends AbstractTable {
 		};
 	}
 
+	@Override
+	protected String[] getCreateIndexStatement() {
+		return new String[] {
+				"CREATE INDEX iXtraData_2 ON " + getTableName() + "(TrainingDate)"
+		};
+	}
+
 	/**
 	 * load Xtra data
 	 */
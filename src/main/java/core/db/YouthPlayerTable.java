@@ -188,6 +188,13 @@ public class YouthPlayerTable extends AbstractTable {
         return new String[] { " PRIMARY KEY (HRF_ID, ID)" };
     }
 
+    @Override
+    protected String[] getCreateIndexStatement() {
+        return new String[] {
+                "CREATE INDEX iYouthPlayer_1 ON " + getTableName() + "(ID)"
+        };
+    }
+
     @Override
     public String createDeleteStatement() {
         return createDeleteStatement("WHERE HRF_ID=?");
@@ -28,6 +28,13 @@ public class YouthScoutCommentTable extends AbstractTable {
         };
     }
 
+    @Override
+    protected String[] getCreateIndexStatement() {
+        return new String[] {
+                "CREATE INDEX iYouthScoutComment_1 ON " + getTableName() + "(YOUTHPLAYER_ID)"
+        };
+    }
+
     public void storeYouthScoutComments(int youthplayerId,  List<ScoutComment> comments) {
         executePreparedDelete(youthplayerId);
         for ( var comment : comments){
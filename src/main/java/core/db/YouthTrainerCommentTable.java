@@ -30,6 +30,13 @@ public class YouthTrainerCommentTable extends AbstractTable {
         };
     }
 
+    @Override
+    protected String[] getCreateIndexStatement() {
+        return new String[] {
+                "CREATE INDEX iYouthTrainerComment_1 ON " + getTableName() + "(YOUTHPLAYER_ID)"
+        };
+    }
+
     public List<YouthTrainerComment> loadYouthTrainerComments(int id) {
         return load(YouthTrainerComment.class, id);
     }
@@ -1,16 +1,27 @@
 package core.db.backup;
 
+import core.db.DBManager;
 import core.db.user.UserManager;
 import core.util.HOLogger;
 import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.text.SimpleDateFormat;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Date;
 import java.util.List;
+import java.util.zip.CRC32C;
+import java.util.zip.ZipFile;
 
 /**
  * HSQL DB zipper
+ * <p>
+ * The archive comment contains a fingerprint (name, size and checksum) of the archived files.
+ * If the files of the database are unchanged since the latest archive, no new archive is written.
  * 
  * @author Thorsten Dietz
  */
@@ -19,37 +30,105 @@ public final class BackupHelper {
     private static final SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd");
     private static final List<String> EXTENSIONS = Arrays.asList("script", "data", "backup", "log", "properties");
 
+    /** Directory inside the db folder, which receives the copy of the online backup */
+    private static final String STAGING_DIRECTORY = "backup.tmp";
+    /** Extension of an archive while it is written */
+    private static final String PART_EXT = ".part";
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /**
+     * Copies the files of the open database into a directory
+     */
+    @FunctionalInterface
+    interface DatabaseCopier {
+        void copyTo(File directory) throws Exception;
+    }
+
     private BackupHelper() {
         // Private constructor to prevent instantiation
     }
 
-    // zip and delete db
-    public static void backup(File dbDirectory) {
-        if (!dbDirectory.exists()) {
-            return;
-        }
+    /**
+     * Zip the files of the closed database
+     *
+     * @param dbDirectory database folder
+     * @return created archive, null if no archive was created
+     */
+    public static File backup(File dbDirectory) {
+        return backup(dbDirectory, null);
+    }
 
-        File[] filesToBackup = getFilesToBackup(dbDirectory);
-        if (filesToBackup.length == 0) {
-            return;
+    /**
+     * Zip the open database on a background thread. The files are copied by the online backup
+     * of HSQLDB, which does not block the database.
+     *
+     * @param dbDirectory database folder
+     */
+    public static void backupInBackground(File dbDirectory) {
+        var thread = new Thread(() -> backup(dbDirectory, DBManager.instance()::backupDatabase), "HO backup");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MIN_PRIORITY);
+        thread.start();
+    }
+
+    /**
+     * Zip the database files
+     *
+     * @param dbDirectory database folder
+     * @param copier      creates a consistent copy of the open database, null if the database is closed
+     * @return created archive, null if no archive was created
+     */
+    static File backup(File dbDirectory, DatabaseCopier copier) {
+        if (!dbDirectory.exists()) {
+            return null;
         }
 
+        deletePartialArchives(dbDirectory);
+        File staging = null;
+        File ret = null;
         try {
+            File sourceDirectory = dbDirectory;
+            if (copier != null) {
+                staging = new File(dbDirectory, STAGING_DIRECTORY);
+                deleteDirectory(staging);
+                copier.copyTo(staging);
+                sourceDirectory = staging;
+            }
+
+            File[] filesToBackup = getFilesToBackup(sourceDirectory);
+            if (filesToBackup.length == 0) {
+                return null;
+            }
+
+            var fingerprint = getFingerprint(filesToBackup);
+            if (fingerprint.equals(getLatestFingerprint(dbDirectory))) {
+                HOLogger.instance().info(BackupHelper.class, "Database unchanged since latest backup");
+                return null;
+            }
+
             String zipName = dbDirectory + File.separator + "db_"
                     + UserManager.instance().getCurrentUser().getTeamName() + "-" + sdf.format(new Date()) + "."
                     + HOZip.ZIP_EXT;
-            HOZip zOut = new HOZip(zipName);
+            HOZip zOut = new HOZip(zipName + PART_EXT);
+            zOut.setComment(fingerprint);
 
             for (File file : filesToBackup) {
                 zOut.addFile(file);
             }
 
             zOut.closeArchive();
+            ret = new File(zipName);
+            Files.move(zOut.toPath(), ret.toPath(), StandardCopyOption.REPLACE_EXISTING);
         } catch (Exception e) {
             HOLogger.instance().log(BackupHelper.class, e);
+        } finally {
+            if (staging != null) {
+                deleteDirectory(staging);
+            }
         }
 
         deleteOldFiles(dbDirectory);
+        return ret;
     }
 
     /**
@@ -58,7 +137,7 @@ public final class BackupHelper {
      * @param dbDirectory Directory where to find the zip files to be deleted.
      */
     private static void deleteOldFiles(File dbDirectory) {
-        File[] filesArr = dbDirectory.listFiles(file -> file.isFile() && file.getName().endsWith("." + HOZip.ZIP_EXT));
+        File[] filesArr = getArchives(dbDirectory);
 
         if (filesArr != null) {
             Arrays.stream(filesArr)
@@ -68,9 +147,86 @@ public final class BackupHelper {
         }
     }
 
+    /**
+     * Deletes archives of backups, which were interrupted by the end of HO.
+     */
+    private static void deletePartialArchives(File dbDirectory) {
+        File[] filesArr = dbDirectory.listFiles(file -> file.isFile() && file.getName().endsWith("." + HOZip.ZIP_EXT + PART_EXT));
+        if (filesArr != null) {
+            Arrays.stream(filesArr).forEach(File::delete);
+        }
+    }
+
+    private static File[] getArchives(File dbDirectory) {
+        return dbDirectory.listFiles(file -> file.isFile() && file.getName().endsWith("." + HOZip.ZIP_EXT));
+    }
+
     private static File[] getFilesToBackup(File dbDirectory) {
         File[] files = dbDirectory.listFiles(
                 file -> file.isFile() && EXTENSIONS.stream().anyMatch(suffix -> file.getName().endsWith("." + suffix)));
-        return files != null ? files : new File[0];
+        if (files == null) {
+            return new File[0];
+        }
+        Arrays.sort(files, Comparator.comparing(File::getName));
+        return files;
+    }
+
+    /**
+     * Name, size and checksum of the files
+     */
+    static String getFingerprint(File[] files) throws IOException {
+        var ret = new StringBuilder();
+        for (var file : files) {
+            ret.append(file.getName()).append(' ').append(file.length()).append(' ')
+                    .append(Long.toHexString(getChecksum(file))).append('\n');
+        }
+        return ret.toString();
+    }
+
+    private static long getChecksum(File file) throws IOException {
+        var crc = new CRC32C();
+        try (var channel = FileChannel.open(file.toPath())) {
+            var buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+            while (channel.read(buffer) >= 0) {
+                buffer.flip();
+                crc.update(buffer);
+                buffer.clear();
+            }
+        }
+        return crc.getValue();
+    }
+
+    /**
+     * Fingerprint of the latest archive
+     *
+     * @return archive comment, null if there is no readable archive
+     */
+    private static String getLatestFingerprint(File dbDirectory) {
+        File[] archives = getArchives(dbDirectory);
+        if (archives == null || archives.length == 0) {
+            return null;
+        }
+        var latest = Arrays.stream(archives).max(Comparator.comparingLong(File::lastModified)).get();
+        try (var zipFile = new ZipFile(latest)) {
+            return zipFile.getComment();
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static void deleteDirectory(File directory) {
+        File[] files = directory.listFiles();
+        if (files != null) {
+            for (var file : files) {
+                if (file.isDirectory()) {
+                    deleteDirectory(file);
+                } else if (!file.delete()) {
+                    HOLogger.instance().warning(BackupHelper.class, "Unable to delete " + file);
+                }
+            }
+        }
+        if (directory.exists() && !directory.delete()) {
+            HOLogger.instance().warning(BackupHelper.class, "Unable to delete " + directory);
+        }
     }
 }
@@ -1,6 +1,7 @@
 package core.db.backup;
 
 import core.util.HOLogger;
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
@@ -16,6 +17,7 @@ public class HOZip extends File {
     private static final int COMPRESSION_METHOD = ZipOutputStream.DEFLATED;
     public static final String ZIP_EXT = "zip";
     private static final SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd");
+    private static final int BUFFER_SIZE = 1 << 16;
 
     private final ZipOutputStream zOut;
     private int fileCount = 0;
@@ -26,7 +28,7 @@ public class HOZip extends File {
     public HOZip(String filename) throws IOException {
         super(filename);
         HOLogger.instance().info(getClass(), "Create Backup: " + filename);
-        zOut = new ZipOutputStream(new FileOutputStream(this));
+        zOut = new ZipOutputStream(new BufferedOutputStream(new FileOutputStream(this), BUFFER_SIZE));
         zOut.setMethod(COMPRESSION_METHOD);
         zOut.setLevel(COMPRESSION_LEVEL);
     }
@@ -38,7 +40,7 @@ public class HOZip extends File {
     public void addFile(File file) throws IOException {
         try (FileInputStream fis = new FileInputStream(file)) {
             zOut.putNextEntry(new ZipEntry(file.getName()));
-            byte[] buffer = new byte[1024];
+            byte[] buffer = new byte[BUFFER_SIZE];
             int length;
             while ((length = fis.read(buffer)) >= 0) {
                 zOut.write(buffer, 0, length);
@@ -48,6 +50,13 @@ public class HOZip extends File {
         fileCount++;
     }
 
+    /**
+     * Set the comment of the archive
+     */
+    public void setComment(String comment) {
+        zOut.setComment(comment);
+    }
+
     public void closeArchive() throws IOException {
         zOut.finish();
         zOut.close();
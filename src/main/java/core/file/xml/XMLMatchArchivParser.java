@@ -17,10 +17,7 @@ import core.util.HOLogger;
 
 import java.util.ArrayList;
 import java.util.List;
-
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.NodeList;
+import java.util.Map;
 
 import static core.net.OnlineWorker.getTournamentDetails;
 
@@ -36,99 +33,69 @@ public class XMLMatchArchivParser {
 	}
 
 	public static List<MatchKurzInfo> parseMatchesFromString(String input) {
-		return createMatches(XMLManager.parseString(input));
-	}
-
-	private static List<MatchKurzInfo> createMatches(Document doc) {
 		List<MatchKurzInfo> matches = new ArrayList<>();
 
-		if (doc == null) {
-			return matches;
+		try (var parser = XMLStreamParser.open(input)) {
+			if (parser == null) {
+				return matches;
+			}
+			var isYouth = false;
+			var root = parser.getDepth();
+			while (parser.nextElement(root)) {
+				switch (parser.getName()) {
+					case "IsYouth" -> isYouth = Boolean.parseBoolean(parser.readText());
+					case "Match" -> matches.add(createMatch(parser.readValues(), isYouth));
+					default -> {
+					}
+				}
+			}
+		} catch (Exception e) {
+			matches.clear();
+			HOLogger.instance().log(XMLMatchArchivParser.class, e);
 		}
+		return matches;
+	}
 
-		Element root = doc.getDocumentElement();
-		Element ele;
-		Element tmp;
-		MatchKurzInfo match;
+	private static MatchKurzInfo createMatch(Map<String, String> values, boolean isYouth) {
+		var match = new MatchKurzInfo();
 		int iMatchType;
-		int iCupLevel;
-		int iCupLevelIndex;
-		try {
-
-			var isYouth = Boolean.parseBoolean(root.getElementsByTagName("IsYouth").item(0).getFirstChild().getNodeValue());
-			NodeList  nodeList = root.getElementsByTagName("Match");
 
-			for (int i = 0; (nodeList != null) && (i < nodeList.getLength()); i++) {
-				match = new MatchKurzInfo();
-				ele = (Element) nodeList.item(i);
-
-				// Daten füllen
-				tmp = (Element) ele.getElementsByTagName("MatchDate").item(0);
-				match.setMatchSchedule(HODateTime.fromHT(tmp.getFirstChild().getNodeValue()));
-				tmp = (Element) ele.getElementsByTagName("MatchID").item(0);
-				match.setMatchID(Integer.parseInt(tmp.getFirstChild()
-						.getNodeValue()));
-				tmp = (Element) ele.getElementsByTagName("MatchType").item(0);
-				if( tmp!=null || !isYouth)
-				{
-					iMatchType = Integer.parseInt(tmp.getFirstChild().getNodeValue());
-				}
-				else
-				{
-					// workaround for isyouth=true (MatchType is missing if isYouth==true)
-					iMatchType = MatchType.YOUTHLEAGUE.getId();
-				}
-
-				match.setMatchType(MatchType.getById(iMatchType));
+		// Daten füllen
+		match.setMatchSchedule(HODateTime.fromHT(values.get("MatchDate")));
+		match.setMatchID(Integer.parseInt(values.get("MatchID")));
+		var matchType = values.get("MatchType");
+		if (matchType != null || !isYouth) {
+			iMatchType = Integer.parseInt(matchType);
+		} else {
+			// workaround for isyouth=true (MatchType is missing if isYouth==true)
+			iMatchType = MatchType.YOUTHLEAGUE.getId();
+		}
 
-				tmp = (Element) ele.getElementsByTagName("MatchContextId").item(0);
-				int tournamentId = Integer.parseInt(tmp.getFirstChild().getNodeValue());
-				match.setMatchContextId(tournamentId);
+		match.setMatchType(MatchType.getById(iMatchType));
 
-				if (iMatchType == 3) {
-					tmp = (Element) ele.getElementsByTagName("CupLevel").item(0);
-					iCupLevel = Integer.parseInt(tmp.getFirstChild().getNodeValue());
-					match.setCupLevel(CupLevel.fromInt(iCupLevel));
-					tmp = (Element) ele.getElementsByTagName("CupLevelIndex").item(0);
-					iCupLevelIndex = Integer.parseInt(tmp.getFirstChild().getNodeValue());
-					match.setCupLevelIndex(CupLevelIndex.fromInt(iCupLevelIndex));
-				}
-				else if (iMatchType == 50) {
-					TournamentDetails oTournamentDetails = DBManager.instance().getTournamentDetailsFromDB(tournamentId);
-					if (oTournamentDetails == null)
-					{
-						oTournamentDetails = getTournamentDetails(tournamentId); // download info about tournament from HT
-						DBManager.instance().storeTournamentDetailsIntoDB(oTournamentDetails); // store tournament details into DB
-					}
-					match.setTournamentTypeID(oTournamentDetails.getTournamentType());
-				}
+		int tournamentId = Integer.parseInt(values.get("MatchContextId"));
+		match.setMatchContextId(tournamentId);
 
-				tmp = (Element) ele.getElementsByTagName("HomeTeam").item(0);
-				match.setHomeTeamID(Integer.parseInt(tmp
-						.getElementsByTagName("HomeTeamID").item(0)
-						.getFirstChild().getNodeValue()));
-				match.setHomeTeamName(tmp.getElementsByTagName(
-						"HomeTeamName").item(0).getFirstChild().getNodeValue());
-				tmp = (Element) ele.getElementsByTagName("AwayTeam").item(0);
-				match.setGuestTeamID(Integer.parseInt(tmp
-						.getElementsByTagName("AwayTeamID").item(0)
-						.getFirstChild().getNodeValue()));
-				match.setGuestTeamName(tmp.getElementsByTagName(
-						"AwayTeamName").item(0).getFirstChild().getNodeValue());
-				tmp = (Element) ele.getElementsByTagName("HomeGoals").item(0);
-				match.setHomeTeamGoals(Integer.parseInt(tmp.getFirstChild()
-						.getNodeValue()));
-				tmp = (Element) ele.getElementsByTagName("AwayGoals").item(0);
-				match.setGuestTeamGoals(Integer.parseInt(tmp.getFirstChild()
-						.getNodeValue()));
-				match.setOrdersGiven(true);
-				match.setMatchStatus(MatchKurzInfo.FINISHED);
-				matches.add(match);
+		if (iMatchType == 3) {
+			match.setCupLevel(CupLevel.fromInt(Integer.parseInt(values.get("CupLevel"))));
+			match.setCupLevelIndex(CupLevelIndex.fromInt(Integer.parseInt(values.get("CupLevelIndex"))));
+		} else if (iMatchType == 50) {
+			TournamentDetails oTournamentDetails = DBManager.instance().getTournamentDetailsFromDB(tournamentId);
+			if (oTournamentDetails == null) {
+				oTournamentDetails = getTournamentDetails(tournamentId); // download info about tournament from HT
+				DBManager.instance().storeTournamentDetailsIntoDB(oTournamentDetails); // store tournament details into DB
 			}
-		} catch (Exception e) {
-			matches.clear();
-			HOLogger.instance().log(XMLMatchArchivParser.class, e);			
+			match.setTournamentTypeID(oTournamentDetails.getTournamentType());
 		}
-		return matches;
+
+		match.setHomeTeamID(Integer.parseInt(values.get("HomeTeamID")));
+		match.setHomeTeamName(values.get("HomeTeamName"));
+		match.setGuestTeamID(Integer.parseInt(values.get("AwayTeamID")));
+		match.setGuestTeamName(values.get("AwayTeamName"));
+		match.setHomeTeamGoals(Integer.parseInt(values.get("HomeGoals")));
+		match.setGuestTeamGoals(Integer.parseInt(values.get("AwayGoals")));
+		match.setOrdersGiven(true);
+		match.setMatchStatus(MatchKurzInfo.FINISHED);
+		return match;
 	}
 }
@@ -8,12 +8,13 @@ import core.model.enums.MatchType;
 import core.model.match.*;
 import core.util.HOLogger;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.IntConsumer;
 
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.NodeList;
+import javax.xml.stream.XMLStreamException;
 
 import static core.net.OnlineWorker.getTournamentDetails;
 
@@ -29,77 +30,152 @@ public class XMLMatchdetailsParser {
     }
 
     public static Matchdetails parseMatchdetailsFromString(String input,  MatchLineup matchLineup) {
-        return createMatchdetails(XMLManager.parseString(input), matchLineup);
+        MatchdetailsValues values;
+        try (var parser = XMLStreamParser.open(input)) {
+            if (parser == null) {
+                return null;
+            }
+            values = readValues(parser, matchLineup != null);
+        } catch (Exception e) {
+            HOLogger.instance().log(XMLMatchdetailsParser.class, e);
+            return null;
+        }
+        return createMatchdetails(values, matchLineup);
     }
 
-    private static Matchdetails createMatchdetails(Document doc, MatchLineup matchLineup) {
-        Matchdetails md = null;
-
-        if (doc != null) {
-        	try {
-                md = new Matchdetails();
+    /**
+     * Values of the matchdetails xml
+     */
+    private static final class MatchdetailsValues {
+        /** Values outside of the match teams, arena, injuries and event list */
+        final Map<String, String> general = new HashMap<>();
+        Map<String, String> homeTeam = Map.of();
+        Map<String, String> awayTeam = Map.of();
+        Map<String, String> arena;
+        /** null, if the xml has no injuries element */
+        List<Map<String, String>> injuries;
+        final List<Map<String, String>> events = new ArrayList<>();
+    }
 
-                readGeneral(doc, md);
-                readArena(doc, md);
-                readGuestTeam(doc, md);
-                readHomeTeam(doc, md);
-				readInjuries(doc, md);
+    /**
+     * Reads the xml in one pass
+     *
+     * @param parser     parser positioned on the root element
+     * @param withEvents false, if the event list is skipped
+     */
+    private static MatchdetailsValues readValues(XMLStreamParser parser, boolean withEvents) throws XMLStreamException {
+        var ret = new MatchdetailsValues();
+        var root = parser.getDepth();
+        while (parser.nextElement(root)) {
+            if (!parser.getName().equals("Match")) {
+                parser.readValues(ret.general);
+                continue;
+            }
+            var match = parser.getDepth();
+            while (parser.nextElement(match)) {
+                switch (parser.getName()) {
+                    case "HomeTeam" -> ret.homeTeam = parser.readValues();
+                    case "AwayTeam" -> ret.awayTeam = parser.readValues();
+                    case "Arena" -> ret.arena = parser.readValues();
+                    case "Injuries" -> {
+                        ret.injuries = new ArrayList<>();
+                        readList(parser, "Injury", ret.injuries);
+                    }
+                    case "EventList" -> {
+                        if (withEvents) {
+                            readList(parser, "Event", ret.events);
+                        } else {
+                            parser.skipElement();
+                        }
+                    }
+                    default -> parser.readValues(ret.general);
+                }
+            }
+        }
+        return ret;
+    }
 
-				if (matchLineup != null) {
-					// Match lineup needs to be available, if not -> ignore match highlights/report
-					readHighlights(doc, md, matchLineup);
-					parseMatchReport(md);
+    /**
+     * Reads the values of each list entry
+     */
+    private static void readList(XMLStreamParser parser, String entry, List<Map<String, String>> list) throws XMLStreamException {
+        var depth = parser.getDepth();
+        while (parser.nextElement(depth)) {
+            if (parser.getName().equals(entry)) {
+                list.add(parser.readValues());
+            } else {
+                parser.skipElement();
+            }
+        }
+    }
 
-					var guest = matchLineup.getGuestTeam();
-					guest.setMatchTeamAttitude(MatchTeamAttitude.fromInt(md.getGuestEinstellung()));
-					guest.setMatchTacticType(MatchTacticType.fromInt(md.getGuestTacticType()));
+    private static Matchdetails createMatchdetails(MatchdetailsValues values, MatchLineup matchLineup) {
+        Matchdetails md;
 
-					var home = matchLineup.getHomeTeam();
-					home.setMatchTeamAttitude(MatchTeamAttitude.fromInt(md.getHomeEinstellung()));
-					home.setMatchTacticType(MatchTacticType.fromInt(md.getHomeTacticType()));
-				}
+        try {
+            md = new Matchdetails();
+
+            readGeneral(values.general, md);
+            readArena(values.arena, md);
+            readGuestTeam(values.awayTeam, md);
+            readHomeTeam(values.homeTeam, md);
+            readInjuries(values.injuries, md);
+
+            if (matchLineup != null) {
+                // Match lineup needs to be available, if not -> ignore match highlights/report
+                readHighlights(values.events, md, matchLineup);
+                parseMatchReport(md);
+
+                var guest = matchLineup.getGuestTeam();
+                guest.setMatchTeamAttitude(MatchTeamAttitude.fromInt(md.getGuestEinstellung()));
+                guest.setMatchTacticType(MatchTacticType.fromInt(md.getGuestTacticType()));
+
+                var home = matchLineup.getHomeTeam();
+                home.setMatchTeamAttitude(MatchTeamAttitude.fromInt(md.getHomeEinstellung()));
+                home.setMatchTacticType(MatchTacticType.fromInt(md.getHomeTacticType()));
+            }
 
-                md.setStatisics();
+            md.setStatisics();
 
-			} catch (Exception e) {
-	            HOLogger.instance().log(XMLMatchdetailsParser.class, e);
-	            return null;
-			}
+        } catch (Exception e) {
+            HOLogger.instance().log(XMLMatchdetailsParser.class, e);
+            return null;
         }
 
         return md;
     }
 
+    /**
+     * Passes the value to the setter, if it is available
+     */
+    private static void setInt(Map<String, String> values, String key, IntConsumer setter) {
+        var value = values.get(key);
+        if (value != null) setter.accept(Integer.parseInt(value));
+    }
+
 	/**
 	 * read the match injuries from XML
 	 *
-	 * @param doc 	XML document
+	 * @param injuries	values of the injury elements, null if the injuries element is missing
 	 * @param md	match details
 	 *
 	 */
-	private static void readInjuries(Document doc, Matchdetails md) {
+	private static void readInjuries(List<Map<String, String>> injuries, Matchdetails md) {
 		final ArrayList<Matchdetails.Injury> mdInjuries = new ArrayList<>();
 
-		Element root, ele;
-		NodeList injuryList ;
 		int InjuryPlayerID, InjuryTeamID, InjuryType, InjuryMinute, MatchPart;
 		Matchdetails.Injury injury;
 
 		try {
-			//get Injuries element
-			root = doc.getDocumentElement();
-			ele = (Element) root.getElementsByTagName("Injuries").item(0);
-			if ( ele != null )
+			if ( injuries != null )
 			{
-				injuryList = ele.getElementsByTagName("Injury");
 				//now go through the injuries
-				for (int n=0; n < injuryList.getLength(); n++) {
-					root = (Element) injuryList.item(n);
-					InjuryPlayerID = Integer.parseInt(XMLManager.getFirstChildNodeValue((Element) root.getElementsByTagName("InjuryPlayerID").item(0)));
-					InjuryTeamID = Integer.parseInt(XMLManager.getFirstChildNodeValue((Element) root.getElementsByTagName("InjuryTeamID").item(0)));
-					InjuryType = Integer.parseInt(XMLManager.getFirstChildNodeValue((Element) root.getElementsByTagName("InjuryType").item(0)));
-					InjuryMinute = Integer.parseInt(XMLManager.getFirstChildNodeValue((Element) root.getElementsByTagName("InjuryMinute").item(0)));
-					MatchPart = Integer.parseInt(XMLManager.getFirstChildNodeValue((Element) root.getElementsByTagName("MatchPart").item(0)));
+				for (var values : injuries) {
+					InjuryPlayerID = Integer.parseInt(values.get("InjuryPlayerID"));
+					InjuryTeamID = Integer.parseInt(values.get("InjuryTeamID"));
+					InjuryType = Integer.parseInt(values.get("InjuryType"));
+					InjuryMinute = Integer.parseInt(values.get("InjuryMinute"));
+					MatchPart = Integer.parseInt(values.get("MatchPart"));
 					injury = new Matchdetails.Injury(InjuryPlayerID, InjuryTeamID, InjuryType, InjuryMinute, MatchPart);
 					mdInjuries.add(injury);
 				}
@@ -116,42 +192,29 @@ public class XMLMatchdetailsParser {
     /**
      * read the match highlights from XML
      *
-     * @param doc 	XML document
+     * @param events 	values of the event elements
      * @param md	match details
      *
      */
-    private static void readHighlights(Document doc, Matchdetails md, MatchLineup lineup) {
+    private static void readHighlights(List<Map<String, String>> events, Matchdetails md, MatchLineup lineup) {
         final ArrayList<MatchEvent> matchEvents = new ArrayList<>();
-        //final Vector<Integer> broken = new Vector<>(); // TODO: I guess this one can be deleted if things are done properly (akasolace)
-        Element root, ele;
-        NodeList eventList;
 		int iMinute, iSubjectPlayerID, iSubjectTeamID, iObjectPlayerID, iMatchEventID, iMatchPart, iEventVariation;
 		String eventtext;
 
 		try {
-            //get Root element
-            root = doc.getDocumentElement();
-            root = (Element) root.getElementsByTagName("Match").item(0);
-            //get both teams
-            ele = (Element) root.getElementsByTagName("HomeTeam").item(0);
-            final String homeTeamID = XMLManager.getFirstChildNodeValue((Element) ele.getElementsByTagName("HomeTeamID").item(0));
-			ele = (Element) root.getElementsByTagName("EventList").item(0);
-
-			eventList = ele.getElementsByTagName("Event");
-
 			//now go through the match events
-            for (int n=0; n < eventList.getLength(); n++) {
-            	root = (Element) eventList.item(n);
+            for (int n=0; n < events.size(); n++) {
+            	var values = events.get(n);
 
             	//get values from xml
-            	iMinute = Integer.parseInt(XMLManager.getFirstChildNodeValue((Element) root.getElementsByTagName("Minute").item(0)));
-            	iSubjectPlayerID = Integer.parseInt(XMLManager.getFirstChildNodeValue((Element) root.getElementsByTagName("SubjectPlayerID").item(0)));
-            	iSubjectTeamID = Integer.parseInt(XMLManager.getFirstChildNodeValue((Element) root.getElementsByTagName("SubjectTeamID").item(0)));
-            	iObjectPlayerID = Integer.parseInt(XMLManager.getFirstChildNodeValue((Element) root.getElementsByTagName("ObjectPlayerID").item(0)));
-				iMatchPart = Integer.parseInt(XMLManager.getFirstChildNodeValue((Element) root.getElementsByTagName("MatchPart").item(0)));
-				iEventVariation = Integer.parseInt(XMLManager.getFirstChildNodeValue((Element) root.getElementsByTagName("EventVariation").item(0)));
-
-            	eventtext = XMLManager.getFirstChildNodeValue((Element) root.getElementsByTagName("EventText").item(0));
+            	iMinute = Integer.parseInt(values.get("Minute"));
+            	iSubjectPlayerID = Integer.parseInt(values.get("SubjectPlayerID"));
+            	iSubjectTeamID = Integer.parseInt(values.get("SubjectTeamID"));
+            	iObjectPlayerID = Integer.parseInt(values.get("ObjectPlayerID"));
+				iMatchPart = Integer.parseInt(values.get("MatchPart"));
+				iEventVariation = Integer.parseInt(values.get("EventVariation"));
+
+            	eventtext = values.getOrDefault("EventText", "");
             	eventtext = eventtext.replaceAll("&lt;", "<");
             	eventtext = eventtext.replaceAll("&gt;", ">");
             	eventtext = eventtext.replaceAll("/>", ">");
@@ -159,7 +222,7 @@ public class XMLMatchdetailsParser {
             	eventtext = eventtext.replaceAll("&amp;", "&");
 
             	// Convert the ID to type and subtype.
-            	iMatchEventID = Integer.parseInt(XMLManager.getFirstChildNodeValue((Element) root.getElementsByTagName("EventTypeID").item(0)));
+            	iMatchEventID = Integer.parseInt(values.get("EventTypeID"));
 
             	//get players
             	boolean subHome = true;
@@ -278,80 +341,56 @@ public class XMLMatchdetailsParser {
         md.setMatchreport(report.toString());
     }
 
-    private static void readArena(Document doc, Matchdetails md) {
-        Element ele;
-        var root = doc.getDocumentElement();
-
+    private static void readArena(Map<String, String> arena, Matchdetails md) {
         try {
-            //Daten füllen            
+            //Daten füllen
             //MatchData
-            root = (Element) root.getElementsByTagName("Match").item(0);
-            root = (Element) root.getElementsByTagName("Arena").item(0);
-            
-            
             try {
-            	ele = (Element) root.getElementsByTagName("ArenaID").item(0);
-            	md.setArenaID(Integer.parseInt(ele.getFirstChild().getNodeValue()));
-            	ele = (Element) root.getElementsByTagName("ArenaName").item(0);
-            	if (ele.getFirstChild() != null) {
-					md.setArenaName(ele.getFirstChild().getNodeValue());
+            	md.setArenaID(Integer.parseInt(arena.get("ArenaID")));
+            	var arenaName = arena.get("ArenaName");
+            	if (arenaName != null && !arenaName.isEmpty()) {
+					md.setArenaName(arenaName);
 				}
             } catch (Exception e){
             	// This fails at tournament matches - ignore
             }
-            
-            ele = (Element) root.getElementsByTagName("WeatherID").item(0);
-            if ( ele != null ) md.setWetterId(Integer.parseInt(ele.getFirstChild().getNodeValue()));
-            ele = (Element) root.getElementsByTagName("SoldTotal").item(0);
-			if ( ele != null ) md.setZuschauer(Integer.parseInt(ele.getFirstChild().getNodeValue()));
+
+            setInt(arena, "WeatherID", md::setWetterId);
+            setInt(arena, "SoldTotal", md::setZuschauer);
             // Get spectator distribution, if available
-            if (root.getElementsByTagName("SoldTerraces").getLength() > 0) {
-            	ele = (Element) root.getElementsByTagName("SoldTerraces").item(0);
-            	md.setSoldTerraces(Integer.parseInt(ele.getFirstChild().getNodeValue()));
-            	ele = (Element) root.getElementsByTagName("SoldBasic").item(0);
-            	md.setSoldBasic(Integer.parseInt(ele.getFirstChild().getNodeValue()));
-            	ele = (Element) root.getElementsByTagName("SoldRoof").item(0);
-            	md.setSoldRoof(Integer.parseInt(ele.getFirstChild().getNodeValue()));
-            	ele = (Element) root.getElementsByTagName("SoldVIP").item(0);
-            	md.setSoldVIP(Integer.parseInt(ele.getFirstChild().getNodeValue()));
+            if (arena.containsKey("SoldTerraces")) {
+            	md.setSoldTerraces(Integer.parseInt(arena.get("SoldTerraces")));
+            	md.setSoldBasic(Integer.parseInt(arena.get("SoldBasic")));
+            	md.setSoldRoof(Integer.parseInt(arena.get("SoldRoof")));
+            	md.setSoldVIP(Integer.parseInt(arena.get("SoldVIP")));
             }
         } catch (Exception e) {
             HOLogger.instance().log(XMLMatchdetailsParser.class, e);
         }
     }
 
-    private static void readGeneral(Document doc, Matchdetails md) {
-        Element ele ;
-        Element root ;
+    private static void readGeneral(Map<String, String> general, Matchdetails md) {
         int iMatchType, iCupLevel, iCupLevelIndex;
 
-        root = doc.getDocumentElement();
-
         try {
             //Daten füllen
-            ele = (Element) root.getElementsByTagName("FetchedDate").item(0);
-            md.setFetchDatumFromString(ele.getFirstChild().getNodeValue());
+            md.setFetchDatumFromString(general.get("FetchedDate"));
 
             //MatchData
-            root = (Element) root.getElementsByTagName("Match").item(0);
-			ele = (Element) root.getElementsByTagName("MatchType").item(0);
-			iMatchType = Integer.parseInt(ele.getFirstChild().getNodeValue());
+			iMatchType = Integer.parseInt(general.get("MatchType"));
 
 			var matchType = Objects.requireNonNull(MatchType.getById(iMatchType));
 			md.setMatchType(matchType);
 
 			if (iMatchType == 3) {
-				ele = (Element) root.getElementsByTagName("CupLevel").item(0);
-				iCupLevel = Integer.parseInt(ele.getFirstChild().getNodeValue());
+				iCupLevel = Integer.parseInt(general.get("CupLevel"));
 				md.setCupLevel(CupLevel.fromInt(iCupLevel));
 
-				ele = (Element) root.getElementsByTagName("CupLevelIndex").item(0);
-				iCupLevelIndex = Integer.parseInt(ele.getFirstChild().getNodeValue());
+				iCupLevelIndex = Integer.parseInt(general.get("CupLevelIndex"));
 				md.setCupLevelIndex(CupLevelIndex.fromInt(iCupLevelIndex));
 			}
 			else if (iMatchType == 50) {
-				ele = (Element) root.getElementsByTagName("MatchContextId").item(0);
-				int tournamentId = Integer.parseInt(ele.getFirstChild().getNodeValue());
+				int tournamentId = Integer.parseInt(general.get("MatchContextId"));
 				md.setMatchContextId(tournamentId);
 
 				TournamentDetails oTournamentDetails = DBManager.instance().getTournamentDetailsFromDB(tournamentId);
@@ -363,64 +402,41 @@ public class XMLMatchdetailsParser {
 				md.setTournamentTypeID(oTournamentDetails.getTournamentType());
 			}
 
-            ele = (Element) root.getElementsByTagName("MatchID").item(0);
-            md.setMatchID(Integer.parseInt(ele.getFirstChild().getNodeValue()));
-            ele = (Element) root.getElementsByTagName("MatchDate").item(0);
-            md.setSpielDatumFromString(ele.getFirstChild().getNodeValue());
+            md.setMatchID(Integer.parseInt(general.get("MatchID")));
+            md.setSpielDatumFromString(general.get("MatchDate"));
         } catch (Exception e) {
             HOLogger.instance().log(XMLMatchdetailsParser.class,e);
 		}
     }
 
-    private static void readGuestTeam(Document doc, Matchdetails md) {
-        Element ele;
-        Element root;
-
+    private static void readGuestTeam(Map<String, String> team, Matchdetails md) {
         try {
-            //Daten füllen                        
-            root = doc.getDocumentElement();
-            root = (Element) root.getElementsByTagName("Match").item(0);
-            root = (Element) root.getElementsByTagName("AwayTeam").item(0);
-
-            NodeList formation = root.getElementsByTagName("Formation");
-            if (formation.getLength() > 0) {
-            	md.setAwayFormation(formation.item(0).getTextContent());
+            //Daten füllen
+            var formation = team.get("Formation");
+            if (formation != null) {
+            	md.setAwayFormation(formation);
 			}
 
-            ele = (Element) root.getElementsByTagName("AwayTeamID").item(0);
-			if ( ele != null ) md.setGastId(Integer.parseInt(ele.getFirstChild().getNodeValue()));
-            ele = (Element) root.getElementsByTagName("AwayTeamName").item(0);
-			if ( ele != null ) md.setGastName(ele.getFirstChild().getNodeValue());
-            ele = (Element) root.getElementsByTagName("AwayGoals").item(0);
-			if ( ele != null ) md.setGuestGoals(Integer.parseInt(ele.getFirstChild().getNodeValue()));
-            ele = (Element) root.getElementsByTagName("TacticType").item(0);
-			if ( ele != null ) md.setGuestTacticType(Integer.parseInt(ele.getFirstChild().getNodeValue()));
-            ele = (Element) root.getElementsByTagName("TacticSkill").item(0);
-			if ( ele != null ) md.setGuestTacticSkill(Integer.parseInt(ele.getFirstChild().getNodeValue()));
-            ele = (Element) root.getElementsByTagName("RatingMidfield").item(0);
-			if ( ele != null ) md.setGuestMidfield(Integer.parseInt(ele.getFirstChild().getNodeValue()));
-            ele = (Element) root.getElementsByTagName("RatingRightDef").item(0);
-			if ( ele != null ) md.setGuestRightDef(Integer.parseInt(ele.getFirstChild().getNodeValue()));
-            ele = (Element) root.getElementsByTagName("RatingMidDef").item(0);
-			if ( ele != null ) md.setGuestMidDef(Integer.parseInt(ele.getFirstChild().getNodeValue()));
-            ele = (Element) root.getElementsByTagName("RatingLeftDef").item(0);
-			if ( ele != null ) md.setGuestLeftDef(Integer.parseInt(ele.getFirstChild().getNodeValue()));
-            ele = (Element) root.getElementsByTagName("RatingRightAtt").item(0);
-			if ( ele != null ) md.setGuestRightAtt(Integer.parseInt(ele.getFirstChild().getNodeValue()));
-            ele = (Element) root.getElementsByTagName("RatingMidAtt").item(0);
-			if ( ele != null ) md.setGuestMidAtt(Integer.parseInt(ele.getFirstChild().getNodeValue()));
-            ele = (Element) root.getElementsByTagName("RatingLeftAtt").item(0);
-			if ( ele != null ) md.setGuestLeftAtt(Integer.parseInt(ele.getFirstChild().getNodeValue()));
-
-			ele = (Element) root.getElementsByTagName("RatingIndirectSetPiecesAtt").item(0);
-			if ( ele != null ) md.setRatingIndirectSetPiecesAtt(Integer.parseInt(ele.getFirstChild().getNodeValue()));
-			ele = (Element) root.getElementsByTagName("RatingIndirectSetPiecesDef").item(0);
-			if ( ele != null ) md.setRatingIndirectSetPiecesDef(Integer.parseInt(ele.getFirstChild().getNodeValue()));
-
-			NodeList teamAttitude = root.getElementsByTagName("TeamAttitude");
-			if (teamAttitude.getLength() > 0) {
-				ele = (Element) teamAttitude.item(0);
-				md.setGuestEinstellung(Integer.parseInt(ele.getFirstChild().getNodeValue()));
+            setInt(team, "AwayTeamID", md::setGastId);
+            var name = team.get("AwayTeamName");
+			if ( name != null ) md.setGastName(name);
+            setInt(team, "AwayGoals", md::setGuestGoals);
+            setInt(team, "TacticType", md::setGuestTacticType);
+            setInt(team, "TacticSkill", md::setGuestTacticSkill);
+            setInt(team, "RatingMidfield", md::setGuestMidfield);
+            setInt(team, "RatingRightDef", md::setGuestRightDef);
+            setInt(team, "RatingMidDef", md::setGuestMidDef);
+            setInt(team, "RatingLeftDef", md::setGuestLeftDef);
+            setInt(team, "RatingRightAtt", md::setGuestRightAtt);
+            setInt(team, "RatingMidAtt", md::setGuestMidAtt);
+            setInt(team, "RatingLeftAtt", md::setGuestLeftAtt);
+
+            setInt(team, "RatingIndirectSetPiecesAtt", md::setRatingIndirectSetPiecesAtt);
+            setInt(team, "RatingIndirectSetPiecesDef", md::setRatingIndirectSetPiecesDef);
+
+			var teamAttitude = team.get("TeamAttitude");
+			if (teamAttitude != null) {
+				md.setGuestEinstellung(Integer.parseInt(teamAttitude));
 			} else {
 				md.setGuestEinstellung(Matchdetails.EINSTELLUNG_UNBEKANNT);
 			}
@@ -429,56 +445,34 @@ public class XMLMatchdetailsParser {
         }
     }
 
-    private static void readHomeTeam(Document doc, Matchdetails md) {
-        Element ele;
-        Element root;
-
+    private static void readHomeTeam(Map<String, String> team, Matchdetails md) {
         try {
-            //Daten füllen                        
-            root = doc.getDocumentElement();
-            root = (Element) root.getElementsByTagName("Match").item(0);
-            root = (Element) root.getElementsByTagName("HomeTeam").item(0);
-
             //Data
-			NodeList formation = root.getElementsByTagName("Formation");
-			if (formation.getLength() > 0) {
-				md.setHomeFormation(formation.item(0).getTextContent());
+            var formation = team.get("Formation");
+            if (formation != null) {
+            	md.setHomeFormation(formation);
 			}
 
-            ele = (Element) root.getElementsByTagName("HomeTeamID").item(0);
-			if ( ele != null ) md.setHeimId(Integer.parseInt(ele.getFirstChild().getNodeValue()));
-            ele = (Element) root.getElementsByTagName("HomeTeamName").item(0);
-			if ( ele != null ) md.setHeimName(ele.getFirstChild().getNodeValue());
-            ele = (Element) root.getElementsByTagName("HomeGoals").item(0);
-			if ( ele != null ) md.setHomeGoals(Integer.parseInt(ele.getFirstChild().getNodeValue()));
-            ele = (Element) root.getElementsByTagName("TacticType").item(0);
-			if ( ele != null ) md.setHomeTacticType(Integer.parseInt(ele.getFirstChild().getNodeValue()));
-            ele = (Element) root.getElementsByTagName("TacticSkill").item(0);
-			if ( ele != null ) md.setHomeTacticSkill(Integer.parseInt(ele.getFirstChild().getNodeValue()));
-            ele = (Element) root.getElementsByTagName("RatingMidfield").item(0);
-			if ( ele != null ) md.setHomeMidfield(Integer.parseInt(ele.getFirstChild().getNodeValue()));
-            ele = (Element) root.getElementsByTagName("RatingRightDef").item(0);
-			if ( ele != null ) md.setHomeRightDef(Integer.parseInt(ele.getFirstChild().getNodeValue()));
-            ele = (Element) root.getElementsByTagName("RatingMidDef").item(0);
-			if ( ele != null ) md.setHomeMidDef(Integer.parseInt(ele.getFirstChild().getNodeValue()));
-            ele = (Element) root.getElementsByTagName("RatingLeftDef").item(0);
-			if ( ele != null ) md.setHomeLeftDef(Integer.parseInt(ele.getFirstChild().getNodeValue()));
-            ele = (Element) root.getElementsByTagName("RatingRightAtt").item(0);
-			if ( ele != null ) md.setHomeRightAtt(Integer.parseInt(ele.getFirstChild().getNodeValue()));
-            ele = (Element) root.getElementsByTagName("RatingMidAtt").item(0);
-			if ( ele != null ) md.setHomeMidAtt(Integer.parseInt(ele.getFirstChild().getNodeValue()));
-            ele = (Element) root.getElementsByTagName("RatingLeftAtt").item(0);
-			if ( ele != null ) md.setHomeLeftAtt(Integer.parseInt(ele.getFirstChild().getNodeValue()));
-
-			ele = (Element) root.getElementsByTagName("RatingIndirectSetPiecesAtt").item(0);
-			if ( ele != null ) md.setRatingIndirectSetPiecesAtt(Integer.parseInt(ele.getFirstChild().getNodeValue()));
-			ele = (Element) root.getElementsByTagName("RatingIndirectSetPiecesDef").item(0);
-			if ( ele != null ) md.setRatingIndirectSetPiecesDef(Integer.parseInt(ele.getFirstChild().getNodeValue()));
-
-			NodeList teamAttitude = root.getElementsByTagName("TeamAttitude");
-			if (teamAttitude.getLength() > 0) {
-				ele = (Element) teamAttitude.item(0);
-				md.setHomeEinstellung(Integer.parseInt(ele.getFirstChild().getNodeValue()));
+            setInt(team, "HomeTeamID", md::setHeimId);
+            var name = team.get("HomeTeamName");
+			if ( name != null ) md.setHeimName(name);
+            setInt(team, "HomeGoals", md::setHomeGoals);
+            setInt(team, "TacticType", md::setHomeTacticType);
+            setInt(team, "TacticSkill", md::setHomeTacticSkill);
+            setInt(team, "RatingMidfield", md::setHomeMidfield);
+            setInt(team, "RatingRightDef", md::setHomeRightDef);
+            setInt(team, "RatingMidDef", md::setHomeMidDef);
+            setInt(team, "RatingLeftDef", md::setHomeLeftDef);
+            setInt(team, "RatingRightAtt", md::setHomeRightAtt);
+            setInt(team, "RatingMidAtt", md::setHomeMidAtt);
+            setInt(team, "RatingLeftAtt", md::setHomeLeftAtt);
+
+            setInt(team, "RatingIndirectSetPiecesAtt", md::setRatingIndirectSetPiecesAtt);
+            setInt(team, "RatingIndirectSetPiecesDef", md::setRatingIndirectSetPiecesDef);
+
+			var teamAttitude = team.get("TeamAttitude");
+			if (teamAttitude != null) {
+				md.setHomeEinstellung(Integer.parseInt(teamAttitude));
 			} else {
 				md.setHomeEinstellung(Matchdetails.EINSTELLUNG_UNBEKANNT);
 			}
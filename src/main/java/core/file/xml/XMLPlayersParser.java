@@ -1,7 +1,10 @@
 package core.file.xml;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Vector;
+import java.util.function.UnaryOperator;
 
 import core.constants.player.PlayerSkill;
 import core.db.user.UserManager;
@@ -15,13 +18,26 @@ import core.util.HODateTime;
 import module.youth.YouthPlayer;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
-import org.w3c.dom.NodeList;
 import core.db.DBManager;
 
+import javax.xml.stream.XMLStreamException;
+
 import static core.file.xml.XMLManager.*;
 
 
 public class XMLPlayersParser {
+
+    /**
+     * Player values stored with their xml element name
+     */
+    private static final String[] PLAYER_KEYS = {"OwnerNotes", "Statement", "PlayerID", "FirstName", "NickName",
+            "LastName", "PlayerNumber", "Age", "AgeDays", "ArrivalDate", "PlayerForm", "PlayerCategoryId",
+            "Experience", "Loyalty", "MotherClubBonus", "Leadership", "Salary", "Agreeability", "Aggressiveness",
+            "Honesty", "LeagueGoals", "CupGoals", "FriendliesGoals", "CareerGoals", "CareerHattricks",
+            "MatchesCurrentTeam", "GoalsCurrentTeam", "Specialty", "TransferListed", "NationalTeamID", "CountryID",
+            "Caps", "CapsU20", "Cards", "InjuryLevel", "StaminaSkill", "KeeperSkill", "PlaymakerSkill", "ScorerSkill",
+            "PassingSkill", "WingerSkill", "DefenderSkill", "SetPiecesSkill"};
+
     //~ Constructors -------------------------------------------------------------------------------
 
     /**
@@ -36,8 +52,29 @@ public class XMLPlayersParser {
     //parse public
     ////////////////////////////////////////////////////////////////////////////////
     public final Vector<SafeInsertMap> parsePlayersFromString(String inputStream) {
-        Document doc = XMLManager.parseString(inputStream);
-        return createListe(doc);
+        final Vector<SafeInsertMap> liste = new Vector<>();
+
+        try (var parser = XMLStreamParser.open(inputStream)) {
+            if (parser == null) {
+                return liste;
+            }
+            String teamID = null;
+            var root = parser.getDepth();
+            while (parser.nextElement(root)) {
+                switch (parser.getName()) {
+                    case "TeamID" -> {
+                        if (teamID == null) teamID = parser.readText();
+                    }
+                    //Einträge adden
+                    case "Player" -> liste.add(readPlayer(parser, teamID));
+                    default -> {
+                    }
+                }
+            }
+        } catch (Exception ignored) {
+        }
+
+        return liste;
     }
 
     /////////////////////////////////////////////////////////////////////////////////
@@ -45,32 +82,31 @@ public class XMLPlayersParser {
     ////////////////////////////////////////////////////////////////////////////////
 
     /**
-     * erzeugt das Team aus dem xml
+     * Reads the player element of the parser. The values of the trainer data and last match
+     * containers are also collected separately.
      */
-    protected final Vector<SafeInsertMap> createListe(Document doc) {
-        final Vector<SafeInsertMap> liste = new Vector<>();
-
-        try {
-            var root = doc.getDocumentElement();
-            root = (Element) root.getElementsByTagName("Team").item(0);
-            var ele = (Element) root.getElementsByTagName("TeamID").item(0);
-            var teamID = XMLManager.getFirstChildNodeValue(ele);
-            root = (Element) root.getElementsByTagName("PlayerList").item(0);
-
-            //Einträge adden
-            var list = root.getElementsByTagName("Player");
-
-            for (int i = 0; i < list.getLength(); i++) {
-                //Root setzen
-                root = (Element) list.item(i);
-                var hash = createPlayer(root, teamID);
-
-                liste.add(hash);
+    private static SafeInsertMap readPlayer(XMLStreamParser parser, String teamID) throws XMLStreamException {
+        var values = new HashMap<String, String>();
+        Map<String, String> trainerData = null;
+        Map<String, String> lastMatch = null;
+        var root = parser.getDepth();
+        while (parser.nextElement(root)) {
+            switch (parser.getName()) {
+                case "TrainerData" -> {
+                    trainerData = parser.readValues();
+                    trainerData.forEach(values::putIfAbsent);
+                }
+                case "LastMatch" -> {
+                    lastMatch = parser.readValues();
+                    lastMatch.forEach(values::putIfAbsent);
+                }
+                default -> parser.readValues(values);
             }
-        } catch (Exception ignored) {
         }
-
-        return liste;
+        return createPlayer(values::get,
+                trainerData != null ? trainerData::get : null,
+                lastMatch != null ? lastMatch::get : null,
+                teamID);
     }
 
     public static SafeInsertMap createPlayerDetails(Element root) {
@@ -79,7 +115,12 @@ public class XMLPlayersParser {
         var teamID = xmlValue(owningTeam, "TeamID");
         var teamName = xmlValue(owningTeam, "TeamName");
 
-        var hash = createPlayer(root, teamID);
+        var trainerData = (Element) root.getElementsByTagName("TrainerData").item(0);
+        var lastMatch = (Element) root.getElementsByTagName("LastMatch").item(0);
+        var hash = createPlayer(key -> xmlValue(root, key),
+                trainerData != null ? key -> xmlValue(trainerData, key) : null,
+                lastMatch != null ? key -> xmlValue(lastMatch, key) : null,
+                teamID);
         hash.put("TeamName", teamName);
         xmlValue2Hash(hash, root, "OwnerNotes");
         xmlValue2Hash(hash, root, "Statement");
@@ -100,118 +141,38 @@ public class XMLPlayersParser {
         return hash;
     }
 
-    private static SafeInsertMap createPlayer(Element root, String teamID) {
+    /**
+     * Creates the player hash
+     *
+     * @param player      Value lookup of the player element
+     * @param trainerData Value lookup of the trainer data element, null if missing
+     * @param lastMatch   Value lookup of the last match element, null if missing
+     * @param teamID      Team of the player
+     */
+    private static SafeInsertMap createPlayer(UnaryOperator<String> player, UnaryOperator<String> trainerData,
+                                              UnaryOperator<String> lastMatch, String teamID) {
 
         var hash = new SafeInsertMap();
 
         hash.put("TeamID", teamID);
-        xmlValue2Hash(hash, root, "OwnerNotes");
-        xmlValue2Hash(hash, root, "Statement");
-
-        var ele = (Element) root.getElementsByTagName("PlayerID").item(0);
-        hash.put("PlayerID", (XMLManager.getFirstChildNodeValue(ele)));
-        ele = (Element) root.getElementsByTagName("FirstName").item(0);
-        hash.put("FirstName", (XMLManager.getFirstChildNodeValue(ele)));
-        ele = (Element) root.getElementsByTagName("NickName").item(0);
-        hash.put("NickName", (XMLManager.getFirstChildNodeValue(ele)));
-        ele = (Element) root.getElementsByTagName("LastName").item(0);
-        hash.put("LastName", (XMLManager.getFirstChildNodeValue(ele)));
-        ele = (Element) root.getElementsByTagName("PlayerNumber").item(0);
-        hash.put("PlayerNumber", (XMLManager.getFirstChildNodeValue(ele)));
-        ele = (Element) root.getElementsByTagName("Age").item(0);
-        hash.put("Age", (XMLManager.getFirstChildNodeValue(ele)));
-        ele = (Element) root.getElementsByTagName("AgeDays").item(0);
-        hash.put("AgeDays", (XMLManager.getFirstChildNodeValue(ele)));
-        xmlValue2Hash(hash, root, "ArrivalDate");
+        for (var key : PLAYER_KEYS) {
+            hash.put(key, player.apply(key));
+        }
         //TSI löste Marktwert ab!
-        ele = (Element) root.getElementsByTagName("TSI").item(0);
-        hash.put("MarketValue", (XMLManager.getFirstChildNodeValue(ele)));
-        ele = (Element) root.getElementsByTagName("PlayerForm").item(0);
-        hash.put("PlayerForm", (XMLManager.getFirstChildNodeValue(ele)));
-        ele = (Element) root.getElementsByTagName("PlayerCategoryId").item(0);
-        hash.put("PlayerCategoryId", (XMLManager.getFirstChildNodeValue(ele)));
-        ele = (Element) root.getElementsByTagName("Experience").item(0);
-        hash.put("Experience", (XMLManager.getFirstChildNodeValue(ele)));
-        ele = (Element) root.getElementsByTagName("Loyalty").item(0);
-        hash.put("Loyalty", (XMLManager.getFirstChildNodeValue(ele)));
-        ele = (Element) root.getElementsByTagName("MotherClubBonus").item(0);
-        hash.put("MotherClubBonus", (XMLManager.getFirstChildNodeValue(ele)));
-        ele = (Element) root.getElementsByTagName("Leadership").item(0);
-        hash.put("Leadership", (XMLManager.getFirstChildNodeValue(ele)));
-        ele = (Element) root.getElementsByTagName("Salary").item(0);
-        hash.put("Salary", (XMLManager.getFirstChildNodeValue(ele)));
-        ele = (Element) root.getElementsByTagName("Agreeability").item(0);
-        hash.put("Agreeability", (XMLManager.getFirstChildNodeValue(ele)));
-        ele = (Element) root.getElementsByTagName("Aggressiveness").item(0);
-        hash.put("Aggressiveness", (XMLManager.getFirstChildNodeValue(ele)));
-        ele = (Element) root.getElementsByTagName("Honesty").item(0);
-        hash.put("Honesty", (XMLManager.getFirstChildNodeValue(ele)));
-        ele = (Element) root.getElementsByTagName("LeagueGoals").item(0);
-        hash.put("LeagueGoals", (XMLManager.getFirstChildNodeValue(ele)));
-        ele = (Element) root.getElementsByTagName("CupGoals").item(0);
-        hash.put("CupGoals", (XMLManager.getFirstChildNodeValue(ele)));
-        ele = (Element) root.getElementsByTagName("FriendliesGoals").item(0);
-        hash.put("FriendliesGoals", (XMLManager.getFirstChildNodeValue(ele)));
-        ele = (Element) root.getElementsByTagName("CareerGoals").item(0);
-        hash.put("CareerGoals", (XMLManager.getFirstChildNodeValue(ele)));
-        ele = (Element) root.getElementsByTagName("CareerHattricks").item(0);
-        hash.put("CareerHattricks", (XMLManager.getFirstChildNodeValue(ele)));
-        xmlValue2Hash(hash, root, "MatchesCurrentTeam");
-        xmlValue2Hash(hash, root, "GoalsCurrentTeam");
-        ele = (Element) root.getElementsByTagName("Specialty").item(0);
-        hash.put("Specialty", (XMLManager.getFirstChildNodeValue(ele)));
-        ele = (Element) root.getElementsByTagName("TransferListed").item(0);
-        hash.put("TransferListed", (XMLManager.getFirstChildNodeValue(ele)));
-        ele = (Element) root.getElementsByTagName("NationalTeamID").item(0);
-        hash.put("NationalTeamID", (XMLManager.getFirstChildNodeValue(ele)));
-        ele = (Element) root.getElementsByTagName("CountryID").item(0);
-        hash.put("CountryID", (XMLManager.getFirstChildNodeValue(ele)));
-        ele = (Element) root.getElementsByTagName("Caps").item(0);
-        hash.put("Caps", (XMLManager.getFirstChildNodeValue(ele)));
-        ele = (Element) root.getElementsByTagName("CapsU20").item(0);
-        hash.put("CapsU20", (XMLManager.getFirstChildNodeValue(ele)));
-        ele = (Element) root.getElementsByTagName("Cards").item(0);
-        hash.put("Cards", (XMLManager.getFirstChildNodeValue(ele)));
-        ele = (Element) root.getElementsByTagName("InjuryLevel").item(0);
-        hash.put("InjuryLevel", (XMLManager.getFirstChildNodeValue(ele)));
-        ele = (Element) root.getElementsByTagName("StaminaSkill").item(0);
-        hash.put("StaminaSkill", (XMLManager.getFirstChildNodeValue(ele)));
-        ele = (Element) root.getElementsByTagName("KeeperSkill").item(0);
-        hash.put("KeeperSkill", (XMLManager.getFirstChildNodeValue(ele)));
-        ele = (Element) root.getElementsByTagName("PlaymakerSkill").item(0);
-        hash.put("PlaymakerSkill", (XMLManager.getFirstChildNodeValue(ele)));
-        ele = (Element) root.getElementsByTagName("ScorerSkill").item(0);
-        hash.put("ScorerSkill", (XMLManager.getFirstChildNodeValue(ele)));
-        ele = (Element) root.getElementsByTagName("PassingSkill").item(0);
-        hash.put("PassingSkill", (XMLManager.getFirstChildNodeValue(ele)));
-        ele = (Element) root.getElementsByTagName("WingerSkill").item(0);
-        hash.put("WingerSkill", (XMLManager.getFirstChildNodeValue(ele)));
-        ele = (Element) root.getElementsByTagName("DefenderSkill").item(0);
-        hash.put("DefenderSkill", (XMLManager.getFirstChildNodeValue(ele)));
-        ele = (Element) root.getElementsByTagName("SetPiecesSkill").item(0);
-        hash.put("SetPiecesSkill", (XMLManager.getFirstChildNodeValue(ele)));
+        hash.put("MarketValue", player.apply("TSI"));
 
         // Coach
-        NodeList trainerData = root.getElementsByTagName("TrainerData");
-        if (trainerData.getLength() > 0) {
-            Element tmp_Trainer = (Element) trainerData.item(0);
-            ele = (Element) tmp_Trainer.getElementsByTagName("TrainerType").item(0);
-            hash.put("TrainerType", (XMLManager.getFirstChildNodeValue(ele)));
-            ele = (Element) tmp_Trainer.getElementsByTagName("TrainerSkill").item(0);
-            hash.put("TrainerSkill", (XMLManager.getFirstChildNodeValue(ele)));
+        if (trainerData != null) {
+            hash.put("TrainerType", trainerData.apply("TrainerType"));
+            hash.put("TrainerSkill", trainerData.apply("TrainerSkill"));
         }
 
         //LastMatch #461
         try {
-            Element tmp_lm = (Element) root.getElementsByTagName("LastMatch").item(0);
-            ele = (Element) tmp_lm.getElementsByTagName("Date").item(0);
-            hash.put("LastMatch_Date", (XMLManager.getFirstChildNodeValue(ele)));
-            ele = (Element) tmp_lm.getElementsByTagName("Rating").item(0);
-            hash.put("LastMatch_Rating", (XMLManager.getFirstChildNodeValue(ele)));
-            ele = (Element) tmp_lm.getElementsByTagName("MatchId").item(0);
-
+            hash.put("LastMatch_Date", lastMatch.apply("Date"));
+            hash.put("LastMatch_Rating", lastMatch.apply("Rating"));
 
-            String lastMatchId = XMLManager.getFirstChildNodeValue(ele);
+            String lastMatchId = lastMatch.apply("MatchId");
             hash.put("LastMatch_id", lastMatchId);
 
             // Retrieve MatchType of last match by its ID.
@@ -220,12 +181,9 @@ public class XMLPlayersParser {
                 hash.put("LastMatch_Type", String.valueOf(matchInfo.getMatchType().getId()));
             }
 
-            ele = (Element) tmp_lm.getElementsByTagName("PositionCode").item(0);
-            hash.put("LastMatch_PositionCode", (XMLManager.getFirstChildNodeValue(ele)));
-            ele = (Element) tmp_lm.getElementsByTagName("PlayedMinutes").item(0);
-            hash.put("LastMatch_PlayedMinutes", (XMLManager.getFirstChildNodeValue(ele)));
-            ele = (Element) tmp_lm.getElementsByTagName("RatingEndOfGame").item(0);
-            hash.put("LastMatch_RatingEndOfGame", (XMLManager.getFirstChildNodeValue(ele)));
+            hash.put("LastMatch_PositionCode", lastMatch.apply("PositionCode"));
+            hash.put("LastMatch_PlayedMinutes", lastMatch.apply("PlayedMinutes"));
+            hash.put("LastMatch_RatingEndOfGame", lastMatch.apply("RatingEndOfGame"));
 
         } catch (Exception ignored) {
         }
@@ -11,9 +11,8 @@ import core.util.HODateTime;
 import core.util.HOLogger;
 import module.series.MatchFixtures;
 
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.NodeList;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * 
@@ -30,7 +29,7 @@ public class XMLSpielplanParser {
 	public static MatchFixtures parseSpielplanFromString(String input) {
 		MatchFixtures plan;
 		try {
-			plan = createSpielplan(XMLManager.parseString(input));
+			plan = createSpielplan(input);
 		} catch (RuntimeException e) {
 			HOLogger.instance().error(XMLSpielplanParser.class,
 					"parseSpielplanFromString: " + e + "\ninput xml was:\n " + input);
@@ -39,72 +38,50 @@ public class XMLSpielplanParser {
 		return plan;
 	}
 
-	private static Paarung createPaarung(Element ele) {
-		Element tmp;
+	private static Paarung createPaarung(Map<String, String> values) {
 		Paarung spiel = new Paarung();
 
-		tmp = (Element) ele.getElementsByTagName("MatchID").item(0);
-		spiel.setMatchId(Integer.parseInt(tmp.getFirstChild().getNodeValue()));
-		tmp = (Element) ele.getElementsByTagName("MatchRound").item(0);
-		spiel.setSpieltag(Integer.parseInt(tmp.getFirstChild().getNodeValue()));
-		tmp = (Element) ele.getElementsByTagName("HomeTeamID").item(0);
-		spiel.setHeimId(Integer.parseInt(tmp.getFirstChild().getNodeValue()));
-		tmp = (Element) ele.getElementsByTagName("AwayTeamID").item(0);
-		spiel.setGastId(Integer.parseInt(tmp.getFirstChild().getNodeValue()));
-		tmp = (Element) ele.getElementsByTagName("HomeTeamName").item(0);
-		spiel.setHeimName(tmp.getFirstChild().getNodeValue());
-		tmp = (Element) ele.getElementsByTagName("AwayTeamName").item(0);
-		spiel.setGastName(tmp.getFirstChild().getNodeValue());
-		tmp = (Element) ele.getElementsByTagName("MatchDate").item(0);
-		spiel.setDatum(HODateTime.fromHT(tmp.getFirstChild().getNodeValue()));
+		spiel.setMatchId(Integer.parseInt(values.get("MatchID")));
+		spiel.setSpieltag(Integer.parseInt(values.get("MatchRound")));
+		spiel.setHeimId(Integer.parseInt(values.get("HomeTeamID")));
+		spiel.setGastId(Integer.parseInt(values.get("AwayTeamID")));
+		spiel.setHeimName(values.get("HomeTeamName"));
+		spiel.setGastName(values.get("AwayTeamName"));
+		spiel.setDatum(HODateTime.fromHT(values.get("MatchDate")));
 
 		// Zum Schluss weil nicht immer vorhanden
-		if (ele.getElementsByTagName("AwayGoals").getLength() > 0) {
-			tmp = (Element) ele.getElementsByTagName("AwayGoals").item(0);
-			spiel.setToreGast(Integer.parseInt(tmp.getFirstChild().getNodeValue()));
-			tmp = (Element) ele.getElementsByTagName("HomeGoals").item(0);
-			spiel.setToreHeim(Integer.parseInt(tmp.getFirstChild().getNodeValue()));
+		if (values.containsKey("AwayGoals")) {
+			spiel.setToreGast(Integer.parseInt(values.get("AwayGoals")));
+			spiel.setToreHeim(Integer.parseInt(values.get("HomeGoals")));
 		}
 
 		return spiel;
 	}
 
-	private static MatchFixtures createSpielplan(Document doc) {
+	private static MatchFixtures createSpielplan(String input) {
 		MatchFixtures plan = new MatchFixtures();
-		Element ele;
-		Element root;
-		NodeList list;
 
-		if (doc == null) {
-			return null;
-		}
-
-		// Tabelle erstellen
-		root = doc.getDocumentElement();
+		try (var parser = XMLStreamParser.open(input)) {
+			if (parser == null) {
+				return null;
+			}
 
-		try {
 			// Daten füllen
-			ele = (Element) root.getElementsByTagName("LeagueLevelUnitID").item(0);
-			plan.setLigaId(Integer.parseInt(ele.getFirstChild().getNodeValue()));
-
-			try {
-				ele = (Element) root.getElementsByTagName("LeagueLevelUnitName").item(0);
-				plan.setLigaName(ele.getFirstChild().getNodeValue());
-			} catch (Exception e) {
-				plan.setLigaName("");
+			var values = new HashMap<String, String>();
+			var root = parser.getDepth();
+			while (parser.nextElement(root)) {
+				if (parser.getName().equals("Match")) {
+					// Einträge adden
+					plan.addEintrag(createPaarung(parser.readValues()));
+				} else {
+					parser.readValues(values);
+				}
 			}
 
-			ele = (Element) root.getElementsByTagName("Season").item(0);
-			plan.setSaison(Integer.parseInt(ele.getFirstChild().getNodeValue()));
-			ele = (Element) root.getElementsByTagName("FetchedDate").item(0);
-			plan.setFetchDate(HODateTime.fromHT(ele.getFirstChild().getNodeValue()));
-
-			// Einträge adden
-			list = root.getElementsByTagName("Match");
-
-			for (int i = 0; i < list.getLength(); i++) {
-				plan.addEintrag(createPaarung((Element) list.item(i)));
-			}
+			plan.setLigaId(Integer.parseInt(values.get("LeagueLevelUnitID")));
+			plan.setLigaName(values.getOrDefault("LeagueLevelUnitName", ""));
+			plan.setSaison(Integer.parseInt(values.get("Season")));
+			plan.setFetchDate(HODateTime.fromHT(values.get("FetchedDate")));
 		} catch (Exception e) {
 			HOLogger.instance().log(XMLSpielplanParser.class, e);
 			plan = null;
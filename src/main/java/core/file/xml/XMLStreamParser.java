@@ -0,0 +1,186 @@
+package core.file.xml;
+
+import core.util.HOLogger;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.StringReader;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Pull parser of the hattrick xml files.
+ * <p>
+ * In contrast to {@link XMLManager#parseString(String)} no document tree is built. The parser
+ * walks once through the elements and the caller reads the values of the elements it is interested in.
+ * Element values are collected by name, the first occurrence of a name wins. This corresponds to
+ * {@code getElementsByTagName(name).item(0)} of the DOM parsers.
+ * <p>
+ * Instances are not thread safe, the shared input factory is.
+ */
+public final class XMLStreamParser implements AutoCloseable {
+
+    private static final XMLInputFactory FACTORY = createFactory();
+
+    private final XMLStreamReader reader;
+
+    /** Number of open elements, including the current one */
+    private int depth;
+
+    private XMLStreamParser(XMLStreamReader reader) {
+        this.reader = reader;
+    }
+
+    private static XMLInputFactory createFactory() {
+        var factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return factory;
+    }
+
+    /**
+     * Open the xml string
+     *
+     * @param input xml string
+     * @return parser positioned on the HattrickData root element, null if input is empty or no hattrick data
+     * @throws XMLStreamException if the xml is not well-formed
+     */
+    public static XMLStreamParser open(String input) throws XMLStreamException {
+        if (input == null || input.isEmpty()) return null;
+        var ret = new XMLStreamParser(FACTORY.createXMLStreamReader(new StringReader(input)));
+        if (ret.nextElement(0) && "HattrickData".equals(ret.getName())) {
+            return ret;
+        }
+        ret.close();
+        HOLogger.instance().error(XMLStreamParser.class, "Cannot parse data:" + input);
+        return null;
+    }
+
+    /**
+     * Depth of the current element. The root element has depth 1.
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * Name of the current element
+     */
+    public String getName() {
+        return reader.getLocalName();
+    }
+
+    /**
+     * Attribute value of the current element
+     *
+     * @return value, empty string if the attribute is missing
+     */
+    public String getAttribute(String name) {
+        var ret = reader.getAttributeValue(null, name);
+        return ret != null ? ret : "";
+    }
+
+    /**
+     * Move to the next element inside the element of the given depth.
+     * Elements that are not read by {@link #readText()}, {@link #readValues()} or {@link #skipElement()}
+     * are entered, so the next call returns their first child.
+     *
+     * @param parentDepth Depth of the enclosing element
+     * @return false, if the enclosing element is closed
+     */
+    public boolean nextElement(int parentDepth) throws XMLStreamException {
+        while (reader.hasNext()) {
+            switch (reader.next()) {
+                case XMLStreamConstants.START_ELEMENT -> {
+                    depth++;
+                    return true;
+                }
+                case XMLStreamConstants.END_ELEMENT -> {
+                    if (--depth < parentDepth) return false;
+                }
+                default -> {
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Read the text of the current element, which must not contain child elements
+     */
+    public String readText() throws XMLStreamException {
+        var ret = reader.getElementText();
+        depth--;
+        return ret;
+    }
+
+    /**
+     * Read the values of all elements without child elements inside the current element
+     *
+     * @return map of element name to element text
+     */
+    public Map<String, String> readValues() throws XMLStreamException {
+        var ret = new HashMap<String, String>();
+        readValues(ret);
+        return ret;
+    }
+
+    /**
+     * Add the values of all elements without child elements inside the current element.
+     * If the current element has no child elements, its own value is added.
+     * Names already contained in the map are not overwritten.
+     *
+     * @param values map of element name to element text
+     */
+    public void readValues(Map<String, String> values) throws XMLStreamException {
+        var start = depth;
+        var leaf = getName();
+        var text = new StringBuilder();
+        while (reader.hasNext()) {
+            switch (reader.next()) {
+                case XMLStreamConstants.START_ELEMENT -> {
+                    depth++;
+                    leaf = getName();
+                    text.setLength(0);
+                }
+                case XMLStreamConstants.CHARACTERS, XMLStreamConstants.CDATA, XMLStreamConstants.SPACE -> {
+                    if (leaf != null) text.append(reader.getText());
+                }
+                case XMLStreamConstants.END_ELEMENT -> {
+                    if (leaf != null) {
+                        values.putIfAbsent(leaf, text.toString());
+                        leaf = null;
+                    }
+                    if (--depth < start) return;
+                }
+                default -> {
+                }
+            }
+        }
+    }
+
+    /**
+     * Skip the current element including all child elements
+     */
+    public void skipElement() throws XMLStreamException {
+        var start = depth;
+        while (reader.hasNext()) {
+            switch (reader.next()) {
+                case XMLStreamConstants.START_ELEMENT -> depth++;
+                case XMLStreamConstants.END_ELEMENT -> {
+                    if (--depth < start) return;
+                }
+                default -> {
+                }
+            }
+        }
+    }
+
+    @Override
+    public void close() throws XMLStreamException {
+        reader.close();
+    }
+}
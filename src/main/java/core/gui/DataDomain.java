@@ -0,0 +1,14 @@
+package core.gui;
+
+/**
+ * Kind of data, which may change and require a refresh of the views showing it.
+ * See {@link RefreshManager#doReInit(DataDomain...)}.
+ */
+public enum DataDomain {
+    PLAYERS,
+    MATCHES,
+    TRAINING,
+    ECONOMY,
+    YOUTH,
+    SERIES
+}
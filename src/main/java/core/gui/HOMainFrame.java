@@ -2,6 +2,7 @@ package core.gui;
 
 import core.HO;
 import core.context.ApplicationContext;
+import core.context.EventBus;
 import core.context.events.*;
 import core.gui.controller.HOMainFrameController;
 import core.db.DBManager;
@@ -70,7 +71,7 @@ public final class HOMainFrame extends JFrame implements Refreshable {
         setFrameTitle();
 
         if (this.context.getEventBus() != null) {
-            this.context.getEventBus().register(PlayerSelectionEvent.class, this::onPlayerSelected);
+            this.context.getEventBus().register(PlayerSelectionEvent.class, this::onPlayerSelected, EventBus.Delivery.EDT);
         }
     }
 
@@ -740,6 +741,8 @@ public final class HOMainFrame extends JFrame implements Refreshable {
         parameter.aufstellungsAssistentPanel_idealPosition = lineupPanel.isAssistantBestPositionFirst();
         parameter.aufstellungsAssistentPanel_form = lineupPanel.isAssistantConsiderForm();
         parameter.aufstellungsAssistentPanel_averagerating = lineupPanel.isUseAverageRating();
+        parameter.aufstellungsAssistentPanel_optimize = lineupPanel.isAssistantOptimize();
+        parameter.aufstellungsAssistentPanel_objective = lineupPanel.getAssistantObjective();
         parameter.aufstellungsAssistentPanel_verletzt = lineupPanel.isAssistantIgnoreInjured();
         parameter.aufstellungsAssistentPanel_gesperrt = lineupPanel.isAssistantIgnoreSuspended();
         parameter.aufstellungsAssistentPanel_notLast = lineupPanel.isAssistantExcludeLastMatch();
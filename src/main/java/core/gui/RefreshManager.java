@@ -3,10 +3,25 @@ package core.gui;
 
 import core.util.HOLogger;
 
-import java.util.Vector;
+import javax.swing.SwingUtilities;
+import java.awt.Component;
+import java.awt.event.HierarchyEvent;
+import java.awt.event.HierarchyListener;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Managed das Refreshen
+ * <p>
+ * Each registered object is affected by some {@link DataDomain}s, all if none are given.
+ * When data changes, only the objects affected by the changed domains are refreshed.
+ * Objects which are components and currently not showing, like the panels of hidden tabs,
+ * are only marked dirty. They are refreshed as soon as they get shown.
+ * Refreshes are always run on the event dispatch thread.
  */
 public class RefreshManager {
     // ~ Static fields/initializers
@@ -17,7 +32,72 @@ public class RefreshManager {
     // ~ Instance fields
     // ----------------------------------------------------------------------------
 
-    private Vector<IRefreshable> m_clRefreshable = new Vector<>();
+    private final Map<IRefreshable, Registration> m_clRefreshable = new LinkedHashMap<>();
+
+    /**
+     * Pending update of a registered object. A reInit includes a refresh.
+     */
+    private enum Pending {
+        NONE,
+        REFRESH,
+        REINIT
+    }
+
+    private final class Registration implements HierarchyListener {
+        private final IRefreshable refreshable;
+        private final Set<DataDomain> domains;
+        private Pending pending = Pending.NONE;
+
+        Registration(IRefreshable refreshable, Set<DataDomain> domains) {
+            this.refreshable = refreshable;
+            this.domains = domains;
+        }
+
+        boolean isAffected(Set<DataDomain> changed) {
+            for (var domain : changed) {
+                if (domains.contains(domain)) return true;
+            }
+            return false;
+        }
+
+        boolean isVisible() {
+            return !(refreshable instanceof Component component) || component.isShowing();
+        }
+
+        void update(Pending update) {
+            if (update.compareTo(pending) > 0) {
+                pending = update;
+            }
+            if (isVisible()) {
+                runPending();
+            }
+        }
+
+        void runPending() {
+            var update = pending;
+            pending = Pending.NONE;
+            try {
+                // no plugin
+                if (update == Pending.REINIT && refreshable instanceof Refreshable r) {
+                    r.reInit();
+                }
+                // plugin
+                else if (update != Pending.NONE) {
+                    refreshable.refresh();
+                }
+            } catch (Exception e) {
+                HOLogger.instance().log(RefreshManager.class, "Refresh Manager: " + update + " throws error");
+                HOLogger.instance().log(RefreshManager.class, e);
+            }
+        }
+
+        @Override
+        public void hierarchyChanged(HierarchyEvent e) {
+            if ((e.getChangeFlags() & HierarchyEvent.SHOWING_CHANGED) != 0 && pending != Pending.NONE && isVisible()) {
+                runPending();
+            }
+        }
+    }
 
     // ~ Constructors
     // -------------------------------------------------------------------------------
@@ -40,50 +120,90 @@ public class RefreshManager {
     }
 
     /**
-     * Informs all registered objects
+     * Informs all registered objects, that all data may have changed
      */
     public void doReInit() {
-        for (IRefreshable iRefreshable : m_clRefreshable) {
-            try {
-                // no plugin
-                if (iRefreshable instanceof Refreshable refreshable) {
-                    refreshable.reInit();
-                }
-                // plugin
-                else {
-                    iRefreshable.refresh();
-                }
-            } catch (Exception e) {
-                HOLogger.instance().log(getClass(), "Refresh Manager: doReInit() throws error");
-                HOLogger.instance().log(getClass(), e);
-            }
-        }
-        System.gc();
-        Thread.yield();
+        doReInit(DataDomain.values());
+    }
+
+    /**
+     * Informs the registered objects affected by the changed data
+     *
+     * @param changed changed data domains
+     */
+    public void doReInit(DataDomain... changed) {
+        schedule(Pending.REINIT, changed);
     }
 
     /**
      * Informs all registered objects
      */
     public void doRefresh() {
-        for (IRefreshable iRefreshable : m_clRefreshable) {
-            try {
-                iRefreshable.refresh();
-            } catch (Exception e) {
-                HOLogger.instance().log(getClass(), "Refresh Manager: doRefresh() throws error");
-                HOLogger.instance().log(getClass(), e);
+        doRefresh(DataDomain.values());
+    }
+
+    /**
+     * Informs the registered objects affected by the changed data
+     *
+     * @param changed changed data domains
+     */
+    public void doRefresh(DataDomain... changed) {
+        schedule(Pending.REFRESH, changed);
+    }
+
+    private void schedule(Pending update, DataDomain... changed) {
+        if (!SwingUtilities.isEventDispatchThread()) {
+            SwingUtilities.invokeLater(() -> schedule(update, changed));
+            return;
+        }
+        var domains = EnumSet.noneOf(DataDomain.class);
+        domains.addAll(Arrays.asList(changed));
+        // registered objects may register or unregister others during the refresh
+        for (var registration : new ArrayList<>(m_clRefreshable.values())) {
+            if (registration.isAffected(domains) && m_clRefreshable.get(registration.refreshable) == registration) {
+                registration.update(update);
             }
         }
-
-        System.gc();
-        Thread.yield();
     }
 
+    /**
+     * Register an object affected by all data
+     */
     public void registerRefreshable(IRefreshable refreshable) {
-        m_clRefreshable.add(refreshable);
+        registerRefreshable(refreshable, DataDomain.values());
+    }
+
+    /**
+     * Register an object
+     *
+     * @param refreshable object to inform about data changes
+     * @param domains     data domains, which affect the object
+     */
+    public void registerRefreshable(IRefreshable refreshable, DataDomain... domains) {
+        var set = EnumSet.noneOf(DataDomain.class);
+        set.addAll(Arrays.asList(domains));
+        var registration = new Registration(refreshable, set);
+        var previous = m_clRefreshable.put(refreshable, registration);
+        if (refreshable instanceof Component component) {
+            if (previous != null) {
+                component.removeHierarchyListener(previous);
+            }
+            component.addHierarchyListener(registration);
+        }
     }
 
     public void unregisterRefreshable(IRefreshable refreshable) {
-        m_clRefreshable.remove(refreshable);
+        var registration = m_clRefreshable.remove(refreshable);
+        if (registration != null && refreshable instanceof Component component) {
+            component.removeHierarchyListener(registration);
+        }
+    }
+
+    /**
+     * Check if the object has a pending refresh, because it was not showing
+     */
+    boolean isDirty(IRefreshable refreshable) {
+        var registration = m_clRefreshable.get(refreshable);
+        return registration != null && registration.pending != Pending.NONE;
     }
 }
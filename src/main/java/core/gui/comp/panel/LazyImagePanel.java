@@ -2,6 +2,7 @@ package core.gui.comp.panel;
 
 import core.gui.CursorToolkit;
 import core.gui.IRefreshable;
+import core.gui.DataDomain;
 import core.gui.RefreshManager;
 
 import java.awt.event.HierarchyEvent;
@@ -51,6 +52,19 @@ public abstract class LazyImagePanel extends ImagePanel {
 	 *            unregistered if it was already registerd.
 	 */
 	public void registerRefreshable(boolean register) {
+		registerRefreshable(register, DataDomain.values());
+	}
+
+	/**
+	 * Registers/unregisters this panel at the {@link RefreshManager}. The panel
+	 * is only refreshed, if data of the given domains changed.
+	 * 
+	 * @param register
+	 *            see {@link #registerRefreshable(boolean)}
+	 * @param domains
+	 *            data domains shown by the panel
+	 */
+	public void registerRefreshable(boolean register, DataDomain... domains) {
 		if (register) {
 			if (this.refreshable == null) {
 				this.refreshable = new IRefreshable() {
@@ -64,7 +78,7 @@ public abstract class LazyImagePanel extends ImagePanel {
 						}
 					}
 				};
-				RefreshManager.instance().registerRefreshable(this.refreshable);
+				RefreshManager.instance().registerRefreshable(this.refreshable, domains);
 			} else {
 				RefreshManager.instance().unregisterRefreshable(this.refreshable);
 			}
@@ -2,6 +2,7 @@ package core.gui.comp.panel;
 
 import core.gui.CursorToolkit;
 import core.gui.IRefreshable;
+import core.gui.DataDomain;
 import core.gui.RefreshManager;
 
 import java.awt.LayoutManager;
@@ -54,6 +55,19 @@ public abstract class LazyPanel extends JPanel {
 	 *            unregistered if it was already registerd.
 	 */
 	public void registerRefreshable(boolean register) {
+		registerRefreshable(register, DataDomain.values());
+	}
+
+	/**
+	 * Registers/unregisters this panel at the {@link RefreshManager}. The panel
+	 * is only refreshed, if data of the given domains changed.
+	 * 
+	 * @param register
+	 *            see {@link #registerRefreshable(boolean)}
+	 * @param domains
+	 *            data domains shown by the panel
+	 */
+	public void registerRefreshable(boolean register, DataDomain... domains) {
 		if (register) {
 			if (this.refreshable == null) {
 				this.refreshable = new IRefreshable() {
@@ -67,7 +81,7 @@ public abstract class LazyPanel extends JPanel {
 						}
 					}
 				};
-				RefreshManager.instance().registerRefreshable(this.refreshable);
+				RefreshManager.instance().registerRefreshable(this.refreshable, domains);
 			} else {
 				if (this.refreshable != null) {
 					RefreshManager.instance().unregisterRefreshable(this.refreshable);
@@ -41,6 +41,12 @@ public abstract class HOTableModel extends AbstractTableModel {
     /** Data of table */
     protected Object[][] m_clData;
 
+    /** Marks cells of a lazy model, which are not computed yet */
+    private static final Object NOT_COMPUTED = new Object();
+
+    /** If true, cells are computed by {@link #computeValueAt(int, int)} when they are first read */
+    private boolean lazy;
+
     /** Table component */
     protected List<JTable> tables = new ArrayList<>();
 
@@ -139,11 +145,88 @@ public abstract class HOTableModel extends AbstractTableModel {
     @Override
     public Object getValueAt(int row, int column) {
         if (m_clData != null && m_clData.length > row && row > -1 && column > -1 && column < m_clData[row].length) {
-            return m_clData[row][column];
+            var value = m_clData[row][column];
+            if (value == NOT_COMPUTED) {
+                value = computeValueAt(row, column);
+                m_clData[row][column] = value;
+            }
+            return value;
         }
         return null;
     }
 
+    /**
+     * Compute the value of one table cell of a lazy model.
+     * Lazy models have to overwrite this method, it is only called for cells which are read,
+     * e.g. by the renderer of a visible cell or by the row sorter for the sorted column.
+     *
+     * @param row    Row number
+     * @param column Column number of the displayed columns
+     * @return Object
+     */
+    protected Object computeValueAt(int row, int column) {
+        return null;
+    }
+
+    /**
+     * Switch the lazy mode. Lazy models create their data with {@link #initLazyData(int)}
+     * and compute each cell on first access.
+     */
+    protected void setLazy(boolean lazy) {
+        this.lazy = lazy;
+    }
+
+    public boolean isLazy() {
+        return lazy;
+    }
+
+    /**
+     * Create the data of a lazy model. No cell is computed.
+     *
+     * @param rowCount number of rows
+     */
+    protected void initLazyData(int rowCount) {
+        m_clData = new Object[rowCount][getDisplayedColumnCount()];
+        for (var row : m_clData) {
+            Arrays.fill(row, NOT_COMPUTED);
+        }
+        fireTableDataChanged();
+    }
+
+    /**
+     * Recompute all cells of a row of a lazy model, when they are read next time.
+     *
+     * @param row Row number
+     */
+    public void invalidateRow(int row) {
+        if (lazy && m_clData != null && row > -1 && row < m_clData.length) {
+            Arrays.fill(m_clData[row], NOT_COMPUTED);
+            fireTableRowsUpdated(row, row);
+        }
+    }
+
+    /**
+     * Recompute the cells of the given columns of a lazy model, when they are read next time.
+     * No event is fired.
+     *
+     * @param columnIds Ids of the user columns
+     */
+    protected void invalidateColumns(int... columnIds) {
+        if (!lazy || m_clData == null) {
+            return;
+        }
+        for (int id : columnIds) {
+            int column = getPositionInArray(id);
+            if (column > -1) {
+                for (var row : m_clData) {
+                    if (column < row.length) {
+                        row[column] = NOT_COMPUTED;
+                    }
+                }
+            }
+        }
+    }
+
     @Override
     public boolean isCellEditable(int row, int column) {
         if (column > -1 && column < columns.length) {
@@ -133,20 +133,21 @@ public class PlayerAnalysisModel extends HOTableModel {
     	for (int i = 0; i < m_vSpielerMatchCBItem.size(); i++) {
 			final PlayerMatchCBItem spielerCBItem = m_vSpielerMatchCBItem.get(i);
 			final Player aktuellerPlayer = spielerCBItem.getSpieler();
-			Matchdetails matchdetails = spielerCBItem.getMatchdetails();
-
-			matchdetails = checkMatchDetailsPresent(spielerCBItem, matchdetails);
-
-			// If we didn't manage to get details for this match, skip as we can do no more.
-			if (matchdetails == null) {
-				continue;
-			}
+			// Match details are loaded with the items, they are only checked if a match details column is displayed
+			Matchdetails matchdetails = null;
 
 			for (int j = 0; j < tmpDisplayedColumns.length; j++) {
     			if(tmpDisplayedColumns[j] instanceof PlayerColumn)
     				m_clData[i][j] = ((PlayerColumn)tmpDisplayedColumns[j]).getTableEntry(aktuellerPlayer,null);
-    			if(tmpDisplayedColumns[j] instanceof MatchDetailsColumn)
-    				m_clData[i][j] = ((MatchDetailsColumn)tmpDisplayedColumns[j]).getTableEntry(matchdetails);
+    			if(tmpDisplayedColumns[j] instanceof MatchDetailsColumn) {
+					if (matchdetails == null) {
+						matchdetails = checkMatchDetailsPresent(spielerCBItem, spielerCBItem.getMatchdetails());
+					}
+					// If we didn't manage to get details for this match, we can do no more.
+					if (matchdetails != null) {
+						m_clData[i][j] = ((MatchDetailsColumn) tmpDisplayedColumns[j]).getTableEntry(matchdetails);
+					}
+				}
     			if(tmpDisplayedColumns[j] instanceof MatchKurzInfoColumn)
     				m_clData[i][j] = ((MatchKurzInfoColumn)tmpDisplayedColumns[j]).getTableEntry(spielerCBItem);
     			if(tmpDisplayedColumns[j] instanceof PlayerColumn2)
@@ -1,6 +1,7 @@
 // %793684749:de.hattrickorganizer.gui.model%
 package core.gui.model;
 
+import core.db.DBManager;
 import core.model.enums.MatchType;
 import core.model.match.IMatchType;
 import core.model.match.Matchdetails;
@@ -191,10 +192,14 @@ public class PlayerMatchCBItem {
 
     /**
      * Getter for property m_clMatchdetails.
+     * If no match details were set, they are loaded from the database on first access.
      *
      * @return Value of property m_clMatchdetails.
      */
     public final core.model.match.Matchdetails getMatchdetails() {
+        if (m_clMatchdetails == null && m_mtMatchTyp != null) {
+            m_clMatchdetails = DBManager.instance().loadMatchDetails(m_mtMatchTyp.getMatchTypeId(), m_iMatchID);
+        }
         return m_clMatchdetails;
     }
 
@@ -24,16 +24,22 @@ public class PlayerOverviewTableModel extends HOTableModel {
     /** all players */
     private List<Player> players;
 
+    /** Comparison players of the rows, loaded on first access */
+    private Player[] comparisonPlayers;
+    private boolean[] comparisonLoaded;
+
     /**
      * constructor
      */
     public PlayerOverviewTableModel(ColumnModelId id) {
         super(id, "Spieleruebersicht");
+        setLazy(true);
         initColumns();
     }
 
     public PlayerOverviewTableModel(ColumnModelId id, String name) {
         super(id, name);
+        setLazy(true);
         initColumns();
     }
 
@@ -178,6 +184,13 @@ public class PlayerOverviewTableModel extends HOTableModel {
         return -1;
     }
 
+    /**
+     * Recompute the row of a changed player, when it is shown next time.
+     */
+    public void invalidatePlayer(int playerId) {
+        invalidateRow(getPlayerIndex(playerId));
+    }
+
     /**
      * Sets the new list of players.
      */
@@ -233,50 +246,45 @@ public class PlayerOverviewTableModel extends HOTableModel {
     }
 
     /**
-     * create a data[][] from player-Vector
+     * create the lazy data[][] from player-Vector. Cells are computed when they are read.
      */
     @Override
     protected void initData() {
-        if (players == null) {
-            m_clData = new Object[0][0];
-            return;
+        int rowCount = players != null ? players.size() : 0;
+        comparisonPlayers = new Player[rowCount];
+        comparisonLoaded = new boolean[rowCount];
+        initLazyData(rowCount);
+    }
+
+    @Override
+    protected Object computeValueAt(int row, int column) {
+        Player currentPlayer = players.get(row);
+        UserColumn userColumn = getDisplayedColumns()[column];
+        if (userColumn instanceof PlayerColumn playerColumn) {
+            return playerColumn.getTableEntry(currentPlayer, getComparisonPlayer(row));
+        } else if (userColumn instanceof BooleanColumn booleanColumn) {
+            return booleanColumn.getValue(currentPlayer);
         }
+        return null;
+    }
 
-        UserColumn[] tmpDisplayedColumns = getDisplayedColumns();
-        m_clData = new Object[players.size()][tmpDisplayedColumns.length];
-        for (int i = 0; i < players.size(); i++) {
-            Player currentPlayer = players.get(i);
-            Player comparisonPlayer = getPreviousPlayerDevelopmentStage(currentPlayer);
-            for (int j = 0; j < tmpDisplayedColumns.length; j++) {
-                if (tmpDisplayedColumns[j] instanceof PlayerColumn column) {
-                    m_clData[i][j] = column.getTableEntry(currentPlayer,
-                            comparisonPlayer);
-                } else if (tmpDisplayedColumns[j] instanceof BooleanColumn column) {
-                    m_clData[i][j] = column.getValue(currentPlayer);
-                }
-            }
+    private Player getComparisonPlayer(int row) {
+        if (!comparisonLoaded[row]) {
+            comparisonPlayers[row] = getPreviousPlayerDevelopmentStage(players.get(row));
+            comparisonLoaded[row] = true;
         }
-        fireTableDataChanged();
+        return comparisonPlayers[row];
     }
 
+    /**
+     * Recompute the columns depending on the lineup
+     */
     public void reInitData() {
-        if (players == null)
-            return;
-        UserColumn[] tmpDisplayedColumns = getDisplayedColumns();
-        for (int i = 0; i < players.size(); i++) {
-            Player currentPlayer = players.get(i);
-            for (int j = 0; j < tmpDisplayedColumns.length; j++) {
-                int colId = tmpDisplayedColumns[j].getId();
-                if (colId == UserColumnFactory.NAME ||
-                        colId == UserColumnFactory.LINEUP ||
-                        colId == UserColumnFactory.BEST_POSITION ||
-                        colId == UserColumnFactory.SCHUM_RANK_BENCHMARK ||
-                        colId == UserColumnFactory.GROUP) {
-                    m_clData[i][j] = ((PlayerColumn) tmpDisplayedColumns[j]).getTableEntry(currentPlayer, null);
-                } else if (colId == UserColumnFactory.AUTO_LINEUP) {
-                    m_clData[i][j] = ((BooleanColumn) tmpDisplayedColumns[j]).getValue(currentPlayer);
-                }
-            }
-        }
+        invalidateColumns(UserColumnFactory.NAME,
+                UserColumnFactory.LINEUP,
+                UserColumnFactory.BEST_POSITION,
+                UserColumnFactory.SCHUM_RANK_BENCHMARK,
+                UserColumnFactory.GROUP,
+                UserColumnFactory.AUTO_LINEUP);
     }
 }
@@ -103,7 +103,7 @@ final public class UserColumnFactory {
             @Override
             public IHOTableEntry getTableEntry(PlayerMatchCBItem spielerCBItem) {
                 Player player = spielerCBItem.getSpieler();
-                var matchDate = spielerCBItem.getMatchdetails().getMatchDate();
+                var matchDate = spielerCBItem.getMatchdate();
 
                 if (matchDate != null) {
                     String ageString = player.getAgeWithDaysAsString(matchDate);
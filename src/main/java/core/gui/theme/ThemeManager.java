@@ -369,6 +369,19 @@ public final class ThemeManager {
 	}
 
 	public void setTheme(String name) {
+		var themeName = loadLookAndFeel(name);
+		if (themeName != null) {
+			loadUserDefinedColors(themeName);
+		}
+	}
+
+	/**
+	 * Load the look and feel of the theme. The user defined colors are not loaded.
+	 *
+	 * @param name theme name, the default theme is used if the theme can't be loaded
+	 * @return name of the loaded theme, null on error
+	 */
+	public String loadLookAndFeel(String name) {
 		try {
 			boolean success = false;
 
@@ -382,25 +395,40 @@ public final class ThemeManager {
 				success = theme.loadTheme();
 			}
 
-			loadUserDefinedColors(theme.getName());
-
 			initializeMacKeyBindings(success);
-
+			return theme.getName();
 		} catch (Exception e) {
 			HOLogger.instance().log(HOMainFrame.class, e);
+			return null;
 		}
 	}
 
-	private void loadUserDefinedColors(String themeName) {
-		var userDefinedColors = DBManager.instance().loadHOColors(themeName);
-		var theme = getTheme(themeName);
-		for (var color : userDefinedColors) {
-			var defaultColor = theme.getHOColor(color.getHOColorName());
-			color.setDefaultValue(defaultColor);
-			theme.addColor(color);
+	/**
+	 * Add the user defined colors of the database to the theme
+	 *
+	 * @param themeName theme name
+	 */
+	public void loadUserDefinedColors(String themeName) {
+		try {
+			var userDefinedColors = DBManager.instance().loadHOColors(themeName);
+			var theme = getTheme(themeName);
+			for (var color : userDefinedColors) {
+				var defaultColor = theme.getHOColor(color.getHOColorName());
+				color.setDefaultValue(defaultColor);
+				theme.addColor(color);
+			}
+		} catch (Exception e) {
+			HOLogger.instance().log(HOMainFrame.class, e);
 		}
 	}
 
+	/**
+	 * Load the icons of the icon schema, so that they are available when the main frame is built
+	 */
+	public void preloadIcons() {
+		classicSchema.preloadIcons();
+	}
+
 	private void initializeMacKeyBindings(boolean success) {
 		// #177 Standard shortcuts for copy/cut/paste don't work in MacOSX if
 		// LookAndFeel changes
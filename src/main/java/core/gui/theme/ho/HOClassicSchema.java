@@ -215,6 +215,17 @@ public class HOClassicSchema extends Schema implements HOIconName, HOBooleanName
 
 	}
 
+	/**
+	 * Load all icons of the schema into the cache
+	 */
+	public void preloadIcons() {
+		for (var value : cache.values().toArray()) {
+			if (value instanceof String path && (path.endsWith(".png") || path.endsWith(".gif"))) {
+				loadImageIcon(path);
+			}
+		}
+	}
+
 	@Override
 	public ImageIcon loadImageIcon(String path) {
 		ImageIcon image;
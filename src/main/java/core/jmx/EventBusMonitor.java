@@ -0,0 +1,18 @@
+package core.jmx;
+
+import core.context.EventBus;
+import java.util.Map;
+
+public class EventBusMonitor implements EventBusMonitorMBean {
+
+    private final EventBus eventBus;
+
+    public EventBusMonitor(EventBus eventBus) {
+        this.eventBus = eventBus;
+    }
+
+    @Override
+    public Map<String, String> getDispatchStatistics() {
+        return eventBus.getStatistics();
+    }
+}
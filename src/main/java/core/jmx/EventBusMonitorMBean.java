@@ -0,0 +1,10 @@
+package core.jmx;
+
+import java.util.Map;
+
+public interface EventBusMonitorMBean {
+    /**
+     * Dispatch latency of the posted event types, from posting until a listener has handled the event.
+     */
+    Map<String, String> getDispatchStatistics();
+}
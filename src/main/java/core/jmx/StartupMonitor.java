@@ -0,0 +1,23 @@
+package core.jmx;
+
+import core.util.StartupProfiler;
+import java.util.Map;
+
+public class StartupMonitor implements StartupMonitorMBean {
+
+    private final StartupProfiler profiler;
+
+    public StartupMonitor(StartupProfiler profiler) {
+        this.profiler = profiler;
+    }
+
+    @Override
+    public Map<String, Long> getPhaseMillis() {
+        return profiler.getPhaseMillis();
+    }
+
+    @Override
+    public long getTotalMillis() {
+        return profiler.getTotalMillis();
+    }
+}
@@ -0,0 +1,15 @@
+package core.jmx;
+
+import java.util.Map;
+
+public interface StartupMonitorMBean {
+    /**
+     * Durations of the boot phases in milliseconds, in order of their end.
+     */
+    Map<String, Long> getPhaseMillis();
+
+    /**
+     * Duration of the startup in milliseconds, -1 if the startup is not finished.
+     */
+    long getTotalMillis();
+}
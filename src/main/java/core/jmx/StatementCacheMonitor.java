@@ -1,16 +1,24 @@
 package core.jmx;
 
+import core.db.CachedStatementStats;
 import core.db.DBManager;
+import core.db.IndexAdvisor;
 import core.db.StatementCache;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.stream.Collectors;
 
 public class StatementCacheMonitor implements StatementCacheMonitorMBean {
 
+    private static final int HOT_STATEMENTS_COUNT = 20;
+
+    private StatementCache getStatementCache() {
+        return DBManager.instance().getConnectionManager().getStatementCache();
+    }
+
     @Override
     public Map<String, String> getStatistics() {
-        var connectionManager = DBManager.instance().getConnectionManager();
-        return connectionManager.getStatementCache().getStatementStats().entrySet().stream()
+        return getStatementCache().getStatementStats().entrySet().stream()
                 .collect(Collectors.toMap(
                         Map.Entry::getKey,
                         entry -> entry.getValue().toString()));
@@ -18,13 +26,74 @@ public class StatementCacheMonitor implements StatementCacheMonitorMBean {
 
     @Override
     public int getCachedStatementCount() {
-        var connectionManager = DBManager.instance().getConnectionManager();
-        return connectionManager.getStatementCache().getStatementStats().size();
+        return getStatementCache().size();
     }
 
     @Override
     public void setCacheEnabled(boolean enabled) {
-        var connectionManager = DBManager.instance().getConnectionManager();
-        connectionManager.getStatementCache().setCachedEnabled(enabled);
+        getStatementCache().setCachedEnabled(enabled);
+    }
+
+    @Override
+    public int getMaxCacheSize() {
+        return getStatementCache().getMaxSize();
+    }
+
+    @Override
+    public void setMaxCacheSize(int maxSize) {
+        getStatementCache().setMaxSize(maxSize);
+    }
+
+    @Override
+    public long getHitCount() {
+        return getStatementCache().getStatementStats().values().stream().mapToLong(CachedStatementStats::hits).sum();
+    }
+
+    @Override
+    public long getMissCount() {
+        return getStatementCache().getStatementStats().values().stream().mapToLong(CachedStatementStats::misses).sum();
+    }
+
+    @Override
+    public long getEvictionCount() {
+        return getStatementCache().getEvictionCount();
+    }
+
+    @Override
+    public double getHitRatio() {
+        var hits = getHitCount();
+        var total = hits + getMissCount();
+        return total > 0 ? (double) hits / total : 0;
+    }
+
+    @Override
+    public Map<String, String> getHotStatements() {
+        var ret = new LinkedHashMap<String, String>();
+        for (var entry : getStatementCache().getHotStatements(HOT_STATEMENTS_COUNT)) {
+            ret.put(entry.getKey(), entry.getValue().toString());
+        }
+        return ret;
+    }
+
+    @Override
+    public Map<String, String> getQueryShapes() {
+        var ret = new LinkedHashMap<String, String>();
+        for (var shape : IndexAdvisor.getQueryShapes(getStatementCache().getStatementStats())) {
+            if (ret.size() == HOT_STATEMENTS_COUNT) {
+                break;
+            }
+            ret.put(shape.shape(), shape.toString());
+        }
+        return ret;
+    }
+
+    @Override
+    public Map<String, String> getIndexSuggestions() {
+        var ret = new LinkedHashMap<String, String>();
+        for (var suggestion : new IndexAdvisor(DBManager.instance().getConnectionManager())
+                .getSuggestions(getStatementCache().getStatementStats())) {
+            ret.put(suggestion.createIndexStatement(), suggestion.query().shape() + " " + suggestion.query());
+        }
+        return ret;
     }
 }
@@ -8,4 +8,34 @@ public interface StatementCacheMonitorMBean {
     int getCachedStatementCount();
 
     void setCacheEnabled(boolean enabled);
+
+    int getMaxCacheSize();
+
+    void setMaxCacheSize(int maxSize);
+
+    long getHitCount();
+
+    long getMissCount();
+
+    long getEvictionCount();
+
+    double getHitRatio();
+
+    /**
+     * Statistics of the statements with the highest total execution time, in
+     * descending order.
+     */
+    Map<String, String> getHotStatements();
+
+    /**
+     * Execution statistics of the statements grouped by shape (IN lists of any
+     * length counted as one statement), in descending order of total execution time.
+     */
+    Map<String, String> getQueryShapes();
+
+    /**
+     * Indexes suggested for query shapes reading tables by a full scan, the
+     * CREATE INDEX statements mapped to the query shape.
+     */
+    Map<String, String> getIndexSuggestions();
 }
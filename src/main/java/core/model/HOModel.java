@@ -10,6 +10,7 @@ import core.model.misc.Basics;
 import core.model.misc.Economy;
 import core.model.misc.Verein;
 import core.model.player.Player;
+import core.model.player.SquadSnapshots;
 import core.model.player.TrainerType;
 import core.rating.RatingPredictionManager;
 import core.rating.RatingPredictionModel;
@@ -566,9 +567,7 @@ public class HOModel {
         // push recent training to historical training table
         TrainingManager.instance().updateHistoricalTrainings();
         var trainingWeeks = getTrainingWeeksSincePreviousDownload();
-        for (var player : this.getCurrentPlayers()) {
-            player.calcSubSkills(this.getPreviousID(), trainingWeeks);
-        }
+        calcSubskillsOfCurrentPlayers(trainingWeeks);
         // store new values of current players
         DBManager.instance().saveSpieler(getCurrentPlayers());
     }
@@ -593,9 +592,7 @@ public class HOModel {
      */
     public final void calcSubskills(HODateTime from, HODateTime to) {
         var trainingWeeks = TrainingManager.instance().getHistoricalTrainingsBetweenDates(from, to);
-        for (var player : this.getCurrentPlayers()) {
-            player.calcSubSkills(this.getPreviousID(), trainingWeeks);
-        }
+        calcSubskillsOfCurrentPlayers(trainingWeeks);
         // store new values of current players
         DBManager.instance().saveSpieler(getCurrentPlayers());
 
@@ -603,6 +600,16 @@ public class HOModel {
         TrainingManager.instance().updateHistoricalTrainings();
     }
 
+    /**
+     * The previous squad is loaded once for all current players
+     */
+    private void calcSubskillsOfCurrentPlayers(List<TrainingPerWeek> trainingWeeks) {
+        var previousSquad = new SquadSnapshots().getSquad(this.getPreviousID());
+        for (var player : this.getCurrentPlayers()) {
+            player.calcSubSkills(previousSquad.get(player.getPlayerId()), trainingWeeks);
+        }
+    }
+
     /**
      * Remove a Player
      */
@@ -626,6 +633,7 @@ public class HOModel {
         DBManager.instance().saveLiga(getHrfId(), getLeague());
         DBManager.instance().saveXtraDaten(getHrfId(), getXtraDaten());
         DBManager.instance().saveSpieler(getCurrentPlayers());
+        DBManager.instance().updateSkillChanges(getCurrentPlayers());
         DBManager.instance().storeYouthPlayers(getHrfId(), getCurrentYouthPlayers());
         DBManager.instance().saveStaff(getHrfId(), getStaff());
     }
@@ -1,9 +1,15 @@
 package core.model;
 
+import core.gui.DataDomain;
 import core.db.DBManager;
 import core.file.hrf.HRF;
 import core.gui.HOMainFrame;
 import core.gui.RefreshManager;
+import core.model.player.Player;
+import core.model.player.SquadSnapshots;
+import core.training.SkillDrops;
+import core.training.TrainingManager;
+import core.training.TrainingPerWeek;
 import core.util.HODateTime;
 import core.util.HOLogger;
 
@@ -11,9 +17,8 @@ import java.beans.PropertyChangeListener;
 import java.beans.PropertyChangeSupport;
 import java.sql.Timestamp;
 import java.time.temporal.ChronoUnit;
-import java.util.Date;
-import java.util.Optional;
-import java.util.ResourceBundle;
+import java.util.*;
+import java.util.stream.Collectors;
 
 public class HOModelManager {
 
@@ -140,6 +145,13 @@ public class HOModelManager {
 	/**
 	 * Recalculate subskills since a certain HRF date. If the HRF date is null,
 	 * the whole training history is recalculated.
+	 * <p>
+	 * The recalculation runs in three phases. The read phase loads the players and the training weeks
+	 * of all HRFs, including the match details used by the training calculation. The compute phase
+	 * calculates the HRFs one after another, the players of one HRF are independent and are calculated
+	 * in parallel. The calculated squad is kept as {@link SquadSnapshots snapshot} for the calculation of
+	 * the next HRF, so the previous players are not reloaded from the database. The write phase stores the players
+	 * with changed subskills in one batch.
 	 */
 	public void recalcSubskills(boolean showWait, Timestamp hrfDate) {
 		HOLogger.instance().log(getClass(), "Start full subskill calculation. " + new Date());
@@ -148,44 +160,33 @@ public class HOModelManager {
 			hrfDate = new Timestamp(0);
 		}
 
-		// Make sure the training week list is up to date.
-		// TrainingManager.instance().refreshTrainingWeeks();
 		HOMainFrame.instance().resetInformation();
+		if (showWait) {
+			HOMainFrame.instance().setWaitInformation();
+		}
 
-		var hrfListe = DBManager.instance().getHRFsSince(hrfDate);
-		long s1, s2, lSum = 0, mSum = 0;
-		HRF previousHRF = null;
-		for (var hrf : hrfListe) {
-			try {
-				if (showWait) {
-					HOMainFrame.instance().setWaitInformation();
-				}
-				s1 = System.currentTimeMillis();
-				HOModel model = new HOModel(hrf, previousHRF);
-				HODateTime trainingDateOfPreviousHRF;
-				var previousHRFId = model.getPreviousID();
-				if (previousHRFId != -1) {
-					trainingDateOfPreviousHRF = DBManager.instance().getXtraDaten(previousHRFId).getNextTrainingDate();
-				} else {
-					trainingDateOfPreviousHRF = HOModelManager.instance().getModel().getBasics().getActivationDate();
-				}
-				var trainingDateHRF = DBManager.instance().getXtraDaten(hrf.getHrfId()).getNextTrainingDate();
+		// push recent training to historical training table
+		TrainingManager.instance().updateHistoricalTrainings();
 
-				lSum += (System.currentTimeMillis() - s1);
-				s2 = System.currentTimeMillis();
-				model.calcSubskills(trainingDateOfPreviousHRF.minus(1, ChronoUnit.HOURS),
-						trainingDateHRF.minus(1, ChronoUnit.HOURS));
-				previousHRF = hrf;
-				mSum += (System.currentTimeMillis() - s2);
-			} catch (Exception e) {
-				HOLogger.instance().log(getClass(), "recalcSubskills : " + e);
-			}
+		var weeks = readSubskillRecalculation(hrfDate);
+		long readMillis = System.currentTimeMillis() - start;
+
+		if (showWait) {
+			HOMainFrame.instance().setWaitInformation();
 		}
 
+		long s = System.currentTimeMillis();
+		var changedPlayers = computeSubskillRecalculation(weeks);
+		long computeMillis = System.currentTimeMillis() - s;
+
 		if (showWait) {
 			HOMainFrame.instance().setWaitInformation();
 		}
 
+		s = System.currentTimeMillis();
+		DBManager.instance().saveSpieler(changedPlayers);
+		long writeMillis = System.currentTimeMillis() - s;
+
 		// Reload, because the subskills have changed
 		loadLatestHoModel();
 
@@ -193,19 +194,107 @@ public class HOModelManager {
 			HOMainFrame.instance().setWaitInformation();
 		}
 
-		RefreshManager.instance().doReInit();
+		RefreshManager.instance().doReInit(DataDomain.PLAYERS, DataDomain.TRAINING);
 		HOLogger.instance().log(
 				getClass(),
 				"Subskill calculation done. " + new Date() + " - took "
 						+ (System.currentTimeMillis() - start) + "ms ("
-						+ (System.currentTimeMillis() - start) / 1000L + " sec), lSum=" + lSum
-						+ ", mSum=" + mSum);
+						+ (System.currentTimeMillis() - start) / 1000L + " sec), HRFs=" + weeks.size()
+						+ ", read=" + readMillis + ", compute=" + computeMillis
+						+ ", write=" + writeMillis + " (" + changedPlayers.size() + " players)");
 
 		if (showWait) {
 			HOMainFrame.instance().setInformationCompleted();
 		}
 	}
 
+	/**
+	 * Players and training weeks of one HRF of the subskill recalculation
+	 *
+	 * @param previousHrfId id of the previous HRF, -1 if there is none
+	 * @param hrfId         id of the HRF
+	 * @param players       players of the HRF
+	 * @param trainingWeeks training weeks between the previous and this HRF
+	 */
+	private record RecalculationWeek(int previousHrfId, int hrfId, List<Player> players,
+									 List<TrainingPerWeek> trainingWeeks) {
+	}
+
+	/**
+	 * Read phase of the subskill recalculation
+	 *
+	 * @param hrfDate first HRF date
+	 * @return HRFs in download order
+	 */
+	private List<RecalculationWeek> readSubskillRecalculation(Timestamp hrfDate) {
+		var ret = new ArrayList<RecalculationWeek>();
+		var teamId = getModel().getBasics().getTeamId();
+		var nextTrainingDates = new HashMap<Integer, HODateTime>();
+		SkillDrops.instance();
+		HRF previousHRF = null;
+		for (var hrf : DBManager.instance().getHRFsSince(hrfDate)) {
+			try {
+				HOModel model = new HOModel(hrf, previousHRF);
+				HODateTime trainingDateOfPreviousHRF;
+				var previousHRFId = model.getPreviousID();
+				if (previousHRFId != -1) {
+					trainingDateOfPreviousHRF = nextTrainingDates.computeIfAbsent(previousHRFId,
+							id -> DBManager.instance().getXtraDaten(id).getNextTrainingDate());
+				} else {
+					trainingDateOfPreviousHRF = getModel().getBasics().getActivationDate();
+				}
+				var trainingDateHRF = DBManager.instance().getXtraDaten(hrf.getHrfId()).getNextTrainingDate();
+				nextTrainingDates.put(hrf.getHrfId(), trainingDateHRF);
+
+				var trainingWeeks = TrainingManager.instance().getHistoricalTrainingsBetweenDates(
+						trainingDateOfPreviousHRF.minus(1, ChronoUnit.HOURS), trainingDateHRF.minus(1, ChronoUnit.HOURS));
+				var players = DBManager.instance().getSpieler(hrf.getHrfId());
+				var nationalTeamIds = players.stream()
+						.map(Player::getNationalTeamId)
+						.filter(id -> id != null && id != 0 && id != teamId)
+						.collect(Collectors.toSet());
+				for (var trainingWeek : trainingWeeks) {
+					trainingWeek.loadMatchDetails(teamId, nationalTeamIds);
+				}
+				ret.add(new RecalculationWeek(previousHRFId, hrf.getHrfId(), players, trainingWeeks));
+				previousHRF = hrf;
+			} catch (Exception e) {
+				HOLogger.instance().log(getClass(), "recalcSubskills : " + e);
+			}
+		}
+		return ret;
+	}
+
+	/**
+	 * Compute phase of the subskill recalculation
+	 *
+	 * @param weeks HRFs in download order
+	 * @return players with changed subskills
+	 */
+	private List<Player> computeSubskillRecalculation(List<RecalculationWeek> weeks) {
+		var ret = new ArrayList<Player>();
+		var snapshots = new SquadSnapshots();
+		for (var week : weeks) {
+			// first HRF or previous HRF could not be read: the previous squad is loaded from the database
+			var before = snapshots.getSquad(week.previousHrfId());
+			try {
+				var changed = week.players().parallelStream()
+						.filter(player -> {
+							var subskills = player.getCalculatedSubskills();
+							player.calcSubSkills(before.get(player.getPlayerId()), week.trainingWeeks());
+							return !Arrays.equals(subskills, player.getCalculatedSubskills());
+						})
+						.toList();
+				ret.addAll(changed);
+			} catch (Exception e) {
+				HOLogger.instance().log(getClass(), "recalcSubskills : " + e);
+			}
+			snapshots.remove(week.previousHrfId());
+			snapshots.put(week.hrfId(), week.players());
+		}
+		return ret;
+	}
+
 	/**
 	 * internal method to load model from database
 	 * (lineup ratings are only correct if id is the latest one)
@@ -72,6 +72,7 @@ public final class UserParameter extends Configuration {
     public boolean aufstellungsAssistentPanel_cbfilter;
     public boolean aufstellungsAssistentPanel_form = true;
     public boolean aufstellungsAssistentPanel_averagerating = true;
+    public boolean aufstellungsAssistentPanel_optimize;
     public boolean aufstellungsAssistentPanel_gesperrt;
     public boolean aufstellungsAssistentPanel_idealPosition;
     public boolean aufstellungsAssistentPanel_notLast;
@@ -103,6 +104,22 @@ public final class UserParameter extends Configuration {
     public boolean downloadTournamentGroupMatches = true;
     public boolean downloadTournamentPlayoffMatches = true;
     public boolean downloadDivisionBattleMatches = true;
+    /**
+     * Number of concurrent CHPP requests of bulk downloads, e.g. of match data
+     */
+    public int chppDownloadThreads = 4;
+    /**
+     * Maximum rate of CHPP requests of bulk downloads
+     */
+    public float chppRequestsPerSecond = 5;
+    /**
+     * HSQLDB storage profile of the database files (DEFAULT or AUTO), see core.db.StorageProfile
+     */
+    public String dbStorageProfile = "AUTO";
+    /**
+     * Keep small lookup tables, e.g. configuration and colors, in memory
+     */
+    public boolean dbMemoryLookupTables = false;
 
     //Release Channel options
     public String ReleaseChannel = null;
@@ -230,6 +247,7 @@ public final class UserParameter extends Configuration {
     //Number of decimals
     public int nbDecimals = 2;
     public int aufstellungsAssistentPanel_reihenfolge = LineupAssistant.AW_MF_ST;
+    public int aufstellungsAssistentPanel_objective = LineupAssistant.OBJECTIVE_RATING;
     public int lineupPanel_verticalSplitLocation = 600;
     public int lineupPanel_horizontalSplitLocation = GUIUtils.getLocationFromRight(400, 800);
 
@@ -431,6 +449,7 @@ public final class UserParameter extends Configuration {
         map.put("aufstellungsAssistentPanel_cbfilter", String.valueOf(aufstellungsAssistentPanel_cbfilter));
         map.put("aufstellungsAssistentPanel_form", String.valueOf(aufstellungsAssistentPanel_form));
         map.put("aufstellungsAssistentPanel_averagerating", String.valueOf(aufstellungsAssistentPanel_averagerating));
+        map.put("aufstellungsAssistentPanel_optimize", String.valueOf(aufstellungsAssistentPanel_optimize));
         map.put("aufstellungsAssistentPanel_gesperrt", String.valueOf(aufstellungsAssistentPanel_gesperrt));
         map.put("aufstellungsAssistentPanel_idealPosition", String.valueOf(aufstellungsAssistentPanel_idealPosition));
         map.put("lineupAssistentPanel_include_group", String.valueOf(lineupAssistentPanel_include_group));
@@ -456,6 +475,10 @@ public final class UserParameter extends Configuration {
         map.put("downloadTournamentGroupMatches", String.valueOf(downloadTournamentGroupMatches));
         map.put("downloadTournamentPlayoffMatches", String.valueOf(downloadTournamentPlayoffMatches));
         map.put("downloadDivisionBattleMatches", String.valueOf(downloadDivisionBattleMatches));
+        map.put("chppDownloadThreads", String.valueOf(chppDownloadThreads));
+        map.put("chppRequestsPerSecond", String.valueOf(chppRequestsPerSecond));
+        map.put("dbStorageProfile", dbStorageProfile);
+        map.put("dbMemoryLookupTables", String.valueOf(dbMemoryLookupTables));
         map.put("showHRFSaveDialog", String.valueOf(showHRFSaveDialog));
         map.put("spieleranalyseVertikal", String.valueOf(spieleranalyseVertikal));
         map.put("statistikAlleBeschriftung", String.valueOf(statistikAlleBeschriftung));
@@ -561,6 +584,7 @@ public final class UserParameter extends Configuration {
         map.put("TimeZoneDifference", String.valueOf(TimeZoneDifference));
         map.put("nbDecimals", String.valueOf(nbDecimals));
         map.put("aufstellungsAssistentPanel_reihenfolge", String.valueOf(aufstellungsAssistentPanel_reihenfolge));
+        map.put("aufstellungsAssistentPanel_objective", String.valueOf(aufstellungsAssistentPanel_objective));
         map.put("lineupPanel_horizontalSplitLocation", String.valueOf(lineupPanel_horizontalSplitLocation));
         map.put("lineupPanel_verticalSplitLocation", String.valueOf(lineupPanel_verticalSplitLocation));
         map.put("hoMainFrame_PositionX", String.valueOf(hoMainFrame_PositionX));
@@ -675,6 +699,7 @@ public final class UserParameter extends Configuration {
         aufstellungsAssistentPanel_cbfilter = getBooleanValue(values, "aufstellungsAssistentPanel_cbfilter");
         aufstellungsAssistentPanel_form = getBooleanValue(values, "aufstellungsAssistentPanel_form");
         aufstellungsAssistentPanel_averagerating = getBooleanValue(values, "aufstellungsAssistentPanel_averagerating");
+        aufstellungsAssistentPanel_optimize = getBooleanValue(values, "aufstellungsAssistentPanel_optimize");
         aufstellungsAssistentPanel_gesperrt = getBooleanValue(values, "aufstellungsAssistentPanel_gesperrt");
         aufstellungsAssistentPanel_idealPosition = getBooleanValue(values, "aufstellungsAssistentPanel_idealPosition");
         lineupAssistentPanel_include_group = getBooleanValue(values, "lineupAssistentPanel_include_group");
@@ -689,6 +714,18 @@ public final class UserParameter extends Configuration {
         downloadTournamentGroupMatches = getBooleanValue(values, "downloadTournamentGroupMatches");
         downloadTournamentPlayoffMatches = getBooleanValue(values, "downloadTournamentPlayoffMatches");
         downloadDivisionBattleMatches = getBooleanValue(values, "downloadDivisionBattleMatches");
+        var threads = getIntValue(values, "chppDownloadThreads");
+        if (threads > 0) {
+            chppDownloadThreads = threads;
+        }
+        var requestsPerSecond = getFloatValue(values, "chppRequestsPerSecond");
+        if (requestsPerSecond > 0) {
+            chppRequestsPerSecond = requestsPerSecond;
+        }
+        if (values.containsKey("dbStorageProfile")) {
+            dbStorageProfile = getStringValue(values, "dbStorageProfile");
+        }
+        dbMemoryLookupTables = getBooleanValue(values, "dbMemoryLookupTables");
         showHRFSaveDialog = getBooleanValue(values, "showHRFSaveDialog");
         spieleranalyseVertikal = getBooleanValue(values, "spieleranalyseVertikal");
         statistikAlleBeschriftung = getBooleanValue(values, "statistikAlleBeschriftung");
@@ -810,6 +847,7 @@ public final class UserParameter extends Configuration {
         TimeZoneDifference = getIntValue(values, "TimeZoneDifference");
         nbDecimals = getIntValue(values, "nbDecimals");
         aufstellungsAssistentPanel_reihenfolge = getIntValue(values, "aufstellungsAssistentPanel_reihenfolge");
+        aufstellungsAssistentPanel_objective = getIntValue(values, "aufstellungsAssistentPanel_objective");
         lineupPanel_horizontalSplitLocation = getIntValue(values, "lineupPanel_horizontalSplitLocation");
         lineupPanel_verticalSplitLocation = getIntValue(values, "lineupPanel_verticalSplitLocation");
         hoMainFrame_PositionX = getIntValue(values, "hoMainFrame_PositionX");
@@ -296,6 +296,17 @@ public class MatchLineupTeam extends AbstractTable.Storable {
 		return matchType;
 	}
 
+	/**
+	 * Load everything the training minutes depend on: match type, match details with highlights
+	 * and the minutes of the players in the sectors.
+	 * Afterward {@link #getTrainingMinutesPlayedInSectors} does not access the database and may be
+	 * called by concurrent threads.
+	 */
+	public void initTrainingMinutes() {
+		getMatchType();
+		initMinutesOfPlayersInSectors();
+	}
+
 	public int getTrainingMinutesPlayedInSectors(int playerId, List<MatchRoleID.Sector> acceptedSectors, boolean isWalkoverMatchWin) {
 		initMinutesOfPlayersInSectors();
 		if (acceptedSectors != null && acceptedSectors.isEmpty()) return 0; // No sectors are accepted
@@ -557,7 +568,7 @@ public class MatchLineupTeam extends AbstractTable.Storable {
 	 * Setting lineup or substitutions will initialize last match appearances
 	 */
 	private HashMap<Integer, MatchAppearance> lastMatchAppearances;
-	private void resetMinutesOfPlayersInSectors() {
+	private synchronized void resetMinutesOfPlayersInSectors() {
 		lastMatchAppearances = null;
 	}
 
@@ -578,7 +589,11 @@ public class MatchLineupTeam extends AbstractTable.Storable {
 		}
 	}
 
-	private void initMinutesOfPlayersInSectors() {
+	/**
+	 * The maps are filled under the lock, so concurrent readers of the training minutes never see
+	 * them partially filled.
+	 */
+	private synchronized void initMinutesOfPlayersInSectors() {
 		if (this.lineup == null) return;    // init in progress
 		if (lastMatchAppearances != null) return; /// already done
 
@@ -1804,8 +1804,7 @@ public class Player extends AbstractTable.Storable {
                     // TODO check if national matches are stored in database
                     var nationalMatches = train.getNTmatches();
                     for (var match : nationalMatches) {
-                        MatchLineupTeam mlt = DBManager.instance().loadMatchLineupTeam(match.getMatchType().getId(),
-                                match.getMatchID(), this.getNationalTeamId());
+                        MatchLineupTeam mlt = train.getNTmatchLineupTeam(match, id);
                         var minutes = mlt.getTrainingMinutesPlayedInSectors(playerID, null, false);
                         if (minutes > 0) {
                             trainingPerPlayer.addExperience(match.getExperienceIncrease(min(90, minutes)));
@@ -2056,19 +2055,22 @@ public class Player extends AbstractTable.Storable {
     }
 
     /**
-     * Calculates skill status of the player
+     * Calculates skill status of the player.
+     * The database is not accessed if the match details of the training weeks are loaded
+     * (see {@link TrainingPerWeek#loadMatchDetails}).
      *
-     * @param previousID    Id of the previous download. Previous player status is
-     *                      loaded by this id.
+     * @param playerBefore  Player status of the previous download, null if the player was not in the previous download
      * @param trainingWeeks List of training week information
      */
-    public void calcSubSkills(int previousID, List<TrainingPerWeek> trainingWeeks) {
-
-        var playerBefore = DBManager.instance().getSpieler(previousID).stream()
-                .filter(i -> i.getPlayerId() == this.getPlayerId()).findFirst().orElse(null);
+    public void calcSubSkills(Player playerBefore, List<TrainingPerWeek> trainingWeeks) {
         if (playerBefore == null) {
             playerBefore = this.copyPlayer();
         }
+        // the weekly training does not depend on the skill
+        var weeklyTrainings = new ArrayList<TrainingPerPlayer>(trainingWeeks.size());
+        for (var training : trainingWeeks) {
+            weeklyTrainings.add(calculateWeeklyTraining(training));
+        }
         // since we don't want to work with temp player objects we calculate skill by
         // skill
         // whereas experience is calculated within the first skill
@@ -2081,9 +2083,9 @@ public class Player extends AbstractTable.Storable {
             var valueAfterTraining = this.getValue4Skill(skill);
 
             if (!trainingWeeks.isEmpty()) {
-                for (var training : trainingWeeks) {
-
-                    var trainingPerPlayer = calculateWeeklyTraining(training);
+                for (int i = 0; i < trainingWeeks.size(); i++) {
+                    var training = trainingWeeks.get(i);
+                    var trainingPerPlayer = weeklyTrainings.get(i);
                     if (trainingPerPlayer != null) {
                         if (!this.hasTrainingBlock()) {// player training is not blocked (blocking is no longer
                                                        // possible)
@@ -2139,6 +2141,21 @@ public class Player extends AbstractTable.Storable {
         adjustFormSub();
     }
 
+    /**
+     * Get the sub values calculated by {@link #calcSubSkills}
+     *
+     * @return subskills of the training skills, experience and form
+     */
+    public double[] getCalculatedSubskills() {
+        var ret = new double[trainingSkills.length + 2];
+        for (int i = 0; i < trainingSkills.length; i++) {
+            ret[i] = getSub4Skill(trainingSkills[i]);
+        }
+        ret[trainingSkills.length] = getSubExperience();
+        ret[trainingSkills.length + 1] = getSub4Skill(FORM);
+        return ret;
+    }
+
     /**
      * Schum rank is a player training assessment, created by the hattrick team
      * manager Schum, Russia
@@ -2411,25 +2428,7 @@ public class Player extends AbstractTable.Storable {
 
     List<SkillChange> getSkillChanges() {
         if (skillChanges == null) {
-            skillChanges = new ArrayList<>();
-            Player previousPlayer = null;
-            for (var p : DBManager.instance().loadPlayerHistory(this.getPlayerId())) {
-                if (previousPlayer != null) {
-                    for (var skillType : values()) {
-                        var newValue = p.getValue4Skill(skillType);
-                        var change = newValue - previousPlayer.getValue4Skill(skillType);
-                        if (change != 0) {
-                            var skillChange = new SkillChange();
-                            skillChange.setChange(change);
-                            skillChange.setDate(p.getHrfDate());
-                            skillChange.setType(skillType);
-                            skillChange.setValue(newValue);
-                            skillChanges.add(skillChange);
-                        }
-                    }
-                }
-                previousPlayer = p;
-            }
+            skillChanges = DBManager.instance().loadSkillChanges(this.getPlayerId());
         }
         return skillChanges;
     }
@@ -1,12 +1,26 @@
 package core.model.player;
 
 import core.constants.player.PlayerSkill;
+import core.db.AbstractTable;
 import core.util.HODateTime;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Skill change
  */
-public class SkillChange {
+public class SkillChange extends AbstractTable.Storable {
+
+    /**
+     * Player id
+     */
+    private int playerId;
+
+    /**
+     * Id of the HRF, which contains the changed skill
+     */
+    private int hrfId;
 
     /**
      * Date when the skill change was downloaded
@@ -28,6 +42,50 @@ public class SkillChange {
      */
     private int change;
 
+    /**
+     * Compare two states of a player
+     *
+     * @param previous previous state of the player, may be null
+     * @param player   next state of the player
+     * @return skill changes of all skills, empty if there is no previous state
+     */
+    public static List<SkillChange> compare(Player previous, Player player) {
+        var ret = new ArrayList<SkillChange>();
+        if (previous != null) {
+            for (var skillType : PlayerSkill.values()) {
+                var newValue = player.getValue4Skill(skillType);
+                var change = newValue - previous.getValue4Skill(skillType);
+                if (change != 0) {
+                    var skillChange = new SkillChange();
+                    skillChange.setPlayerId(player.getPlayerId());
+                    skillChange.setHrfId(player.getHrfId());
+                    skillChange.setChange(change);
+                    skillChange.setDate(player.getHrfDate());
+                    skillChange.setType(skillType);
+                    skillChange.setValue(newValue);
+                    ret.add(skillChange);
+                }
+            }
+        }
+        return ret;
+    }
+
+    public int getPlayerId() {
+        return playerId;
+    }
+
+    public void setPlayerId(int playerId) {
+        this.playerId = playerId;
+    }
+
+    public int getHrfId() {
+        return hrfId;
+    }
+
+    public void setHrfId(int hrfId) {
+        this.hrfId = hrfId;
+    }
+
     public void setDate(HODateTime date) {
         this.date = date;
     }
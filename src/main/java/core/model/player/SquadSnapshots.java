@@ -0,0 +1,74 @@
+package core.model.player;
+
+import core.db.DBManager;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+/**
+ * Player status of HRF downloads, indexed by HRF id and player id.
+ * <p>
+ * Each squad is loaded from the database at most once. Snapshots live for one calculation session,
+ * like a subskill recalculation, and do not see players stored during the session.
+ * The snapshots are not thread safe, the returned squads may be read concurrently.
+ */
+public class SquadSnapshots {
+
+    private final IntFunction<? extends Collection<Player>> loader;
+    private final Map<Integer, Map<Integer, Player>> squads = new HashMap<>();
+
+    public SquadSnapshots() {
+        this(hrfId -> DBManager.instance().getSpieler(hrfId));
+    }
+
+    /**
+     * @param loader loads the players of an HRF id
+     */
+    public SquadSnapshots(IntFunction<? extends Collection<Player>> loader) {
+        this.loader = loader;
+    }
+
+    /**
+     * Get the squad of an HRF. The squad is loaded on first access.
+     *
+     * @param hrfId HRF id
+     * @return unmodifiable map of player id to player
+     */
+    public Map<Integer, Player> getSquad(int hrfId) {
+        return squads.computeIfAbsent(hrfId, id -> index(loader.apply(id)));
+    }
+
+    /**
+     * Get the player of an HRF
+     *
+     * @return player, null if the player is not in the squad of the HRF
+     */
+    public Player getPlayer(int hrfId, int playerId) {
+        return getSquad(hrfId).get(playerId);
+    }
+
+    /**
+     * Use the players as squad of an HRF, e.g. players calculated during the session
+     */
+    public void put(int hrfId, Collection<Player> players) {
+        squads.put(hrfId, index(players));
+    }
+
+    /**
+     * Release the squad of an HRF, which is not needed anymore
+     */
+    public void remove(int hrfId) {
+        squads.remove(hrfId);
+    }
+
+    private static Map<Integer, Player> index(Collection<Player> players) {
+        var ret = new HashMap<Integer, Player>();
+        for (var player : players) {
+            ret.putIfAbsent(player.getPlayerId(), player);
+        }
+        return Collections.unmodifiableMap(ret);
+    }
+}
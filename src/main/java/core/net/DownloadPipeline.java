@@ -0,0 +1,299 @@
+package core.net;
+
+import core.util.HOLogger;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+/**
+ * Downloads the files of several items concurrently and hands them over to the calling thread.
+ * <p>
+ * A bounded number of worker threads fetch the files. The requests of all workers together are
+ * limited to a request rate, failed requests are retried with an exponential backoff.
+ * The downloads run ahead of the commits by a bounded number of items, so the files waiting for
+ * their commit do not fill the memory.
+ * The calling thread commits the items in their original order and in batches, so the committer
+ * may use the database, which must not be accessed concurrently. Batches with missing files are
+ * committed item by item without the batch runner, because the committer may have to request the
+ * missing files again.
+ *
+ * @param <T> item type
+ */
+public class DownloadPipeline<T> {
+
+    /**
+     * Fetches the content of an url
+     */
+    public interface Fetcher {
+        /**
+         * @param url file url
+         * @return file content, null if the file is not available
+         * @throws IOException if the request failed and should be retried
+         */
+        String fetch(String url) throws IOException;
+    }
+
+    /**
+     * Runs the commits of a batch, e.g. in one database transaction
+     */
+    public interface BatchRunner {
+        /**
+         * @param commits commits of the items of the batch
+         * @return false, if the commits were discarded, e.g. rolled back
+         */
+        boolean run(Runnable commits);
+    }
+
+    /**
+     * Informed by the calling thread after each committed item
+     */
+    public interface ProgressListener {
+        void progress(int done, int total);
+    }
+
+    /**
+     * @param committed number of successfully committed items
+     * @param failed    number of items, whose commit failed
+     * @param aborted   true, if the download was aborted after too many consecutive failures
+     */
+    public record Result(int committed, int failed, boolean aborted) {
+    }
+
+    private final Fetcher fetcher;
+    private final int threads;
+    private final RateLimiter rateLimiter;
+    private int maxRetries = 3;
+    private long initialBackoffMillis = 1000;
+    private int batchSize = 10;
+    private int maxConsecutiveFailures = 3;
+    private int maxPrefetchedItems = 20;
+    private BatchRunner batchRunner = commits -> {
+        commits.run();
+        return true;
+    };
+    private ProgressListener progressListener = (done, total) -> {};
+
+    /**
+     * @param fetcher           fetches the files, it is called by several threads
+     * @param threads           maximum number of concurrent requests
+     * @param requestsPerSecond maximum request rate, values &lt;= 0 disable the limit
+     */
+    public DownloadPipeline(Fetcher fetcher, int threads, double requestsPerSecond) {
+        this.fetcher = fetcher;
+        this.threads = Math.max(1, threads);
+        this.rateLimiter = new RateLimiter(requestsPerSecond);
+    }
+
+    /**
+     * @param maxRetries           retries of a failed request
+     * @param initialBackoffMillis delay of the first retry, doubled with each further retry
+     */
+    public DownloadPipeline<T> setRetries(int maxRetries, long initialBackoffMillis) {
+        this.maxRetries = maxRetries;
+        this.initialBackoffMillis = initialBackoffMillis;
+        return this;
+    }
+
+    /**
+     * @param batchSize   number of items committed by one call of the batch runner
+     * @param batchRunner runs the commits of a batch, e.g. in one database transaction.
+     *                    The items of a discarded batch are counted as failed.
+     */
+    public DownloadPipeline<T> setBatch(int batchSize, BatchRunner batchRunner) {
+        this.batchSize = Math.max(1, batchSize);
+        this.batchRunner = batchRunner;
+        return this;
+    }
+
+    /**
+     * @param maxConsecutiveFailures the download is aborted when this number of commits failed in a row
+     */
+    public DownloadPipeline<T> setMaxConsecutiveFailures(int maxConsecutiveFailures) {
+        this.maxConsecutiveFailures = maxConsecutiveFailures;
+        return this;
+    }
+
+    /**
+     * @param maxPrefetchedItems maximum number of items, which are downloaded ahead of the committed ones.
+     *                           At least one batch is downloaded ahead.
+     */
+    public DownloadPipeline<T> setMaxPrefetchedItems(int maxPrefetchedItems) {
+        this.maxPrefetchedItems = maxPrefetchedItems;
+        return this;
+    }
+
+    public DownloadPipeline<T> setProgressListener(ProgressListener progressListener) {
+        this.progressListener = progressListener;
+        return this;
+    }
+
+    /**
+     * Download the files of all items and commit them.
+     *
+     * @param items     items to download
+     * @param urls      file urls of an item
+     * @param committer called by the calling thread with an item and its downloaded files by url.
+     *                  Files which could not be downloaded are missing. Returns false if the commit failed.
+     * @return result
+     */
+    public Result run(List<T> items, Function<T, List<String>> urls, BiPredicate<T, Map<String, String>> committer) {
+        var executor = createExecutor();
+        try {
+            // downloads of the items, which are not committed yet
+            var downloads = new ArrayDeque<Download>();
+            var lookahead = Math.max(maxPrefetchedItems, batchSize);
+            int submitted = 0;
+
+            var state = new Object() {
+                int committed;
+                int failed;
+                int consecutiveFailures;
+            };
+            for (int start = 0; start < items.size(); start += batchSize) {
+                int end = Math.min(start + batchSize, items.size());
+                // the number of downloaded files kept in memory is bounded by the lookahead
+                for (; submitted < items.size() && submitted < start + lookahead; submitted++) {
+                    var itemUrls = urls.apply(items.get(submitted));
+                    downloads.add(new Download(executor.submit(() -> fetchAll(itemUrls)), itemUrls.size()));
+                }
+                // wait for the downloads of the whole batch, before the batch runner is called
+                var files = new ArrayList<Map<String, String>>(end - start);
+                var complete = true;
+                for (int i = start; i < end; i++) {
+                    var download = downloads.poll();
+                    var itemFiles = await(download.files());
+                    complete &= itemFiles.size() == download.urls();
+                    files.add(itemFiles);
+                }
+                int first = start;
+                var batch = new Object() {
+                    int committed;
+                };
+                Runnable commits = () -> {
+                    for (int i = 0; i < files.size() && state.consecutiveFailures < maxConsecutiveFailures; i++) {
+                        if (committer.test(items.get(first + i), files.get(i))) {
+                            batch.committed++;
+                            state.committed++;
+                            state.consecutiveFailures = 0;
+                        } else {
+                            state.failed++;
+                            state.consecutiveFailures++;
+                        }
+                        progressListener.progress(state.committed + state.failed, items.size());
+                    }
+                };
+                if (!complete) {
+                    commits.run();
+                } else if (!batchRunner.run(commits)) {
+                    HOLogger.instance().warning(getClass(), "Batch of " + files.size() + " items discarded");
+                    state.committed -= batch.committed;
+                    state.failed += batch.committed;
+                    state.consecutiveFailures += batch.committed;
+                    progressListener.progress(state.committed + state.failed, items.size());
+                }
+                if (state.consecutiveFailures >= maxConsecutiveFailures || Thread.currentThread().isInterrupted()) {
+                    HOLogger.instance().warning(getClass(), "Download aborted after " + state.consecutiveFailures
+                            + " failures");
+                    return new Result(state.committed, state.failed, true);
+                }
+            }
+            return new Result(state.committed, state.failed, false);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * @param files download of the files of an item
+     * @param urls  number of file urls of the item
+     */
+    private record Download(Future<Map<String, String>> files, int urls) {
+    }
+
+    private ExecutorService createExecutor() {
+        var threadNumber = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, r -> {
+            var thread = new Thread(r, "Download-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private Map<String, String> await(Future<Map<String, String>> download) {
+        try {
+            return download.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            HOLogger.instance().error(getClass(), "Download failed: " + e.getCause());
+        }
+        return Map.of();
+    }
+
+    private Map<String, String> fetchAll(List<String> urls) throws InterruptedException {
+        var ret = new HashMap<String, String>();
+        for (var url : urls) {
+            var content = fetch(url);
+            if (content != null) {
+                ret.put(url, content);
+            }
+        }
+        return ret;
+    }
+
+    private String fetch(String url) throws InterruptedException {
+        for (int attempt = 0; ; attempt++) {
+            rateLimiter.acquire();
+            try {
+                return fetcher.fetch(url);
+            } catch (IOException e) {
+                if (attempt >= maxRetries) {
+                    HOLogger.instance().warning(getClass(), "Download of " + url + " failed: " + e.getMessage());
+                    return null;
+                }
+                Thread.sleep(initialBackoffMillis << attempt);
+            }
+        }
+    }
+
+    /**
+     * Spaces the requests of all threads evenly
+     */
+    static final class RateLimiter {
+        private final long intervalNanos;
+        private long nextSlot;
+
+        RateLimiter(double requestsPerSecond) {
+            this.intervalNanos = requestsPerSecond > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / requestsPerSecond) : 0;
+            this.nextSlot = System.nanoTime();
+        }
+
+        void acquire() throws InterruptedException {
+            if (intervalNanos == 0) {
+                return;
+            }
+            long wait;
+            synchronized (this) {
+                var now = System.nanoTime();
+                var slot = Math.max(now, nextSlot);
+                nextSlot = slot + intervalNanos;
+                wait = slot - now;
+            }
+            if (wait > 0) {
+                TimeUnit.NANOSECONDS.sleep(wait);
+            }
+        }
+    }
+}
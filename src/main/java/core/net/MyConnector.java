@@ -30,6 +30,8 @@ import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.text.SimpleDateFormat;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.Inflater;
 import java.util.zip.InflaterInputStream;
@@ -46,7 +48,10 @@ public class MyConnector {
 	private OAuth1AccessToken m_OAAccessToken;
 	private static boolean DEBUGSAVE = false;
 
-	private boolean silentDownload = false;
+	private volatile boolean silentDownload = false;
+
+	/** Files downloaded in advance by concurrent downloads, by url */
+	private final Map<String, String> prefetchedFiles = new ConcurrentHashMap<>();
 
 	/**
 	 * Creates a new instance of MyConnector.
@@ -94,11 +99,15 @@ public class MyConnector {
 	 * @return arena xml
 	 */
 	public String downloadArena(int arenaId) {
+		return getCHPPWebFile(getArenaUrl(arenaId));
+	}
+
+	static String getArenaUrl(int arenaId) {
 		String url = htUrl + "?file=arenadetails";
 		if (arenaId > 0) {
 			url += "&arenaID=" + arenaId;
 		}
-		return getCHPPWebFile(url);
+		return url;
 	}
 
 	/**
@@ -241,6 +250,10 @@ public class MyConnector {
 	 * lädt die Aufstellungsbewertung zu einem Spiel
 	 */
 	public String downloadMatchLineup(int matchId, int teamId, MatchType matchType) {
+		return getCHPPWebFile(getMatchLineupUrl(matchId, teamId, matchType));
+	}
+
+	static String getMatchLineupUrl(int matchId, int teamId, MatchType matchType) {
 		String url = htUrl + "?file=matchlineup&version=2.0";
 
 		if (matchId > 0) {
@@ -252,7 +265,7 @@ public class MyConnector {
 		
 		url += "&sourceSystem=" + matchType.getSourceString();
 
-		return getCHPPWebFile(url);
+		return url;
 	}
 
 
@@ -334,13 +347,17 @@ public class MyConnector {
 	 * Download match details, including match events
 	 */
 	public String downloadMatchdetails(int matchId, MatchType matchType) {
+		return getCHPPWebFile(getMatchdetailsUrl(matchId, matchType));
+	}
+
+	static String getMatchdetailsUrl(int matchId, MatchType matchType) {
 		String url = htUrl + "?file=matchdetails&version=3.0";
 		if (matchId > 0) {
 			url += ("&matchID=" + matchId);
 		}
 		url += "&sourceSystem=" + matchType.getSourceString();
 		url += "&matchEvents=true";
-		return getCHPPWebFile(url);
+		return url;
 	}
 
 	/**
@@ -454,18 +471,45 @@ public class MyConnector {
 	 */
 	public String getTeamDetails(int teamId) {
 		try {
-			String url = htUrl + "?file=teamdetails&version=3.6";
-			if (teamId > 0) {
-				url += ("&teamID=" + teamId);
-			}
-
-			return getCHPPWebFile(url);
+			return getCHPPWebFile(getTeamDetailsUrl(teamId));
 		} catch (Exception e) {
 			HOLogger.instance().log(getClass(), e);
 		}
 		return "";
 	}
 
+	/**
+	 * Download the team details of several teams concurrently
+	 *
+	 * @param teamIds team ids
+	 * @return teamdetails xml by team id, teams whose download failed are missing
+	 */
+	public Map<Integer, String> getTeamDetails(Collection<Integer> teamIds) {
+		var ret = new HashMap<Integer, String>();
+		var parameter = UserParameter.instance();
+		new DownloadPipeline<Integer>(this::fetchCHPPWebFile, parameter.chppDownloadThreads,
+				parameter.chppRequestsPerSecond)
+				// unavailable teams, e.g. deleted ones, must not abort the download of the others
+				.setMaxConsecutiveFailures(Integer.MAX_VALUE)
+				.run(new ArrayList<>(teamIds), teamId -> List.of(getTeamDetailsUrl(teamId)), (teamId, files) -> {
+					var xml = files.get(getTeamDetailsUrl(teamId));
+					if (xml == null) {
+						return false;
+					}
+					ret.put(teamId, xml);
+					return true;
+				});
+		return ret;
+	}
+
+	static String getTeamDetailsUrl(int teamId) {
+		String url = htUrl + "?file=teamdetails&version=3.6";
+		if (teamId > 0) {
+			url += ("&teamID=" + teamId);
+		}
+		return url;
+	}
+
 	/**
 	 * Download player avatars
 	 */
@@ -595,6 +639,10 @@ public class MyConnector {
 	 * Get a web page using a URLconnection.
 	 */
 	private String getCHPPWebFile(String surl) {
+		var prefetched = prefetchedFiles.get(surl);
+		if (prefetched != null) {
+			return prefetched;
+		}
 		HOLogger.instance().info(this.getClass(), "getCHPPWebFile " + surl);
 		String returnString = "";
 		OAuthDialog authDialog = null;
@@ -676,6 +724,63 @@ public class MyConnector {
 		return returnString;
 	}
 
+	/**
+	 * Download a CHPP file without any user interaction. Used by concurrent downloads, which may
+	 * run on several threads.
+	 *
+	 * @param surl file url
+	 * @return file content, null if the file is not available or the user is not authorized
+	 * @throws IOException on network errors and if the server is overloaded. The download may be retried.
+	 */
+	String fetchCHPPWebFile(String surl) throws IOException {
+		HOLogger.instance().info(this.getClass(), "fetchCHPPWebFile " + surl);
+		var accessToken = m_OAAccessToken;
+		if (accessToken == null || accessToken.getToken().isEmpty()) {
+			return null;
+		}
+		OAuthRequest request = new OAuthRequest(Verb.GET, surl);
+		infoHO(request);
+		m_OAService.signRequest(accessToken, request);
+		Response response;
+		try {
+			response = m_OAService.execute(request);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException(e.getMessage());
+		} catch (ExecutionException e) {
+			throw new IOException(e.getCause());
+		}
+		int code = response.getCode();
+		if (code == 200 || code == 201) {
+			var ret = readStream(getResultStream(response));
+			String sError = XMLCHPPPreParser.getError(ret);
+			if (!sError.isEmpty()) {
+				HOLogger.instance().warning(getClass(), sError + " URL: " + surl);
+				return null;
+			}
+			return ret;
+		}
+		if (code == 429 || code >= 500) {
+			throw new IOException("HTTP Response Code: " + code);
+		}
+		HOLogger.instance().warning(getClass(), "HTTP Response Code: " + code + " URL: " + surl);
+		return null;
+	}
+
+	/**
+	 * Provide files, which were downloaded in advance. CHPP requests of these urls are answered
+	 * with the given content until {@link #discardPrefetchedFiles(Collection)} is called.
+	 *
+	 * @param files file content by url
+	 */
+	void addPrefetchedFiles(Map<String, String> files) {
+		prefetchedFiles.putAll(files);
+	}
+
+	void discardPrefetchedFiles(Collection<String> urls) {
+		urls.forEach(prefetchedFiles::remove);
+	}
+
 	/**
 	 * Get input stream from web url (file download)
 	 */
@@ -38,6 +38,9 @@ import java.util.*;
  */
 public class OnlineWorker {
 
+	/** Number of downloaded matches stored in one database transaction */
+	private static final int MATCH_DOWNLOAD_BATCH_SIZE = 10;
+
 	/**
 	 * Utility class - private constructor enforces noninstantiability.
 	 */
@@ -421,8 +424,10 @@ public class OnlineWorker {
 			String msg = getLangString("Downloadfehler") + " : Error fetching Team ratings :";
 			// Info
 			setInfoMsg(msg, InfoPanel.FEHLERFARBE);
-			Helper.showMessage(HOMainFrame.instance(), msg, getLangString("Fehler"),
-					JOptionPane.ERROR_MESSAGE);
+			if (!isSilentDownload()) {
+				Helper.showMessage(HOMainFrame.instance(), msg, getLangString("Fehler"),
+						JOptionPane.ERROR_MESSAGE);
+			}
 		}
 	}
 
@@ -842,7 +847,9 @@ public class OnlineWorker {
 			String msg = getLangString("Downloadfehler") + ": Error fetching Matchdetails XML.: ";
 			// Info
 			setInfoMsg(msg, InfoPanel.FEHLERFARBE);
-			Helper.showMessage(HOMainFrame.instance(), msg, getLangString("Fehler"), JOptionPane.ERROR_MESSAGE);
+			if (!isSilentDownload()) {
+				Helper.showMessage(HOMainFrame.instance(), msg, getLangString("Fehler"), JOptionPane.ERROR_MESSAGE);
+			}
 			return null;
 		}
 		return details;
@@ -867,8 +874,10 @@ public class OnlineWorker {
 			String msg = getLangString("Downloadfehler") + " : Error fetching Matchlineup :";
 			// Info
 			setInfoMsg(msg, InfoPanel.FEHLERFARBE);
-			Helper.showMessage(HOMainFrame.instance(), msg, getLangString("Fehler"),
-					JOptionPane.ERROR_MESSAGE);
+			if (!isSilentDownload()) {
+				Helper.showMessage(HOMainFrame.instance(), msg, getLangString("Fehler"),
+						JOptionPane.ERROR_MESSAGE);
+			}
 			return null;
 		}
 		if (bOK) {
@@ -878,7 +887,13 @@ public class OnlineWorker {
 	}
 
 	/**
-	 * Get all lineups for MatchKurzInfos, if they're not there already
+	 * Get all lineups for MatchKurzInfos, if they're not there already.
+	 * <p>
+	 * The CHPP files of the matches are downloaded concurrently in advance. The calling thread
+	 * parses and stores the matches, several matches in one database transaction, if all their files
+	 * were downloaded. Otherwise each match is stored in its own transaction, because missing files are
+	 * requested again. The rows of a failed match are rolled back by a savepoint. The download is
+	 * silent, so no error dialog waits for the user while a transaction is running.
 	 */
 	public static void getAllLineups( Integer nbGames) {
 
@@ -890,20 +905,67 @@ public class OnlineWorker {
 			infos = DBManager.instance().getPlayedMatchInfo(nbGames, false, false);
 		}
 
-		boolean bOK;
+		var missing = new ArrayList<MatchKurzInfo>();
 		for (MatchKurzInfo info : infos) {
-			int curMatchId = info.getMatchID();
 			if ((!(info.isObsolet()))
-					&& (DBManager.instance().matchLineupIsNotStored(info.getMatchType(), curMatchId))) {
-				if (info.getMatchStatus() == MatchKurzInfo.FINISHED) {
-					bOK = downloadMatchData(curMatchId, info.getMatchType(), false);
-					if (!bOK) {
-						HOLogger.instance().error(OnlineWorker.class, "Error fetching Match: " + curMatchId);
-						break;
-					}
-				}
+					&& (info.getMatchStatus() == MatchKurzInfo.FINISHED)
+					&& (DBManager.instance().matchLineupIsNotStored(info.getMatchType(), info.getMatchID()))) {
+				missing.add(info);
+			}
+		}
+		if (missing.isEmpty()) {
+			return;
+		}
+
+		var connector = MyConnector.instance();
+		var parameter = UserParameter.instance();
+		var silent = connector.setSilentDownload(true);
+		DownloadPipeline.Result result;
+		try {
+			result = new DownloadPipeline<MatchKurzInfo>(connector::fetchCHPPWebFile,
+					parameter.chppDownloadThreads, parameter.chppRequestsPerSecond)
+					.setBatch(MATCH_DOWNLOAD_BATCH_SIZE, commits -> DBManager.instance().runInTransactionIfSuccessful(() -> {
+						commits.run();
+						return true;
+					}))
+					.setProgressListener((done, total) -> HOMainFrame.instance().setInformation(
+							Helper.getTranslation("ls.update_status.match_info") + " " + done + "/" + total, 0))
+					.run(missing, OnlineWorker::getMatchDataUrls, (info, files) -> {
+						connector.addPrefetchedFiles(files);
+						try {
+							// the rows of a failed match are rolled back, the other matches of the batch are kept
+							var ok = DBManager.instance().runInTransactionIfSuccessful(
+									() -> downloadMatchData(info.getMatchID(), info.getMatchType(), false));
+							if (!ok) {
+								HOLogger.instance().error(OnlineWorker.class, "Error fetching Match: " + info.getMatchID());
+							}
+							return ok;
+						} finally {
+							connector.discardPrefetchedFiles(files.keySet());
+						}
+					});
+		} finally {
+			connector.setSilentDownload(silent);
+		}
+		HOLogger.instance().info(OnlineWorker.class, "getAllLineups: " + result);
+	}
+
+	/**
+	 * CHPP files, which {@link #downloadMatchData(MatchKurzInfo, boolean)} requests for a finished match
+	 */
+	private static List<String> getMatchDataUrls(MatchKurzInfo info) {
+		var ret = new ArrayList<String>();
+		ret.add(MyConnector.getMatchdetailsUrl(info.getMatchID(), info.getMatchType()));
+		for (var teamId : new int[]{info.getHomeTeamID(), info.getGuestTeamID()}) {
+			if (teamId > 0) {
+				ret.add(MyConnector.getMatchLineupUrl(info.getMatchID(), teamId, info.getMatchType()));
+				ret.add(MyConnector.getTeamDetailsUrl(teamId));
 			}
 		}
+		if (info.getArenaId() > 0) {
+			ret.add(MyConnector.getArenaUrl(info.getArenaId()));
+		}
+		return ret;
 	}
 
 	/**
@@ -86,13 +86,10 @@ public class MatchEnginePanel extends ImagePanel implements	 ActionListener {
 		int match = (1 + numberOfMatches) * 1000;
 		var mainframe = HOMainFrame.instance();
 		mainframe.resetInformation();
-		MatchResult result = new MatchResult();
 		final TeamData team1 = homeTeamPanel.getTeamData();
 		final TeamData team2 = guestTeamPanel.getTeamData();
-		for (int i = 0; i < match; i++) {
-			result.addMatchResult(MatchPredictionManager.instance().calculateMatchResult(team1, team2));
-			if (i%1000==0)mainframe.updateProgress((int) ((i * 100d) / match));
-		}
+		MatchResult result = MatchPredictionManager.instance().calculateNMatches(match, team1, team2,
+				System.nanoTime(), mainframe::updateProgress);
 		mainframe.resetInformation();
 		refresh(result);
 	}
@@ -8,6 +8,7 @@ import core.model.match.IMatchDetails;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.random.RandomGenerator;
 
  class ActionGenerator extends BaseActionGenerator {
 
@@ -15,16 +16,31 @@ import java.util.List;
 	private TeamGameData awayTeamGameData;
 	private TeamGameData homeTeamGameData;
 
+	private final RandomGenerator random;
+
+	/** Reused buffer of the {@link ActionOutcome}s of the simulated match */
+	private final int[] outcomes = new int[ActionOutcome.MAX_PER_MATCH];
+
 	public ActionGenerator() {
+		this(CURRENT_THREAD_RANDOM);
 	}
 
 	public ActionGenerator(TeamData homeTeamData, TeamData awayTeamData) {
+		this();
 		setTeams(homeTeamData, awayTeamData);
-		caGenerator = new CounterAttackGenerator(homeTeamData, awayTeamData);
+	}
+
+	/**
+	 * Generator drawing all its random numbers, including the ones of the counter attacks, from the
+	 * given source
+	 */
+	ActionGenerator(RandomGenerator random) {
+		super(random);
+		this.random = random;
 	}
 
 	final void setTeams(TeamData homeTeamData, TeamData awayTeamData) {
-		caGenerator = new CounterAttackGenerator(homeTeamData, awayTeamData);
+		caGenerator = new CounterAttackGenerator(homeTeamData, awayTeamData, random);
 		homeTeamGameData = compare(homeTeamData, awayTeamData);
 		homeTeamGameData.setHome(true);
 		awayTeamGameData = compare(awayTeamData, homeTeamData);
@@ -39,7 +55,42 @@ import java.util.List;
 	}
 
 	Action[] simulate() {
-		final List<Action> actions = new ArrayList<>();
+		final int count = simulateOutcomes();
+		final Action[] actions = new Action[count];
+		for (int i = 0; i < count; i++) {
+			actions[i] = ActionOutcome.toAction(outcomes[i], 0);
+		}
+		return actions;
+	}
+
+	/**
+	 * Simulates a match and adds it to the result without allocating any action.
+	 * The generator is prepared for the next match afterwards, see {@link #nextMatch()}.
+	 *
+	 * @param result receives the outcome of the match
+	 */
+	final void simulate(MatchResult result) {
+		final int count = simulateOutcomes();
+		result.addOutcomes(outcomes, count);
+		nextMatch();
+	}
+
+	/**
+	 * Prepares the generator for another match of the same teams, as if it was created anew
+	 */
+	final void nextMatch() {
+		caGenerator.drawCounterActions();
+		homeTeamGameData.reset();
+		awayTeamGameData.reset();
+	}
+
+	/**
+	 * Simulates a match into the outcome buffer
+	 *
+	 * @return number of {@link ActionOutcome}s written
+	 */
+	private int simulateOutcomes() {
+		int count = 0;
 		int midfieldPossession = (int) getEffectiveness(homeTeamGameData.getRatings().getMidfield());
 		int pressing = getPressing(homeTeamGameData, awayTeamGameData);
 		int succesfulPressing = 0;
@@ -59,12 +110,12 @@ import java.util.List;
 			} 		
 									
 			if (homeAction) {
-				actions.addAll(calculateAction(homeTeamGameData, awayTeamGameData));
+				count = calculateAction(homeTeamGameData, awayTeamGameData, count);
 			} else {
-				actions.addAll(calculateAction(awayTeamGameData, homeTeamGameData));		
+				count = calculateAction(awayTeamGameData, homeTeamGameData, count);
 			}
 		}						
-		return actions.toArray(new Action[0]);
+		return count;
 	}
 
 	private int getPressing(TeamData td1, TeamData td2) {
@@ -117,13 +168,8 @@ import java.util.List;
 		return actions;
 	}
 
-	private List<Action> calculateAction(TeamGameData team, TeamGameData opponent) {
-		final List<Action> actions = new ArrayList<>();
-		final Action action = new Action();
-		action.setArea(getArea(team.getTacticType(), team.getTacticLevel()));
-		action.setType(0);
-		action.setHomeTeam(team.isHome());
-		actions.add(action);
+	private int calculateAction(TeamGameData team, TeamGameData opponent, int count) {
+		final int area = getArea(team.getTacticType(), team.getTacticLevel());
 		
 		if (getRandom(10)<1) {
 			// SP event
@@ -138,20 +184,23 @@ import java.util.List;
 				isScore = true;
 			}
 			
-			action.setScore(isScore);			
-			return actions;		
+			outcomes[count++] = ActionOutcome.of(team.isHome(), area, isScore, false);
+			return count;
 		}
 		
-		if (isScore(team, action.getArea())) {
-			action.setScore(true);
-		} else if (opponent.getTacticType() == IMatchDetails.TAKTIK_KONTER) {
-			final Action ca = caGenerator.calculateCounterAttack(0, opponent);
-
-			if (ca != null) {
-				actions.add(ca);
+		if (isScore(team, area)) {
+			outcomes[count++] = ActionOutcome.of(team.isHome(), area, true, false);
+		} else {
+			outcomes[count++] = ActionOutcome.of(team.isHome(), area, false, false);
+			if (opponent.getTacticType() == IMatchDetails.TAKTIK_KONTER) {
+				final int ca = caGenerator.counterAttack(opponent);
+
+				if (ca != CounterAttackGenerator.NONE) {
+					outcomes[count++] = ca;
+				}
 			}
 		}
-		return actions;
+		return count;
 	}
 
 }
@@ -0,0 +1,57 @@
+package core.prediction.engine;
+
+import core.model.match.IMatchDetails;
+
+/**
+ * Outcome of a simulated action packed into an int, so that the simulation of many matches does
+ * not need to allocate an {@link Action} for every chance.
+ * <p>
+ * Bit 0 is set for actions of the home team, bit 1 for goals, bit 2 for counter attacks, bits 3
+ * and 4 hold the area + 1 (0 left, 1 middle, 2 right).
+ */
+final class ActionOutcome {
+
+	static final int HOME = 1;
+	static final int SCORE = 1 << 1;
+	static final int COUNTER = 1 << 2;
+	private static final int AREA_SHIFT = 3;
+
+	/** Maximum number of outcomes of one simulated match, every action being followed by a counter attack */
+	static final int MAX_PER_MATCH = 20;
+
+	private ActionOutcome() {
+	}
+
+	static int of(boolean home, int area, boolean score, boolean counter) {
+		return (home ? HOME : 0) | (score ? SCORE : 0) | (counter ? COUNTER : 0) | ((area + 1) << AREA_SHIFT);
+	}
+
+	static boolean isHome(int outcome) {
+		return (outcome & HOME) != 0;
+	}
+
+	static boolean isScore(int outcome) {
+		return (outcome & SCORE) != 0;
+	}
+
+	static boolean isCounter(int outcome) {
+		return (outcome & COUNTER) != 0;
+	}
+
+	/**
+	 * @return -1 left, 0 middle, 1 right
+	 */
+	static int getArea(int outcome) {
+		return (outcome >>> AREA_SHIFT) - 1;
+	}
+
+	static Action toAction(int outcome, int minute) {
+		final Action action = new Action();
+		action.setHomeTeam(isHome(outcome));
+		action.setArea(getArea(outcome));
+		action.setScore(isScore(outcome));
+		action.setType(isCounter(outcome) ? IMatchDetails.TAKTIK_KONTER : 0);
+		action.setMinute(minute);
+		return action;
+	}
+}
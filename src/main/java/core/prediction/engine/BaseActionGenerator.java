@@ -3,9 +3,42 @@ package core.prediction.engine;
 
 import core.model.match.IMatchDetails;
 
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
 
 class BaseActionGenerator {
 
+	/**
+	 * Draws from the {@link ThreadLocalRandom} of the calling thread at each use, as the instance
+	 * returned by {@link ThreadLocalRandom#current()} must not be kept for use by other threads.
+	 */
+	static final RandomGenerator CURRENT_THREAD_RANDOM = new RandomGenerator() {
+		@Override
+		public long nextLong() {
+			return ThreadLocalRandom.current().nextLong();
+		}
+
+		@Override
+		public double nextDouble() {
+			return ThreadLocalRandom.current().nextDouble();
+		}
+	};
+
+	/**
+	 * Source of randomness of this generator. Generators of parallel simulations get their own
+	 * seeded instance, so that the results do not depend on the thread scheduling.
+	 */
+	private final RandomGenerator random;
+
+	BaseActionGenerator() {
+		this(CURRENT_THREAD_RANDOM);
+	}
+
+	BaseActionGenerator(RandomGenerator random) {
+		this.random = random;
+	}
+
 	protected final int getArea(int tactic, int level) {
 		int attackMiddle = 40;
 
@@ -31,8 +64,8 @@ class BaseActionGenerator {
 		return 1;
 	}
 
-	protected static int getRandom(int value) {
-	        return (int) (Math.random() * value);
+	protected final int getRandom(int value) {
+	        return (int) (random.nextDouble() * value);
 	}
 
 	protected boolean isScore(TeamGameData tgd, int area) {
@@ -115,7 +148,7 @@ class BaseActionGenerator {
 		return ret;
 	}
 	
-	protected static int getRandomInt(double number) {
+	protected final int getRandomInt(double number) {
 		int intPart = (int) (number / 1);		
 		double decPart = number % 1.0;
 		if (getRandom(10)<decPart*10) {
@@ -3,12 +3,29 @@ package core.prediction.engine;
 
 import core.model.match.IMatchDetails;
 
+import java.util.random.RandomGenerator;
+
 class CounterAttackGenerator extends BaseActionGenerator {
 
+	/** No counter attack, see {@link #counterAttack(TeamGameData)} */
+	static final int NONE = -1;
+
+	private final TeamData homeTeamData;
+	private final TeamData awayTeamData;
 	private int home = 0;
 	private int away = 0;
 
-	CounterAttackGenerator(TeamData homeTeamData, TeamData awayTeamData) {
+	CounterAttackGenerator(TeamData homeTeamData, TeamData awayTeamData, RandomGenerator random) {
+		super(random);
+		this.homeTeamData = homeTeamData;
+		this.awayTeamData = awayTeamData;
+		drawCounterActions();
+	}
+
+	/**
+	 * Draws the maximum number of counter attacks of both teams for a new match
+	 */
+	final void drawCounterActions() {
 		home = getCounterAction(homeTeamData, awayTeamData);
 		away = getCounterAction(awayTeamData, homeTeamData);
 	}
@@ -22,9 +39,25 @@ class CounterAttackGenerator extends BaseActionGenerator {
 	 * @return the CA Action generated or null if team had no CA
 	 */
 	protected final Action calculateCounterAttack(int minute, TeamGameData team) {
+		final int outcome = counterAttack(team);
+		if (outcome == NONE) {
+			return null;
+		}
+//		HOLogger.instance().log(getClass(),"CA");
+		return ActionOutcome.toAction(outcome, minute);
+	}
+
+	/**
+	 * Generates the CA, if any, without allocating an action
+	 *
+	 * @param team The TeamGameData for the team having the opportunity for a CA
+	 *
+	 * @return the {@link ActionOutcome} of the CA or {@link #NONE} if team had no CA
+	 */
+	final int counterAttack(TeamGameData team) {
 		// IF team win at midfield no CA
 		if (team.getRatings().getMidfield() > 0.5) {
-			return null;
+			return NONE;
 		}
 		int maxChance = 0;
 
@@ -35,19 +68,13 @@ class CounterAttackGenerator extends BaseActionGenerator {
 		}
 
 		if (team.getCounterAction() >= maxChance) {
-			return null;
+			return NONE;
 		}
 
 		team.addCounterActionPlayed();
 
-		final Action ca = new Action();
-		ca.setType(IMatchDetails.TAKTIK_KONTER);
-		ca.setMinute(minute);
-		ca.setArea(getArea(team.getTacticType(), team.getTacticLevel()));
-		ca.setHomeTeam(team.isHome());
-		ca.setScore(isScore(team, ca.getArea()));
-//		HOLogger.instance().log(getClass(),"CA");
-		return ca;
+		final int area = getArea(team.getTacticType(), team.getTacticLevel());
+		return ActionOutcome.of(team.isHome(), area, isScore(team, area), true);
 	}
 
 	private int getCounterAction(TeamData homeTeamData, TeamData awayTeamData) {
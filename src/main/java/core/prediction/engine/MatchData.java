@@ -36,8 +36,13 @@ public class MatchData {
         return actions;
     }
 
+	/**
+	 * Simulates a whole match. The generator is prepared for the next match afterwards, so that
+	 * the counter attacks of one match do not limit those of the following ones.
+	 */
 	public final Action[] simulate() {
 		final Action[] actions = generator.simulate();
+		generator.nextMatch();
         for (final Action action : actions) {
             if (action.isHomeTeam()) {
                 homeTeam.addAction(action);
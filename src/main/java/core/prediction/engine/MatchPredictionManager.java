@@ -3,13 +3,29 @@ package core.prediction.engine;
 
 import core.util.Helper;
 
+import java.io.Serial;
+import java.util.SplittableRandom;
 import java.util.Vector;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
 
 
 public class MatchPredictionManager {
     //~ Static fields/initializers -----------------------------------------------------------------
     private static MatchPredictionManager m_clInstance;
 
+    /** Number of matches simulated by one task of the parallel simulation */
+    private static final int MATCHES_PER_TASK = 1000;
+
+    /** Interval of the progress reports of the parallel simulation */
+    private static final long PROGRESS_INTERVAL_MILLIS = 100;
+
     //~ Constructors -------------------------------------------------------------------------------
     /**
      * Creates a new instance of MatchPredictionManager
@@ -68,6 +84,95 @@ public class MatchPredictionManager {
 
     }
 
+    /**
+     * Simulates a number of matches in parallel on the common fork join pool.
+     * <p>
+     * Each match is simulated as by a new generator, like done by {@link #calculateMatchResult},
+     * but the matches are added to the result without allocating any action.
+     * The work is split in tasks of fixed size, each of them drawing from its own
+     * {@link SplittableRandom} split off the seeded one. The split tree only depends on the number
+     * of matches, so the result is the same for a given seed, whatever the number of threads.
+     *
+     * @param numberOfMatches number of matches to simulate
+     * @param seed seed of the random number generator
+     * @return accumulated results of all the matches
+     */
+    public MatchResult calculateNMatches(int numberOfMatches, TeamData home, TeamData away, long seed) {
+        return calculateNMatches(numberOfMatches, home, away, seed, progress -> {});
+    }
+
+    /**
+     * Simulates a number of matches in parallel, like {@link #calculateNMatches(int, TeamData, TeamData, long)},
+     * and reports the progress while waiting for the result.
+     * <p>
+     * The progress is reported by the calling thread, so that a caller on the event dispatch thread
+     * may update its progress bar directly.
+     *
+     * @param progress consumer of the percentage of the simulated matches
+     */
+    public MatchResult calculateNMatches(int numberOfMatches, TeamData home, TeamData away, long seed,
+                                         IntConsumer progress) {
+        final AtomicInteger simulated = new AtomicInteger();
+        final var task = ForkJoinPool.commonPool().submit(
+                new SimulationTask(home, away, new SplittableRandom(seed), numberOfMatches, simulated));
+        while (true) {
+            try {
+                return task.get(PROGRESS_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                progress.accept((int) (simulated.get() * 100L / numberOfMatches));
+            } catch (ExecutionException e) {
+                // rethrows the exception of the simulation
+                return task.join();
+            } catch (InterruptedException e) {
+                task.cancel(true);
+                Thread.currentThread().interrupt();
+                throw new CancellationException("Match simulation interrupted");
+            }
+        }
+    }
+
+    private static final class SimulationTask extends RecursiveTask<MatchResult> {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final TeamData home;
+        private final TeamData away;
+        private final SplittableRandom random;
+        private final int numberOfMatches;
+        private final AtomicInteger simulated;
+
+        SimulationTask(TeamData home, TeamData away, SplittableRandom random, int numberOfMatches,
+                       AtomicInteger simulated) {
+            this.home = home;
+            this.away = away;
+            this.random = random;
+            this.numberOfMatches = numberOfMatches;
+            this.simulated = simulated;
+        }
+
+        @Override
+        protected MatchResult compute() {
+            if (numberOfMatches <= MATCHES_PER_TASK) {
+                final MatchResult result = new MatchResult();
+                final ActionGenerator generator = new ActionGenerator(random);
+                generator.setTeams(home, away);
+                for (int i = 0; i < numberOfMatches; i++) {
+                    generator.simulate(result);
+                }
+                simulated.addAndGet(numberOfMatches);
+                return result;
+            }
+            // split in multiples of the task size, so that the tree only depends on the number of matches
+            final int half = (numberOfMatches / MATCHES_PER_TASK + 1) / 2 * MATCHES_PER_TASK;
+            final SimulationTask first = new SimulationTask(home, away, random.split(), half, simulated);
+            final SimulationTask second = new SimulationTask(home, away, random, numberOfMatches - half, simulated);
+            first.fork();
+            final MatchResult result = second.compute();
+            result.merge(first.join());
+            return result;
+        }
+    }
+
     public TeamData generateTeamData(String name, TeamRatings _ratings, int _tactic, int _level) {
         return new TeamData(name, (TeamRatings) _ratings, _tactic, _level);
     }
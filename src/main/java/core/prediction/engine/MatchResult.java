@@ -122,6 +122,53 @@ public class MatchResult  {
 		actions = null;
 	}
 
+	/**
+	 * Adds a match given as packed {@link ActionOutcome}s. Same as {@link #addActions(Action[])},
+	 * without allocating.
+	 *
+	 * @param outcomes outcomes of the match actions
+	 * @param count number of valid entries in outcomes
+	 */
+	void addOutcomes(int[] outcomes, int count) {
+		matchNumber++;
+		int matchHomeGoals = 0;
+		int matchGuestGoals = 0;
+
+		for (int i = 0; i < count; i++) {
+			final int outcome = outcomes[i];
+			final int area = ActionOutcome.getArea(outcome) + 1;
+			if (ActionOutcome.isHome(outcome)) {
+				homeChances++;
+				if (ActionOutcome.isScore(outcome)) {
+					matchHomeGoals++;
+					homeSuccess[area]++;
+				} else {
+					homeFailed[area]++;
+				}
+			} else {
+				guestChances++;
+				if (ActionOutcome.isScore(outcome)) {
+					matchGuestGoals++;
+					guestSuccess[area]++;
+				} else {
+					guestFailed[area]++;
+				}
+			}
+		}
+
+		resultDetail[(Math.min(matchHomeGoals, 4) * 5) + Math.min(matchGuestGoals, 4)]++;
+		homeGoals += matchHomeGoals;
+		guestGoals += matchGuestGoals;
+
+		if (matchHomeGoals > matchGuestGoals) {
+			homeWin++;
+		} else if (matchHomeGoals < matchGuestGoals) {
+			awayWin++;
+		} else {
+			draw++;
+		}
+	}
+
 	public void addMatchResult(MatchResult result) {
 
 		matchNumber++;
@@ -165,6 +212,31 @@ public class MatchResult  {
 		result = null;
 	}
 
+	/**
+	 * Adds the matches of another result, e.g. the one of a worker of a parallel simulation.
+	 *
+	 * @param other result of further simulated matches
+	 */
+	public void merge(MatchResult other) {
+		matchNumber += other.matchNumber;
+		homeWin += other.homeWin;
+		awayWin += other.awayWin;
+		draw += other.draw;
+		homeGoals += other.homeGoals;
+		homeChances += other.homeChances;
+		guestGoals += other.guestGoals;
+		guestChances += other.guestChances;
+		for (int i = 0; i < resultDetail.length; i++) {
+			resultDetail[i] += other.resultDetail[i];
+		}
+		for (int i = 0; i < 3; i++) {
+			homeSuccess[i] += other.homeSuccess[i];
+			homeFailed[i] += other.homeFailed[i];
+			guestSuccess[i] += other.guestSuccess[i];
+			guestFailed[i] += other.guestFailed[i];
+		}
+	}
+
 	public int getGuestChances() {
 		return guestChances;
 	}
@@ -59,4 +59,12 @@ class TeamGameData extends TeamData {
     public final void addCounterActionPlayed() {
         counterAction++;
     }
+
+    /**
+     * Resets the counters of played actions for a new match
+     */
+    final void reset() {
+        actionAlreadyPlayed = 0;
+        counterAction = 0;
+    }
 }
@@ -2,32 +2,21 @@ package core.rating;
 
 import module.lineup.Lineup;
 
-import java.util.HashMap;
-import java.util.Map;
+/**
+ * Sector ratings of lineup rating revisions by minute.
+ * The cache may be used by concurrent threads, each value is calculated at most once.
+ */
+abstract class LineupRatingCache extends RevisionRatingCache {
 
-abstract class LineupRatingCache extends HashMap<Long, Map<RatingPredictionModel.RatingSector, Map<Integer, Double>>> {
-    public double get(Lineup lineup, RatingPredictionModel.RatingSector s, Integer minute) {
-        var revision = get(lineup.getRatingRevision());
-        if (revision == null) {
-            revision = new HashMap<>();
-            clear();
-            put(lineup.getRatingRevision(), revision);
+    public double get(Lineup lineup, RatingPredictionModel.RatingSector s, int minute) {
+        var values = getRevision(lineup.getRatingRevision());
+        var key = PackedKeyMap.pack(s.ordinal(), minute, 0);
+        var ret = values.get(key, 0);
+        if (Double.isNaN(ret)) {
+            ret = values.computeIfAbsent(key, 0, () -> calc(lineup, s, minute));
         }
-        var sector = revision.get(s);
-        if (sector != null) {
-            var rating = sector.get(minute);
-            if (rating != null) {
-                return rating;
-            }
-        } else {
-            sector = new HashMap<>();
-            revision.put(s, sector);
-        }
-
-        var ret = calc(lineup, s, minute);
-        sector.put(minute, ret);
         return ret;
     }
 
-    public abstract double calc(Lineup lineup, RatingPredictionModel.RatingSector s, Integer minute);
+    public abstract double calc(Lineup lineup, RatingPredictionModel.RatingSector s, int minute);
 }
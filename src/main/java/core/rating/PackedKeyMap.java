@@ -0,0 +1,181 @@
+package core.rating;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Open addressing hash map of double values with a key of two primitive longs.
+ * Rating caches pack their composite keys into the two longs, so that a lookup
+ * neither boxes nor walks through nested maps.
+ * <p>
+ * Empty slots are marked by a NaN value. NaN values are not stored.
+ * <p>
+ * Reads are lock free and may run concurrently to a write. Writes are synchronized, the first
+ * value written for a key wins.
+ * A slot is never changed once its value is published, clear and resize replace the table.
+ * <p>
+ * A missing value of {@link #computeIfAbsent} is calculated at most once: callers missing a key,
+ * which is being calculated, wait for that calculation. Callers of other keys are not blocked.
+ */
+final class PackedKeyMap {
+
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int BITS = 21;
+    private static final long MASK = (1L << BITS) - 1;
+    private static final VarHandle VALUES = MethodHandles.arrayElementVarHandle(double[].class);
+
+    private static final class Table {
+        final long[] keys;
+        final double[] values;
+        int size;
+
+        Table(int capacity) {
+            keys = new long[2 * capacity];
+            values = new double[capacity];
+            Arrays.fill(values, Double.NaN);
+        }
+    }
+
+    private record Key(long key1, long key2) {}
+
+    private volatile Table table = new Table(INITIAL_CAPACITY);
+
+    /** Calculations of missing values by key, until their value is stored */
+    private final ConcurrentHashMap<Key, CompletableFuture<Double>> calculations = new ConcurrentHashMap<>();
+
+    /**
+     * Pack three ints into one long key.
+     * Values are unique in the range [-2^20, 2^20).
+     */
+    static long pack(int a, int b, int c) {
+        return ((a & MASK) << (2 * BITS)) | ((b & MASK) << BITS) | (c & MASK);
+    }
+
+    /**
+     * @return the stored value or NaN if the key is missing
+     */
+    double get(long key1, long key2) {
+        var t = table;
+        var mask = t.values.length - 1;
+        for (var i = slot(key1, key2, mask); ; i = (i + 1) & mask) {
+            var value = (double) VALUES.getAcquire(t.values, i);
+            if (Double.isNaN(value) || (t.keys[2 * i] == key1 && t.keys[2 * i + 1] == key2)) {
+                return value;
+            }
+        }
+    }
+
+    /**
+     * Get the value of the key. If it is missing, it is calculated and stored.
+     * The calculation runs outside the lock, so concurrent callers of other keys are not
+     * blocked by it. Concurrent callers of the same key wait for the running calculation.
+     *
+     * @param calculation calculation of the missing value
+     * @return stored or calculated value
+     */
+    double computeIfAbsent(long key1, long key2, DoubleSupplier calculation) {
+        var ret = get(key1, key2);
+        if (!Double.isNaN(ret)) {
+            return ret;
+        }
+        var key = new Key(key1, key2);
+        var future = new CompletableFuture<Double>();
+        var running = calculations.putIfAbsent(key, future);
+        if (running != null) {
+            return await(running);
+        }
+        try {
+            // the value may have been stored, before this calculation was registered
+            ret = get(key1, key2);
+            if (Double.isNaN(ret)) {
+                ret = putIfAbsent(key1, key2, calculation.getAsDouble());
+            }
+            future.complete(ret);
+            return ret;
+        } catch (RuntimeException | Error e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            calculations.remove(key, future);
+        }
+    }
+
+    private static double await(CompletableFuture<Double> calculation) {
+        try {
+            return calculation.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) throw runtimeException;
+            if (e.getCause() instanceof Error error) throw error;
+            throw e;
+        }
+    }
+
+    void put(long key1, long key2, double value) {
+        putIfAbsent(key1, key2, value);
+    }
+
+    /**
+     * Store the value, if the key is missing
+     *
+     * @return the value stored before or the given one
+     */
+    private synchronized double putIfAbsent(long key1, long key2, double value) {
+        if (Double.isNaN(value)) return value;
+        var t = table;
+        if (2 * (t.size + 1) > t.values.length) {
+            t = resize(t);
+        }
+        return insert(t, key1, key2, value);
+    }
+
+    synchronized void clear() {
+        table = new Table(INITIAL_CAPACITY);
+    }
+
+    int size() {
+        return table.size;
+    }
+
+    /**
+     * @return the value stored before or the inserted one
+     */
+    private static double insert(Table t, long key1, long key2, double value) {
+        var mask = t.values.length - 1;
+        for (var i = slot(key1, key2, mask); ; i = (i + 1) & mask) {
+            if (Double.isNaN(t.values[i])) {
+                t.keys[2 * i] = key1;
+                t.keys[2 * i + 1] = key2;
+                VALUES.setRelease(t.values, i, value);
+                t.size++;
+                return value;
+            }
+            if (t.keys[2 * i] == key1 && t.keys[2 * i + 1] == key2) {
+                return t.values[i];
+            }
+        }
+    }
+
+    private Table resize(Table old) {
+        var t = new Table(old.values.length * 2);
+        for (int i = 0; i < old.values.length; i++) {
+            if (!Double.isNaN(old.values[i])) {
+                insert(t, old.keys[2 * i], old.keys[2 * i + 1], old.values[i]);
+            }
+        }
+        table = t;
+        return t;
+    }
+
+    private static int slot(long key1, long key2, int mask) {
+        var h = key1 * 0x9E3779B97F4A7C15L + key2;
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        return (int) h & mask;
+    }
+}
@@ -0,0 +1,33 @@
+package core.rating;
+
+import core.model.player.Player;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache of player dependent rating values.
+ * Per player the three int parameters of the calculation are packed into a flat {@link PackedKeyMap}.
+ * The second key is the calculation context of the caller, e.g. weather and tactic type,
+ * which the calculation reads besides the parameters.
+ * If the requested value is missing, it is calculated and stored in the cache.
+ * The cache may be used by concurrent threads, each value is calculated at most once.
+ */
+abstract class PlayerRatingCache {
+    private final ConcurrentHashMap<Player, PackedKeyMap> theCache = new ConcurrentHashMap<>();
+
+    public double get(Player player, int a, int b, int c, long context) {
+        var playerCache = theCache.computeIfAbsent(player, p -> new PackedKeyMap());
+        var key = PackedKeyMap.pack(a, b, c);
+        var ret = playerCache.get(key, context);
+        if (Double.isNaN(ret)) {
+            ret = playerCache.computeIfAbsent(key, context, () -> calc(player, a, b, c));
+        }
+        return ret;
+    }
+
+    public abstract double calc(Player player, int a, int b, int c);
+
+    public void remove(Player player) {
+        theCache.remove(player);
+    }
+}
@@ -1,9 +1,15 @@
 package core.rating;
 
 import java.util.HashMap;
+import java.util.Map;
 
+/**
+ * Cache of rating values of two object parameters with few distinct values.
+ * Readers use an immutable snapshot of the cache without locking. A missing value is calculated
+ * at most once and published by a new snapshot.
+ */
 abstract class RatingCalculationCache2<T1, T2> {
-    private final HashMap<T1, HashMap<T2, Double>> theCache = new HashMap<>();
+    private volatile Map<T1, Map<T2, Double>> theCache = new HashMap<>();
 
     public double get(T1 t1, T2 t2) {
         var c = theCache.get(t1);
@@ -13,12 +19,23 @@ abstract class RatingCalculationCache2<T1, T2> {
                 return ret;
             }
         }
-        var r = calc(t1, t2);
-        if (c == null) {
-            c = new HashMap<>();
+        return calcAndPublish(t1, t2);
+    }
+
+    private synchronized double calcAndPublish(T1 t1, T2 t2) {
+        var c = theCache.get(t1);
+        if (c != null) {
+            var ret = c.get(t2);
+            if (ret != null) {
+                return ret;
+            }
         }
-        c.put(t2, r);
-        theCache.put(t1, c);
+        var r = calc(t1, t2);
+        var newInner = c == null ? new HashMap<T2, Double>() : new HashMap<>(c);
+        newInner.put(t2, r);
+        var newCache = new HashMap<>(theCache);
+        newCache.put(t1, newInner);
+        theCache = newCache;
         return r;
     }
 
@@ -15,6 +15,8 @@ import module.lineup.Lineup;
 import module.lineup.substitution.model.Substitution;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import static core.constants.player.PlayerSkill.*;
 import static core.model.match.IMatchDetails.*;
@@ -33,10 +35,55 @@ import static java.util.Map.entry;
  */
 public class RatingPredictionModel {
 
-    protected Substitution manMarkingOrder;
-    protected Player.ManMarkingPosition manMarkingPosition;
-    protected Weather weather;
-    protected int tacticType;
+    /**
+     * Lineup settings of the rating calculation running in the current thread.
+     * The model may be used by concurrent threads calculating the ratings of different lineups.
+     * Player ratings depend on the weather and the tactic type, so the cached player values are
+     * stored per {@link #getCalculationContextKey() context key}.
+     */
+    private static final class CalculationContext {
+        private Substitution manMarkingOrder;
+        private Player.ManMarkingPosition manMarkingPosition;
+        private Weather weather;
+        private int tacticType;
+    }
+
+    private final ThreadLocal<CalculationContext> calculationContext = ThreadLocal.withInitial(CalculationContext::new);
+
+    protected Substitution getManMarkingOrder() {
+        return calculationContext.get().manMarkingOrder;
+    }
+
+    protected Player.ManMarkingPosition getManMarkingPosition() {
+        return calculationContext.get().manMarkingPosition;
+    }
+
+    protected Weather getWeather() {
+        return calculationContext.get().weather;
+    }
+
+    protected int getTacticType() {
+        return calculationContext.get().tacticType;
+    }
+
+    /**
+     * Set the lineup settings of the rating calculations of the current thread
+     */
+    void setCalculationContext(Substitution manMarkingOrder, Player.ManMarkingPosition manMarkingPosition, Weather weather, int tacticType) {
+        var context = calculationContext.get();
+        context.manMarkingOrder = manMarkingOrder;
+        context.manMarkingPosition = manMarkingPosition;
+        context.weather = weather;
+        context.tacticType = tacticType;
+    }
+
+    /**
+     * Weather and tactic type of the current thread packed into the second key of the player caches
+     */
+    private long getCalculationContextKey() {
+        var context = calculationContext.get();
+        return PackedKeyMap.pack(context.weather != null ? context.weather.getId() : -1, context.tacticType, 0);
+    }
 
     public enum RatingSector {
         DEFENCE_LEFT,
@@ -48,6 +95,8 @@ public class RatingPredictionModel {
         ATTACK_RIGHT
     }
 
+    private static final RatingSector[] RATING_SECTORS = RatingSector.values();
+
     protected enum RatingContributionParameterSet {
         SIDE_DEFENCE,
         CENTRAL_DEFENCE,
@@ -70,7 +119,7 @@ public class RatingPredictionModel {
     }
 
     private final Team team;
-    private long teamRatingRevision = -1;
+    private volatile long teamRatingRevision = -1;
 
     /**
      * Create a new rating prediction model
@@ -88,14 +137,14 @@ public class RatingPredictionModel {
 
     /**
      * The lineup rating cache stores sector ratings of all relevant match minutes.
-     * is cleared each time the lineup rating revision number is changed.
+     * The ratings are kept per lineup rating revision number.
      * If the requested sector and minute of the lineup rating is not available, the corresponding
      * calculation is called and its result is stored in the cache.
-     * Rating revision -> sector -> minute -> rating
+     * Rating revision -> (sector, minute) -> rating
      */
     private final LineupRatingCache ratingCache = new LineupRatingCache() {
         @Override
-        public double calc(Lineup lineup, RatingSector s, Integer minute) {
+        public double calc(Lineup lineup, RatingSector s, int minute) {
             return calcSectorRating(lineup, s, minute);
         }
     };
@@ -131,7 +180,7 @@ public class RatingPredictionModel {
      */
     private final LineupRatingCache averageRatingCache = new LineupRatingCache() {
         @Override
-        public double calc(Lineup lineup, RatingSector s, Integer minutes) {
+        public double calc(Lineup lineup, RatingSector s, int minutes) {
             return calcAverageRating(lineup, s, minutes);
         }
     };
@@ -207,10 +256,7 @@ public class RatingPredictionModel {
         }
         addCopyright(copyrightSchumTranslated);
 
-        this.manMarkingOrder = lineup.getManMarkingOrder();
-        this.manMarkingPosition = lineup.getManMarkingPosition();
-        this.weather = lineup.getWeather();
-        this.tacticType = lineup.getTacticType();
+        setCalculationContext(lineup.getManMarkingOrder(), lineup.getManMarkingPosition(), lineup.getWeather(), lineup.getTacticType());
 
         var ret = 0.;
         var positions = lineup.getFieldPlayers(minute);
@@ -246,7 +292,7 @@ public class RatingPredictionModel {
      * @param s Rating sector
      * @return scaling factor
      */
-    protected double getRatingSectorScaleFactor(RatingSector s) {
+    public double getRatingSectorScaleFactor(RatingSector s) {
         return switch (s) {
             case MIDFIELD -> .312;
             case DEFENCE_LEFT, DEFENCE_RIGHT -> .834;
@@ -339,12 +385,10 @@ public class RatingPredictionModel {
         return copyrights;
     }
 
-    private final List<String> copyrights = new ArrayList<>();
-    private String copyrightSchumTranslated = null;
+    private final CopyOnWriteArrayList<String> copyrights = new CopyOnWriteArrayList<>();
+    private volatile String copyrightSchumTranslated = null;
     protected  void addCopyright(String cr){
-        if (!this.copyrights.contains(cr)) {
-            this.copyrights.add(cr);
-        }
+        this.copyrights.addIfAbsent(cr);
     }
 
     /**
@@ -356,13 +400,14 @@ public class RatingPredictionModel {
      */
     protected Player getPlayer(MatchLineupPosition p, int minute){
         var ret = p.getPlayer();
+        var manMarkingOrder = getManMarkingOrder();
         if ( ret != null){
             if (manMarkingOrder != null &&
                     ret.getPlayerId() == manMarkingOrder.getSubjectPlayerID() &&
                     p.getStartMinute() + 5 <= minute    // man marking starts 5 minutes after player enters the match
             ) {
                 // create player clone with reduced skill values
-                return ret.getPlayerAsManMarker(manMarkingPosition);
+                return ret.getPlayerAsManMarker(getManMarkingPosition());
             }
         }
         return ret;
@@ -392,13 +437,13 @@ public class RatingPredictionModel {
 //        var p = isRightHandSidePosition?togglePositionSide(roleId):roleId;
 //        var s = isRightHandSidePosition?toggleRatingSectorSide(sector):sector;
 
-        var contribution = contributionCache.get(player, sector, roleId, behaviour);
+        var contribution = contributionCache.get(player, sector.ordinal(), roleId, behaviour, getCalculationContextKey());
         if (contribution > 0) {
             contribution *= overcrowdingPenalty;
-            var exp = experienceCache.get(player.getSkillValue(EXPERIENCE), sector);
+            var exp = experienceCache.get(player.getSkillValue(EXPERIENCE), sector.ordinal(), 0, 0);
             contribution += exp;
-            contribution *= weatherCache.get(Specialty.getSpecialty(player.getSpecialty()), weather);
-            contribution *= staminaCache.get((double) player.getStamina(), minute, startMinute, tacticType);
+            contribution *= weatherCache.get(Specialty.getSpecialty(player.getSpecialty()), getWeather());
+            contribution *= staminaCache.get(player.getStamina(), minute, startMinute, getTacticType());
 
 //            if ( minute == 0) {
 //                HOLogger.instance().debug(getClass(), "getPositionContribution " + player.getFullName()
@@ -426,14 +471,28 @@ public class RatingPredictionModel {
         return getPositionContribution(p, roleId, behaviour, s, minute, 0, 1.);
     }
 
+    /**
+     * Get the player's contribution to a rating sector at match beginning.
+     * Overcrowding of the lineup sector is not considered.
+     *
+     * @param p         Player
+     * @param roleId    Lineup position
+     * @param behaviour Behaviour
+     * @param s         Rating sector
+     * @return Contribution in skill scale, before the sector factors and scaling are applied
+     */
+    public double getPlayerSectorContribution(Player p, int roleId, byte behaviour, RatingSector s) {
+        return getPositionContribution(p, roleId, behaviour, s, 0);
+    }
+
     /**
      * A map of contribution factors of each player to the different rating sectors
      * If the value is not available in the cache it is calculated and stored in the cache.
      */
-    RatingCalculationCache4<Player, RatingSector, Integer, Byte> contributionCache = new RatingCalculationCache4<>() {
+    PlayerRatingCache contributionCache = new PlayerRatingCache() {
         @Override
-        public double calc(Player player, RatingSector sector, Integer roleId, Byte behaviour) {
-            return calcContribution(player, roleId, behaviour, sector);
+        public double calc(Player player, int sector, int roleId, int behaviour) {
+            return calcContribution(player, roleId, (byte) behaviour, RATING_SECTORS[sector]);
         }
     };
 
@@ -447,7 +506,7 @@ public class RatingPredictionModel {
      * @return double
      */
     protected double getContribution(Player p, Integer roleId, Byte behaviour, RatingSector s){
-        return contributionCache.get(p, s, roleId, behaviour);
+        return contributionCache.get(p, s.ordinal(), roleId, behaviour, getCalculationContextKey());
     }
 
     /**
@@ -812,9 +871,9 @@ public class RatingPredictionModel {
      * match tactic
      * If the value is not found in cache, it is calculated and stored in the cache
      */
-    RatingCalculationCache4<Double, Integer, Integer, Integer> staminaCache = new RatingCalculationCache4<>() {
+    SkillRatingCache staminaCache = new SkillRatingCache() {
         @Override
-        public double calc(Double stamina, Integer minute, Integer startMinute, Integer tacticType) {
+        public double calc(double stamina, int minute, int startMinute, int tacticType) {
             return calcStamina(stamina, minute, startMinute, tacticType);
         }
     };
@@ -826,10 +885,10 @@ public class RatingPredictionModel {
      * Cache of experience rating contribution to a rating sector
      * If the requested value is missing, it will be calculated.
      */
-    RatingCalculationCache2<Double, RatingSector> experienceCache = new RatingCalculationCache2<>() {
+    SkillRatingCache experienceCache = new SkillRatingCache() {
         @Override
-        public double calc(Double skillValue, RatingSector ratingSector) {
-            return calcExperience(ratingSector, skillValue);
+        public double calc(double skillValue, int ratingSector, int unused1, int unused2) {
+            return calcExperience(RATING_SECTORS[ratingSector], skillValue);
         }
     };
 
@@ -983,7 +1042,7 @@ public class RatingPredictionModel {
      * @return Weather independent player rating
      */
     public double getPlayerRating(Player p, int roleId, byte behaviour, int minute) {
-        return playerRatingCache.get(p, togglePositionSide(roleId), behaviour, minute); // calc left sides only
+        return playerRatingCache.get(p, togglePositionSide(roleId), behaviour, minute, getCalculationContextKey()); // calc left sides only
     }
 
     /**
@@ -995,21 +1054,21 @@ public class RatingPredictionModel {
      * @return Weather independent player rating at match beginning
      */
     public double getPlayerRatingMatchBeginning(Player p, int roleId, byte behaviour) {
-        return playerRatingCache.get(p, togglePositionSide(roleId), behaviour, 0);
+        return playerRatingCache.get(p, togglePositionSide(roleId), behaviour, 0, getCalculationContextKey());
     }
 
     public double getPlayerRatingMatchBeginning(Player p, byte positionWithBehaviour) {
-        return playerRatingCache.get(p, getPlayerRatingPosition(positionWithBehaviour), getBehaviour(positionWithBehaviour), 0);
+        return playerRatingCache.get(p, getPlayerRatingPosition(positionWithBehaviour), getBehaviour(positionWithBehaviour), 0, getCalculationContextKey());
     }
 
     /**
      * The cache of player rating results.
      * If the requested value is missing, it will be calculated.
      */
-    RatingCalculationCache4<Player, Integer, Byte, Integer> playerRatingCache = new RatingCalculationCache4<>() {
+    PlayerRatingCache playerRatingCache = new PlayerRatingCache() {
         @Override
-        public double calc(Player player, Integer roleId, Byte behaviour, Integer minute) {
-            return calcPlayerRating(player, roleId, behaviour, minute);
+        public double calc(Player player, int roleId, int behaviour, int minute) {
+            return calcPlayerRating(player, roleId, (byte) behaviour, minute);
         }
     };
 
@@ -1022,7 +1081,7 @@ public class RatingPredictionModel {
      * @return double
      */
     protected double calcPlayerRating(Player p, int roleId, byte behaviour, int minute) {
-        this.manMarkingOrder = null;
+        calculationContext.get().manMarkingOrder = null;
         var ret = 0.;
         for (var s : RatingSector.values()) {
             var c = getPositionContribution(p, roleId, behaviour, s, minute);
@@ -1079,9 +1138,9 @@ public class RatingPredictionModel {
      * Map of match average stamina factors
      * If the requested value is not contained, it is calculated and added to the map.
      */
-    private final RatingCalculationCache<Double> matchAverageStaminaFactorCache = new RatingCalculationCache<>() {
+    private final SkillRatingCache matchAverageStaminaFactorCache = new SkillRatingCache() {
         @Override
-        public double calc(Double stamina) {
+        public double calc(double stamina, int unused1, int unused2, int unused3) {
             return calcMatchAverageStaminaFactor(stamina);
         }
     };
@@ -1093,7 +1152,7 @@ public class RatingPredictionModel {
      * @return double
      */
     private double getMatchAverageStaminaFactor(double skill) {
-        return matchAverageStaminaFactorCache.get(skill);
+        return matchAverageStaminaFactorCache.get(skill, 0, 0, 0);
     }
 
     /**
@@ -1109,11 +1168,11 @@ public class RatingPredictionModel {
     }
 
     public double getPlayerRatingEndOfMatch(Player p, int roleId, byte behaviour) {
-        return playerRatingCache.get(p, togglePositionSide(roleId), behaviour, 90);
+        return playerRatingCache.get(p, togglePositionSide(roleId), behaviour, 90, getCalculationContextKey());
     }
 
     public double getPlayerRatingEndOfExtraTime(Player p, int roleId, byte behaviour) {
-        return playerRatingCache.get(p, togglePositionSide(roleId), behaviour, 120);
+        return playerRatingCache.get(p, togglePositionSide(roleId), behaviour, 120, getCalculationContextKey());
     }
 
     /**
@@ -1211,7 +1270,7 @@ public class RatingPredictionModel {
     /**
      * Map of players' penalty strength
      */
-    private final Map<Player, Double> playerPenaltyMap = new HashMap<>();
+    private final Map<Player, Double> playerPenaltyMap = new ConcurrentHashMap<>();
 
     /**
      * Get player's penalty strength
@@ -1219,12 +1278,7 @@ public class RatingPredictionModel {
      * @return Double
      */
     public double getPlayerPenaltyStrength(Player player) {
-        var ret = playerPenaltyMap.get(player);
-        if (ret != null) return ret;
-
-        ret = calcPlayerPenaltyStrength(player);
-        playerPenaltyMap.put(player, ret);
-        return ret;
+        return playerPenaltyMap.computeIfAbsent(player, this::calcPlayerPenaltyStrength);
     }
 
     /**
@@ -1405,7 +1459,7 @@ public class RatingPredictionModel {
         if (player != null) {
             var ret = playerTacticStrengthCache.get(player, playerSkill);
             ret *= weatherCache.get(Specialty.getSpecialty(player.getSpecialty()), weather);
-            ret *= staminaCache.get((double) player.getStamina(), minute, p.getStartMinute(), tacticType);
+            ret *= staminaCache.get(player.getStamina(), minute, p.getStartMinute(), tacticType);
             return ret;
         }
         return 0;
@@ -1596,7 +1650,7 @@ public class RatingPredictionModel {
      */
     private final TacticRatingCache tacticRatingCache = new TacticRatingCache() {
         @Override
-        public double calc(Lineup lineup, Integer minute) {
+        public double calc(Lineup lineup, int minute) {
             return calcTacticsRating(lineup, minute);
         }
     };
@@ -0,0 +1,44 @@
+package core.rating;
+
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Base of the lineup rating caches.
+ * The values of each lineup rating revision are kept in their own {@link PackedKeyMap}.
+ * Rating revisions are unique over all lineups, so that concurrent threads may evaluate different
+ * lineups with the same cache. Only the most recent revisions are kept.
+ */
+abstract class RevisionRatingCache {
+    private static final int MAX_REVISIONS = 64;
+
+    private record Revision(long revision, PackedKeyMap values) {}
+
+    private final ConcurrentHashMap<Long, PackedKeyMap> revisions = new ConcurrentHashMap<>();
+    private volatile Revision last;
+
+    /**
+     * Get the cached values of a lineup rating revision
+     *
+     * @param revision lineup rating revision
+     * @return map of the values
+     */
+    protected final PackedKeyMap getRevision(long revision) {
+        var l = last;
+        if (l != null && l.revision() == revision) {
+            return l.values();
+        }
+        var ret = revisions.computeIfAbsent(revision, r -> new PackedKeyMap());
+        if (revisions.size() > MAX_REVISIONS) {
+            // forget the oldest revision
+            revisions.remove(Collections.min(revisions.keySet()));
+        }
+        last = new Revision(revision, ret);
+        return ret;
+    }
+
+    public void clear() {
+        revisions.clear();
+        last = null;
+    }
+}
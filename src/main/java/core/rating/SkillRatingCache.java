@@ -0,0 +1,22 @@
+package core.rating;
+
+/**
+ * Cache of rating values depending on a skill value and up to three int parameters.
+ * If the requested value is missing, it is calculated and stored in the cache.
+ * The cache may be used by concurrent threads, each value is calculated at most once.
+ */
+abstract class SkillRatingCache {
+    private final PackedKeyMap theCache = new PackedKeyMap();
+
+    public double get(double skillValue, int a, int b, int c) {
+        var key1 = Double.doubleToLongBits(skillValue);
+        var key2 = PackedKeyMap.pack(a, b, c);
+        var ret = theCache.get(key1, key2);
+        if (Double.isNaN(ret)) {
+            ret = theCache.computeIfAbsent(key1, key2, () -> calc(skillValue, a, b, c));
+        }
+        return ret;
+    }
+
+    public abstract double calc(double skillValue, int a, int b, int c);
+}
@@ -2,49 +2,41 @@ package core.rating;
 
 import module.lineup.Lineup;
 
-import java.util.HashMap;
-import java.util.Map;
-
-abstract class StatsCache extends HashMap<Long, Map<Integer, Double>> {
-    Double average90;
-    Double average120;
-
-    public double get(Lineup lineup, Integer minute) {
-        var revision = get(lineup.getRatingRevision());
-        if (revision == null) {
-            // forget previous calculation
-            clear();
-            average90 = null;
-            average120 = null;
-            // init new one
-            revision = new HashMap<>();
-            put(lineup.getRatingRevision(), revision);
-        } else {
-            var m = revision.get(minute);
-            if (m != null) {
-                return m;
-            }
+/**
+ * Rating statistics (hatstats, loddar stats) of lineup rating revisions by minute,
+ * and their match averages.
+ * The cache may be used by concurrent threads, each value is calculated at most once.
+ */
+abstract class StatsCache extends RevisionRatingCache {
+    private static final long MINUTE = 0;
+    private static final long AVERAGE = 1;
+
+    public double get(Lineup lineup, int minute) {
+        var values = getRevision(lineup.getRatingRevision());
+        var ret = values.get(minute, MINUTE);
+        if (Double.isNaN(ret)) {
+            ret = values.computeIfAbsent(minute, MINUTE, () -> calc(lineup, minute));
         }
-
-        var ret = calc(lineup, minute);
-        revision.put(minute, ret);
         return ret;
     }
 
     public abstract double calc(Lineup lineup, int minute);
 
     public double getAverage90(Lineup lineup) {
-        if (average90 == null || get(lineup.getRatingRevision()) == null) {
-            average90 = calcAverage(lineup, 90);
-        }
-        return average90;
+        return getAverage(lineup, 90);
     }
 
     public double getAverage120(Lineup lineup) {
-        if (average120 == null || get(lineup.getRatingRevision()) == null) {
-            average120 = calcAverage(lineup, 120);
+        return getAverage(lineup, 120);
+    }
+
+    private double getAverage(Lineup lineup, int minutes) {
+        var values = getRevision(lineup.getRatingRevision());
+        var ret = values.get(minutes, AVERAGE);
+        if (Double.isNaN(ret)) {
+            ret = values.computeIfAbsent(minutes, AVERAGE, () -> calcAverage(lineup, minutes));
         }
-        return average120;
+        return ret;
     }
 
     private double calcAverage(Lineup lineup, int minutes) {
@@ -2,26 +2,19 @@ package core.rating;
 
 import module.lineup.Lineup;
 
-import java.util.HashMap;
-import java.util.Map;
-
-abstract class TacticRatingCache extends HashMap<Long, Map<Integer, Double>> {
-    public double get(Lineup lineup, Integer minute) {
-        var revision = get(lineup.getRatingRevision());
-        if (revision == null) {
-            revision = new HashMap<>();
-            clear();
-            put(lineup.getRatingRevision(), revision);
-        } else {
-            var rating = revision.get(minute);
-            if (rating != null) {
-                return rating;
-            }
+/**
+ * Tactic ratings of lineup rating revisions by minute.
+ * The cache may be used by concurrent threads, each value is calculated at most once.
+ */
+abstract class TacticRatingCache extends RevisionRatingCache {
+    public double get(Lineup lineup, int minute) {
+        var values = getRevision(lineup.getRatingRevision());
+        var ret = values.get(minute, 0);
+        if (Double.isNaN(ret)) {
+            ret = values.computeIfAbsent(minute, 0, () -> calc(lineup, minute));
         }
-        var ret = calc(lineup, minute);
-        revision.put(minute, ret);
         return ret;
     }
 
-    public abstract double calc(Lineup lineup, Integer minute);
+    public abstract double calc(Lineup lineup, int minute);
 }
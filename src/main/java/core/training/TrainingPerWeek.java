@@ -6,9 +6,13 @@ import core.db.DBManager;
 import core.model.HOModelManager;
 import core.model.enums.DBDataSource;
 import core.model.match.MatchKurzInfo;
+import core.model.match.MatchLineupTeam;
 import core.util.HODateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Class that holds all information required to calculate training effect of a given week
@@ -24,6 +28,8 @@ public class TrainingPerWeek extends AbstractTable.Storable {
     private HODateTime o_TrainingDate;
     private List<MatchKurzInfo> o_Matches;
     private List<MatchKurzInfo> o_NTmatches;
+    /** National team lineups of the national matches, loaded by {@link #loadMatchDetails} */
+    private Map<Long, MatchLineupTeam> o_NTmatchLineups = Map.of();
     private DBDataSource o_Source;
 
 
@@ -77,6 +83,60 @@ public class TrainingPerWeek extends AbstractTable.Storable {
         return o_Matches;
     }
 
+    /**
+     * Load all match information used by the training calculation of the players, including the
+     * minutes in sectors of the lineups, which are shared by all players.
+     * Afterward the training calculation does not access the database and the training of different
+     * players can be calculated concurrently.
+     *
+     * @param teamId          own team id
+     * @param nationalTeamIds national team ids of the players
+     */
+    public void loadMatchDetails(int teamId, Collection<Integer> nationalTeamIds) {
+        for (var match : getMatches()) {
+            match.getMatchTypeExtended();
+            var details = match.getMatchdetails();
+            if (details != null) {
+                var lineup = details.getOwnTeamLineup();
+                if (lineup != null) {
+                    lineup.initTrainingMinutes();
+                }
+                details.isWalkoverMatchWin(teamId);
+            }
+        }
+        var lineups = new HashMap<Long, MatchLineupTeam>();
+        for (var match : getNTmatches()) {
+            match.getMatchTypeExtended();
+            for (var nationalTeamId : nationalTeamIds) {
+                var lineup = DBManager.instance().loadMatchLineupTeam(match.getMatchType().getId(), match.getMatchID(), nationalTeamId);
+                if (lineup != null) {
+                    lineup.initTrainingMinutes();
+                }
+                lineups.put(ntMatchLineupKey(match, nationalTeamId), lineup);
+            }
+        }
+        o_NTmatchLineups = lineups;
+    }
+
+    /**
+     * Get the lineup of a national team in a national match
+     *
+     * @param match          national match
+     * @param nationalTeamId national team id
+     * @return lineup, null if not available
+     */
+    public MatchLineupTeam getNTmatchLineupTeam(MatchKurzInfo match, int nationalTeamId) {
+        var key = ntMatchLineupKey(match, nationalTeamId);
+        if (o_NTmatchLineups.containsKey(key)) {
+            return o_NTmatchLineups.get(key);
+        }
+        return DBManager.instance().loadMatchLineupTeam(match.getMatchType().getId(), match.getMatchID(), nationalTeamId);
+    }
+
+    private static long ntMatchLineupKey(MatchKurzInfo match, int nationalTeamId) {
+        return ((long) match.getMatchID() << 32) | (nationalTeamId & 0xFFFFFFFFL);
+    }
+
     public List<MatchKurzInfo> getNTmatches() {
         if ( o_NTmatches==null){
             var _firstMatchDate = o_TrainingDate.minus(7, ChronoUnit.DAYS);
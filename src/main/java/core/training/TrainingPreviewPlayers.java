@@ -1,5 +1,6 @@
 package core.training;
 
+import core.gui.DataDomain;
 import core.db.DBManager;
 import core.gui.RefreshManager;
 import core.gui.Refreshable;
@@ -38,7 +39,7 @@ public class TrainingPreviewPlayers implements Refreshable {
      * Add to refresh
      */
     public TrainingPreviewPlayers() {
-        RefreshManager.instance().registerRefreshable(this);
+        RefreshManager.instance().registerRefreshable(this, DataDomain.PLAYERS, DataDomain.TRAINING, DataDomain.MATCHES);
     }
 
     //~ Methods ------------------------------------------------------------------------------------
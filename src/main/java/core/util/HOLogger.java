@@ -2,28 +2,77 @@ package core.util;
 
 import core.db.user.UserManager;
 import core.file.ExampleFileFilter;
+import java.io.BufferedWriter;
 import java.io.File;
-import java.io.FileWriter;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Paths;
-import java.text.SimpleDateFormat;
-import java.util.Date;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
 
 /**
  * This is the HO logger
+ * <p>
+ * In synchronous mode each message is written and flushed by the calling thread.
+ * In asynchronous mode the callers only add the message to a bounded lock-free queue.
+ * A background thread writes the queued messages in batches and flushes once per batch.
+ * It parks while the queue is empty and is unparked by the next caller.
+ * If the queue is full, the {@link OverflowPolicy} decides whether the caller waits or the message is dropped.
+ * Messages below the log level are discarded before any text is formatted.
  * 
  * @author Marco Senn
  */
 public class HOLogger {
 
-	private final SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
+	/**
+	 * Handling of messages, when the queue of the asynchronous mode is full
+	 */
+	public enum OverflowPolicy {
+		/** The caller waits until the writer thread has made room */
+		BLOCK,
+		/** The message is discarded and counted as dropped */
+		DROP
+	}
+
+	private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")
+			.withZone(ZoneId.systemDefault());
+	/** Number of messages, which can be queued in asynchronous mode */
+	private static final int QUEUE_CAPACITY = 8192;
+	/** Maximum number of messages written between two flushes */
+	private static final int BATCH_SIZE = 1024;
+	/** Sleep of a flushing caller, until the written messages are checked again */
+	private static final long FLUSH_WAIT_NANOS = 2_000_000;
+	/** Sleep of a blocked caller, until the queue is checked again */
+	private static final long BLOCKED_NANOS = 50_000;
+
 	private static HOLogger clLogger;
 	private static String logsFolderName;
 	public static final int DEBUG = 0;
 	public static final int INFORMATION = 1;
 	public static final int WARNING = 2;
 	public static final int ERROR = 3;
-	private FileWriter logWriter;
-	private int logLevel = INFORMATION;
+	private Writer logWriter;
+	private volatile int logLevel = INFORMATION;
+
+	/** Queue of the asynchronous mode, null in synchronous mode */
+	private volatile LogRingBuffer<LogEvent> queue;
+	private volatile Thread writerThread;
+	private volatile boolean writerStopped;
+	/** Set by the writer thread before it parks on an empty queue, callers adding a message unpark it */
+	private volatile boolean writerWaiting;
+	private boolean shutdownHookAdded;
+	private final Object modeLock = new Object();
+	private volatile OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
+	private final LongAdder droppedMessages = new LongAdder();
+
+	private record LogEvent(long time, int level, Class<?> caller, Object message) {
+	}
 
 	/**
 	 * Creates a new instance of Logger
@@ -52,7 +101,9 @@ public class HOLogger {
 					fileName = "HO-" + HODateTime.toEpochSecond(HODateTime.now()) + ".log";
 					logFile = new File(logsFolder, fileName);
 				} while (logFile.exists());
-				logWriter = new FileWriter(logFile);
+				logWriter = new BufferedWriter(Channels.newWriter(
+						FileChannel.open(logFile.toPath(), StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE),
+						StandardCharsets.UTF_8), 1 << 16);
 			} catch (Exception e) {
 				errorMsg = "Unable to create logfile: " + logsFolder + "/" + fileName;
 				System.err.println(errorMsg);
@@ -95,6 +146,92 @@ public class HOLogger {
 		return logLevel;
 	}
 
+	/**
+	 * Check if messages of the level are logged.
+	 * Callers may use it to avoid building expensive messages.
+	 */
+	public boolean isEnabled(int level) {
+		return level >= logLevel;
+	}
+
+	/**
+	 * Switch between asynchronous and synchronous mode.
+	 * When switching to synchronous mode, the queued messages are written before the method returns.
+	 */
+	public void setAsync(boolean async) {
+		synchronized (modeLock) {
+			switchMode(async);
+		}
+	}
+
+	private void switchMode(boolean async) {
+		if (async == (queue != null)) return;
+		if (async) {
+			writerStopped = false;
+			var q = new LogRingBuffer<LogEvent>(QUEUE_CAPACITY);
+			writerThread = new Thread(() -> runWriter(q), "HOLogger");
+			writerThread.setDaemon(true);
+			queue = q;
+			writerThread.start();
+			if (!shutdownHookAdded) {
+				Runtime.getRuntime().addShutdownHook(new Thread(() -> setAsync(false), "HOLogger shutdown"));
+				shutdownHookAdded = true;
+			}
+		} else {
+			var q = queue;
+			queue = null;
+			writerStopped = true;
+			LockSupport.unpark(writerThread);
+			joinWriter();
+			synchronized (this) {
+				writeQueued(q, Integer.MAX_VALUE);
+			}
+		}
+	}
+
+	public boolean isAsync() {
+		return queue != null;
+	}
+
+	public void setOverflowPolicy(OverflowPolicy policy) {
+		overflowPolicy = policy;
+	}
+
+	public OverflowPolicy getOverflowPolicy() {
+		return overflowPolicy;
+	}
+
+	/**
+	 * Number of messages waiting for the writer thread
+	 */
+	public int getQueueDepth() {
+		var q = queue;
+		return q != null ? q.size() : 0;
+	}
+
+	/**
+	 * Number of messages dropped, because the queue was full
+	 */
+	public long getDroppedCount() {
+		return droppedMessages.sum();
+	}
+
+	/**
+	 * Wait until all messages queued so far are written
+	 */
+	public void flush() {
+		var q = queue;
+		if (q != null) {
+			var target = q.produced();
+			while (q.consumed() < target && queue == q && writerThread.isAlive()) {
+				LockSupport.parkNanos(FLUSH_WAIT_NANOS);
+			}
+		}
+		synchronized (this) {
+			flushWriter();
+		}
+	}
+
 	public void log(Class<?> caller, Object obj) {
 		logMessage(caller, obj, DEBUG);
 	}
@@ -125,35 +262,142 @@ public class HOLogger {
 	}
 
 	private void logMessage(Class<?> caller, Object obj, int level) {
+		if (!isEnabled(level)) {
+			return;
+		}
+		// Throwables are formatted by the writer, other objects may change after the call
+		var event = new LogEvent(System.currentTimeMillis(), level, caller,
+				obj instanceof Throwable ? obj : String.valueOf(obj));
+
+		var q = queue;
+		if (q == null || !enqueue(q, event)) {
+			// messages may be logged concurrently
+			synchronized (this) {
+				write(event, new StringBuilder());
+				flushWriter();
+			}
+		} else if (queue != q) {
+			// switched to synchronous mode while the message was queued, it may have missed the final drain
+			synchronized (this) {
+				writeQueued(q, Integer.MAX_VALUE);
+			}
+		}
+	}
+
+	/**
+	 * Add the message to the queue of the writer thread
+	 *
+	 * @return false, if the message has to be written by the caller
+	 */
+	private boolean enqueue(LogRingBuffer<LogEvent> q, LogEvent event) {
+		while (!q.offer(event)) {
+			if (overflowPolicy == OverflowPolicy.DROP) {
+				droppedMessages.increment();
+				return true;
+			}
+			if (queue != q || Thread.currentThread() == writerThread) {
+				return false;
+			}
+			LockSupport.parkNanos(BLOCKED_NANOS);
+		}
+		if (writerWaiting) {
+			LockSupport.unpark(writerThread);
+		}
+		return true;
+	}
+
+	private void runWriter(LogRingBuffer<LogEvent> q) {
+		while (true) {
+			int written;
+			synchronized (this) {
+				written = writeQueued(q, BATCH_SIZE);
+			}
+			if (writerStopped) {
+				// remaining messages are written by setAsync
+				return;
+			}
+			if (written == 0) {
+				// the flag is set before the queue is checked, so a caller adding a message either
+				// sees the flag and unparks the writer, or its message is seen by the check
+				writerWaiting = true;
+				if (!q.canPoll() && !writerStopped) {
+					LockSupport.park(this);
+				}
+				writerWaiting = false;
+			}
+		}
+	}
+
+	private void joinWriter() {
+		try {
+			writerThread.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
 
-		String msg;
+	/**
+	 * Write a batch of queued messages and flush once. Must be called holding the monitor.
+	 *
+	 * @return number of written messages
+	 */
+	private int writeQueued(LogRingBuffer<LogEvent> q, int max) {
+		var console = new StringBuilder();
+		int n = 0;
+		LogEvent event;
+		while (n < max && (event = q.poll()) != null) {
+			write(event, console);
+			n++;
+		}
+		if (n > 0) {
+			flushWriter();
+		}
+		return n;
+	}
+
+	private void flushWriter() {
+		if (logWriter != null) {
+			try {
+				logWriter.flush();
+			} catch (Exception e) {
+				e.printStackTrace();
+			}
+		}
+	}
+
+	/**
+	 * Print the message to the console and the log file. Must be called holding the monitor.
+	 *
+	 * @param console reused buffer of the console line
+	 */
+	private void write(LogEvent event, StringBuilder console) {
 		String text;
-		
-		if (obj instanceof Throwable t) {
+		if (event.message() instanceof Throwable t) {
 			text = t.getMessage() + "\n" + ExceptionUtils.getStackTrace(t);
 		} else {
-			text = String.valueOf(obj);
+			text = (String) event.message();
 		}
 
-		msg = switch (level) {
+		String msg = switch (event.level()) {
 			case DEBUG -> " [Debug]   ";
 			case WARNING -> " [Warning] ";
 			case ERROR -> " [Error]   ";
 			default -> " [Info]    ";
 		};
 
-		System.out.println(msg + ((caller != null) ? caller.getSimpleName() : "?") + ": " + text);
-
-		if (level < logLevel) {
-			return;
-		}
+		var caller = event.caller();
+		console.setLength(0);
+		console.append(msg).append((caller != null) ? caller.getSimpleName() : "?").append(": ").append(text);
+		System.out.println(console);
 
 		if (logWriter != null) {
 			try {
-				Date d = new Date();
-				String txt = (sdf.format(d) + msg + ((caller != null) ? caller.getName() : "?") + ": " + text + "\r\n");
-				logWriter.write(txt);
-				logWriter.flush();
+				logWriter.write(DATE_FORMAT.format(Instant.ofEpochMilli(event.time())));
+				logWriter.write(msg);
+				logWriter.write((caller != null) ? caller.getName() : "?");
+				logWriter.write(": ");
+				logWriter.write(text);
+				logWriter.write("\r\n");
 			} catch (Exception e) {
 				e.printStackTrace();
 			}
@@ -0,0 +1,118 @@
+package core.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bounded lock-free queue of the asynchronous {@link HOLogger}.
+ * <p>
+ * Any number of threads may offer elements, only one thread may poll them.
+ * Each slot has a sequence number, which tells whether the slot is free for the producer
+ * of a position or filled for the consumer of a position. Producers claim a position by
+ * incrementing the tail counter, no locks are taken.
+ *
+ * @param <E> element type
+ */
+final class LogRingBuffer<E> {
+
+	private final Object[] elements;
+	private final AtomicLongArray sequences;
+	private final int mask;
+
+	/** Next position claimed by a producer */
+	private final AtomicLong tail = new AtomicLong();
+	/** Next position read by the consumer */
+	private final AtomicLong head = new AtomicLong();
+
+	/**
+	 * @param capacity minimum number of elements, rounded up to a power of two
+	 */
+	LogRingBuffer(int capacity) {
+		int size = capacity <= 2 ? 2 : Integer.highestOneBit(capacity - 1) << 1;
+		elements = new Object[size];
+		sequences = new AtomicLongArray(size);
+		for (int i = 0; i < size; i++) {
+			sequences.set(i, i);
+		}
+		mask = size - 1;
+	}
+
+	int capacity() {
+		return elements.length;
+	}
+
+	/**
+	 * Add an element, if the buffer is not full
+	 *
+	 * @return false, if the buffer is full
+	 */
+	boolean offer(E element) {
+		long pos = tail.get();
+		while (true) {
+			int index = (int) (pos & mask);
+			long diff = sequences.get(index) - pos;
+			if (diff == 0) {
+				if (tail.compareAndSet(pos, pos + 1)) {
+					elements[index] = element;
+					sequences.set(index, pos + 1);
+					return true;
+				}
+				pos = tail.get();
+			} else if (diff < 0) {
+				return false;
+			} else {
+				pos = tail.get();
+			}
+		}
+	}
+
+	/**
+	 * Remove the oldest element. Must only be called by the consumer thread.
+	 *
+	 * @return element, null if the buffer is empty
+	 */
+	@SuppressWarnings("unchecked")
+	E poll() {
+		long pos = head.get();
+		int index = (int) (pos & mask);
+		if (sequences.get(index) != pos + 1) {
+			return null;
+		}
+		var ret = (E) elements[index];
+		elements[index] = null;
+		sequences.set(index, pos + elements.length);
+		head.set(pos + 1);
+		return ret;
+	}
+
+	/**
+	 * Check if the next element is published. Must only be called by the consumer thread.
+	 *
+	 * @return true, if {@link #poll()} would return an element
+	 */
+	boolean canPoll() {
+		long pos = head.get();
+		return sequences.get((int) (pos & mask)) == pos + 1;
+	}
+
+	/**
+	 * Number of elements in the buffer. Elements being added concurrently may be included.
+	 */
+	int size() {
+		return (int) Math.max(0, tail.get() - head.get());
+	}
+
+	/**
+	 * Number of elements, which were taken by the consumer since creation
+	 */
+	long consumed() {
+		return head.get();
+	}
+
+	/**
+	 * Number of positions claimed by producers since creation
+	 */
+	long produced() {
+		return tail.get();
+	}
+}
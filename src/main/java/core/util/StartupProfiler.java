@@ -0,0 +1,87 @@
+package core.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * Measures the duration of the boot phases of HO.
+ * <p>
+ * Phases may be timed concurrently. Each finished phase is logged and reported to the listener,
+ * e.g. the splash screen.
+ */
+public final class StartupProfiler {
+
+	private final long startNanos = System.nanoTime();
+	private final Map<String, Long> phaseMillis = new LinkedHashMap<>();
+	private volatile long totalMillis = -1;
+	private volatile BiConsumer<String, Long> listener;
+
+	/**
+	 * @param listener informed about the name and the duration in milliseconds of each finished phase.
+	 *                 It is called by the thread, which ran the phase.
+	 */
+	public void setListener(BiConsumer<String, Long> listener) {
+		this.listener = listener;
+	}
+
+	/**
+	 * Run and time a phase
+	 *
+	 * @param phase name of the phase
+	 * @param task  phase implementation
+	 */
+	public void time(String phase, Runnable task) {
+		var start = System.nanoTime();
+		try {
+			task.run();
+		} finally {
+			record(phase, (System.nanoTime() - start) / 1_000_000);
+		}
+	}
+
+	/**
+	 * Record the duration of a phase
+	 */
+	public void record(String phase, long millis) {
+		synchronized (phaseMillis) {
+			phaseMillis.put(phase, millis);
+		}
+		HOLogger.instance().info(StartupProfiler.class, "Startup phase " + phase + ": " + millis + " ms");
+		var l = listener;
+		if (l != null) {
+			l.accept(phase, millis);
+		}
+	}
+
+	/**
+	 * Mark the end of the startup
+	 */
+	public void finish() {
+		totalMillis = getElapsedMillis();
+		HOLogger.instance().info(StartupProfiler.class, "Startup finished after " + totalMillis + " ms");
+	}
+
+	/**
+	 * Durations of the finished phases in milliseconds, in order of their end
+	 */
+	public Map<String, Long> getPhaseMillis() {
+		synchronized (phaseMillis) {
+			return new LinkedHashMap<>(phaseMillis);
+		}
+	}
+
+	/**
+	 * Time since the profiler was created
+	 */
+	public long getElapsedMillis() {
+		return (System.nanoTime() - startNanos) / 1_000_000;
+	}
+
+	/**
+	 * Duration of the startup, -1 if the startup is not finished
+	 */
+	public long getTotalMillis() {
+		return totalMillis;
+	}
+}
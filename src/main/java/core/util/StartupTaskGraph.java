@@ -0,0 +1,131 @@
+package core.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Runs the boot phases of HO concurrently, as far as their dependencies allow.
+ * <p>
+ * A task starts as soon as all its dependencies are finished. Tasks sharing a lock never run
+ * at the same time, e.g. the tasks using the database connection, which must not be used concurrently.
+ * Each task is timed by the {@link StartupProfiler}.
+ */
+public final class StartupTaskGraph {
+
+	private record Task(String name, String lock, Runnable runnable, String[] dependencies) {
+	}
+
+	private final StartupProfiler profiler;
+	private final Map<String, Task> tasks = new LinkedHashMap<>();
+
+	public StartupTaskGraph(StartupProfiler profiler) {
+		this.profiler = profiler;
+	}
+
+	/**
+	 * Add a task
+	 *
+	 * @param name         unique task name, used as phase name of the profiler
+	 * @param task         task implementation
+	 * @param dependencies names of the tasks, which have to be finished before, must be added before
+	 * @return this graph
+	 */
+	public StartupTaskGraph add(String name, Runnable task, String... dependencies) {
+		return add(name, null, task, dependencies);
+	}
+
+	/**
+	 * Add a task, which must not run concurrently to other tasks of the same lock
+	 *
+	 * @param name         unique task name, used as phase name of the profiler
+	 * @param lock         name of the lock, null if the task may run concurrently to any task
+	 * @param task         task implementation
+	 * @param dependencies names of the tasks, which have to be finished before, must be added before
+	 * @return this graph
+	 */
+	public StartupTaskGraph add(String name, String lock, Runnable task, String... dependencies) {
+		if (tasks.containsKey(name)) {
+			throw new IllegalArgumentException("Duplicate startup task " + name);
+		}
+		for (var dependency : dependencies) {
+			if (!tasks.containsKey(dependency)) {
+				throw new IllegalArgumentException("Unknown dependency " + dependency + " of startup task " + name);
+			}
+		}
+		tasks.put(name, new Task(name, lock, task, dependencies));
+		return this;
+	}
+
+	/**
+	 * Run all tasks and wait until they are finished.
+	 * If a task fails, the tasks depending on it are not run.
+	 *
+	 * @throws RuntimeException exception of a failed task
+	 */
+	public void run() {
+		if (tasks.isEmpty()) return;
+		var executor = createExecutor();
+		var locks = new HashMap<String, ReentrantLock>();
+		var futures = new HashMap<String, CompletableFuture<Void>>();
+		try {
+			for (var task : tasks.values()) {
+				var dependencies = new ArrayList<CompletableFuture<Void>>();
+				for (var dependency : task.dependencies()) {
+					dependencies.add(futures.get(dependency));
+				}
+				var lock = task.lock() != null ? locks.computeIfAbsent(task.lock(), l -> new ReentrantLock()) : null;
+				futures.put(task.name(), CompletableFuture.allOf(dependencies.toArray(CompletableFuture[]::new))
+						.thenRunAsync(() -> runTask(task, lock), executor));
+			}
+			join(new ArrayList<>(futures.values()));
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	private void runTask(Task task, ReentrantLock lock) {
+		if (lock != null) {
+			lock.lock();
+		}
+		try {
+			profiler.time(task.name(), task.runnable());
+		} finally {
+			if (lock != null) {
+				lock.unlock();
+			}
+		}
+	}
+
+	private ExecutorService createExecutor() {
+		var threads = Math.min(tasks.size(), Math.max(2, Runtime.getRuntime().availableProcessors()));
+		var count = new AtomicInteger();
+		return Executors.newFixedThreadPool(threads, r -> {
+			var thread = new Thread(r, "HO startup-" + count.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	private static void join(List<CompletableFuture<Void>> futures) {
+		try {
+			CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			if (e.getCause() instanceof Error error) {
+				throw error;
+			}
+			throw e;
+		}
+	}
+}
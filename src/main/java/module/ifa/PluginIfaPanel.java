@@ -1,5 +1,6 @@
 package module.ifa;
 
+import core.gui.DataDomain;
 import core.gui.comp.panel.LazyPanel;
 import core.model.TranslationFacility;
 import core.module.config.ModuleConfig;
@@ -33,7 +34,7 @@ public class PluginIfaPanel extends LazyPanel {
 		this.model = new IfaModel();
 		initComponents();
 		addListeners();
-		registerRefreshable(true);
+		registerRefreshable(true, DataDomain.MATCHES);
 	}
 
 	@Override
@@ -2,7 +2,7 @@ package module.ifa;
 
 import core.db.DBManager;
 import core.file.xml.TeamInfo;
-import core.file.xml.XMLManager;
+import core.file.xml.XMLStreamParser;
 import core.file.xml.XMLTeamDetailsParser;
 import core.gui.HOMainFrame;
 import core.model.HOModelManager;
@@ -15,15 +15,13 @@ import core.util.HODateTime;
 import core.util.HOLogger;
 import module.ifa.gif.Quantize;
 
-import java.awt.Image;
 import java.awt.image.BufferedImage;
-import java.awt.image.PixelGrabber;
-import java.io.IOException;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
-
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
+import java.util.Map;
 
 public class PluginIfaUtils {
 
@@ -31,21 +29,101 @@ public class PluginIfaUtils {
 		throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
 	}
 
-	private static String getTeamDetails(int teamID) {
-		return MyConnector.instance().getTeamDetails(teamID);
+	/**
+	 * Friendlies of a matches archive
+	 *
+	 * @param friendlies    friendlies of the own team, league ids are not set
+	 * @param matchCount    number of matches of all types in the archive
+	 * @param lastMatchDate date of the last match in the archive
+	 */
+	record MatchesArchive(List<IfaMatch> friendlies, int matchCount, HODateTime lastMatchDate) {
 	}
 
-	private static String parseXmlElement(Document doc, String element, int i, String eleText) {
-		String value = "";
-		try {
-			Element ele = doc.getDocumentElement();
-			Element tmpEle = (Element) ele.getElementsByTagName(eleText).item(i);
-			tmpEle = (Element) tmpEle.getElementsByTagName(element).item(0);
-			value = XMLManager.getFirstChildNodeValue(tmpEle);
+	/**
+	 * Parse the friendlies of a matches archive in one pass over its matches.
+	 * The archive is read by the {@link XMLStreamParser}, no document tree is built.
+	 *
+	 * @param matchesArchive matches archive xml
+	 * @param ownTeamId      id of the own team
+	 * @return matches archive
+	 */
+	static MatchesArchive parseMatchesArchive(String matchesArchive, int ownTeamId) {
+		var friendlies = new ArrayList<IfaMatch>();
+		HODateTime lastMatchDate = null;
+		int matchCount = 0;
+		try (var parser = XMLStreamParser.open(matchesArchive)) {
+			if (parser == null) {
+				return new MatchesArchive(friendlies, 0, null);
+			}
+			var root = parser.getDepth();
+			while (parser.nextElement(root)) {
+				if (!parser.getName().equals("Match")) {
+					continue;
+				}
+				var values = parser.readValues();
+				matchCount++;
+				var matchDateString = values.get("MatchDate");
+				lastMatchDate = HODateTime.fromHT(matchDateString);
+				int matchTypeId = Integer.parseInt(values.getOrDefault("MatchType", "0"));
+				MatchType matchType = MatchType.getById(matchTypeId);
+				if (matchType == MatchType.FRIENDLYCUPRULES || matchType == MatchType.FRIENDLYNORMAL
+						|| matchType == MatchType.INTFRIENDLYCUPRULES
+						|| matchType == MatchType.INTFRIENDLYNORMAL
+						|| matchType == MatchType.NATIONALFRIENDLY) {
+					try {
+						IfaMatch match = new IfaMatch(matchTypeId);
+						match.setMatchId(Integer.parseInt(values.get("MatchID")));
+						match.setPlayedDate(lastMatchDate);
+						match.setHomeTeamId(Integer.parseInt(values.get("HomeTeamID")));
+						match.setAwayTeamId(Integer.parseInt(values.get("AwayTeamID")));
+						match.setHomeTeamGoals(Integer.parseInt(values.get("HomeGoals")));
+						match.setAwayTeamGoals(Integer.parseInt(values.get("AwayGoals")));
+						if (match.getHomeTeamId() != ownTeamId && match.getAwayTeamId() != ownTeamId) {
+							HOLogger.instance().error(PluginIfaUtils.class, "IFA: Owner team not involved in match");
+							continue;
+						}
+						friendlies.add(match);
+					} catch (Exception e) {
+						HOLogger.instance().error(PluginIfaUtils.class, "Error getting data for match ("
+								+ matchDateString + "): " + e);
+					}
+				}
+			}
 		} catch (Exception e) {
-			HOLogger.instance().error(PluginIfaUtils.class, e);
+			HOLogger.instance().log(PluginIfaUtils.class, e);
 		}
-		return value;
+		return new MatchesArchive(friendlies, matchCount, lastMatchDate);
+	}
+
+	private static int getOpponentId(IfaMatch match, int ownTeamId) {
+		return match.getHomeTeamId() == ownTeamId ? match.getAwayTeamId() : match.getHomeTeamId();
+	}
+
+	/**
+	 * Download the leagues of the teams, which are not known yet.
+	 * The team details are downloaded concurrently.
+	 *
+	 * @param teamIds     team ids
+	 * @param teamLeagues league id by team id, the downloaded leagues are added
+	 */
+	private static void downloadTeamLeagues(Collection<Integer> teamIds, Map<Integer, Integer> teamLeagues) {
+		var unknown = new HashSet<Integer>();
+		for (var teamId : teamIds) {
+			if (!teamLeagues.containsKey(teamId)) {
+				unknown.add(teamId);
+			}
+		}
+		if (unknown.isEmpty()) {
+			return;
+		}
+		MyConnector.instance().getTeamDetails(unknown).forEach((teamId, xml) -> {
+			for (TeamInfo o : XMLTeamDetailsParser.getTeamInfoFromString(xml)) {
+				if (o.getTeamId() == teamId) {
+					teamLeagues.put(teamId, o.getLeagueId());
+					break;
+				}
+			}
+		});
 	}
 
 	public static void updateMatchesTable() {
@@ -64,6 +142,10 @@ public class PluginIfaUtils {
 		try {
 			HOMainFrame.instance().resetInformation();
 			if (time != null) {
+				var basics = HOModelManager.instance().getModel().getBasics();
+				// leagues of the teams, which are already known from stored matches
+				var teamLeagues = DBManager.instance().getIFATeamLeagues();
+				teamLeagues.put(basics.getTeamId(), basics.getLiga());
 				var from = HODateTime.fromDbTimestamp(DBManager.instance().getLastIFAMatchDate());
 				if (from == null) {
 					from = time;
@@ -74,7 +156,7 @@ public class PluginIfaUtils {
 					if (to.isAfter(today)) {
 						to = today;
 					}
-					insertMatches(from, to);
+					insertMatches(from, to, teamLeagues);
 					from = from.plus(60, ChronoUnit.DAYS);
 				}
 			}
@@ -85,44 +167,21 @@ public class PluginIfaUtils {
 		}
 	}
 
-	static BufferedImage quantizeBufferedImage(BufferedImage bufferedImage) throws IOException {
-		int[][] pixels = getPixels(bufferedImage);
+	/**
+	 * Reduce the image to the 256 colors of a GIF palette
+	 */
+	static BufferedImage quantizeBufferedImage(BufferedImage bufferedImage) {
+		int w = bufferedImage.getWidth();
+		int h = bufferedImage.getHeight();
+		int[] pixels = bufferedImage.getRGB(0, 0, w, h, null, 0, w);
 		int[] palette = Quantize.quantizeImage(pixels, 256);
-		int w = pixels.length;
-		int h = pixels[0].length;
-//		int[] pix = new int[w * h];
-
-		BufferedImage bufIma = new BufferedImage(w, h, 1);
-
-		for (int x = w; x-- > 0;) {
-			for (int y = h; y-- > 0;) {
-//				pix[(y * w + x)] = palette[pixels[x][y]];
-				bufIma.setRGB(x, y, palette[pixels[x][y]]);
-			}
-		}
-		return bufIma;
-	}
-
-	private static int[][] getPixels(Image image) throws IOException {
-		int w = image.getWidth(null);
-		int h = image.getHeight(null);
-		int[] pix = new int[w * h];
-		PixelGrabber grabber = new PixelGrabber(image, 0, 0, w, h, pix, 0, w);
-		try {
-			if (!grabber.grabPixels())
-				throw new IOException("Grabber returned false: " + grabber.status());
-		} catch (InterruptedException e) {
-			e.printStackTrace();
+		for (int i = 0; i < pixels.length; i++) {
+			pixels[i] = palette[pixels[i]];
 		}
 
-		int[][] pixels = new int[w][h];
-		for (int x = w; x-- > 0;) {
-			for (int y = h; y-- > 0;) {
-				pixels[x][y] = pix[(y * w + x)];
-			}
-		}
-
-		return pixels;
+		BufferedImage bufIma = new BufferedImage(w, h, BufferedImage.TYPE_INT_RGB);
+		bufIma.setRGB(0, 0, w, h, pixels, 0, w);
+		return bufIma;
 	}
 
 	public static double getCoolness(int countryId) {
@@ -132,97 +191,35 @@ public class PluginIfaUtils {
 				/ (double) league.getActiveUsers();
 	}
 
-	private static void insertMatches(HODateTime from, HODateTime to) {
-		StringBuilder errors = new StringBuilder();
-		HODateTime matchDate = null;
-		String matchesArchive = MyConnector.instance().getMatchesArchive(HOModelManager.instance().getModel().getBasics().getTeamId(), from, to);
-		Document doc = XMLManager.parseString(matchesArchive);
-
-		assert doc != null;
-		int matchesCount = ((Element) doc.getDocumentElement().getElementsByTagName("MatchList")
-				.item(0)).getElementsByTagName("Match").getLength();
-		
-		int ownLeague = HOModelManager.instance().getModel().getBasics().getLiga();
+	private static void insertMatches(HODateTime from, HODateTime to, Map<Integer, Integer> teamLeagues) {
 		int ownId = HOModelManager.instance().getModel().getBasics().getTeamId();
-		int opponentId;
-		int opponentLeague = 0;
-		
-		for (int i = 0; i < matchesCount; i++) {
-			int matchTypeId = Integer.parseInt(parseXmlElement(doc, "MatchType", i, "Match"));
-			IfaMatch match = new IfaMatch(matchTypeId);
-			MatchType matchType = MatchType.getById(matchTypeId);
-			var matchDateString = parseXmlElement(doc, "MatchDate", i, "Match");
-			matchDate = HODateTime.fromHT(matchDateString);
-
-			if (matchType == MatchType.FRIENDLYCUPRULES || matchType == MatchType.FRIENDLYNORMAL
-					|| matchType == MatchType.INTFRIENDLYCUPRULES
-					|| matchType == MatchType.INTFRIENDLYNORMAL
-					|| matchType == MatchType.NATIONALFRIENDLY) {
-				int homeTeamID = Integer
-						.parseInt(parseXmlElement(doc, "HomeTeamID", i, "HomeTeam"));
-				int awayTeamID = Integer
-						.parseInt(parseXmlElement(doc, "AwayTeamID", i, "AwayTeam"));
-				int matchID = Integer.parseInt(parseXmlElement(doc, "MatchID", i, "Match"));
-				if (!DBManager.instance().isIFAMatchinDB(matchID, matchTypeId)) {
-					int homeTeamGoals = Integer.parseInt(parseXmlElement(doc, "HomeGoals", i,
-							"Match"));
-					int awayTeamGoals = Integer.parseInt(parseXmlElement(doc, "AwayGoals", i,
-							"Match"));
-					try {
-						
-						int homeLeagueIndex;
-						int awayLeagueIndex;
-						
-						// Some ifs inserted to avoid downloading own team info for every match
-						
-						if (homeTeamID == ownId) {
-							opponentId = awayTeamID;
-						} else if (awayTeamID == ownId) {
-							opponentId = homeTeamID;
-						} else {
-							HOLogger.instance().error(null, "IFA: Owner team not involved in match");
-							continue;
-						}
-						
-						List<TeamInfo> opp = XMLTeamDetailsParser.getTeamInfoFromString(getTeamDetails(opponentId));
-						for (TeamInfo o : opp) {
-							if (o.getTeamId() == opponentId) {
-								opponentLeague = o.getLeagueId();
-								break;
-							}
-						}
-						
-						if (homeTeamID == ownId) {
-							homeLeagueIndex = ownLeague;
-							awayLeagueIndex = opponentLeague;
-						} else {
-							awayLeagueIndex = ownLeague;
-							homeLeagueIndex = opponentLeague;
-						}
-						
-						match.setMatchId(matchID);
-						match.setPlayedDate(matchDate);
-						match.setHomeLeagueId(homeLeagueIndex);
-						match.setHomeTeamId(homeTeamID);
-						match.setAwayLeagueId(awayLeagueIndex);
-						match.setAwayTeamId(awayTeamID);
-						match.setHomeTeamGoals(homeTeamGoals);
-						match.setAwayTeamGoals(awayTeamGoals);
-
-						DBManager.instance().insertIFAMatch(match);
-					} catch (Exception e) {
-						errors.append("Error 1 getting data for match ").append(matchID).append(" (").append(matchDateString).append(" / HomeTeam ").append(homeTeamID).append(" vs. AwayTeam ").append(awayTeamID).append(")<br>");
-					}
-				}
+		String matchesArchive = MyConnector.instance().getMatchesArchive(ownId, from, to);
+		var archive = parseMatchesArchive(matchesArchive, ownId);
+
+		var matches = DBManager.instance().getNewIFAMatches(archive.friendlies());
+		downloadTeamLeagues(matches.stream().map(m -> getOpponentId(m, ownId)).toList(), teamLeagues);
+
+		var newMatches = new ArrayList<IfaMatch>();
+		StringBuilder errors = new StringBuilder();
+		for (var match : matches) {
+			var homeLeague = teamLeagues.get(match.getHomeTeamId());
+			var awayLeague = teamLeagues.get(match.getAwayTeamId());
+			if (homeLeague == null || awayLeague == null) {
+				errors.append("Error 1 getting data for match ").append(match.getMatchId()).append(" (").append(match.getPlayedDate()).append(" / HomeTeam ").append(match.getHomeTeamId()).append(" vs. AwayTeam ").append(match.getAwayTeamId()).append(")<br>");
+				continue;
 			}
+			match.setHomeLeagueId(homeLeague);
+			match.setAwayLeagueId(awayLeague);
+			newMatches.add(match);
 		}
+		DBManager.instance().insertIFAMatches(newMatches);
 
 		if (!errors.isEmpty()) {
 			HOLogger.instance().error(PluginIfaUtils.class, errors.toString());
 		}
 
-		if (matchesCount == 50) {
-			insertMatches(matchDate, to);
+		if (archive.matchCount() == 50) {
+			insertMatches(archive.lastMatchDate(), to, teamLeagues);
 		}
 	}
 }
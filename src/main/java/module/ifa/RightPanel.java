@@ -9,7 +9,6 @@ import core.model.WorldDetailsManager;
 import core.net.MyConnector;
 import core.util.GUIUtils;
 import core.util.HOLogger;
-import core.util.IOUtils;
 import module.ifa.gif.Gif89Encoder;
 import module.ifa.model.IfaModel;
 
@@ -112,17 +111,11 @@ public class RightPanel extends JPanel {
             RightPanel.this.model.reload();
         });
 
-		this.saveImageButton.addActionListener(e -> {
-            try {
-                saveImage();
-            } catch (IOException ex) {
-                throw new RuntimeException(ex);
-            }
-        });
+		this.saveImageButton.addActionListener(e -> saveImage());
 
 	}
 
-	private void saveImage() throws IOException {
+	private void saveImage() {
 		boolean away = this.awayRadioButton.isSelected();
 
 		JFileChooser fileChooser = new JFileChooser();
@@ -141,8 +134,8 @@ public class RightPanel extends JPanel {
 		if (fileChooser.showSaveDialog(SwingUtilities.getWindowAncestor(this)) != 0) {
 			return;
 		}
-		OutputStream out = new FileOutputStream(fileChooser.getSelectedFile().getPath());
 
+		// the components are painted here, the GIF is encoded in the background
 		if (this.imageDesignPanel.isAnimGif()) {
 			JDialog dialog = new JDialog();
 			dialog.getContentPane().setBackground(Color.white);
@@ -168,28 +161,67 @@ public class RightPanel extends JPanel {
 			BufferedImage bufferedImage = new BufferedImage(dialog.getWidth(), dialog.getHeight(),
 					1);
 			dialog.getContentPane().paintAll(bufferedImage.createGraphics());
-
-			Gif89Encoder encoder = new Gif89Encoder();
-			BufferedImage bufIma = PluginIfaUtils.quantizeBufferedImage(bufferedImage);
-			encoder.addFrame(bufIma.getSubimage(0, 0, maxW, maxH));
-			encoder.addFrame(bufIma.getSubimage(maxW, 0, maxW, maxH));
-			encoder.setLoopCount(0);
-			encoder.setUniformDelay((int) (100.0D * parseDouble(this.imageDesignPanel
-					.getDelaySpinner().getValue().toString())));
-			encoder.encode(out);
 			dialog.dispose();
 
 			// enforce refresh
 			this.imageDesignPanel.setAway(away);
+
+			int delay = (int) (100.0D * parseDouble(this.imageDesignPanel
+					.getDelaySpinner().getValue().toString()));
+			new SaveImageWorker(fileChooser.getSelectedFile(), bufferedImage, maxW, delay).execute();
 		} else {
 			JComponent panel = this.imageDesignPanel.getEmblemPanel().getImage();
 			BufferedImage bufferedImage = new BufferedImage(panel.getWidth(), panel.getHeight(), 1);
 			panel.paintAll(bufferedImage.createGraphics());
+			new SaveImageWorker(fileChooser.getSelectedFile(), bufferedImage, bufferedImage.getWidth(), 0).execute();
+		}
+	}
+
+	/**
+	 * Quantizes the painted image and encodes it as GIF, in the background.
+	 * The image holds the frames side by side. They are quantized together,
+	 * so all frames share the global palette.
+	 */
+	private class SaveImageWorker extends SwingWorker<Object, Object> {
+		private final File file;
+		private final BufferedImage image;
+		private final int frameWidth;
+		private final int delay;
+
+		SaveImageWorker(File file, BufferedImage image, int frameWidth, int delay) {
+			this.file = file;
+			this.image = image;
+			this.frameWidth = frameWidth;
+			this.delay = delay;
+			saveImageButton.setEnabled(false);
+		}
+
+		@Override
+		protected Object doInBackground() throws IOException {
+			BufferedImage bufIma = PluginIfaUtils.quantizeBufferedImage(image);
 			Gif89Encoder encoder = new Gif89Encoder();
-			encoder.addFrame(PluginIfaUtils.quantizeBufferedImage(bufferedImage));
-			encoder.encode(out);
+			int frames = image.getWidth() / frameWidth;
+			for (int i = 0; i < frames; i++) {
+				encoder.addFrame(bufIma.getSubimage(i * frameWidth, 0, frameWidth, image.getHeight()));
+			}
+			if (frames > 1) {
+				encoder.setLoopCount(0);
+				encoder.setUniformDelay(delay);
+			}
+			try (OutputStream out = new BufferedOutputStream(new FileOutputStream(file))) {
+				encoder.encode(out);
+			}
+			return null;
 		}
 
-		IOUtils.closeQuietly(out);
+		@Override
+		protected void done() {
+			saveImageButton.setEnabled(true);
+			try {
+				get();
+			} catch (Exception e) {
+				HOLogger.instance().error(RightPanel.class, "Could not save image " + file + ": " + e);
+			}
+		}
 	}
 }
@@ -1,6 +1,7 @@
 package module.ifa.gif;
 
 import java.awt.Image;
+import java.awt.image.BufferedImage;
 import java.awt.image.PixelGrabber;
 import java.io.IOException;
 
@@ -33,6 +34,14 @@ public class DirectGif89Frame extends Gif89Frame {
 	 *                pixel-grabbing.
 	 */
 	public DirectGif89Frame(Image img) throws IOException {
+		if (img instanceof BufferedImage bufferedImage) {
+			// read the pixels directly into one flat array
+			theWidth = bufferedImage.getWidth();
+			theHeight = bufferedImage.getHeight();
+			argbPixels = bufferedImage.getRGB(0, 0, theWidth, theHeight, null, 0, theWidth);
+			ciPixels = new byte[argbPixels.length];
+			return;
+		}
 		PixelGrabber pg = new PixelGrabber(img, 0, 0, -1, -1, true);
 
 		String errmsg = null;
@@ -75,4 +84,11 @@ public class DirectGif89Frame extends Gif89Frame {
 	Object getPixelSource() {
 		return argbPixels;
 	}
+
+	/**
+	 * Free the ARGB pixels, once they are converted to color indices.
+	 */
+	void releasePixelSource() {
+		argbPixels = null;
+	}
 }
\ No newline at end of file
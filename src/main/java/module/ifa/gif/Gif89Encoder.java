@@ -10,8 +10,13 @@ import java.io.FileOutputStream;
 import java.io.FileReader;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * This is the central class of a JDK 1.1 compatible GIF encoder that, AFAIK,
@@ -102,6 +107,7 @@ public class Gif89Encoder {
 	private int loopCount = 1;
 	private String theComments;
 	private List<Gif89Frame> vFrames = new ArrayList<>();
+	private Executor executor = ForkJoinPool.commonPool();
 
 	/**
 	 * Use this default constructor if you'll be adding multiple frames
@@ -321,6 +327,28 @@ public class Gif89Encoder {
         }
 	}
 
+	/**
+	 * Set the executor, which compresses the frames. The default is the common
+	 * fork join pool.
+	 * 
+	 * @param executor
+	 *            Executor of the frame compression.
+	 */
+	public void setExecutor(Executor executor) {
+		this.executor = executor;
+	}
+
+	private static byte[] join(CompletableFuture<byte[]> compressed) throws IOException {
+		try {
+			return compressed.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof UncheckedIOException io) {
+				throw io.getCause();
+			}
+			throw e;
+		}
+	}
+
 	/**
 	 * After adding your frame(s) and setting your options, simply call this
 	 * method to write the GIF to the passed stream. Multiple calls are
@@ -351,10 +379,22 @@ public class Gif89Encoder {
 		if (theComments != null && !theComments.isEmpty())
 			writeCommentExtension(out);
 
-		// write out the control and rendering data for each frame
+		// compress the frames concurrently, and write out the control and
+		// rendering data for each frame in order, as soon as it is compressed
+		int depth = colorTable.getDepth();
+		List<CompletableFuture<byte[]>> compressed = new ArrayList<>(nframes);
+		for (Gif89Frame frame : vFrames) {
+			compressed.add(CompletableFuture.supplyAsync(() -> {
+				try {
+					return frame.compressPixels(depth);
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			}, executor));
+		}
 		for (int i = 0; i < nframes; ++i) {
-			vFrames.get(i).encode(out, is_sequence, colorTable.getDepth(),
-					colorTable.getTransparent());
+			vFrames.get(i).encode(out, is_sequence, colorTable.getTransparent(),
+					join(compressed.get(i)));
 		}
 
 		// write GIF TRAILER
@@ -602,6 +642,8 @@ class GifColorTable {
 				// we've already snagged color into our palette
 				ci_pixels[i] = (byte) color_index; // just send filtered pixel
 		}
+		// the rgb pixels are not needed anymore
+		dgf.releasePixelSource();
 	}
 
 	private void trackPixelUsage(IndexGif89Frame igf) {
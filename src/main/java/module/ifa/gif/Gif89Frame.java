@@ -4,6 +4,7 @@
 package module.ifa.gif;
 
 import java.awt.Point;
+import java.io.ByteArrayOutputStream;
 import java.io.OutputStream;
 import java.io.IOException;
 
@@ -155,11 +156,28 @@ public abstract class Gif89Frame {
   void encode(OutputStream os, boolean epluribus, int color_depth,
               int transparent_index) throws IOException
   {
-    writeGraphicControlExtension(os, epluribus, transparent_index);
-    writeImageDescriptor(os);
+    encode(os, epluribus, transparent_index, compressPixels(color_depth));
+  }
+
+  //----------------------------------------------------------------------------
+  // LZW-compresses the color indices. Depends on no other frame, so the frames
+  // of a sequence may be compressed concurrently.
+  byte[] compressPixels(int color_depth) throws IOException
+  {
+    ByteArrayOutputStream os = new ByteArrayOutputStream(ciPixels.length / 4 + 16);
     new GifPixelsEncoder(
       theWidth, theHeight, ciPixels, isInterlaced, color_depth
     ).encode(os);
+    return os.toByteArray();
+  }
+
+  //----------------------------------------------------------------------------
+  void encode(OutputStream os, boolean epluribus, int transparent_index,
+              byte[] compressed_pixels) throws IOException
+  {
+    writeGraphicControlExtension(os, epluribus, transparent_index);
+    writeImageDescriptor(os);
+    os.write(compressed_pixels);
   }
 
   //----------------------------------------------------------------------------
@@ -1,5 +1,8 @@
 package module.ifa.gif;
 
+import java.util.HashMap;
+import java.util.stream.IntStream;
+
 /*
  * @(#)Quantize.java    0.90 9/19/00 Adam Doppelt
  */
@@ -267,6 +270,35 @@ public class Quantize {
      * @return The new color palette.
      */
     public static int[] quantizeImage(int[][] pixels, int max_colors) {
+        int width = pixels.length;
+        int height = pixels[0].length;
+        int[] flat = new int[width * height];
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                flat[y * width + x] = pixels[x][y];
+            }
+        }
+        int[] ret = quantizeImage(flat, max_colors);
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                pixels[x][y] = flat[y * width + x];
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * Reduce the image to the given number of colors. The pixels are
+     * reduced in place. If the image has no more than the given number
+     * of colors, its colors are used as palette without any reduction.
+     * @param pixels rgb pixels of the image in any order, e.g. rows
+     * @return The new color palette.
+     */
+    public static int[] quantizeImage(int[] pixels, int max_colors) {
+        int[] palette = exactPalette(pixels, max_colors);
+        if (palette != null) {
+            return palette;
+        }
         Cube cube = new Cube(pixels, max_colors);
         cube.classification();
         cube.reduction();
@@ -274,9 +306,42 @@ public class Quantize {
         
         return cube.colormap;
     }
+
+    /**
+     * Index the pixels by their exact colors.
+     * @return The color palette, null if the image has more than max_colors colors.
+     */
+    private static int[] exactPalette(int[] pixels, int max_colors) {
+        var indexes = new HashMap<Integer, Integer>();
+        int last = 0;
+        int lastIndex = -1;
+        for (int pixel : pixels) {
+            int rgb = pixel & 0xFFFFFF;
+            if (lastIndex < 0 || rgb != last) {
+                last = rgb;
+                lastIndex = indexes.computeIfAbsent(rgb, k -> indexes.size());
+                if (indexes.size() > max_colors) {
+                    return null;
+                }
+            }
+        }
+        int[] palette = new int[indexes.size()];
+        indexes.forEach((rgb, index) -> palette[index] = 0xFF000000 | rgb);
+        last = 0;
+        lastIndex = -1;
+        for (int i = 0; i < pixels.length; i++) {
+            int rgb = pixels[i] & 0xFFFFFF;
+            if (lastIndex < 0 || rgb != last) {
+                last = rgb;
+                lastIndex = indexes.get(rgb);
+            }
+            pixels[i] = lastIndex;
+        }
+        return palette;
+    }
     
     static class Cube {
-        int[][] pixels;
+        int[] pixels;
         int max_colors;
         int[] colormap;
         
@@ -290,7 +355,7 @@ public class Quantize {
         // counter for the number of nodes in the tree
         int nodes;
 
-        Cube(int[][] pixels, int max_colors) {
+        Cube(int[] pixels, int max_colors) {
             this.pixels = pixels;
             this.max_colors = max_colors;
 
@@ -351,45 +416,44 @@ public class Quantize {
          *   represented by this node.
          */
         void classification() {
-            int[][] pixels = this.pixels;
-
-            int width = pixels.length;
-            int height = pixels[0].length;
-
-            // convert to indexed color
-            for (int x = width; x-- > 0; ) {
-                for (int y = height; y-- > 0; ) {
-                    int pixel = pixels[x][y];
-                    int red   = (pixel >> 16) & 0xFF;
-                    int green = (pixel >>  8) & 0xFF;
-                    int blue  = (pixel >>  0) & 0xFF;
-
-                    // a hard limit on the number of nodes in the tree
-                    if (nodes > MAX_NODES) {
-                        System.out.println("pruning");
-                        root.pruneLevel();
-                        --depth;
-                    }
+            int[] pixels = this.pixels;
+
+            // convert to indexed color, a run of equal pixels walks the tree once
+            for (int i = 0, count; i < pixels.length; i += count) {
+                int pixel = pixels[i];
+                count = 1;
+                while (i + count < pixels.length && pixels[i + count] == pixel) {
+                    count++;
+                }
+                int red   = (pixel >> 16) & 0xFF;
+                int green = (pixel >>  8) & 0xFF;
+                int blue  = (pixel >>  0) & 0xFF;
+
+                // a hard limit on the number of nodes in the tree
+                if (nodes > MAX_NODES) {
+                    System.out.println("pruning");
+                    root.pruneLevel();
+                    --depth;
+                }
 
-                    // walk the tree to depth, increasing the
-                    // number_pixels count for each node
-                    Node node = root;
-                    for (int level = 1; level <= depth; ++level) {
-                        int id = (((red   > node.mid_red   ? 1 : 0) << 0) |
-                                  ((green > node.mid_green ? 1 : 0) << 1) |
-                                  ((blue  > node.mid_blue  ? 1 : 0) << 2));
-                        if (node.child[id] == null) {
-                            new Node(node, id, level);
-                        }
-                        node = node.child[id];
-                        node.number_pixels += SHIFT[level];
+                // walk the tree to depth, increasing the
+                // number_pixels count for each node
+                Node node = root;
+                for (int level = 1; level <= depth; ++level) {
+                    int id = (((red   > node.mid_red   ? 1 : 0) << 0) |
+                              ((green > node.mid_green ? 1 : 0) << 1) |
+                              ((blue  > node.mid_blue  ? 1 : 0) << 2));
+                    if (node.child[id] == null) {
+                        new Node(node, id, level);
                     }
-
-                    ++node.unique;
-                    node.total_red   += red;
-                    node.total_green += green;
-                    node.total_blue  += blue;
+                    node = node.child[id];
+                    node.number_pixels += SHIFT[level] * count;
                 }
+
+                node.unique      += count;
+                node.total_red   += red * count;
+                node.total_green += green * count;
+                node.total_blue  += blue * count;
             }
         }
 
@@ -447,45 +511,57 @@ public class Quantize {
             colors = 0;
             root.colormap();
   
-            int[][] pixels = this.pixels;
+            int[] pixels = this.pixels;
 
-            int width = pixels.length;
-            int height = pixels[0].length;
+            // the tree is only read now, so the chunks of pixels are converted concurrently
+            int chunkSize = 1 << 16;
+            int chunks = (pixels.length + chunkSize - 1) / chunkSize;
+            IntStream.range(0, chunks).parallel().forEach(chunk ->
+                    assignment(chunk * chunkSize, Math.min(pixels.length, (chunk + 1) * chunkSize)));
+        }
 
+        private void assignment(int from, int to) {
+            int[] pixels = this.pixels;
             Search search = new Search();
-            
+            int last = 0;
+            int lastColor = -1;
+
             // convert to indexed color
-            for (int x = width; x-- > 0; ) {
-                for (int y = height; y-- > 0; ) {
-                    int pixel = pixels[x][y];
-                    int red   = (pixel >> 16) & 0xFF;
-                    int green = (pixel >>  8) & 0xFF;
-                    int blue  = (pixel >>  0) & 0xFF;
-
-                    // walk the tree to find the cube containing that color
-                    Node node = root;
-                    for ( ; ; ) {
-                        int id = (((red   > node.mid_red   ? 1 : 0) << 0) |
-                                  ((green > node.mid_green ? 1 : 0) << 1) |
-                                  ((blue  > node.mid_blue  ? 1 : 0) << 2)  );
-                        if (node.child[id] == null) {
-                            break;
-                        }
-                        node = node.child[id];
+            for (int i = from; i < to; i++) {
+                int pixel = pixels[i];
+                if (lastColor >= 0 && pixel == last) {
+                    pixels[i] = lastColor;
+                    continue;
+                }
+                last = pixel;
+                int red   = (pixel >> 16) & 0xFF;
+                int green = (pixel >>  8) & 0xFF;
+                int blue  = (pixel >>  0) & 0xFF;
+
+                // walk the tree to find the cube containing that color
+                Node node = root;
+                for ( ; ; ) {
+                    int id = (((red   > node.mid_red   ? 1 : 0) << 0) |
+                              ((green > node.mid_green ? 1 : 0) << 1) |
+                              ((blue  > node.mid_blue  ? 1 : 0) << 2)  );
+                    if (node.child[id] == null) {
+                        break;
                     }
+                    node = node.child[id];
+                }
 
-                    if (QUICK) {
-                        // if QUICK is set, just use that
-                        // node. Strictly speaking, this isn't
-                        // necessarily best match.
-                        pixels[x][y] = node.color_number;
-                    } else {
-                        // Find the closest color.
-                        search.distance = Integer.MAX_VALUE;
-                        node.parent.closestColor(red, green, blue, search);
-                        pixels[x][y] = search.color_number;
-                    }
+                if (QUICK) {
+                    // if QUICK is set, just use that
+                    // node. Strictly speaking, this isn't
+                    // necessarily best match.
+                    lastColor = node.color_number;
+                } else {
+                    // Find the closest color.
+                    search.distance = Integer.MAX_VALUE;
+                    node.parent.closestColor(red, green, blue, search);
+                    lastColor = search.color_number;
                 }
+                pixels[i] = lastColor;
             }
         }
 
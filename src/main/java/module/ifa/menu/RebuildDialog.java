@@ -1,5 +1,6 @@
 package module.ifa.menu;
 
+import core.gui.DataDomain;
 import core.db.DBManager;
 import core.gui.HOMainFrame;
 import core.gui.RefreshManager;
@@ -86,7 +87,7 @@ public class RebuildDialog extends JDialog implements ActionListener {
 		} else if (event.getSource() == okButton) {
 			DBManager.instance().deleteIFAMatches();
 			PluginIfaUtils.updateMatchesTable();
-			RefreshManager.instance().doRefresh();
+			RefreshManager.instance().doRefresh(DataDomain.MATCHES);
 			dispose();
 		}
 	}
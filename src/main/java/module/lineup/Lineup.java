@@ -17,12 +17,14 @@ import core.model.player.Player;
 import core.util.HOLogger;
 import core.util.StringUtils;
 import module.lineup.assistant.LineupAssistant;
+import module.lineup.assistant.LineupOptimizer;
 import module.lineup.substitution.model.GoalDiffCriteria;
 import module.lineup.substitution.model.MatchOrderType;
 import module.lineup.substitution.model.RedCardCriteria;
 import module.lineup.substitution.model.Substitution;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 import static java.lang.Math.max;
@@ -101,7 +103,7 @@ public class Lineup {
     }
 
     public void setManMarkingPosition(Player.ManMarkingPosition manMarkingPosition) {
-        this.ratingRevision++;
+        ratingRevision = ratingRevisions.incrementAndGet();
         this.manMarkingPosition = manMarkingPosition;
     }
 
@@ -117,7 +119,7 @@ public class Lineup {
     }
 
     public void setSubstitutionsUpdated() {
-        ratingRevision++;
+        ratingRevision = ratingRevisions.incrementAndGet();
     }
 
     private static class Settings {
@@ -170,11 +172,17 @@ public class Lineup {
     private Weather.Forecast m_cWeatherForecast = Weather.Forecast.NULL;
 
     /**
-     * The rating revision number gets incremented each time a rating relevant
-     * property gets changes. This is used by rating calculating caches, that
-     * will reset, when they see a new revision number.
+     * Source of the rating revision numbers, shared by all lineups
      */
-    private long ratingRevision = 0;
+    private static final AtomicLong ratingRevisions = new AtomicLong();
+
+    /**
+     * The rating revision number gets a new value each time a rating relevant
+     * property gets changes. Revision numbers are unique over all lineups.
+     * This is used by rating calculating caches, that keep the ratings
+     * of each revision.
+     */
+    private long ratingRevision = ratingRevisions.incrementAndGet();
 
     // ~ Constructors
     // -------------------------------------------------------------------------------
@@ -338,7 +346,7 @@ public class Lineup {
      * @param m_iAttitude New value of property m_iAttitude.
      */
     public final void setAttitude(int m_iAttitude) {
-        this.ratingRevision++;
+        ratingRevision = ratingRevisions.incrementAndGet();
         this.settings.m_iAttitude = m_iAttitude;
     }
 
@@ -365,7 +373,7 @@ public class Lineup {
     }
 
     public void setStyleOfPlay(int style) {
-        ratingRevision++;
+        ratingRevision = ratingRevisions.incrementAndGet();
         settings.m_iStyleOfPlay = style;
     }
 
@@ -626,7 +634,7 @@ public class Lineup {
      * @param location New value of property m_sHeimspiel.
      */
     public final void setLocation(short location) {
-        ratingRevision++;
+        ratingRevision = ratingRevisions.incrementAndGet();
         this.m_sLocation = location;
     }
 
@@ -643,7 +651,7 @@ public class Lineup {
     }
 
     public final void setWeather(Weather weather) {
-        ratingRevision++;
+        ratingRevision = ratingRevisions.incrementAndGet();
         this.m_cWeather = weather;
     }
 
@@ -671,7 +679,7 @@ public class Lineup {
 
     public boolean setUpcomingMatch(MatchKurzInfo match) {
 
-        ratingRevision++;
+        ratingRevision = ratingRevisions.incrementAndGet();
 
         if (match == null) {
             m_sLocation = 0;
@@ -802,7 +810,7 @@ public class Lineup {
 
     public final void setPosition(MatchLineupPosition position) {
         if (position.isFieldMatchRoleId()) {
-            ratingRevision++;
+            ratingRevision = ratingRevisions.incrementAndGet();
             setPosition(this.m_vFieldPositions, position);
         } else if (position.isSubstitutesMatchRoleId() || position.isBackupsMatchRoleId()) {
             setPosition(this.m_vBenchPositions, position);
@@ -832,7 +840,7 @@ public class Lineup {
      * Clears all positions of content by creating a new, empty lineup.
      */
     public final void clearLineup() {
-        ratingRevision++;
+        ratingRevision = ratingRevisions.incrementAndGet();
         initPositionen553();
     }
 
@@ -903,7 +911,7 @@ public class Lineup {
                     MatchRoleID oldPlayerRole = getPositionByPlayerId(playerID);
                     if (oldPlayerRole != null) {
                         if (position.isFieldMatchRoleId()) {
-                            ratingRevision++;
+                            ratingRevision = ratingRevisions.incrementAndGet();
                             //if player changed is in starting eleven it has to be remove from previous occupied positions
                             oldPlayerRole.setPlayerIdIfValidForLineup(0, this);
                             if (oldPlayerRole.isSubstitutesMatchRoleId()) {
@@ -918,7 +926,7 @@ public class Lineup {
                         } else {
                             // position is on bench (or backup), remove him from field position, but not from other bench positions
                             if (oldPlayerRole.isFieldMatchRoleId()) {
-                                ratingRevision++;
+                                ratingRevision = ratingRevisions.incrementAndGet();
                                 oldPlayerRole.setPlayerIdIfValidForLineup(0, this);
                             }
                         }
@@ -937,7 +945,7 @@ public class Lineup {
         for (Substitution substitution : this.substitutions) {
             if (substitution.getOrderType() == MatchOrderType.SUBSTITUTION
                     && substitution.getObjectPlayerID() == playerID) {
-                ratingRevision++;
+                ratingRevision = ratingRevisions.incrementAndGet();
                 this.substitutions.remove(substitution);
                 break;
             }
@@ -997,7 +1005,7 @@ public class Lineup {
      * @param subs List of match orders
      */
     public void setSubstitionList(List<Substitution> subs) {
-        ratingRevision++;
+        ratingRevision = ratingRevisions.incrementAndGet();
         if (subs == null) {
             this.substitutions = new ArrayList<>();
         } else {
@@ -1025,7 +1033,7 @@ public class Lineup {
      * order exists.
      */
     public void removeManMarkingOrder() {
-        ratingRevision++;
+        ratingRevision = ratingRevisions.incrementAndGet();
         for (var s : this.substitutions) {
             if (s.getOrderType() == MatchOrderType.MAN_MARKING) {
                 this.substitutions.remove(s);
@@ -1083,7 +1091,7 @@ public class Lineup {
      * @param m_iTacticType New value of property m_iTacticType.
      */
     public final void setTacticType(int m_iTacticType) {
-        ratingRevision++;
+        ratingRevision = ratingRevisions.incrementAndGet();
         this.settings.m_iTacticType = m_iTacticType;
     }
 
@@ -1153,6 +1161,31 @@ public class Lineup {
         setAutoKapitaen(null);
     }
 
+    /**
+     * Start the assistant to create automatically the lineup, whose field positions are filled by an optimizer.
+     * The optimizer's search may run in a background thread, the lineup is changed by
+     * {@link #finishLineupAssistant(LineupAssistant.Run, LineupOptimizer.Result)} only.
+     *
+     * @return Assistant run, null if the priority is unknown
+     */
+    public final LineupAssistant.Run startLineupAssistant(List<Player> players, byte sectorsStrengthPriority, boolean withForm,
+            boolean idealPosFirst, boolean considerInjured, boolean considereSuspended, boolean useAverageRating) {
+        return m_clAssi.startLineup(getAllPositions(), players, sectorsStrengthPriority, withForm, idealPosFirst,
+                considerInjured, considereSuspended, useAverageRating);
+    }
+
+    /**
+     * Set the field positions found by the optimizer, then the substitutes and backups
+     *
+     * @param run    Assistant run started by this lineup
+     * @param result Result of the optimizer
+     */
+    public final void finishLineupAssistant(LineupAssistant.Run run, LineupOptimizer.Result result) {
+        run.finish(result);
+        setAutoKicker(null);
+        setAutoKapitaen(null);
+    }
+
     public final String getCurrentTeamFormationString() {
         final int iNbDefs = getNbDefenders();
         final int iNbMids = getNbMidfields();
@@ -1365,7 +1398,7 @@ public class Lineup {
      */
     private void initPositionen553() {
 
-        ratingRevision++;
+        ratingRevision = ratingRevisions.incrementAndGet();
 
         m_vFieldPositions = new Vector<>();
         for (int i = IMatchRoleID.keeper; i <= IMatchRoleID.leftForward; i++) {
@@ -14,6 +14,7 @@ import module.lineup.ratings.LineupRatingPanel;
 import core.gui.comp.panel.ImagePanel;
 import core.model.HOModelManager;
 import core.HO;
+import core.context.EventBus;
 import core.context.events.PlayerSelectionEvent;
 
 import javax.swing.*;
@@ -39,7 +40,7 @@ public class LineupPanel extends ImagePanel {
     public LineupPanel() {
         initComponents();
         if (HO.getApplicationContext() != null && HO.getApplicationContext().getEventBus() != null) {
-            HO.getApplicationContext().getEventBus().register(PlayerSelectionEvent.class, this::onPlayerSelected);
+            HO.getApplicationContext().getEventBus().register(PlayerSelectionEvent.class, this::onPlayerSelected, EventBus.Delivery.EDT);
         }
         // Init with current selection
         if (HOModelManager.instance().getModel().getSelectedPlayer() != null) {
@@ -65,6 +66,13 @@ public class LineupPanel extends ImagePanel {
         lineupPlayersTable.refresh();
     }
 
+    /**
+     * Refresh the row of a changed player in the players table
+     */
+    public void refreshPlayer(int playerId) {
+        lineupPlayersTable.refreshPlayer(playerId);
+    }
+
     private LineupAssistantPanel getLineupAssistantPanel() {
         return lineupRatingAssistantPanel.getLineupAssistantPanel();
     }
@@ -248,6 +256,14 @@ public class LineupPanel extends ImagePanel {
         return this.getLineupAssistantPanel().isUseAverageRating();
     }
 
+    public boolean isAssistantOptimize() {
+        return this.getLineupAssistantPanel().isOptimize();
+    }
+
+    public int getAssistantObjective() {
+        return this.getLineupAssistantPanel().getObjective();
+    }
+
     public boolean isAssistantIgnoreInjured() {
         return this.getLineupAssistantPanel().isIgnoreInjured();
     }
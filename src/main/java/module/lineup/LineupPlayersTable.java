@@ -61,6 +61,14 @@ public final class LineupPlayersTable extends FixedColumnsTable implements core.
 		reInit();
 	}
 
+	/**
+	 * Recompute the row of a changed player
+	 */
+	public void refreshPlayer(int playerId) {
+		tableModel.invalidatePlayer(playerId);
+		repaint();
+	}
+
 	public PlayerOverviewTableModel getTableModel() {
 		return this.tableModel;
 	}
@@ -91,7 +99,7 @@ public final class LineupPlayersTable extends FixedColumnsTable implements core.
 						else {
 							player.setUserPosFlag(IMatchRoleID.UNSELECTABLE);
 						}
-						HOMainFrame.instance().getSpielerUebersichtPanel().update();
+						HOMainFrame.instance().getSpielerUebersichtPanel().update(player);
 					}
 				}
 			}
@@ -9,6 +9,7 @@ import core.model.player.MatchRoleID;
 import core.model.player.Player;
 import core.rating.RatingPredictionModel;
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import static core.rating.RatingPredictionModel.getBehaviour;
@@ -25,9 +26,61 @@ public class LineupAssistant {
 	public static final byte ST_MF_AW = 5;
 	private int additionalBenchSlot = 0;
 
+	/**
+	 * Objectives of the lineup optimizer
+	 */
+	public static final int OBJECTIVE_RATING = 0;
+	public static final int OBJECTIVE_HATSTATS = 1;
+
+	/** Maximum number of players on the field */
+	private static final int MAX_FIELD_PLAYERS = 11;
+
+	/** Weights of the sectors in the optimizer's objective, by their priority */
+	private static final double[] SECTOR_PRIORITY_WEIGHTS = {1.2, 1.1, 1.};
+
+	private static final List<MatchRoleID.Sector> DEFENCE_SECTORS = List.of(MatchRoleID.Sector.CentralDefence, MatchRoleID.Sector.Back);
+	private static final List<MatchRoleID.Sector> MIDFIELD_SECTORS = List.of(MatchRoleID.Sector.InnerMidfield, MatchRoleID.Sector.Wing);
+	private static final List<MatchRoleID.Sector> FORWARD_SECTORS = List.of(MatchRoleID.Sector.Forward);
+
 	public LineupAssistant() {
 	}
 
+	/**
+	 * Objective of the lineup optimizer matching the settings of the assistant.
+	 * {@link #OBJECTIVE_RATING}: the position score is the player rating. The positions of the sectors are
+	 * weighted by the sector strength priority, so that the best players are preferably assigned to the first sector.
+	 * {@link #OBJECTIVE_HATSTATS}: the linear HatStats approximation of {@link LineupOptimizer#hatStats}.
+	 * The priority only orders the substitutes.
+	 *
+	 * @param model                   Rating prediction model
+	 * @param objective               {@link #OBJECTIVE_RATING} or {@link #OBJECTIVE_HATSTATS}
+	 * @param sectorsStrengthPriority priority in sector strength (e.g. MID-FOR-DE)
+	 * @param useAverageRating        Use players's average rating instead of first minute rating
+	 * @return Objective, null if the objective or priority is unknown
+	 */
+	public static LineupOptimizer.Objective getOptimizerObjective(RatingPredictionModel model, int objective,
+																  byte sectorsStrengthPriority, boolean useAverageRating) {
+		var order = switch (sectorsStrengthPriority) {
+			case AW_MF_ST -> List.of(DEFENCE_SECTORS, MIDFIELD_SECTORS, FORWARD_SECTORS);
+			case AW_ST_MF -> List.of(DEFENCE_SECTORS, FORWARD_SECTORS, MIDFIELD_SECTORS);
+			case MF_AW_ST -> List.of(MIDFIELD_SECTORS, DEFENCE_SECTORS, FORWARD_SECTORS);
+			case MF_ST_AW -> List.of(MIDFIELD_SECTORS, FORWARD_SECTORS, DEFENCE_SECTORS);
+			case ST_MF_AW -> List.of(FORWARD_SECTORS, MIDFIELD_SECTORS, DEFENCE_SECTORS);
+			case ST_AW_MF -> List.of(FORWARD_SECTORS, DEFENCE_SECTORS, MIDFIELD_SECTORS);
+			default -> null;
+		};
+		if (order == null) return null;
+		if (objective == OBJECTIVE_HATSTATS) return LineupOptimizer.hatStats(model);
+		if (objective != OBJECTIVE_RATING) return null;
+		var weights = new EnumMap<MatchRoleID.Sector, Double>(MatchRoleID.Sector.class);
+		for (int i = 0; i < order.size(); i++) {
+			for (var sector : order.get(i)) {
+				weights.put(sector, SECTOR_PRIORITY_WEIGHTS[i]);
+			}
+		}
+		return LineupOptimizer.sectorPriority(LineupOptimizer.rating(model, useAverageRating), weights);
+	}
+
 	/**
 	 * indicates if the player is already installed. Also ReserveBank counts
 	 */
@@ -66,126 +119,227 @@ public class LineupAssistant {
 	public final void doLineup(List<MatchLineupPosition> allPositions, List<Player> lPlayers,
 							   byte sectorsStrengthPriority, boolean bForm, boolean idealPosFirst, boolean ignoreInjured,
 							   boolean ignoreSuspended, boolean useAverageRating, Weather weather) {
+		var run = startLineup(allPositions, lPlayers, sectorsStrengthPriority, bForm, idealPosFirst, ignoreInjured,
+				ignoreSuspended, useAverageRating);
+		if (run != null) {
+			run.finish(null);
+		}
+	}
+
+	/**
+	 * Start the assistant, whose field positions are filled by an optimizer.
+	 * The players of the ideal positions are set at once. The search of the optimizer does not access
+	 * the lineup, it may run in a background thread. The lineup is completed by {@link Run#finish},
+	 * which must be called by the thread owning the lineup.
+	 *
+	 * @return Assistant run, null if the priority is unknown
+	 * @see #doLineup(List, List, byte, boolean, boolean, boolean, boolean, boolean, Weather)
+	 */
+	public final Run startLineup(List<MatchLineupPosition> allPositions, List<Player> lPlayers,
+								 byte sectorsStrengthPriority, boolean bForm, boolean idealPosFirst, boolean ignoreInjured,
+								 boolean ignoreSuspended, boolean useAverageRating) {
+		var ret = new Run(allPositions, lPlayers, bForm, idealPosFirst, ignoreInjured, ignoreSuspended, useAverageRating);
+		return ret.start(sectorsStrengthPriority) ? ret : null;
+	}
 
-		var lPositions = allPositions.stream().filter(i -> i.isFieldMatchRoleId() && isSelectedByAssistant(i)).toList();
-		var players = lPlayers.stream().filter(i -> (i.getInjuryWeeks() < 1 || ignoreInjured) && (!i.isRedCarded() || ignoreSuspended)).collect(Collectors.toList());
-
-		// only setup player in ideal position
-		if (idealPosFirst) {
-			doPlayerLineupIdealPosition(IMatchRoleID.KEEPER, bForm, ignoreInjured, ignoreSuspended, players, lPositions);
-			doPlayerLineupIdealPosition(IMatchRoleID.CENTRAL_DEFENDER, bForm, ignoreInjured, ignoreSuspended, players, lPositions);
-			doPlayerLineupIdealPosition(IMatchRoleID.CENTRAL_DEFENDER_TOWING, bForm, ignoreInjured, ignoreSuspended, players, lPositions);
-			doPlayerLineupIdealPosition(IMatchRoleID.CENTRAL_DEFENDER_OFF, bForm, ignoreInjured, ignoreSuspended, players, lPositions);
-			doPlayerLineupIdealPosition(IMatchRoleID.BACK, bForm, ignoreInjured, ignoreSuspended, players, lPositions);
-			doPlayerLineupIdealPosition(IMatchRoleID.BACK_TOMID, bForm, ignoreInjured, ignoreSuspended, players, lPositions);
-			doPlayerLineupIdealPosition(IMatchRoleID.BACK_OFF, bForm, ignoreInjured, ignoreSuspended, players, lPositions);
-			doPlayerLineupIdealPosition(IMatchRoleID.BACK_DEF, bForm, ignoreInjured, ignoreSuspended, players, lPositions);
-			doPlayerLineupIdealPosition(IMatchRoleID.MIDFIELDER, bForm, ignoreInjured, ignoreSuspended, players, lPositions);
-			doPlayerLineupIdealPosition(IMatchRoleID.MIDFIELDER_OFF, bForm, ignoreInjured, ignoreSuspended, players, lPositions);
-			doPlayerLineupIdealPosition(IMatchRoleID.MIDFIELDER_DEF, bForm, ignoreInjured, ignoreSuspended, players, lPositions);
-			doPlayerLineupIdealPosition(IMatchRoleID.MIDFIELDER_TOWING, bForm, ignoreInjured, ignoreSuspended, players, lPositions);
-			doPlayerLineupIdealPosition(IMatchRoleID.WINGER, bForm, ignoreInjured, ignoreSuspended, players, lPositions);
-			doPlayerLineupIdealPosition(IMatchRoleID.WINGER_OFF, bForm, ignoreInjured, ignoreSuspended, players, lPositions);
-			doPlayerLineupIdealPosition(IMatchRoleID.WINGER_DEF, bForm, ignoreInjured, ignoreSuspended, players, lPositions);
-			doPlayerLineupIdealPosition(IMatchRoleID.WINGER_TOMID, bForm, ignoreInjured, ignoreSuspended, players, lPositions);
-			doPlayerLineupIdealPosition(IMatchRoleID.FORWARD, bForm, ignoreInjured, ignoreSuspended, players, lPositions);
-			doPlayerLineupIdealPosition(IMatchRoleID.FORWARD_DEF, bForm, ignoreInjured, ignoreSuspended, players, lPositions);
-			doPlayerLineupIdealPosition(IMatchRoleID.FORWARD_TOWING, bForm, ignoreInjured, ignoreSuspended, players, lPositions);
+	/**
+	 * A lineup assistant run
+	 */
+	public final class Run {
+		private final List<MatchLineupPosition> allPositions;
+		private final List<Player> players;
+		private final boolean bForm;
+		private final boolean idealPosFirst;
+		private final boolean ignoreInjured;
+		private final boolean ignoreSuspended;
+		private final boolean useAverageRating;
+		private List<MatchLineupPosition> lPositions;
+		private List<List<Byte>> fieldPlayerPositionOrder;
+		private List<List<Byte>> reservePositionOrder;
+		/** Free field positions, when the assistant was started */
+		private List<Integer> freeRoleIds;
+		/** Number of players the optimizer may assign */
+		private int maxPlayers;
+
+		private Run(List<MatchLineupPosition> allPositions, List<Player> lPlayers, boolean bForm, boolean idealPosFirst,
+					boolean ignoreInjured, boolean ignoreSuspended, boolean useAverageRating) {
+			this.allPositions = allPositions;
+			this.players = lPlayers.stream().filter(i -> (i.getInjuryWeeks() < 1 || ignoreInjured) && (!i.isRedCarded() || ignoreSuspended)).collect(Collectors.toList());
+			this.bForm = bForm;
+			this.idealPosFirst = idealPosFirst;
+			this.ignoreInjured = ignoreInjured;
+			this.ignoreSuspended = ignoreSuspended;
+			this.useAverageRating = useAverageRating;
 		}
 
-		var fieldPlayerPositionOrder = new ArrayList<List<Byte>>();
-		var reservePositionOrder = new ArrayList<List<Byte>>();
-		fieldPlayerPositionOrder.add(List.of(IMatchRoleID.KEEPER));
-		reservePositionOrder.add(List.of(IMatchRoleID.KEEPER));
-		switch (sectorsStrengthPriority) {
-			case AW_MF_ST -> {
-				additionalBenchSlot = IMatchRoleID.CENTRAL_DEFENDER;
-				addDefence(fieldPlayerPositionOrder, reservePositionOrder);
-				addMidfield(fieldPlayerPositionOrder, reservePositionOrder);
-				addForward(fieldPlayerPositionOrder, reservePositionOrder);
-			}
-			case AW_ST_MF -> {
-				additionalBenchSlot = IMatchRoleID.CENTRAL_DEFENDER;
-				addDefence(fieldPlayerPositionOrder, reservePositionOrder);
-				addForward(fieldPlayerPositionOrder, reservePositionOrder);
-				addMidfield(fieldPlayerPositionOrder, reservePositionOrder);
-			}
-			case MF_AW_ST -> {
-				additionalBenchSlot = IMatchRoleID.MIDFIELDER;
-				addMidfield(fieldPlayerPositionOrder, reservePositionOrder);
-				addDefence(fieldPlayerPositionOrder, reservePositionOrder);
-				addForward(fieldPlayerPositionOrder, reservePositionOrder);
-			}
-			case MF_ST_AW -> {
-				additionalBenchSlot = IMatchRoleID.MIDFIELDER;
-				addMidfield(fieldPlayerPositionOrder, reservePositionOrder);
-				addForward(fieldPlayerPositionOrder, reservePositionOrder);
-				addDefence(fieldPlayerPositionOrder, reservePositionOrder);
-			}
-			case ST_MF_AW -> {
-				additionalBenchSlot = IMatchRoleID.FORWARD;
-				addForward(fieldPlayerPositionOrder, reservePositionOrder);
-				addMidfield(fieldPlayerPositionOrder, reservePositionOrder);
-				addDefence(fieldPlayerPositionOrder, reservePositionOrder);
+		private boolean start(byte sectorsStrengthPriority) {
+			lPositions = allPositions.stream().filter(i -> i.isFieldMatchRoleId() && isSelectedByAssistant(i)).toList();
+
+			// only setup player in ideal position
+			if (idealPosFirst) {
+				doPlayerLineupIdealPosition(IMatchRoleID.KEEPER, bForm, ignoreInjured, ignoreSuspended, players, lPositions);
+				doPlayerLineupIdealPosition(IMatchRoleID.CENTRAL_DEFENDER, bForm, ignoreInjured, ignoreSuspended, players, lPositions);
+				doPlayerLineupIdealPosition(IMatchRoleID.CENTRAL_DEFENDER_TOWING, bForm, ignoreInjured, ignoreSuspended, players, lPositions);
+				doPlayerLineupIdealPosition(IMatchRoleID.CENTRAL_DEFENDER_OFF, bForm, ignoreInjured, ignoreSuspended, players, lPositions);
+				doPlayerLineupIdealPosition(IMatchRoleID.BACK, bForm, ignoreInjured, ignoreSuspended, players, lPositions);
+				doPlayerLineupIdealPosition(IMatchRoleID.BACK_TOMID, bForm, ignoreInjured, ignoreSuspended, players, lPositions);
+				doPlayerLineupIdealPosition(IMatchRoleID.BACK_OFF, bForm, ignoreInjured, ignoreSuspended, players, lPositions);
+				doPlayerLineupIdealPosition(IMatchRoleID.BACK_DEF, bForm, ignoreInjured, ignoreSuspended, players, lPositions);
+				doPlayerLineupIdealPosition(IMatchRoleID.MIDFIELDER, bForm, ignoreInjured, ignoreSuspended, players, lPositions);
+				doPlayerLineupIdealPosition(IMatchRoleID.MIDFIELDER_OFF, bForm, ignoreInjured, ignoreSuspended, players, lPositions);
+				doPlayerLineupIdealPosition(IMatchRoleID.MIDFIELDER_DEF, bForm, ignoreInjured, ignoreSuspended, players, lPositions);
+				doPlayerLineupIdealPosition(IMatchRoleID.MIDFIELDER_TOWING, bForm, ignoreInjured, ignoreSuspended, players, lPositions);
+				doPlayerLineupIdealPosition(IMatchRoleID.WINGER, bForm, ignoreInjured, ignoreSuspended, players, lPositions);
+				doPlayerLineupIdealPosition(IMatchRoleID.WINGER_OFF, bForm, ignoreInjured, ignoreSuspended, players, lPositions);
+				doPlayerLineupIdealPosition(IMatchRoleID.WINGER_DEF, bForm, ignoreInjured, ignoreSuspended, players, lPositions);
+				doPlayerLineupIdealPosition(IMatchRoleID.WINGER_TOMID, bForm, ignoreInjured, ignoreSuspended, players, lPositions);
+				doPlayerLineupIdealPosition(IMatchRoleID.FORWARD, bForm, ignoreInjured, ignoreSuspended, players, lPositions);
+				doPlayerLineupIdealPosition(IMatchRoleID.FORWARD_DEF, bForm, ignoreInjured, ignoreSuspended, players, lPositions);
+				doPlayerLineupIdealPosition(IMatchRoleID.FORWARD_TOWING, bForm, ignoreInjured, ignoreSuspended, players, lPositions);
 			}
-			case ST_AW_MF -> {
-				additionalBenchSlot = IMatchRoleID.FORWARD;
-				addForward(fieldPlayerPositionOrder, reservePositionOrder);
-				addDefence(fieldPlayerPositionOrder, reservePositionOrder);
-				addMidfield(fieldPlayerPositionOrder, reservePositionOrder);
-			}
-			default -> {
-				return;
+
+			fieldPlayerPositionOrder = new ArrayList<>();
+			reservePositionOrder = new ArrayList<>();
+			fieldPlayerPositionOrder.add(List.of(IMatchRoleID.KEEPER));
+			reservePositionOrder.add(List.of(IMatchRoleID.KEEPER));
+			switch (sectorsStrengthPriority) {
+				case AW_MF_ST -> {
+					additionalBenchSlot = IMatchRoleID.CENTRAL_DEFENDER;
+					addDefence(fieldPlayerPositionOrder, reservePositionOrder);
+					addMidfield(fieldPlayerPositionOrder, reservePositionOrder);
+					addForward(fieldPlayerPositionOrder, reservePositionOrder);
+				}
+				case AW_ST_MF -> {
+					additionalBenchSlot = IMatchRoleID.CENTRAL_DEFENDER;
+					addDefence(fieldPlayerPositionOrder, reservePositionOrder);
+					addForward(fieldPlayerPositionOrder, reservePositionOrder);
+					addMidfield(fieldPlayerPositionOrder, reservePositionOrder);
+				}
+				case MF_AW_ST -> {
+					additionalBenchSlot = IMatchRoleID.MIDFIELDER;
+					addMidfield(fieldPlayerPositionOrder, reservePositionOrder);
+					addDefence(fieldPlayerPositionOrder, reservePositionOrder);
+					addForward(fieldPlayerPositionOrder, reservePositionOrder);
+				}
+				case MF_ST_AW -> {
+					additionalBenchSlot = IMatchRoleID.MIDFIELDER;
+					addMidfield(fieldPlayerPositionOrder, reservePositionOrder);
+					addForward(fieldPlayerPositionOrder, reservePositionOrder);
+					addDefence(fieldPlayerPositionOrder, reservePositionOrder);
+				}
+				case ST_MF_AW -> {
+					additionalBenchSlot = IMatchRoleID.FORWARD;
+					addForward(fieldPlayerPositionOrder, reservePositionOrder);
+					addMidfield(fieldPlayerPositionOrder, reservePositionOrder);
+					addDefence(fieldPlayerPositionOrder, reservePositionOrder);
+				}
+				case ST_AW_MF -> {
+					additionalBenchSlot = IMatchRoleID.FORWARD;
+					addForward(fieldPlayerPositionOrder, reservePositionOrder);
+					addDefence(fieldPlayerPositionOrder, reservePositionOrder);
+					addMidfield(fieldPlayerPositionOrder, reservePositionOrder);
+				}
+				default -> {
+					return false;
+				}
 			}
-		}
 
-		for (var playerPositions : fieldPlayerPositionOrder) {
-			optimizeLineup(playerPositions, players, lPositions, useAverageRating);
+			freeRoleIds = lPositions.stream().filter(i -> i.getPlayerId() == 0).map(MatchLineupPosition::getRoleId).toList();
+			maxPlayers = MAX_FIELD_PLAYERS - (int) allPositions.stream().filter(i -> i.isFieldMatchRoleId() && i.getPlayerId() != 0).count();
+			return true;
 		}
 
-		if (idealPosFirst) {
-			doReserveSpielerAufstellenIdealPos(IMatchRoleID.KEEPER, bForm, ignoreInjured,
-					ignoreSuspended, players, lPositions);
-			doReserveSpielerAufstellenIdealPos(IMatchRoleID.CENTRAL_DEFENDER, bForm,
-					ignoreInjured, ignoreSuspended, players, lPositions);
-			doReserveSpielerAufstellenIdealPos(IMatchRoleID.BACK, bForm,
-					ignoreInjured, ignoreSuspended, players, lPositions);
-			doReserveSpielerAufstellenIdealPos(IMatchRoleID.MIDFIELDER, bForm,
-					ignoreInjured, ignoreSuspended, players, lPositions);
-			doReserveSpielerAufstellenIdealPos(IMatchRoleID.WINGER, bForm, ignoreInjured,
-					ignoreSuspended, players, lPositions);
-			doReserveSpielerAufstellenIdealPos(IMatchRoleID.FORWARD, bForm, ignoreInjured,
-					ignoreSuspended, players, lPositions);
+		/**
+		 * Search the players of the free field positions. The lineup is not changed.
+		 *
+		 * @param optimizer Lineup optimizer
+		 * @param progress  Informed about each improvement of the best lineup, may be null
+		 * @return Result of the optimizer
+		 */
+		public LineupOptimizer.Result optimize(LineupOptimizer optimizer, Consumer<LineupOptimizer.Result> progress) {
+			return optimizer.optimize(freeRoleIds, List.copyOf(players), maxPlayers, progress);
 		}
 
-		reservePositionOrder.add(List.of(IMatchRoleID.EXTRA));
-		var substitutePositions = allPositions.stream().filter(MatchRoleID::isSubstitutesMatchRoleId).toList();
-		for (var b : reservePositionOrder) {
-			optimizeLineup(b, players, substitutePositions, useAverageRating);
+		/**
+		 * Fill the free field positions with the assignments of the optimizer, then the substitutes and backups
+		 *
+		 * @param result Result of the optimizer, null to fill the field positions greedily in sector priority order
+		 */
+		public void finish(LineupOptimizer.Result result) {
+			if (result != null) {
+				setFieldPositions(result, players, lPositions);
+			} else {
+				for (var playerPositions : fieldPlayerPositionOrder) {
+					optimizeLineup(playerPositions, players, lPositions, useAverageRating);
+				}
+			}
+
+			if (idealPosFirst) {
+				doReserveSpielerAufstellenIdealPos(IMatchRoleID.KEEPER, bForm, ignoreInjured,
+						ignoreSuspended, players, lPositions);
+				doReserveSpielerAufstellenIdealPos(IMatchRoleID.CENTRAL_DEFENDER, bForm,
+						ignoreInjured, ignoreSuspended, players, lPositions);
+				doReserveSpielerAufstellenIdealPos(IMatchRoleID.BACK, bForm,
+						ignoreInjured, ignoreSuspended, players, lPositions);
+				doReserveSpielerAufstellenIdealPos(IMatchRoleID.MIDFIELDER, bForm,
+						ignoreInjured, ignoreSuspended, players, lPositions);
+				doReserveSpielerAufstellenIdealPos(IMatchRoleID.WINGER, bForm, ignoreInjured,
+						ignoreSuspended, players, lPositions);
+				doReserveSpielerAufstellenIdealPos(IMatchRoleID.FORWARD, bForm, ignoreInjured,
+						ignoreSuspended, players, lPositions);
+			}
+
+			reservePositionOrder.add(List.of(IMatchRoleID.EXTRA));
+			var substitutePositions = allPositions.stream().filter(MatchRoleID::isSubstitutesMatchRoleId).toList();
+			for (var b : reservePositionOrder) {
+				optimizeLineup(b, players, substitutePositions, useAverageRating);
+			}
+
+			var backupPositionOrder = List.of(
+					List.of(IMatchRoleID.KEEPER),
+					List.of(IMatchRoleID.CENTRAL_DEFENDER),
+					List.of(IMatchRoleID.BACK),
+					List.of(IMatchRoleID.MIDFIELDER),
+					List.of(IMatchRoleID.WINGER),
+					List.of(IMatchRoleID.FORWARD),
+					List.of(IMatchRoleID.EXTRA)
+			);
+			var backupCandidates = substitutePositions.stream()
+					.map(MatchLineupPosition::getPlayer)
+					.filter(Objects::nonNull)
+					.toList();
+			var backupPositions = allPositions.stream().filter(MatchRoleID::isBackupsMatchRoleId).toList();
+			for (var b : backupPositionOrder) {
+				// local backup candidates list without player of corresponding substitutes slot
+				var substitutePosition = getSubstitutePosition(b.get(0));
+				var matchLineupPosition = allPositions.stream().filter(i->i.getRoleId()==substitutePosition).findFirst();
+				if (matchLineupPosition.isPresent()) {
+					var substitutePlayerId = matchLineupPosition.get().getPlayerId();
+					var backupCandidatesForPosition = backupCandidates.stream().filter(i->i.getPlayerId() != substitutePlayerId).collect(Collectors.toList());
+					optimizeLineup(b, backupCandidatesForPosition, backupPositions, useAverageRating);
+				}
+			}
 		}
+	}
 
-		var backupPositionOrder = List.of(
-				List.of(IMatchRoleID.KEEPER),
-				List.of(IMatchRoleID.CENTRAL_DEFENDER),
-				List.of(IMatchRoleID.BACK),
-				List.of(IMatchRoleID.MIDFIELDER),
-				List.of(IMatchRoleID.WINGER),
-				List.of(IMatchRoleID.FORWARD),
-				List.of(IMatchRoleID.EXTRA)
-		);
-		var backupCandidates = substitutePositions.stream()
-				.map(MatchLineupPosition::getPlayer)
-				.filter(Objects::nonNull)
-				.toList();
-		lPositions = allPositions.stream().filter(MatchRoleID::isBackupsMatchRoleId).toList();
-		for (var b : backupPositionOrder) {
-			// local backup candidates list without player of corresponding substitutes slot
-			var substitutePosition = getSubstitutePosition(b.get(0));
-			var matchLineupPosition = allPositions.stream().filter(i->i.getRoleId()==substitutePosition).findFirst();
-			if (matchLineupPosition.isPresent()) {
-				var substitutePlayerId = matchLineupPosition.get().getPlayerId();
-				var backupCandidatesForPosition = backupCandidates.stream().filter(i->i.getPlayerId() != substitutePlayerId).collect(Collectors.toList());
-				optimizeLineup(b, backupCandidatesForPosition, lPositions, useAverageRating);
+	/**
+	 * Fill the free field positions with the lineup found by the optimizer
+	 *
+	 * @param result Result of the optimizer
+	 * @param players Available players, the assigned players are removed
+	 * @param lineupPositions Field positions to fill
+	 */
+	private void setFieldPositions(LineupOptimizer.Result result, List<Player> players, List<MatchLineupPosition> lineupPositions) {
+		var freePositions = lineupPositions.stream().filter(i -> i.getPlayerId() == 0).toList();
+		for (var assignment : result.assignments()) {
+			for (var pos : freePositions) {
+				if (pos.getRoleId() == assignment.roleId()) {
+					if (pos.setPlayerIdIfValidForLineup(assignment.player().getPlayerId())) {
+						pos.setBehaviour(assignment.behaviour());
+						players.remove(assignment.player());
+					}
+					break;
+				}
 			}
 		}
 	}
@@ -14,7 +14,9 @@ import core.model.TranslationFacility;
 import core.model.UserParameter;
 import core.model.player.IMatchRoleID;
 import core.model.player.Player;
+import core.util.HOLogger;
 import core.util.Helper;
+import module.lineup.Lineup;
 import module.lineup.LineupAssistantSelectorOverlay;
 import module.lineup.lineup.PlayerPositionPanel;
 
@@ -25,6 +27,7 @@ import java.awt.event.ItemEvent;
 import java.awt.event.ItemListener;
 import java.util.List;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
 
 import static core.util.Helper.getTranslation;
 import static module.lineup.LineupPanel.TITLE_FG;
@@ -48,6 +51,7 @@ public class LineupAssistantPanel extends ImagePanel implements Refreshable, Act
 	private final JCheckBox m_jcbxFilterPlayerPositionCB = new JCheckBox("", userParameter.aufstellungsAssistentPanel_cbfilter);
 	private final JCheckBox m_jcbxConsiderForm = new JCheckBox("", userParameter.aufstellungsAssistentPanel_form);
 	private final JCheckBox isUsePlayerAverageRatingCheckbox = new JCheckBox("", userParameter.aufstellungsAssistentPanel_averagerating);
+	private final JCheckBox m_jcbxOptimize = new JCheckBox("", userParameter.aufstellungsAssistentPanel_optimize);
 	private final JCheckBox m_jcbxConsiderInjuredPlayers = new JCheckBox("", userParameter.aufstellungsAssistentPanel_verletzt);
 	private final JCheckBox m_jcbxConsiderSuspendedPlayers = new JCheckBox("", userParameter.aufstellungsAssistentPanel_gesperrt);
 	private final JCheckBox m_jcbxIdealPositionFirst = new JCheckBox("", userParameter.aufstellungsAssistentPanel_idealPosition);
@@ -72,6 +76,12 @@ public class LineupAssistantPanel extends ImagePanel implements Refreshable, Act
 					LineupAssistant.ST_MF_AW) };
 	private final JComboBox<CBItem> m_jcbPriority = new JComboBox<>(PRIORITIES);
 
+	private final CBItem[] OBJECTIVES = {
+			new CBItem(getTranslation("ls.module.lineup.assistant.objective.rating"), LineupAssistant.OBJECTIVE_RATING),
+			new CBItem(getTranslation("ls.module.lineup.assistant.objective.hatstats"), LineupAssistant.OBJECTIVE_HATSTATS),
+	};
+	private final JComboBox<CBItem> m_jcbObjective = new JComboBox<>(OBJECTIVES);
+
 
 	private final JButton m_jbClearLineup = new JButton();
 	private final JButton m_jbStartAssistant = new JButton();
@@ -79,6 +89,9 @@ public class LineupAssistantPanel extends ImagePanel implements Refreshable, Act
 
 	private final HashMap<PlayerPositionPanel, LineupAssistantSelectorOverlay> positions = new HashMap<>();
 
+	/** Time budget of the optimizing lineup search */
+	private static final long OPTIMIZER_TIME_BUDGET_MILLIS = 3000;
+
 	// UI items for additions to the LineupPositionsPanel
 
 	JLabel infoLabel = null;
@@ -102,6 +115,14 @@ public class LineupAssistantPanel extends ImagePanel implements Refreshable, Act
 		return isUsePlayerAverageRatingCheckbox.isSelected();
 	}
 
+	public final boolean isOptimize() {
+		return m_jcbxOptimize.isSelected();
+	}
+
+	public final int getObjective() {
+		return ((CBItem) Objects.requireNonNull(m_jcbObjective.getSelectedItem())).getId();
+	}
+
 	public final boolean isIgnoreSuspended() {
 		return m_jcbxConsiderSuspendedPlayers.isSelected();
 	}
@@ -150,6 +171,9 @@ public class LineupAssistantPanel extends ImagePanel implements Refreshable, Act
 		else if (actionEvent.getSource().equals(m_jbStartAssistant)) {
 			displayGUI();
 		}
+		else if (actionEvent.getSource().equals(m_jcbxOptimize)) {
+			m_jcbObjective.setEnabled(isOptimize());
+		}
 		else if (actionEvent.getSource().equals(m_jcbxFilterPlayerPositionCB) || actionEvent.getSource().equals(m_jcbxNotLast)) {
 			mainFrame.getLineupPanel().refreshLineupPositionsPanel();
 		}
@@ -243,17 +267,18 @@ public class LineupAssistantPanel extends ImagePanel implements Refreshable, Act
 			}
 		}
 
-		hoModel.getCurrentLineupTeam()
-				.getLineup()
-				.optimizeLineup(
-						selectablePlayers,
-						(byte) ((CBItem)m_jcbPriority.getSelectedItem()).getId(),
-						isConsiderForm(),
-						isIdealPositionZuerst(),
-						isIgnoreInjured(),
-						isIgnoreSuspended(),
-						isUseAverageRating()
-				);
+		var lineup = hoModel.getCurrentLineupTeam().getLineup();
+		var priority = (byte) ((CBItem)m_jcbPriority.getSelectedItem()).getId();
+		if (isOptimize()) {
+			var objective = LineupAssistant.getOptimizerObjective(hoModel.getRatingPredictionModel(), getObjective(),
+					priority, isUseAverageRating());
+			if (objective != null) {
+				startOptimizer(lineup, selectablePlayers, priority, new LineupOptimizer(objective, OPTIMIZER_TIME_BUDGET_MILLIS), mainFrame);
+				return;
+			}
+		}
+		lineup.optimizeLineup(selectablePlayers, priority, isConsiderForm(), isIdealPositionZuerst(),
+				isIgnoreInjured(), isIgnoreSuspended(), isUseAverageRating());
 
 		mainFrame.setInformation(TranslationFacility.tr("Autoaufstellung_fertig"));
 		mainFrame.getLineupPanel().update();
@@ -261,6 +286,64 @@ public class LineupAssistantPanel extends ImagePanel implements Refreshable, Act
 		// gui.RefreshManager.instance ().doRefresh ();
 	}
 
+	/**
+	 * Run the optimizing lineup assistant in the background.
+	 * Only the optimizer's search runs in the background, the lineup is changed by the event dispatch thread.
+	 * The score of each improvement of the best lineup and the used share of the time budget are shown
+	 * in the info panel. The assistant's buttons are disabled until the lineup is set.
+	 */
+	private void startOptimizer(Lineup lineup, List<Player> selectablePlayers, byte priority, LineupOptimizer optimizer,
+								HOMainFrame mainFrame) {
+		var run = lineup.startLineupAssistant(selectablePlayers, priority, isConsiderForm(), isIdealPositionZuerst(),
+				isIgnoreInjured(), isIgnoreSuspended(), isUseAverageRating());
+		if (run == null) {
+			return;
+		}
+		var start = System.nanoTime();
+		setAssistantEnabled(false);
+		mainFrame.resetInformation();
+
+		final SwingWorker<LineupOptimizer.Result, LineupOptimizer.Result> worker = new SwingWorker<>() {
+			@Override
+			protected LineupOptimizer.Result doInBackground() {
+				return run.optimize(optimizer, this::publish);
+			}
+
+			@Override
+			protected void process(List<LineupOptimizer.Result> chunks) {
+				var best = chunks.get(chunks.size() - 1);
+				var elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+				mainFrame.setInformation(TranslationFacility.tr("ls.module.lineup.assistant.optimize.progress",
+								Helper.round(best.score(), 1)),
+						(int) Math.min(100, elapsedMillis * 100 / OPTIMIZER_TIME_BUDGET_MILLIS));
+			}
+
+			@Override
+			protected void done() {
+				try {
+					var result = get();
+					lineup.finishLineupAssistant(run, result);
+					if (!result.complete()) {
+						mainFrame.setInformation(TranslationFacility.tr("ls.module.lineup.assistant.optimize.timeout"));
+					} else {
+						mainFrame.setInformation(TranslationFacility.tr("Autoaufstellung_fertig"));
+					}
+				} catch (InterruptedException | ExecutionException e) {
+					HOLogger.instance().error(LineupAssistantPanel.class, "Lineup optimizer failed: " + e);
+					mainFrame.resetInformation();
+				}
+				setAssistantEnabled(true);
+				mainFrame.getLineupPanel().update();
+			}
+		};
+		worker.execute();
+	}
+
+	private void setAssistantEnabled(boolean enabled) {
+		m_jbStartAssistant.setEnabled(enabled);
+		m_jbClearLineup.setEnabled(enabled);
+	}
+
 	private void displayGUI() {
 
 		// Add overlays to player panels
@@ -519,6 +602,32 @@ public class LineupAssistantPanel extends ImagePanel implements Refreshable, Act
 		layout.setConstraints(isUsePlayerAverageRatingCheckbox, constraints);
 		add(isUsePlayerAverageRatingCheckbox);
 
+		constraints.gridx++;
+		label = new JLabel(getTranslation("ls.module.lineup.assistant.optimize"));
+		label.setToolTipText(getTranslation("ls.module.lineup.assistant.optimize.tt"));
+		addLabel(constraints, layout, label);
+
+		constraints.gridx++;
+		m_jcbxOptimize.setToolTipText(getTranslation("ls.module.lineup.assistant.optimize.tt"));
+		m_jcbxOptimize.addActionListener(this);
+		layout.setConstraints(m_jcbxOptimize, constraints);
+		add(m_jcbxOptimize);
+
+		// Line 7b ===============================================
+		constraints.gridx = 2;
+		constraints.gridy++;
+		label = new JLabel(getTranslation("ls.module.lineup.assistant.objective"));
+		label.setToolTipText(getTranslation("ls.module.lineup.assistant.objective.tt"));
+		addLabel(constraints, layout, label);
+
+		constraints.gridx++;
+		m_jcbObjective.setToolTipText(getTranslation("ls.module.lineup.assistant.objective.tt"));
+		core.util.Helper.setComboBoxFromID(m_jcbObjective, userParameter.aufstellungsAssistentPanel_objective);
+		m_jcbObjective.setEnabled(isOptimize());
+		m_jcbObjective.setBackground(ThemeManager.getColor(HOColorName.BACKGROUND_CONTAINER));
+		layout.setConstraints(m_jcbObjective, constraints);
+		add(m_jcbObjective);
+
 		// Line 8 (break line)  =============================================================================
 		constraints.gridx = 0;
 		constraints.gridy++;
@@ -0,0 +1,332 @@
+package module.lineup.assistant;
+
+import core.model.player.MatchRoleID;
+import core.model.player.Player;
+import core.rating.RatingPredictionModel;
+import core.rating.RatingPredictionModel.RatingSector;
+import java.io.Serial;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import static core.model.player.IMatchRoleID.NORMAL;
+
+/**
+ * Searches the assignment of players and behaviours to field positions with the highest
+ * sum of position scores.
+ * <p>
+ * The search is a branch and bound over the positions. A branch is cut when its score plus the
+ * best scores of still free players on the remaining positions does not exceed the best lineup found.
+ * The branches of the first positions are searched in parallel on the common fork join pool.
+ * When the time budget is exhausted the best lineup found so far is returned. The first branch searched
+ * is the greedy assignment, so a lineup is found even with a small budget.
+ */
+public class LineupOptimizer {
+
+    /**
+     * Score of a player on a lineup position with a given behaviour.
+     * The lineup score is the sum of the position scores, position scores must not be negative.
+     */
+    @FunctionalInterface
+    public interface Objective {
+        double score(Player player, int roleId, byte behaviour);
+    }
+
+    /**
+     * A player with behaviour on a lineup position
+     */
+    public record Assignment(int roleId, Player player, byte behaviour) {
+    }
+
+    /**
+     * Lineup found by the search
+     *
+     * @param assignments Assigned positions
+     * @param score       Sum of the position scores
+     * @param complete    false, if the search was stopped by the time budget
+     */
+    public record Result(List<Assignment> assignments, double score, boolean complete) {
+    }
+
+    /** Hattrick weights of the rating sectors in the HatStats */
+    private static final double[] HATSTATS_WEIGHTS = {1, 1, 1, 3, 1, 1, 1};
+
+    /** Positions, whose branches are searched by parallel tasks */
+    private static final int PARALLEL_DEPTH = 2;
+
+    /** Search nodes between checks of the time budget */
+    private static final int DEADLINE_CHECK_INTERVAL = 1024;
+
+    private final Objective objective;
+    private final long timeBudgetMillis;
+
+    /**
+     * @param objective        Position score to maximize
+     * @param timeBudgetMillis Time after which the search is stopped
+     */
+    public LineupOptimizer(Objective objective, long timeBudgetMillis) {
+        this.objective = objective;
+        this.timeBudgetMillis = timeBudgetMillis;
+    }
+
+    /**
+     * Player rating of the position
+     *
+     * @param model            Rating prediction model
+     * @param useAverageRating Use player's match average rating instead of first minute rating
+     */
+    public static Objective rating(RatingPredictionModel model, boolean useAverageRating) {
+        if (useAverageRating) {
+            return model::getPlayerMatchAverageRating;
+        }
+        return model::getPlayerRatingMatchBeginning;
+    }
+
+    /**
+     * Position scores weighted by the sector of the position
+     *
+     * @param objective Position score
+     * @param weights   Weights of the sectors, missing sectors are weighted by 1
+     */
+    public static Objective sectorPriority(Objective objective, Map<MatchRoleID.Sector, Double> weights) {
+        return (player, roleId, behaviour) -> objective.score(player, roleId, behaviour)
+                * weights.getOrDefault(MatchRoleID.getSector(roleId), 1.);
+    }
+
+    /**
+     * Weighted sum of the player's contributions to the rating sectors.
+     * The contributions are transformed to rating scale before weighting.
+     *
+     * @param model   Rating prediction model
+     * @param weights Weights indexed by {@link RatingSector} ordinal
+     */
+    public static Objective sectorWeighted(RatingPredictionModel model, double[] weights) {
+        var sectors = RatingSector.values();
+        var factors = new double[sectors.length];
+        for (var s : sectors) {
+            factors[s.ordinal()] = weights[s.ordinal()] * model.getRatingSectorScaleFactor(s);
+        }
+        return (player, roleId, behaviour) -> {
+            var ret = 0.;
+            for (var s : sectors) {
+                if (factors[s.ordinal()] != 0) {
+                    ret += factors[s.ordinal()] * model.getPlayerSectorContribution(player, roleId, behaviour, s);
+                }
+            }
+            return ret;
+        };
+    }
+
+    /**
+     * Linear approximation of the HatStats: the sector contributions weighted like the sector ratings in
+     * the HatStats. The overcrowding penalty and the non-linear rating scale are not considered.
+     *
+     * @param model Rating prediction model
+     */
+    public static Objective hatStats(RatingPredictionModel model) {
+        return sectorWeighted(model, HATSTATS_WEIGHTS);
+    }
+
+    /**
+     * Search the best lineup
+     *
+     * @param roleIds    Free field positions
+     * @param players    Available players
+     * @param maxPlayers Maximum number of players to assign
+     * @param progress   Informed about each improvement of the best lineup, may be called from any worker thread
+     * @return Best lineup found
+     */
+    public Result optimize(List<Integer> roleIds, List<Player> players, int maxPlayers, Consumer<Result> progress) {
+        var search = new Search(roleIds, players, maxPlayers, progress);
+        if (search.positions.length > 0 && maxPlayers > 0) {
+            ForkJoinPool.commonPool().invoke(search.new SearchTask(0, maxPlayers, 0, new int[search.positions.length], new boolean[players.size()]));
+        }
+        return search.getResult();
+    }
+
+    private final class Search {
+        final int[] positions;
+        final List<Player> players;
+        final Consumer<Result> progress;
+        final long deadline;
+
+        /** Score of each player index on a position */
+        final double[][] scores;
+        /** Best behaviour of each player index on a position */
+        final byte[][] behaviours;
+        /** Player indices of a position, sorted by descending score */
+        final int[][] candidates;
+
+        private volatile double bestScore = -1;
+        private volatile boolean timedOut;
+        private int[] bestAssignment;
+
+        Search(List<Integer> roleIds, List<Player> players, int maxPlayers, Consumer<Result> progress) {
+            this.positions = roleIds.stream().mapToInt(Integer::intValue).sorted().toArray();
+            this.players = players;
+            this.progress = progress;
+            this.deadline = System.nanoTime() + timeBudgetMillis * 1_000_000;
+            this.scores = new double[positions.length][];
+            this.behaviours = new byte[positions.length][];
+            this.candidates = new int[positions.length][];
+            IntStream.range(0, positions.length).parallel().forEach(i -> scorePosition(i, maxPlayers));
+        }
+
+        /**
+         * Only the best maxPlayers candidates of a position are kept. Any better assignment would
+         * leave one of them unused, which could replace the assigned player.
+         */
+        private void scorePosition(int i, int maxPlayers) {
+            var roleId = positions[i];
+            var positionBehaviours = new ArrayList<>(MatchRoleID.getBehaviours(roleId));
+            if (positionBehaviours.isEmpty()) positionBehaviours.add(NORMAL);
+            scores[i] = new double[players.size()];
+            behaviours[i] = new byte[players.size()];
+            for (int p = 0; p < players.size(); p++) {
+                var best = -1.;
+                for (var behaviour : positionBehaviours) {
+                    var score = objective.score(players.get(p), roleId, behaviour);
+                    if (score > best) {
+                        best = score;
+                        behaviours[i][p] = behaviour;
+                    }
+                }
+                scores[i][p] = Math.max(0, best);
+            }
+            var position = scores[i];
+            candidates[i] = IntStream.range(0, players.size())
+                    .boxed()
+                    .sorted(Comparator.comparingDouble((Integer p) -> position[p]).reversed())
+                    .limit(maxPlayers)
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+        }
+
+        /**
+         * Upper bound of the score, which could be added by the remaining positions.
+         * Each remaining position is assumed to get its best free candidate.
+         */
+        private double bound(int depth, int picksLeft, boolean[] used, double[] scratch) {
+            var n = 0;
+            for (int i = depth; i < positions.length; i++) {
+                for (var p : candidates[i]) {
+                    if (!used[p]) {
+                        scratch[n++] = scores[i][p];
+                        break;
+                    }
+                }
+            }
+            if (n > picksLeft) {
+                Arrays.sort(scratch, 0, n);
+            }
+            var ret = 0.;
+            for (int i = n - 1; i >= 0 && i >= n - picksLeft; i--) {
+                ret += scratch[i];
+            }
+            return ret;
+        }
+
+        private synchronized void offer(double score, int[] assignment) {
+            if (score > bestScore) {
+                bestScore = score;
+                bestAssignment = assignment.clone();
+                if (progress != null) {
+                    progress.accept(toResult(bestAssignment, score, false));
+                }
+            }
+        }
+
+        synchronized Result getResult() {
+            if (bestAssignment == null) {
+                return new Result(List.of(), 0, !timedOut);
+            }
+            return toResult(bestAssignment, bestScore, !timedOut);
+        }
+
+        /**
+         * @param assignment player index + 1 of each position, 0 if the position is not assigned
+         */
+        private Result toResult(int[] assignment, double score, boolean complete) {
+            var ret = new ArrayList<Assignment>();
+            for (int i = 0; i < positions.length; i++) {
+                var p = assignment[i] - 1;
+                if (p >= 0) {
+                    ret.add(new Assignment(positions[i], players.get(p), behaviours[i][p]));
+                }
+            }
+            return new Result(ret, score, complete);
+        }
+
+        private final class SearchTask extends RecursiveAction {
+            @Serial
+            private static final long serialVersionUID = 1L;
+
+            private final int depth;
+            private final int picksLeft;
+            private final double score;
+            private final int[] assignment;
+            private final boolean[] used;
+            private final double[] scratch = new double[positions.length];
+            private int nodes;
+
+            SearchTask(int depth, int picksLeft, double score, int[] assignment, boolean[] used) {
+                this.depth = depth;
+                this.picksLeft = picksLeft;
+                this.score = score;
+                this.assignment = assignment;
+                this.used = used;
+            }
+
+            @Override
+            protected void compute() {
+                if (depth >= PARALLEL_DEPTH || depth == positions.length || picksLeft == 0) {
+                    search(depth, picksLeft, score);
+                    return;
+                }
+                var tasks = new ArrayList<SearchTask>();
+                for (var p : candidates[depth]) {
+                    if (!used[p]) {
+                        var childAssignment = assignment.clone();
+                        var childUsed = used.clone();
+                        childAssignment[depth] = p + 1;
+                        childUsed[p] = true;
+                        tasks.add(new SearchTask(depth + 1, picksLeft - 1, score + scores[depth][p], childAssignment, childUsed));
+                    }
+                }
+                tasks.add(new SearchTask(depth + 1, picksLeft, score, assignment.clone(), used.clone()));
+                invokeAll(tasks);
+            }
+
+            private void search(int depth, int picksLeft, double score) {
+                if (timedOut) return;
+                // the budget is not checked before a first lineup was found
+                if (nodes++ % DEADLINE_CHECK_INTERVAL == 0 && bestScore >= 0 && System.nanoTime() > deadline) {
+                    timedOut = true;
+                    return;
+                }
+                if (depth == positions.length || picksLeft == 0) {
+                    offer(score, assignment);
+                    return;
+                }
+                if (score + bound(depth, picksLeft, used, scratch) <= bestScore) return;
+
+                for (var p : candidates[depth]) {
+                    if (!used[p]) {
+                        used[p] = true;
+                        assignment[depth] = p + 1;
+                        search(depth + 1, picksLeft - 1, score + scores[depth][p]);
+                        used[p] = false;
+                        assignment[depth] = 0;
+                    }
+                }
+                search(depth + 1, picksLeft, score);
+            }
+        }
+    }
+}
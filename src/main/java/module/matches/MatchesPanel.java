@@ -1,5 +1,6 @@
 package module.matches;
 
+import core.gui.DataDomain;
 import core.datatype.CBItem;
 import core.db.DBManager;
 import core.gui.CursorToolkit;
@@ -91,7 +92,7 @@ public final class MatchesPanel extends LazyImagePanel {
 	protected void initialize() {
 		initComponents();
 		addListeners();
-		registerRefreshable(true);
+		registerRefreshable(true, DataDomain.MATCHES);
 		setNeedsRefresh(true);
 	}
 
@@ -168,7 +169,7 @@ public final class MatchesPanel extends LazyImagePanel {
 			OnlineWorker.downloadMatchData( matchKurzInfo.getMatchID(), matchKurzInfo.getMatchType(), true);
 			HOMainFrame.instance().updateProgress((int)(++i * 100.0 / n));
 		}
-		RefreshManager.instance().doReInit();
+		RefreshManager.instance().doReInit(DataDomain.MATCHES);
 		showMatch(matchid);
 		HOMainFrame.instance().setInformationCompleted();
 	}
@@ -204,7 +205,7 @@ public final class MatchesPanel extends LazyImagePanel {
 			for (MatchKurzInfo info : infos) {
 				DBManager.instance().deleteMatch(info);
 			}
-			RefreshManager.instance().doReInit();
+			RefreshManager.instance().doReInit(DataDomain.MATCHES);
 		}
 	}
 
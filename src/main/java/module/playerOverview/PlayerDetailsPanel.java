@@ -168,7 +168,7 @@ public final class PlayerDetailsPanel extends ImagePanel implements Refreshable,
                     m_clPlayer.setUserPosFlag((byte) ((core.datatype.CBItem) m_jcbUserBestPosition
                             .getSelectedItem()).getId());
                 }
-                HOMainFrame.instance().getSpielerUebersichtPanel().update();
+                HOMainFrame.instance().getSpielerUebersichtPanel().update(m_clPlayer);
             }
         }
     }
@@ -6,6 +6,7 @@ import core.model.HOModelManager;
 import core.model.TranslationFacility;
 import core.model.UserParameter;
 import core.HO;
+import core.context.EventBus;
 import core.context.events.PlayerSelectionEvent;
 
 import core.model.player.Player;
@@ -33,7 +34,7 @@ public class PlayerOverviewPanel extends ImagePanel {
 		initComponents();
 		addTableSelectionListeners();
 		if (HO.getApplicationContext() != null && HO.getApplicationContext().getEventBus() != null) {
-			HO.getApplicationContext().getEventBus().register(PlayerSelectionEvent.class, this::onPlayerSelected);
+			HO.getApplicationContext().getEventBus().register(PlayerSelectionEvent.class, this::onPlayerSelected, EventBus.Delivery.EDT);
 		}
 		// Init with current selection
 		if (HOModelManager.instance().getModel().getSelectedPlayer() != null) {
@@ -102,6 +103,16 @@ public class PlayerOverviewPanel extends ImagePanel {
 		Objects.requireNonNull(HOMainFrame.instance().getLineupPanel()).refresh();
 	}
 
+	/**
+	 * Refreshes the rows of a player here and in the lineup panel when the
+	 * groups / info of this player has been changed
+	 */
+	public final void update(Player player) {
+		playerDetailsPanel.refresh();
+		playerOverviewTable.refreshPlayer(player.getPlayerId());
+		Objects.requireNonNull(HOMainFrame.instance().getLineupPanel()).refreshPlayer(player.getPlayerId());
+	}
+
 	// ----------init-----------------------------------------------
 	private void initComponents() {
 		setLayout(new BorderLayout());
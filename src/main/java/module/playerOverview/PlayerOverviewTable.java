@@ -1,5 +1,6 @@
 package module.playerOverview;
 
+import core.gui.DataDomain;
 import core.model.match.MatchKurzInfo; // Updated import
 import core.model.enums.MatchType;
 import core.db.DBManager;
@@ -50,7 +51,7 @@ public class PlayerOverviewTable extends FixedColumnsTable implements Refreshabl
 
         playerTableModel.setValues(HOModelManager.instance().getModel().getCurrentPlayers());
         setOpaque(false);
-        RefreshManager.instance().registerRefreshable(this);
+        RefreshManager.instance().registerRefreshable(this, DataDomain.PLAYERS, DataDomain.TRAINING, DataDomain.MATCHES);
 
         // Add a mouse listener that, when clicking on the “Last match” column
         // - opens the Hattrick page for the player if you shift-click,
@@ -118,6 +119,14 @@ public class PlayerOverviewTable extends FixedColumnsTable implements Refreshabl
         repaint();
     }
 
+    /**
+     * Recompute the row of a changed player
+     */
+    public void refreshPlayer(int playerId) {
+        playerTableModel.invalidatePlayer(playerId);
+        repaint();
+    }
+
     public void refreshHRFComparison() {
         reInitModelHRFComparison();
         repaint();
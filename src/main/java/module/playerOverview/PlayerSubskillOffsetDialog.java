@@ -1,5 +1,6 @@
 package module.playerOverview;
 
+import core.gui.DataDomain;
 import core.constants.player.PlayerSkill;
 import core.db.DBManager;
 import core.gui.comp.panel.ImagePanel;
@@ -89,7 +90,7 @@ final class PlayerSubskillOffsetDialog extends JDialog implements ActionListener
 			var predictionModel = HOModelManager.instance().getModel().getRatingPredictionModel();
 			predictionModel.removePlayer(m_clPlayer);
 
-			core.gui.RefreshManager.instance().doReInit();
+			core.gui.RefreshManager.instance().doReInit(DataDomain.PLAYERS);
 			setVisible(false);
 			dispose();
 		} else if (actionEvent.getSource().equals(cancelButton)) {
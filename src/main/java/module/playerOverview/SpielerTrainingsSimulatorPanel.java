@@ -1,5 +1,6 @@
 package module.playerOverview;
 
+import core.gui.DataDomain;
 import core.constants.player.PlayerAbility;
 import core.constants.player.PlayerSpeciality;
 import core.datatype.CBItem;
@@ -221,11 +222,11 @@ final class SpielerTrainingsSimulatorPanel extends ImagePanel
             player.setLoyalty(((CBItem) m_jcbLoyalty.getSelectedItem()).getId());
             player.setHomeGrown(m_jchHomegrown.isSelected());
             HOModelManager.instance().getModel().addPlayer(player);
-            RefreshManager.instance().doReInit();
+            RefreshManager.instance().doReInit(DataDomain.PLAYERS);
             HOMainFrame.instance().showTab(IModule.PLAYEROVERVIEW);
         } else if (e.getSource().equals(m_jbRemoveTempSpieler)) {
             HOModelManager.instance().getModel().removePlayer(m_clPlayer);
-            RefreshManager.instance().doReInit();
+            RefreshManager.instance().doReInit(DataDomain.PLAYERS);
             HOMainFrame.instance().showTab(IModule.PLAYEROVERVIEW);
         }
     }
@@ -1,6 +1,7 @@
 // %4061149036:de.hattrickorganizer.gui.playeranalysis%
 package module.playeranalysis;
 
+import core.gui.DataDomain;
 import core.db.DBManager;
 import core.gui.HOMainFrame;
 import core.gui.comp.entry.ColorLabelEntry;
@@ -57,7 +58,7 @@ public class SpielerAnalysePanel extends LazyImagePanel {
 	protected void initialize() {
 		initComponents();
 		addListeners();
-		registerRefreshable(true);
+		registerRefreshable(true, DataDomain.PLAYERS, DataDomain.MATCHES);
 		setNeedsRefresh(true);
 	}
 
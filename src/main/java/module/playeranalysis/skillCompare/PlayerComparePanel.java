@@ -3,6 +3,7 @@
  */
 package module.playeranalysis.skillCompare;
 
+import core.gui.DataDomain;
 import core.constants.player.PlayerAbility;
 import core.datatype.CBItem;
 import core.gui.comp.panel.LazyImagePanel;
@@ -76,7 +77,7 @@ public class PlayerComparePanel extends LazyImagePanel implements ItemListener,
 	protected void initialize() {
 		initComponents();
 		addListeners();
-		registerRefreshable(true);
+		registerRefreshable(true, DataDomain.PLAYERS);
 		setNeedsRefresh(true);
 	}
 
@@ -1,5 +1,6 @@
 package module.series;
 
+import core.gui.DataDomain;
 import core.db.DBManager;
 import core.gui.HOMainFrame;
 import core.gui.RefreshManager;
@@ -73,7 +74,7 @@ final class MatchDayPanel extends JPanel implements ActionListener {
                         // tournament
                         false);
                 fillLabels();
-                RefreshManager.instance().doReInit();
+                RefreshManager.instance().doReInit(DataDomain.SERIES);
                 HOMainFrame.instance().setInformationCompleted();
             } else {
                 // Match zeigen
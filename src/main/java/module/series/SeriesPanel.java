@@ -1,5 +1,6 @@
 package module.series;
 
+import core.gui.DataDomain;
 import core.db.DBManager;
 import core.gui.RefreshManager;
 import core.gui.comp.panel.ImagePanel;
@@ -29,7 +30,7 @@ public class SeriesPanel extends LazyImagePanel {
 		initComponents();
 		fillSaisonCB();
 		addListeners();
-		registerRefreshable(true);
+		registerRefreshable(true, DataDomain.SERIES, DataDomain.MATCHES);
 	}
 
 	@Override
@@ -50,7 +51,7 @@ public class SeriesPanel extends LazyImagePanel {
 				DBManager.instance().deleteSpielplanTabelle(spielplan.getSaison(), spielplan.getLigaId());
 				DBManager.instance().deletePaarungTabelle(spielplan.getSaison(), spielplan.getLigaId());
 				this.model.setCurrentSeries(null);
-				RefreshManager.instance().doReInit();
+				RefreshManager.instance().doReInit(DataDomain.SERIES);
 			}
 		}
 	}
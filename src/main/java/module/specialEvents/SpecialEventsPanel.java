@@ -1,5 +1,6 @@
 package module.specialEvents;
 
+import core.gui.DataDomain;
 import core.gui.CursorToolkit;
 import core.gui.HOMainFrame;
 import core.gui.comp.panel.LazyImagePanel;
@@ -17,7 +18,7 @@ public class SpecialEventsPanel extends LazyImagePanel {
 	@Override
 	protected void initialize() {
 		initComponents();
-		registerRefreshable(true);
+		registerRefreshable(true, DataDomain.MATCHES, DataDomain.PLAYERS);
 		setNeedsRefresh(true);
 	}
 
@@ -1,6 +1,7 @@
 // %3459649550:de.hattrickorganizer.gui.statistic%
 package module.statistics;
 
+import core.gui.DataDomain;
 import core.datatype.CBItem;
 import core.gui.comp.panel.ImagePanel;
 import core.gui.comp.panel.LazyImagePanel;
@@ -20,7 +21,7 @@ public class ArenaStatistikPanel extends LazyImagePanel {
 		initComponents();
 		setNeedsRefresh(false);
 		addListeners();
-		registerRefreshable(true);
+		registerRefreshable(true, DataDomain.MATCHES, DataDomain.ECONOMY);
 	}
 
 	@Override
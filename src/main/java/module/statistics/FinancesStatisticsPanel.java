@@ -1,5 +1,6 @@
 package module.statistics;
 
+import core.gui.DataDomain;
 import core.db.DBManager;
 import core.gui.HOMainFrame;
 import core.gui.comp.panel.ImagePanel;
@@ -54,7 +55,7 @@ public class FinancesStatisticsPanel extends LazyImagePanel {
 		initComponents();
 		addListeners();
 		setNeedsRefresh(true);
-		registerRefreshable(true);
+		registerRefreshable(true, DataDomain.ECONOMY);
 	}
 
 	@Override
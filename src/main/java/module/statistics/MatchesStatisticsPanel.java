@@ -1,5 +1,6 @@
 package module.statistics;
 
+import core.gui.DataDomain;
 import core.constants.player.PlayerAbility;
 import core.datatype.CBItem;
 import core.db.DBManager;
@@ -72,7 +73,7 @@ public class MatchesStatisticsPanel extends LazyImagePanel {
 		addListeners();
 		initStatistik();
 		setNeedsRefresh(false);
-		registerRefreshable(true);
+		registerRefreshable(true, DataDomain.MATCHES);
 	}
 
 	@Override
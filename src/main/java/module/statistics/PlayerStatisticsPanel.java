@@ -1,5 +1,6 @@
 package module.statistics;
 
+import core.gui.DataDomain;
 import core.db.DBManager;
 import core.gui.HOMainFrame;
 import core.gui.comp.ImageCheckbox;
@@ -79,7 +80,7 @@ class PlayerStatisticsPanel extends LazyImagePanel {
 		addListeners();
 		initStatistik();
 		setNeedsRefresh(false);
-		registerRefreshable(true);
+		registerRefreshable(true, DataDomain.PLAYERS);
 	}
 
 	private void addListeners() {
@@ -1,5 +1,6 @@
 package module.statistics;
 
+import core.gui.DataDomain;
 import core.db.DBManager;
 import core.gui.HOMainFrame;
 import core.gui.comp.ImageCheckbox;
@@ -95,7 +96,7 @@ public class TeamStatisticsPanel extends LazyImagePanel {
 		initComponents();
 		addListeners();
 		setNeedsRefresh(true);
-		registerRefreshable(true);
+		registerRefreshable(true, DataDomain.PLAYERS);
 	}
 
 	@Override
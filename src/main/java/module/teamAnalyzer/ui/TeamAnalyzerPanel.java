@@ -1,5 +1,6 @@
 package module.teamAnalyzer.ui;
 
+import core.gui.DataDomain;
 import core.gui.comp.panel.LazyPanel;
 import core.model.TranslationFacility;
 import core.model.UserParameter;
@@ -38,7 +39,7 @@ public class TeamAnalyzerPanel extends LazyPanel {
 		SystemManager.initialize(this);
 		initComponents();
 		addListeners();
-		registerRefreshable(true);
+		registerRefreshable(true, DataDomain.MATCHES);
 		SystemManager.refreshData();
 		setNeedsRefresh(false);
 	}
@@ -1,5 +1,6 @@
 package module.training;
 
+import core.gui.DataDomain;
 import core.gui.comp.panel.LazyPanel;
 import core.model.HOModelManager;
 import core.model.UserParameter;
@@ -26,7 +27,7 @@ public class TrainingModulePanel extends LazyPanel {
 	protected void initialize() {
 		this.model = new TrainingModel();
 		initComponents();
-		registerRefreshable(true);
+		registerRefreshable(true, DataDomain.PLAYERS, DataDomain.TRAINING);
 	}
 
 	@Override
@@ -1,6 +1,7 @@
 // %2601556114:hoplugins.trainingExperience.ui%
 package module.training.ui;
 
+import core.gui.DataDomain;
 import core.constants.player.PlayerSkill;
 import core.gui.comp.panel.ImagePanel;
 import core.gui.comp.panel.LazyPanel;
@@ -84,7 +85,7 @@ public class AnalyzerPanel extends LazyPanel implements ActionListener {
 		initComponents();
 		addListeners();
 		update();
-		registerRefreshable(true);
+		registerRefreshable(true, DataDomain.PLAYERS, DataDomain.TRAINING, DataDomain.MATCHES);
 		setNeedsRefresh(false);
 	}
 
@@ -1,6 +1,7 @@
 // %3525181034:hoplugins.trainingExperience.ui%
 package module.training.ui;
 
+import core.gui.DataDomain;
 import core.gui.comp.panel.ImagePanel;
 import core.gui.comp.panel.LazyPanel;
 import core.model.TranslationFacility;
@@ -26,7 +27,7 @@ public class EffectPanel extends LazyPanel {
 	@Override
 	protected void initialize() {
 		initComponents();
-		registerRefreshable(true);
+		registerRefreshable(true, DataDomain.PLAYERS, DataDomain.TRAINING);
 		update();
 		setNeedsRefresh(false);
 	}
@@ -1,5 +1,6 @@
 package module.training.ui;
 
+import core.gui.DataDomain;
 import core.gui.HOMainFrame;
 import core.gui.RefreshManager;
 import core.gui.comp.NumericDocument;
@@ -63,7 +64,7 @@ public class OutputPanel extends LazyImagePanel {
     protected void initialize() {
         initComponents();
         addListeners();
-        registerRefreshable(true);
+        registerRefreshable(true, DataDomain.PLAYERS, DataDomain.TRAINING);
         update();
         setNeedsRefresh(false);
     }
@@ -97,7 +98,7 @@ public class OutputPanel extends LazyImagePanel {
                     Helper.showMessage(null,
                             TranslationFacility.tr("MatchImported"),
                             TranslationFacility.tr("ImportOK"), 1);
-                    RefreshManager.instance().doRefresh();
+                    RefreshManager.instance().doRefresh(DataDomain.TRAINING);
                 }
             } else {
                 Helper.showMessage(null, TranslationFacility.tr("NotUserMatch"),
@@ -1,6 +1,7 @@
 // %4263391236:hoplugins.trainingExperience.ui%
 package module.training.ui;
 
+import core.gui.DataDomain;
 import core.constants.player.PlayerAbility;
 import core.constants.player.PlayerSkill;
 import core.gui.RefreshManager;
@@ -340,7 +341,7 @@ public class PlayerDetailPanel extends LazyImagePanel {
     private void saveNotes(String notes) {
         if(editingPlayer!= null && !notes.equals(editingPlayer.getNote())){
             editingPlayer.setNote(notes);
-            RefreshManager.instance().doReInit();
+            RefreshManager.instance().doReInit(DataDomain.PLAYERS, DataDomain.TRAINING);
         }
     }
 }
\ No newline at end of file
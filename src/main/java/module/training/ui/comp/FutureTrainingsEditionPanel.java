@@ -1,5 +1,6 @@
 package module.training.ui.comp;
 
+import core.gui.DataDomain;
 import core.datatype.CBItem;
 import core.gui.RefreshManager;
 import core.model.TranslationFacility;
@@ -102,7 +103,7 @@ public class FutureTrainingsEditionPanel extends JPanel {
 
         m_TrainingModel.updateFutureTrainings(futureTrainingsToSave);
         m_FutureTrainingsTableModel.populate(m_TrainingModel.getFutureTrainings());
-        RefreshManager.instance().doRefresh();
+        RefreshManager.instance().doRefresh(DataDomain.TRAINING);
     }
 
     /**
@@ -1,5 +1,6 @@
 package module.transfer;
 
+import core.gui.DataDomain;
 import core.db.DBManager;
 import core.gui.IRefreshable;
 import core.gui.RefreshManager;
@@ -43,7 +44,7 @@ public class TransfersPanel extends JPanel implements IRefreshable {
 		setLayout(new BorderLayout());
 		add(tabPane, BorderLayout.CENTER);
 
-		RefreshManager.instance().registerRefreshable(this);
+		RefreshManager.instance().registerRefreshable(this, DataDomain.PLAYERS, DataDomain.ECONOMY);
 
 	}
 
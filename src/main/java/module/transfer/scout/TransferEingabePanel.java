@@ -1,5 +1,6 @@
 package module.transfer.scout;
 
+import core.gui.DataDomain;
 import core.constants.player.PlayerAbility;
 import core.constants.player.PlayerSpeciality;
 import core.datatype.CBItem;
@@ -187,7 +188,7 @@ public class TransferEingabePanel extends ImagePanel implements ItemListener, Ac
             tempPlayer.setHrfDate(HODateTime.now());
             tempPlayer.setWage(AmountOfMoney.parse(jtfWage.getText()));
             HOModelManager.instance().getModel().addPlayer(tempPlayer);
-            RefreshManager.instance().doReInit();
+            RefreshManager.instance().doReInit(DataDomain.PLAYERS, DataDomain.ECONOMY);
             HOMainFrame.instance().showTab(IModule.PLAYEROVERVIEW);
         }
 		else if (actionEvent.getSource().equals(jbRemoveAll)) {
@@ -1,5 +1,6 @@
 package module.transfer.scout;
 
+import core.gui.DataDomain;
 import core.db.DBManager;
 import core.gui.RefreshManager;
 import core.gui.Refreshable;
@@ -16,7 +17,7 @@ public class TransferScoutingTable extends FixedColumnsTable implements Refresha
         setOpaque(false);
         m_clTableModel = (TransferScoutingTableModel)this.getModel();
         m_clTableModel.setValues(DBManager.instance().getScoutList());
-        RefreshManager.instance().registerRefreshable(this);
+        RefreshManager.instance().registerRefreshable(this, DataDomain.PLAYERS, DataDomain.ECONOMY);
     }
     public final TransferScoutingTableModel getTransferTableModel() {
         return m_clTableModel;
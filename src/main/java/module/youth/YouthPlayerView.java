@@ -1,5 +1,6 @@
 package module.youth;
 
+import core.gui.DataDomain;
 import core.constants.player.PlayerSkill;
 import core.gui.RefreshManager;
 import core.gui.Refreshable;
@@ -131,7 +132,7 @@ public class YouthPlayerView extends JPanel implements Refreshable, ListSelectio
         splitChartFromSkillEditor.setLeftComponent(new JScrollPane(scoutAndChartPanel));
         splitChartFromSkillEditor.setRightComponent(new JScrollPane(skillEditorPanel));
 
-        RefreshManager.instance().registerRefreshable(this);
+        RefreshManager.instance().registerRefreshable(this, DataDomain.YOUTH);
         playerOverviewTable.setDefaultRenderer(Object.class, new YouthPlayerOverviewTableCellRenderer());
         playerDetailsTable.setDefaultRenderer(Object.class, new HODefaultTableCellRenderer());
 
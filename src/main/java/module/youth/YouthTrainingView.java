@@ -1,5 +1,6 @@
 package module.youth;
 
+import core.gui.DataDomain;
 import core.gui.RefreshManager;
 import core.gui.Refreshable;
 import core.gui.comp.table.FixedColumnsTable;
@@ -27,7 +28,7 @@ public class YouthTrainingView extends FixedColumnsTable implements Refreshable
             }
         }
         tableModel.initData();
-        RefreshManager.instance().registerRefreshable(this);
+        RefreshManager.instance().registerRefreshable(this, DataDomain.YOUTH);
     }
 
     @Override
@@ -13,6 +13,7 @@ import javax.swing.JCheckBox;
 import javax.swing.JDialog;
 import javax.swing.JFrame;
 import javax.swing.JLabel;
+import javax.swing.JOptionPane;
 import javax.swing.JPanel;
 import javax.swing.WindowConstants;
 
@@ -126,23 +127,27 @@ class DBCleanupDialog extends JDialog {
         JButton cleanupNowButton = new JButton(TranslationFacility.tr("dbcleanup.cleanupnow"));
         cleanupNowButton.setFont(cleanupNowButton.getFont().deriveFont(Font.BOLD));
         cleanupNowButton.addActionListener(e -> {
-            cleanupTool.cleanupMatches(
-                    new CleanupDetails(
-                            ownMatchesTypeSelectionPanel.getSelectedMatchTypes(),
-                            othersMatchesTypeSelectionPanel.getSelectedMatchTypes(),
-                            mainPanelOwnMatches.getWeeks(),
-                            mainPanelOtherMatches.getWeeks()));
-            cleanupTool.cleanupHRFs(DBCleanupTool.REMOVE_NONE, hrfAutoRemove.isSelected());
+            cleanupTool.cleanup(getCleanupDetails(), DBCleanupTool.REMOVE_NONE, hrfAutoRemove.isSelected(), false);
             setVisible(false);
             dispose();
         });
 
+        JButton previewButton = new JButton(TranslationFacility.tr("dbcleanup.preview"));
+        previewButton.addActionListener(e -> {
+            var rows = cleanupTool.cleanup(getCleanupDetails(), DBCleanupTool.REMOVE_NONE, hrfAutoRemove.isSelected(), true);
+            var text = new StringBuilder(TranslationFacility.tr("dbcleanup.previewRows"));
+            rows.forEach((table, count) -> text.append("\n").append(table).append(": ").append(count));
+            JOptionPane.showMessageDialog(this, text.toString(), TranslationFacility.tr("dbcleanup.preview"),
+                    JOptionPane.INFORMATION_MESSAGE);
+        });
+
         JButton cancelButton = new JButton(TranslationFacility.tr("ls.button.cancel"));
         cancelButton.addActionListener(e -> {
             setVisible(false);
             dispose();
         });
         buttonPanel.add(cleanupNowButton);
+        buttonPanel.add(previewButton);
         buttonPanel.add(cancelButton);
 
         mainPanel.add(buttonPanel, gbc);
@@ -163,6 +168,14 @@ class DBCleanupDialog extends JDialog {
         setVisible(true);
     }
 
+    private CleanupDetails getCleanupDetails() {
+        return new CleanupDetails(
+                ownMatchesTypeSelectionPanel.getSelectedMatchTypes(),
+                othersMatchesTypeSelectionPanel.getSelectedMatchTypes(),
+                mainPanelOwnMatches.getWeeks(),
+                mainPanelOtherMatches.getWeeks());
+    }
+
     private void addNewStrut(GridBagConstraints gbc, JPanel mainPanel, int height) {
         gbc.gridy++;
         gbc.gridwidth = 2;
@@ -9,11 +9,14 @@ import core.util.HODateTime;
 import core.util.HOLogger;
 import java.sql.Timestamp;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.GregorianCalendar;
 import java.util.Arrays;
-import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import javax.swing.JFrame;
 
 /**
@@ -31,76 +34,104 @@ public class DBCleanupTool {
         new DBCleanupDialog(owner, this);
     }
 
+    /**
+     * Remove old matches and HRFs.
+     * The database files are compacted and HO is reinitialized afterwards, if rows were deleted.
+     *
+     * @param cleanupDetails Parameters for match cleanup
+     * @param hrfKeepWeeks   remove HRFs older than x weeks (-1=keep All, 0=remove All)
+     * @param hrfAutoRemove  if true, automatically remove all HRFs except the first per
+     *                       training week
+     * @param dryRun         if true, nothing is deleted and the rows to delete are only counted
+     * @return number of deleted rows per table
+     */
+    public Map<String, Integer> cleanup(CleanupDetails cleanupDetails, int hrfKeepWeeks, boolean hrfAutoRemove,
+                                        boolean dryRun) {
+        var ret = new LinkedHashMap<>(cleanupMatches(cleanupDetails, dryRun));
+        ret.putAll(cleanupHRFs(hrfKeepWeeks, hrfAutoRemove, dryRun));
+        if (!dryRun && ret.values().stream().anyMatch(count -> count > 0)) {
+            DBManager.instance().compactDatabase();
+            reInitHO();
+        }
+        return ret;
+    }
+
     /**
      * Remove old HRFs
      *
      * @param keepWeeks  remove HRFs older than x weeks (-1=keep All, 0=remove All)
      * @param autoRemove if true, automatically remove all HRFs except the first per
      *                   training week
+     * @param dryRun     if true, nothing is deleted and the rows to delete are only counted
+     * @return number of deleted rows per table
      */
-    public void cleanupHRFs(int keepWeeks, boolean autoRemove) {
+    public Map<String, Integer> cleanupHRFs(int keepWeeks, boolean autoRemove, boolean dryRun) {
         Timestamp removeDate = null;
         if (keepWeeks >= 0) {
             HODateTime hrfDateFrom = HODateTime.now().minus(keepWeeks * 7, ChronoUnit.DAYS);
             removeDate = hrfDateFrom.toDbTimestamp();
         }
-        if (removeDate != null || autoRemove) {
-            cleanupHRFsInternal(removeDate, autoRemove);
+        if (removeDate == null && !autoRemove) {
+            return Map.of();
         }
-    }
-
-    /**
-     * Remove old HRFs
-     *
-     * @param removeDate remove HRFs older than x (null=keep all)
-     * @param autoRemove if true, automatically remove all HRFs except the first per
-     *                   training week
-     */
-    private void cleanupHRFsInternal(Timestamp removeDate, boolean autoRemove) {
         HOLogger.instance().debug(
                 getClass(),
-                "Removing old HRFs: removeDate=" + removeDate + ", autoRemove=" + autoRemove);
+                "Removing old HRFs: removeDate=" + removeDate + ", autoRemove=" + autoRemove + ", dryRun=" + dryRun);
         List<HRF> allHrfs = Arrays.asList(DBManager.instance().loadAllHRFs(true));
         HRF latestHrf = DBManager.instance().getLatestHRF();
-        int lastSeason = -1;
-        int lastWeek = -1;
-        int counter = 0;
+        var hrfIds = selectHRFs(allHrfs, latestHrf.getHrfId(), removeDate, autoRemove, HODateTime::toTrainingWeek);
+        var ret = DBManager.instance().deleteHRFs(hrfIds, dryRun);
+        HOLogger.instance().debug(getClass(), "Removed " + hrfIds.size() + "/" + allHrfs.size() + " HRFs from DB: " + ret);
+        return ret;
+    }
 
-        for (HRF curHrf : allHrfs) {
-            int curId = curHrf.getHrfId();
+    /**
+     * Select the HRFs to remove.
+     * The training week depends on the training date of the current download, so it is calculated here
+     * from the HRF dates and not in the database.
+     *
+     * @param hrfs         HRFs sorted by date
+     * @param latestHrfId  id of the latest HRF, which is never removed
+     * @param removeDate   remove HRFs older than this date (null=keep all)
+     * @param autoRemove   if true, remove all HRFs except the first per training week
+     * @param trainingWeek training week of a date
+     * @return ids of the HRFs to remove
+     */
+    static List<Integer> selectHRFs(List<HRF> hrfs, int latestHrfId, Timestamp removeDate, boolean autoRemove,
+                                    Function<HODateTime, HODateTime.HTWeek> trainingWeek) {
+        var ret = new ArrayList<Integer>();
+        HODateTime.HTWeek lastWeek = null;
+        for (HRF curHrf : hrfs) {
             HODateTime curDate = curHrf.getDatum();
-            HODateTime.HTWeek htWeek = curDate.toTrainingWeek();
-            int curHtSeasonTraining = htWeek.season;
-            int curHtWeekTraining = htWeek.week;
             boolean remove = false;
-
             if (removeDate != null && removeDate.after(curDate.toDbTimestamp())) {
                 remove = true;
             } else if (autoRemove) {
-                if (lastSeason == curHtSeasonTraining && lastWeek == curHtWeekTraining) {
+                var htWeek = trainingWeek.apply(curDate);
+                if (lastWeek != null && lastWeek.season == htWeek.season && lastWeek.week == htWeek.week) {
                     remove = true;
                 } else {
-                    lastSeason = curHtSeasonTraining;
-                    lastWeek = curHtWeekTraining;
+                    lastWeek = htWeek;
                 }
             }
             // Do not remove the latest HRF
-            if (remove && curId != latestHrf.getHrfId()) {
-                HOLogger.instance().debug(
-                        getClass(),
-                        "Removing Hrf: " + curId + " @ " + curDate + " (" + curHtSeasonTraining + "/"
-                                + curHtWeekTraining + ")");
-                DBManager.instance().deleteHRF(curId);
-                counter++;
+            if (remove && curHrf.getHrfId() != latestHrfId) {
+                ret.add(curHrf.getHrfId());
             }
         }
-        HOLogger.instance().debug(getClass(), "Removed " + counter + "/" + allHrfs.size() + " HRFs from DB!");
-        if (counter > 0) {
-            reInitHO();
-        }
+        return ret;
     }
 
+    /**
+     * Returns the date limit of the match cleanup
+     *
+     * @param numWeeks remove matches older than x weeks (-1=keep All, 0=remove All)
+     * @return date limit, null if all matches are kept
+     */
     private Timestamp calculateDateLimit(int numWeeks) {
+        if (numWeeks < 0) {
+            return null;
+        }
         Calendar cal = new GregorianCalendar();
         cal.add(Calendar.WEEK_OF_YEAR, -numWeeks);
         return new Timestamp(cal.getTimeInMillis());
@@ -110,71 +141,24 @@ public class DBCleanupTool {
      * Remove old matches from DB (by date)
      *
      * @param cleanupDetails Parameters for cleanup
+     * @param dryRun         if true, nothing is deleted and the rows to delete are only counted
+     * @return number of deleted rows per table
      */
-    public void cleanupMatches(CleanupDetails cleanupDetails) {
+    public Map<String, Integer> cleanupMatches(CleanupDetails cleanupDetails, boolean dryRun) {
         HOLogger.instance().debug(
                 getClass(),
                 "Removing old matches: ownTeamMatchTypes=" + cleanupDetails.ownTeamMatchTypes() + ", " +
                         "ownTeamWeeks=" + cleanupDetails.ownTeamWeeks() + ", " +
                         "otherTeamMatchTypes=" + cleanupDetails.otherTeamMatchTypes() + ", " +
-                        "otherTeamWeeks=" + cleanupDetails.otherTeamWeeks());
+                        "otherTeamWeeks=" + cleanupDetails.otherTeamWeeks() + ", dryRun=" + dryRun);
 
-        int counter = 0;
-        // In Kotlin this was DBManager.instance().getMatchesKurzInfo(-1), check java
-        // signature.
-        // Assuming getMatchesKurzInfo returns ListOrArray.
-        List<MatchKurzInfo> kurzInfos = DBManager.instance().getMatchesKurzInfo(-1);
         int myTeamId = HOModelManager.instance().getModel().getBasics().getTeamId();
-
-        for (MatchKurzInfo curKurzInfo : kurzInfos) {
-            int curMatchId = curKurzInfo.getMatchID();
-            boolean removeMatch = false;
-
-            if (checkDeleteMatch(myTeamId, curKurzInfo, cleanupDetails)) {
-                HOLogger.instance().info(
-                        getClass(),
-                        "Match to be deleted: " + curKurzInfo.getMatchID() + ", " +
-                                "matchType=" + curKurzInfo.getMatchType() + ", matchDate="
-                                + curKurzInfo.getMatchSchedule());
-                removeMatch = true;
-            }
-
-            if (removeMatch) {
-                // Remove match
-                HOLogger.instance().debug(
-                        getClass(),
-                        "Removing match " + curMatchId);
-                DBManager.instance().deleteMatch(curKurzInfo);
-                counter++;
-            }
-        }
-        HOLogger.instance().debug(getClass(), "Removed " + counter + "/" + kurzInfos.size() + " matches from DB!");
-
-        if (counter > 0) {
-            reInitHO();
-        }
-    }
-
-    private boolean checkDeleteMatch(
-            int myTeamId,
-            MatchKurzInfo curKurzInfo,
-            CleanupDetails cleanupDetails) {
-        Timestamp curMatchDate = curKurzInfo.getMatchSchedule().toDbTimestamp();
-        int curMatchType = curKurzInfo.getMatchType().getId(); // Assuming getMatchType returns enum or MatchType
-                                                               // object, and we need ID or object.
-        // MatchType in CleanDetails is List<MatchType>.
-        // curKurzInfo.getMatchType() likely returns MatchType enum.
-
-        boolean isMyMatch = (curKurzInfo.getHomeTeamID() == myTeamId || curKurzInfo.getGuestTeamID() == myTeamId);
-
-        boolean ownMatchToDelete = (isMyMatch && cleanupDetails.ownTeamMatchTypes().contains(curKurzInfo.getMatchType())
-                && calculateDateLimit(cleanupDetails.ownTeamWeeks()).after(curMatchDate));
-        boolean otherMatchToDelete = (!isMyMatch
-                && cleanupDetails.otherTeamMatchTypes().contains(curKurzInfo.getMatchType())
-                && calculateDateLimit(cleanupDetails.otherTeamWeeks()).after(curMatchDate));
-
-        return ownMatchToDelete || otherMatchToDelete;
-
+        var ret = DBManager.instance().deleteMatches(myTeamId,
+                cleanupDetails.ownTeamMatchTypes(), calculateDateLimit(cleanupDetails.ownTeamWeeks()),
+                cleanupDetails.otherTeamMatchTypes(), calculateDateLimit(cleanupDetails.otherTeamWeeks()),
+                dryRun);
+        HOLogger.instance().debug(getClass(), "Removed matches from DB: " + ret);
+        return ret;
     }
 
     /**
@@ -1,5 +1,6 @@
 package tool.keepertool;
 
+import core.gui.DataDomain;
 import core.constants.player.PlayerSkill;
 import core.db.DBManager;
 import core.gui.comp.panel.ImagePanel;
@@ -113,7 +114,7 @@ class ResultPanel extends JPanel {
                 sp.setSubskill4PlayerSkill(PlayerSkill.KEEPER, (float) decimals);
                 DBManager.instance().saveSpieler(HOModelManager.instance().getModel().getCurrentPlayers());
             }
-            core.gui.RefreshManager.instance().doReInit();
+            core.gui.RefreshManager.instance().doReInit(DataDomain.PLAYERS);
             parent.setVisible(false);
             parent.dispose();
         });
@@ -2,8 +2,15 @@ package core.context;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+
+import javax.swing.SwingUtilities;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -81,4 +88,93 @@ class EventBusTest {
         assertDoesNotThrow(() -> eventBus.unregister(String.class, unknown),
                 "Unregistering unknown listener should be safe");
     }
+
+    @Test
+    void testSuperTypeListenersReceiveEvent() {
+        List<String> received = new ArrayList<>();
+        eventBus.register(Object.class, o -> received.add("Object"));
+        eventBus.register(CharSequence.class, c -> received.add("CharSequence"));
+        eventBus.register(Integer.class, i -> received.add("Integer"));
+
+        eventBus.post("Event");
+
+        assertEquals(List.of("CharSequence", "Object"), received.stream().sorted().toList());
+    }
+
+    @Test
+    void testListenerMayPostAndUnregister() {
+        AtomicInteger integers = new AtomicInteger(0);
+        eventBus.register(Integer.class, i -> integers.incrementAndGet());
+        eventBus.register(String.class, new Consumer<>() {
+            @Override
+            public void accept(String s) {
+                eventBus.unregister(String.class, this);
+                eventBus.post(1);
+            }
+        });
+
+        eventBus.post("First");
+        eventBus.post("Second");
+
+        assertEquals(1, integers.get());
+    }
+
+    @Test
+    void testAsynchronousDelivery() throws Exception {
+        AtomicReference<Thread> edtThread = new AtomicReference<>();
+        AtomicReference<Thread> backgroundThread = new AtomicReference<>();
+        CountDownLatch background = new CountDownLatch(1);
+        eventBus.register(String.class, s -> edtThread.set(Thread.currentThread()), EventBus.Delivery.EDT);
+        eventBus.register(String.class, s -> {
+            backgroundThread.set(Thread.currentThread());
+            background.countDown();
+        }, EventBus.Delivery.BACKGROUND);
+
+        eventBus.post("Event");
+
+        assertTrue(background.await(10, TimeUnit.SECONDS));
+        assertNotSame(Thread.currentThread(), backgroundThread.get());
+        SwingUtilities.invokeAndWait(() -> assertSame(Thread.currentThread(), edtThread.get()));
+    }
+
+    @Test
+    void testListenerRegisteredDuringConcurrentPostsReceivesNextEvent() throws Exception {
+        AtomicBoolean stop = new AtomicBoolean();
+        Thread poster = new Thread(() -> {
+            while (!stop.get()) {
+                eventBus.post(0);
+            }
+        });
+        poster.start();
+        try {
+            for (int i = 0; i < 1000; i++) {
+                AtomicBoolean received = new AtomicBoolean();
+                Consumer<Integer> listener = event -> {
+                    if (event == 1) {
+                        received.set(true);
+                    }
+                };
+                eventBus.register(Integer.class, listener);
+                eventBus.post(1);
+                assertTrue(received.get(), "Listener missed the event of iteration " + i);
+                eventBus.unregister(Integer.class, listener);
+            }
+        } finally {
+            stop.set(true);
+            poster.join();
+        }
+    }
+
+    @Test
+    void testDispatchStatistics() {
+        eventBus.register(String.class, s -> {});
+        eventBus.register(Object.class, o -> {});
+
+        eventBus.post("Event 1");
+        eventBus.post("Event 2");
+
+        assertEquals(4, eventBus.getStatistics(String.class).getCount());
+        assertTrue(eventBus.getStatistics().containsKey(String.class.getName()));
+        assertNull(eventBus.getStatistics(Integer.class));
+    }
 }
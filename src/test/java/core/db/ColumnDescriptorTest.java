@@ -12,6 +12,24 @@ class ColumnDescriptorTest {
         return new DBInfo(null);
     }
 
+    @Test
+    void testIntSetterSkipsNull() {
+        class LocalStorer {
+            int v = 7;
+        }
+        var storer = new LocalStorer();
+        var descriptor = ColumnDescriptor.Builder.newInstance()
+                .setColumnName("TEST")
+                .setType(Types.INTEGER)
+                .setIntSetter((o, v) -> ((LocalStorer) o).v = v)
+                .build();
+
+        descriptor.setter.accept(storer, null);
+        Assertions.assertEquals(7, storer.v);
+        descriptor.setter.accept(storer, 3);
+        Assertions.assertEquals(3, storer.v);
+    }
+
     @Test
     void testBuilderSetsValuesCorrectly() {
         class LocalStorer {
@@ -11,6 +11,7 @@ import java.sql.DriverManager;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
 class ConnectionManagerTest {
@@ -113,6 +114,105 @@ class ConnectionManagerTest {
         Assertions.assertEquals(1, num);
     }
 
+    @Test
+    void testExecutePreparedBatchExecutesAllRows() throws SQLException {
+        int[] counts = connectionManager.executePreparedBatch("INSERT INTO TEST (ID, CONTENT) VALUES (?, ?)",
+                List.of(new Object[] { 1, "Hello HO!" }, new Object[] { 2, "Hallo HO!" }));
+        Assertions.assertEquals(2, counts.length);
+
+        try (ResultSet rs = connectionManager.executeQuery("SELECT COUNT(*) FROM TEST")) {
+            Assertions.assertTrue(rs.next());
+            Assertions.assertEquals(2, rs.getInt(1));
+        }
+    }
+
+    @Test
+    void testExecuteInTransactionRollsBackOnError() throws SQLException {
+        Assertions.assertThrows(SQLException.class, () -> connectionManager.executeInTransaction(() -> {
+            connectionManager.executePreparedUpdate("INSERT INTO TEST (ID, CONTENT) VALUES (?, ?)", 1, "Hello HO!");
+            return connectionManager.executePreparedUpdate("INSERT INTO TEST (ID, CONTENT) VALUES (?, ?)", 1,
+                    "Duplicate");
+        }));
+
+        try (ResultSet rs = connectionManager.executeQuery("SELECT COUNT(*) FROM TEST")) {
+            Assertions.assertTrue(rs.next());
+            Assertions.assertEquals(0, rs.getInt(1));
+        }
+        Assertions.assertTrue(connectionManager.getConnection().getAutoCommit());
+    }
+
+    @Test
+    void testExecuteInTransactionRollsBackOnlyFailedJoinedWork() throws SQLException {
+        connectionManager.executeInTransaction(() -> {
+            connectionManager.executePreparedUpdate("INSERT INTO TEST (ID, CONTENT) VALUES (?, ?)", 1, "Hello HO!");
+            Assertions.assertThrows(SQLException.class, () -> connectionManager.executeInTransaction(() -> {
+                connectionManager.executePreparedUpdate("INSERT INTO TEST (ID, CONTENT) VALUES (?, ?)", 2, "Hallo HO!");
+                return connectionManager.executePreparedUpdate("INSERT INTO TEST (ID, CONTENT) VALUES (?, ?)", 1,
+                        "Duplicate");
+            }));
+            return connectionManager.executePreparedUpdate("INSERT INTO TEST (ID, CONTENT) VALUES (?, ?)", 3, "Hola HO!");
+        });
+
+        try (ResultSet rs = connectionManager.executeQuery("SELECT SUM(ID) FROM TEST")) {
+            Assertions.assertTrue(rs.next());
+            Assertions.assertEquals(4, rs.getInt(1));
+        }
+    }
+
+    @Test
+    void testExecuteInTransactionIfSuccessfulRollsBackReportedFailure() throws SQLException {
+        connectionManager.executeInTransaction(() -> {
+            connectionManager.executePreparedUpdate("INSERT INTO TEST (ID, CONTENT) VALUES (?, ?)", 1, "Hello HO!");
+            Assertions.assertFalse(connectionManager.executeInTransactionIfSuccessful(() -> {
+                connectionManager.executePreparedUpdate("INSERT INTO TEST (ID, CONTENT) VALUES (?, ?)", 2, "Hallo HO!");
+                return false;
+            }));
+            Assertions.assertTrue(connectionManager.executeInTransactionIfSuccessful(() -> {
+                connectionManager.executePreparedUpdate("INSERT INTO TEST (ID, CONTENT) VALUES (?, ?)", 4, "Hola HO!");
+                return true;
+            }));
+            return null;
+        });
+
+        try (ResultSet rs = connectionManager.executeQuery("SELECT SUM(ID) FROM TEST")) {
+            Assertions.assertTrue(rs.next());
+            Assertions.assertEquals(5, rs.getInt(1));
+        }
+        Assertions.assertTrue(connectionManager.getConnection().getAutoCommit());
+    }
+
+    @Test
+    void testStatementsOfOtherThreadsDoNotJoinTransaction() throws Exception {
+        var otherThread = new CompletableFuture<Boolean>();
+        Assertions.assertThrows(SQLException.class, () -> connectionManager.executeInTransaction(() -> {
+            connectionManager.executePreparedUpdate("INSERT INTO TEST (ID, CONTENT) VALUES (?, ?)", 1, "Hello HO!");
+            var thread = new Thread(() -> {
+                try {
+                    var inTransaction = connectionManager.isInTransaction();
+                    connectionManager.executePreparedUpdate("INSERT INTO TEST (ID, CONTENT) VALUES (?, ?)", 2, "Hallo HO!");
+                    otherThread.complete(inTransaction);
+                } catch (SQLException e) {
+                    otherThread.completeExceptionally(e);
+                }
+            });
+            thread.start();
+            // the other thread waits for the end of the transaction
+            while (thread.getState() != Thread.State.WAITING) {
+                Thread.onSpinWait();
+            }
+            Assertions.assertFalse(otherThread.isDone());
+            Assertions.assertTrue(connectionManager.isInTransaction());
+            throw new SQLException("rollback");
+        }));
+
+        Assertions.assertFalse(otherThread.get());
+        try (ResultSet rs = connectionManager.executeQuery("SELECT SUM(ID) FROM TEST")) {
+            Assertions.assertTrue(rs.next());
+            Assertions.assertEquals(2, rs.getInt(1));
+        }
+        Assertions.assertFalse(connectionManager.isInTransaction());
+    }
+
     @AfterEach
     void cleanUp() throws SQLException {
         if (connectionManager.getConnection() != null) {
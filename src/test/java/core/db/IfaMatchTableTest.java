@@ -0,0 +1,63 @@
+package core.db;
+
+import core.model.enums.MatchType;
+import core.util.HODateTime;
+import module.ifa.IfaMatch;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class IfaMatchTableTest {
+    private IfaMatchTable ifaMatchTable;
+
+    @BeforeAll
+    void setUp() throws Exception {
+        Connection conn = DriverManager.getConnection("jdbc:hsqldb:mem:testdb", "SA", "");
+        ConnectionManager connectionManager = new ConnectionManager();
+        connectionManager.connect(conn);
+
+        ifaMatchTable = new IfaMatchTable(connectionManager);
+        ifaMatchTable.createTable();
+    }
+
+    private static IfaMatch match(int matchId, int homeTeamId, int homeLeagueId, int awayTeamId, int awayLeagueId) {
+        var match = new IfaMatch(MatchType.FRIENDLYNORMAL.getId());
+        match.setMatchId(matchId);
+        match.setPlayedDate(HODateTime.now());
+        match.setHomeTeamId(homeTeamId);
+        match.setHomeLeagueId(homeLeagueId);
+        match.setAwayTeamId(awayTeamId);
+        match.setAwayLeagueId(awayLeagueId);
+        return match;
+    }
+
+    @Test
+    void getNewMatchesReturnsMatchesNotStored() {
+        ifaMatchTable.insertMatches(List.of(match(1, 10, 1, 20, 2), match(2, 30, 3, 10, 1)));
+
+        var newMatches = ifaMatchTable.getNewMatches(List.of(match(2, 30, 3, 10, 1), match(3, 10, 1, 40, 0)));
+        assertEquals(List.of(3), newMatches.stream().map(IfaMatch::getMatchId).toList());
+
+        // unknown leagues are not returned
+        ifaMatchTable.insertMatches(newMatches);
+        assertEquals(Map.of(10, 1, 20, 2, 30, 3), ifaMatchTable.getTeamLeagues());
+    }
+
+    @AfterAll
+    static void cleanUp() throws Exception {
+        try (Connection conn = DriverManager.getConnection("jdbc:hsqldb:mem:testdb", "SA", "");
+                Statement stmt = conn.createStatement()) {
+            stmt.execute("DROP TABLE IFA_MATCHES");
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package core.db;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.sql.DriverManager;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class IndexAdvisorTest {
+    private ConnectionManager connectionManager;
+
+    @BeforeAll
+    void setUp() throws Exception {
+        connectionManager = new ConnectionManager();
+        connectionManager.connect(DriverManager.getConnection("jdbc:hsqldb:mem:indexadvisor", "SA", ""));
+    }
+
+    @AfterAll
+    void tearDown() throws Exception {
+        connectionManager.executeUpdate("SHUTDOWN");
+    }
+
+    @Test
+    void inListsOfAnyLengthHaveTheSameShape() {
+        assertEquals("SELECT * FROM SPIELER WHERE HRF_ID IN (?) AND SpielerID=?",
+                StatementCache.shapeOf("SELECT * FROM SPIELER\n WHERE HRF_ID IN (?, ?,?)  AND SpielerID=?"));
+        assertEquals(StatementCache.shapeOf("DELETE FROM X WHERE A in (?)"),
+                StatementCache.shapeOf("DELETE FROM X WHERE A in (?,?)"));
+
+        var one = new CachedStatementStats();
+        one.executed(1_000, 0);
+        var two = new CachedStatementStats();
+        two.executed(2_000, 0);
+        two.executed(3_000, 0);
+        var shapes = IndexAdvisor.getQueryShapes(Map.of(
+                "SELECT * FROM X WHERE A IN (?)", one,
+                "SELECT * FROM X WHERE A IN (?,?)", two,
+                "SELECT * FROM Y", new CachedStatementStats()));
+        assertEquals(1, shapes.size());
+        assertEquals(3, shapes.get(0).executions());
+        assertEquals(6_000, shapes.get(0).executionNanos());
+    }
+
+    @Test
+    void fullScansArePlannedWithEqualityColumnsFirst() {
+        var plan = """
+                [range variable 1
+                  join type=INNER
+                  table=SPIELER
+                  access=FULL SCAN
+                  join condition = [index=SYS_IDX_10092
+                    other condition=[
+                    AND arg_left=[
+                     GREATER_EQUAL arg_left=[    COLUMN: PUBLIC.SPIELER.DATUM
+                     NOT_EQUAL arg_left=[    COLUMN: PUBLIC.SPIELER.TRAINER
+                     EQUAL arg_left=[
+                      ROW =        COLUMN: PUBLIC.SPIELER.SPIELERID
+                  ]]][range variable 2
+                  table=HRF
+                  access=INDEX PRED
+                    start conditions=[
+                    EQUAL arg_left=[     COLUMN: PUBLIC.HRF.HRF_ID
+                """;
+        assertEquals(Map.of("SPIELER", List.of("SPIELERID", "DATUM")), IndexAdvisor.parseFullScans(plan));
+    }
+
+    @Test
+    void missingIndexIsSuggestedUntilItIsCreated() throws Exception {
+        var staffTable = new StaffTable(connectionManager);
+        staffTable.createTable();
+        var sql = staffTable.createSelectStatement(" WHERE HrfID = ? ORDER BY index");
+        connectionManager.executePreparedQuery(sql, 1).close();
+
+        var advisor = new IndexAdvisor(connectionManager);
+        var statementStats = connectionManager.getStatementCache().getStatementStats();
+        var suggestions = advisor.getSuggestions(statementStats);
+        assertEquals(1, suggestions.size());
+        assertEquals("STAFF", suggestions.get(0).table());
+        assertEquals(List.of("HRFID"), suggestions.get(0).columns());
+        assertEquals("CREATE INDEX iSTAFF_HRFID ON STAFF(HRFID)", suggestions.get(0).createIndexStatement());
+
+        assertEquals(1, staffTable.createMissingIndexes());
+        assertEquals(0, staffTable.createMissingIndexes());
+        assertTrue(advisor.getSuggestions(statementStats).isEmpty());
+    }
+}
@@ -0,0 +1,72 @@
+package core.db;
+
+import core.model.enums.MatchType;
+import core.model.match.Matchdetails;
+import core.util.HODateTime;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class MatchDetailsTableTest {
+    private ConnectionManager connectionManager;
+    private MatchDetailsTable matchDetailsTable;
+
+    @BeforeAll
+    void setUp() throws Exception {
+        Connection conn = DriverManager.getConnection("jdbc:hsqldb:mem:testdb", "SA", "");
+        connectionManager = new ConnectionManager();
+        connectionManager.connect(conn);
+
+        matchDetailsTable = new MatchDetailsTable(connectionManager);
+        matchDetailsTable.createTable();
+        new MatchLineupPlayerTable(connectionManager).createTable();
+    }
+
+    private void storeMatch(int matchId, MatchType matchType) {
+        var details = new Matchdetails();
+        details.setMatchID(matchId);
+        details.setMatchType(matchType);
+        details.setFetchDatum(HODateTime.now());
+        details.setSpielDatum(HODateTime.now());
+        matchDetailsTable.storeMatchDetails(details);
+    }
+
+    private void storeRating(int matchId, MatchType matchType, int playerId, double rating) throws Exception {
+        connectionManager.executePreparedUpdate(
+                "INSERT INTO MATCHLINEUPPLAYER (MatchID, MatchTyp, TeamID, SpielerID, RoleID, Taktik, VName, NickName, Name,"
+                        + " Rating, HoPosCode, STATUS, RatingStarsEndOfMatch, StartPosition, StartBehaviour)"
+                        + " VALUES (?,?,?,?,?,?,?,?,?,?,?,?,?,?,?)",
+                matchId, matchType.getId(), 1, playerId, 100, 0, "", "", "", rating, 0, 0, rating, 100, 0);
+    }
+
+    @Test
+    void loadPlayerMatchDetailsLoadsRatedMatchesOfThePlayer() throws Exception {
+        storeMatch(1, MatchType.LEAGUE);
+        storeMatch(1, MatchType.FRIENDLYNORMAL);
+        storeMatch(2, MatchType.LEAGUE);
+        storeMatch(3, MatchType.LEAGUE);
+        storeRating(1, MatchType.LEAGUE, 7, 3.5);
+        storeRating(2, MatchType.LEAGUE, 7, 0);
+        storeRating(3, MatchType.LEAGUE, 8, 4);
+
+        var matches = matchDetailsTable.loadPlayerMatchDetails(7).stream()
+                .map(d -> d.getMatchID() + ":" + d.getMatchType())
+                .collect(Collectors.toSet());
+        assertEquals(Set.of("1:" + MatchType.LEAGUE), matches);
+    }
+
+    @AfterAll
+    void cleanUp() throws Exception {
+        connectionManager.executeUpdate("DROP TABLE MATCHDETAILS");
+        connectionManager.executeUpdate("DROP TABLE MATCHLINEUPPLAYER");
+    }
+}
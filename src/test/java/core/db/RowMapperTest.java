@@ -0,0 +1,182 @@
+package core.db;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.List;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class RowMapperTest {
+    private Connection conn;
+    private ConnectionManager connectionManager;
+    private RowMapperTestTable table;
+
+    public static class Row extends AbstractTable.Storable {
+        int id;
+        Integer optional;
+        String name;
+        Float rating;
+
+        public Row() {
+        }
+    }
+
+    static class RowMapperTestTable extends AbstractTable {
+        RowMapperTestTable(ConnectionManager connectionManager) {
+            super("ROWMAPPERTEST", connectionManager);
+        }
+
+        @Override
+        protected void initColumns() {
+            columns = new ColumnDescriptor[] {
+                    ColumnDescriptor.Builder.newInstance().setColumnName("ID").setGetter(o -> ((Row) o).id)
+                            .setIntSetter((o, v) -> ((Row) o).id = v).setType(Types.INTEGER).isNullable(false)
+                            .build(),
+                    ColumnDescriptor.Builder.newInstance().setColumnName("OPTIONAL")
+                            .setGetter(o -> ((Row) o).optional)
+                            .setSetter((o, v) -> ((Row) o).optional = (Integer) v).setType(Types.INTEGER)
+                            .isNullable(true).build(),
+                    ColumnDescriptor.Builder.newInstance().setColumnName("NAME").setGetter(o -> ((Row) o).name)
+                            .setSetter((o, v) -> ((Row) o).name = (String) v).setType(Types.VARCHAR).setLength(20)
+                            .isNullable(true).build(),
+                    ColumnDescriptor.Builder.newInstance().setColumnName("RATING").setGetter(o -> ((Row) o).rating)
+                            .setSetter((o, v) -> ((Row) o).rating = (Float) v).setType(Types.REAL)
+                            .isNullable(true).build()
+            };
+        }
+    }
+
+    @BeforeAll
+    void setUp() throws Exception {
+        conn = DriverManager.getConnection("jdbc:hsqldb:mem:testdb", "SA", "");
+        connectionManager = new ConnectionManager();
+        connectionManager.connect(conn);
+        table = new RowMapperTestTable(connectionManager);
+        table.createTable();
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("INSERT INTO ROWMAPPERTEST VALUES (1, 10, 'one', 1.5)");
+            stmt.execute("INSERT INTO ROWMAPPERTEST VALUES (2, NULL, NULL, NULL)");
+        }
+    }
+
+    @Test
+    void testLoadMapsAllColumns() {
+        var rows = table.load(Row.class, query("ORDER BY ID"));
+        Assertions.assertEquals(2, rows.size());
+
+        var first = rows.get(0);
+        Assertions.assertEquals(1, first.id);
+        Assertions.assertEquals(10, first.optional);
+        Assertions.assertEquals("one", first.name);
+        Assertions.assertEquals(1.5f, first.rating);
+        Assertions.assertTrue(first.isStored());
+
+        var second = rows.get(1);
+        Assertions.assertEquals(2, second.id);
+        Assertions.assertNull(second.optional);
+        Assertions.assertEquals("", second.name);
+        Assertions.assertNull(second.rating);
+    }
+
+    @Test
+    void testLoadResolvesColumnsByName() throws Exception {
+        var rs = connectionManager.executeQuery("SELECT RATING, NAME, OPTIONAL, ID FROM ROWMAPPERTEST WHERE ID=1");
+        var row = table.loadOne(Row.class, rs);
+        Assertions.assertNotNull(row);
+        Assertions.assertEquals(1, row.id);
+        Assertions.assertEquals(10, row.optional);
+        Assertions.assertEquals("one", row.name);
+    }
+
+    @Test
+    void testLoadOneStopsAfterFirstRow() {
+        var row = table.loadOne(Row.class, query("ORDER BY ID DESC"));
+        Assertions.assertNotNull(row);
+        Assertions.assertEquals(2, row.id);
+    }
+
+    @Test
+    void testStoreAllInsertsAndUpdates() {
+        var rows = table.load(Row.class, query("ORDER BY ID"));
+        rows.get(0).name = "updated";
+        var row = new Row();
+        row.id = 3;
+        row.name = "three";
+        rows.add(row);
+
+        Assertions.assertEquals(3, table.storeAll(rows));
+        Assertions.assertTrue(row.isStored());
+
+        var stored = table.load(Row.class, query("ORDER BY ID"));
+        Assertions.assertEquals(3, stored.size());
+        Assertions.assertEquals("updated", stored.get(0).name);
+        Assertions.assertEquals("three", stored.get(2).name);
+        table.delete(row);
+        rows.get(0).name = "one";
+        table.store(rows.get(0));
+    }
+
+    @Test
+    void testUpdateStoredFlagsChecksExistence() {
+        var stored = new Row();
+        stored.id = 1;
+        var missing = new Row();
+        missing.id = 42;
+        missing.setIsStored(true);
+
+        table.updateStoredFlags(List.of(stored, missing));
+        Assertions.assertTrue(stored.isStored());
+        Assertions.assertFalse(missing.isStored());
+    }
+
+    @Test
+    void testStoreAllFailureRollsBackSurroundingTransaction() throws Exception {
+        var tooLong = row(11, "a name that is too long for the column");
+        Assertions.assertThrows(SQLException.class, () -> connectionManager.executeInTransaction(() -> {
+            table.store(row(10, "ten"));
+            return table.storeAll(List.of(row(12, "twelve"), tooLong));
+        }));
+        Assertions.assertNull(table.loadOne(Row.class, 10));
+        Assertions.assertNull(table.loadOne(Row.class, 12));
+        Assertions.assertFalse(connectionManager.isInTransaction());
+
+        // without surrounding transaction only the failing row is missing
+        var valid = row(13, "thirteen");
+        Assertions.assertEquals(1, table.storeAll(List.of(valid, tooLong)));
+        Assertions.assertTrue(valid.isStored());
+        Assertions.assertFalse(tooLong.isStored());
+        Assertions.assertNotNull(table.loadOne(Row.class, 13));
+        table.delete(valid);
+    }
+
+    private static Row row(int id, String name) {
+        var ret = new Row();
+        ret.id = id;
+        ret.name = name;
+        return ret;
+    }
+
+    private ResultSet query(String orderBy) {
+        try {
+            return connectionManager.executeQuery("SELECT * FROM ROWMAPPERTEST " + orderBy);
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @AfterAll
+    static void cleanUp() throws Exception {
+        try (Connection conn = DriverManager.getConnection("jdbc:hsqldb:mem:testdb", "SA", "");
+                Statement stmt = conn.createStatement()) {
+            stmt.execute("DROP TABLE ROWMAPPERTEST");
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package core.db;
+
+import core.constants.player.PlayerSkill;
+import core.model.player.SkillChange;
+import core.util.HODateTime;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class SkillChangeTableTest {
+    private SkillChangeTable skillChangeTable;
+
+    @BeforeAll
+    void setUp() throws Exception {
+        Connection conn = DriverManager.getConnection("jdbc:hsqldb:mem:testdb", "SA", "");
+        ConnectionManager connectionManager = new ConnectionManager();
+        connectionManager.connect(conn);
+
+        skillChangeTable = new SkillChangeTable(connectionManager);
+        skillChangeTable.createTable();
+    }
+
+    private static SkillChange skillChange(int playerId, int hrfId) {
+        var skillChange = new SkillChange();
+        skillChange.setPlayerId(playerId);
+        skillChange.setHrfId(hrfId);
+        skillChange.setType(PlayerSkill.PLAYMAKING);
+        skillChange.setDate(HODateTime.now());
+        skillChange.setValue(10);
+        skillChange.setChange(1);
+        return skillChange;
+    }
+
+    @Test
+    void deleteWhereInCountsOrDeletesRows() {
+        skillChangeTable.storeAll(List.of(skillChange(1, 10), skillChange(2, 10), skillChange(1, 11),
+                skillChange(1, 12), skillChange(3, 13)));
+
+        assertEquals(3, skillChangeTable.deleteWhereIn("HRF_ID", List.of(10, 11), true));
+        assertEquals(5, skillChangeTable.loadSkillChanges(1).size() + skillChangeTable.loadSkillChanges(2).size()
+                + skillChangeTable.loadSkillChanges(3).size());
+
+        assertEquals(3, skillChangeTable.deleteWhereIn("HRF_ID", List.of(10, 11), false));
+        assertEquals(List.of(12), skillChangeTable.loadSkillChanges(1).stream().map(SkillChange::getHrfId).toList());
+        assertTrue(skillChangeTable.loadSkillChanges(2).isEmpty());
+
+        var select = "SELECT HRF_ID FROM SKILLCHANGE WHERE PLAYER_ID=?";
+        assertEquals(1, skillChangeTable.deleteWhereIn("HRF_ID", select, true, 3));
+        assertEquals(1, skillChangeTable.deleteWhereIn("HRF_ID", select, false, 3));
+        assertTrue(skillChangeTable.loadSkillChanges(3).isEmpty());
+
+        var pairs = "SELECT PLAYER_ID,HRF_ID FROM SKILLCHANGE WHERE HRF_ID>?";
+        assertEquals(1, skillChangeTable.deleteWhereIn("PLAYER_ID,HRF_ID", pairs, false, 11));
+        assertTrue(skillChangeTable.loadSkillChanges(1).isEmpty());
+        assertEquals(0, skillChangeTable.deleteWhereIn("HRF_ID", List.of(), false));
+    }
+
+    @AfterAll
+    static void cleanUp() throws Exception {
+        try (Connection conn = DriverManager.getConnection("jdbc:hsqldb:mem:testdb", "SA", "");
+                Statement stmt = conn.createStatement()) {
+            stmt.execute("DROP TABLE SKILLCHANGE");
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package core.db;
+
+import core.file.hrf.HRF;
+import core.model.player.Player;
+import core.util.HODateTime;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Timestamp;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpielerTableTest {
+
+    private static final HODateTime MATCH_DATE = HODateTime.fromDbTimestamp(
+            Timestamp.from(ZonedDateTime.parse("2024-03-16T15:00:00Z").toInstant()));
+
+    private static Player player(int daysFromMatch) {
+        var player = new Player();
+        player.setPlayerId(daysFromMatch);
+        player.setHrfDate(MATCH_DATE.plus(daysFromMatch, ChronoUnit.DAYS));
+        return player;
+    }
+
+    private static Integer nearMatch(Player... history) {
+        var ret = SpielerTable.getPlayerNearDate(SpielerTable.indexByDate(List.of(history)), MATCH_DATE.toDbTimestamp());
+        return ret != null ? ret.getPlayerId() : null;
+    }
+
+    @Test
+    void getPlayerNearDatePrefersLatestStatusOfTheLastSixDays() {
+        assertEquals(-2, nearMatch(player(-10), player(-5), player(-2), player(3)));
+        assertEquals(0, nearMatch(player(-3), player(0), player(1)));
+    }
+
+    @Test
+    void getPlayerNearDateFallsBackToNextStatusAndThenToOlderStatus() {
+        assertEquals(4, nearMatch(player(-10), player(4), player(11)));
+        assertEquals(-10, nearMatch(player(-20), player(-10)));
+        assertNull(nearMatch(player(-20)));
+        assertNull(nearMatch());
+    }
+
+    @Test
+    void getHrfIdNearDateSelectsLatestHrfBeforeDate() {
+        var hrfs = HRFTable.indexByDate(new HRF[]{
+                new HRF(1, MATCH_DATE.minus(8, ChronoUnit.DAYS)),
+                new HRF(2, MATCH_DATE.minus(1, ChronoUnit.DAYS)),
+                new HRF(3, MATCH_DATE.plus(6, ChronoUnit.DAYS))});
+        assertEquals(2, HRFTable.getHrfIdNearDate(hrfs, MATCH_DATE.toDbTimestamp()));
+        assertEquals(1, HRFTable.getHrfIdNearDate(hrfs, MATCH_DATE.minus(8, ChronoUnit.DAYS).toDbTimestamp()));
+        assertEquals(1, HRFTable.getHrfIdNearDate(hrfs, MATCH_DATE.minus(20, ChronoUnit.DAYS).toDbTimestamp()));
+        assertEquals(0, HRFTable.getHrfIdNearDate(HRFTable.indexByDate(new HRF[0]), MATCH_DATE.toDbTimestamp()));
+    }
+}
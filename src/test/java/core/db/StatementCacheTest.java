@@ -8,6 +8,7 @@ import org.junit.jupiter.api.TestInstance;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Map;
@@ -78,6 +79,94 @@ class StatementCacheTest {
         Assertions.assertTrue(Duration.between(rec.lastAccessed(), Instant.now()).getSeconds() < 1);
     }
 
+    @Test
+    void testLeastRecentlyUsedStatementIsEvictedAndClosed() throws Exception {
+        StatementCache smallCache = new StatementCache(statementCache.getConnectionManager(), 1);
+        PreparedStatement first = smallCache.getPreparedStatement("SELECT ID FROM TEST WHERE ID = ?");
+        smallCache.release(first);
+        PreparedStatement second = smallCache.getPreparedStatement("SELECT ID FROM TEST WHERE ID > ?");
+        smallCache.release(second);
+        smallCache.getPreparedStatement("SELECT CONTENT FROM TEST WHERE ID = ?");
+
+        Assertions.assertTrue(smallCache.getEvictionCount() > 0);
+        Assertions.assertTrue(smallCache.size() <= smallCache.getMaxSize());
+        Assertions.assertTrue(first.isClosed() || second.isClosed());
+    }
+
+    @Test
+    void testStatementWithOpenResultSetIsClosedAfterResultSet() throws Exception {
+        StatementCache smallCache = new StatementCache(statementCache.getConnectionManager(), 1);
+        PreparedStatement stmt = smallCache.getPreparedStatement("SELECT ID FROM TEST");
+        ResultSet rs = stmt.executeQuery();
+        smallCache.release(stmt);
+        for (int i = 0; i < 10; i++) {
+            smallCache.release(smallCache.getPreparedStatement("SELECT ID FROM TEST WHERE ID = " + i));
+        }
+        Assertions.assertFalse(rs.isClosed());
+        rs.close();
+        smallCache.getPreparedStatement("SELECT CONTENT FROM TEST");
+        Assertions.assertTrue(stmt.isClosed());
+    }
+
+    @Test
+    void testLeasedStatementIsClosedAfterRelease() throws Exception {
+        StatementCache smallCache = new StatementCache(statementCache.getConnectionManager(), 1);
+        PreparedStatement stmt = smallCache.getPreparedStatement("SELECT ID FROM TEST");
+        smallCache.release(smallCache.getPreparedStatement("SELECT CONTENT FROM TEST"));
+        Assertions.assertEquals(1, smallCache.getEvictionCount());
+        Assertions.assertFalse(stmt.isClosed());
+
+        stmt.executeQuery().close();
+        smallCache.release(stmt);
+        Assertions.assertTrue(stmt.isClosed());
+    }
+
+    @Test
+    void testRetiredStatementsWithUnclosedResultSetsAreBounded() throws Exception {
+        StatementCache smallCache = new StatementCache(statementCache.getConnectionManager(), 1);
+        PreparedStatement first = null;
+        for (int i = 0; i <= StatementCache.MAX_RETIRED_STATEMENTS + 1; i++) {
+            PreparedStatement stmt = smallCache.getPreparedStatement("SELECT ID FROM TEST WHERE ID <> " + i);
+            stmt.executeQuery();
+            smallCache.release(stmt);
+            if (first == null) {
+                first = stmt;
+            }
+        }
+        Assertions.assertTrue(first.isClosed());
+    }
+
+    @Test
+    void testStatsAreKeptByShapeForLimitedNumberOfShapes() throws Exception {
+        StatementCache smallCache = new StatementCache(statementCache.getConnectionManager(), 4);
+        smallCache.getPreparedStatement("SELECT ID FROM TEST WHERE ID IN (?)");
+        smallCache.getPreparedStatement("SELECT ID FROM TEST WHERE ID IN (?,?)");
+        smallCache.getPreparedStatement("SELECT ID FROM TEST WHERE ID IN (?, ?, ?)");
+        Assertions.assertEquals(1, smallCache.getStatementStats().size());
+        Assertions.assertEquals(3, smallCache.getStatementStats().get("SELECT ID FROM TEST WHERE ID IN (?)").misses());
+
+        for (int i = 0; i < StatementCache.MAX_STATEMENT_STATS + 10; i++) {
+            smallCache.release(smallCache.getPreparedStatement("SELECT ID FROM TEST WHERE ID = " + i));
+        }
+        Assertions.assertEquals(StatementCache.MAX_STATEMENT_STATS, smallCache.getStatementStats().size());
+    }
+
+    @Test
+    void testStatsCountHitsAndExecutions() throws Exception {
+        ConnectionManager connectionManager = statementCache.getConnectionManager();
+        StatementCache cache = connectionManager.getStatementCache();
+        String sql = "SELECT ID FROM TEST WHERE ID = ?";
+        connectionManager.executePreparedQuery(sql, 1).close();
+        connectionManager.executePreparedQuery(sql, 2).close();
+
+        CachedStatementStats rec = cache.getStatementStats().get(sql);
+        Assertions.assertEquals(1, rec.misses());
+        Assertions.assertEquals(1, rec.hits());
+        Assertions.assertEquals(2, rec.executions());
+        Assertions.assertTrue(rec.executionNanos() > 0);
+        Assertions.assertEquals(sql, cache.getHotStatements(1).get(0).getKey());
+    }
+
     @AfterAll
     static void cleanUp() throws Exception {
         try (Connection conn = DriverManager.getConnection("jdbc:hsqldb:mem:testdb", "SA", "")) {
@@ -0,0 +1,61 @@
+package core.db;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StorageProfileTest {
+
+    private static final long HEAP = 1L << 30;
+
+    @Test
+    void smallDatabasesKeepDefaultSettings() {
+        assertEquals(StorageProfile.DEFAULT.getSettings(0, HEAP), StorageProfile.AUTO.getSettings(1 << 20, HEAP));
+        assertEquals(StorageProfile.DEFAULT.getSettings(0, HEAP),
+                StorageProfile.DEFAULT.getSettings(StorageProfile.LARGE_DATABASE_SIZE * 10, HEAP));
+    }
+
+    @Test
+    void largeDatabasesGetLargerCache() {
+        var settings = StorageProfile.AUTO.getSettings(400L << 20, HEAP);
+        assertEquals("131072", settings.get(StorageProfile.CACHE_SIZE));
+        assertEquals("524288", settings.get(StorageProfile.CACHE_ROWS));
+        assertEquals("512", settings.get(StorageProfile.NIO_MAX_SIZE));
+        assertEquals("10", settings.get(StorageProfile.LOG_SIZE));
+
+        // the cache is limited by the heap size
+        settings = StorageProfile.AUTO.getSettings(400L << 20, 256L << 20);
+        assertEquals("32768", settings.get(StorageProfile.CACHE_SIZE));
+    }
+
+    @Test
+    void profileAndTableTypesAreAppliedToDatabase(@TempDir File dbDir) throws SQLException {
+        var connectionManager = new ConnectionManager();
+        connectionManager.connect(DriverManager.getConnection("jdbc:hsqldb:file:" + dbDir + "/database", "SA", ""));
+        try {
+            // the nio size of a 64 MB database is the default
+            var size = StorageProfile.LARGE_DATABASE_SIZE;
+            assertEquals(0, StorageProfile.DEFAULT.apply(connectionManager, size, HEAP));
+            assertEquals(5, StorageProfile.AUTO.apply(connectionManager, size, HEAP));
+            assertEquals(0, StorageProfile.AUTO.apply(connectionManager, size, HEAP));
+            assertEquals(5, StorageProfile.DEFAULT.apply(connectionManager, size, HEAP));
+
+            List<AbstractTable> tables = List.of(new HOColorTable(connectionManager), new HRFTable(connectionManager));
+            for (var table : tables) {
+                table.createTable();
+            }
+            assertEquals(0, StorageProfile.setTableTypes(connectionManager, tables, false));
+            assertEquals(1, StorageProfile.setTableTypes(connectionManager, tables, true));
+            assertEquals(0, StorageProfile.setTableTypes(connectionManager, tables, true));
+            assertEquals(1, StorageProfile.setTableTypes(connectionManager, tables, false));
+        } finally {
+            connectionManager.disconnect();
+        }
+    }
+}
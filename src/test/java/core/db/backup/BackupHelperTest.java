@@ -3,6 +3,7 @@ package core.db.backup;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import java.io.File;
 import java.io.IOException;
@@ -12,8 +13,10 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 import java.util.zip.ZipFile;
 
@@ -107,6 +110,37 @@ class BackupHelperTest {
         Assertions.assertEquals(5, zips.length);
     }
 
+    @Test
+    void testBackupSkipsUnchangedFiles(@TempDir File dbDir) throws IOException {
+        File script = new File(dbDir, "database.script");
+        Files.writeString(script.toPath(), "CREATE TABLE T");
+        Files.writeString(new File(dbDir, "database.properties").toPath(), "version=2.7.4");
+
+        File first = BackupHelper.backup(dbDir);
+        Assertions.assertNotNull(first);
+        Assertions.assertEquals(List.of("database.properties", "database.script"), listFilesInZip(first.getAbsolutePath()));
+        Assertions.assertNull(BackupHelper.backup(dbDir));
+
+        Files.writeString(script.toPath(), "CREATE TABLE U");
+        Assertions.assertNotNull(BackupHelper.backup(dbDir));
+        Assertions.assertEquals(1, listZipInDir(dbDir.getAbsolutePath()).length);
+    }
+
+    @Test
+    void testBackupZipsCopyOfOpenDatabase(@TempDir File dbDir) throws IOException {
+        Files.writeString(new File(dbDir, "database.log").toPath(), "open");
+
+        File zip = BackupHelper.backup(dbDir, directory -> {
+            Assertions.assertTrue(directory.mkdirs());
+            Files.writeString(new File(directory, "database.script").toPath(), "copy");
+        });
+
+        Assertions.assertNotNull(zip);
+        Assertions.assertEquals(List.of("database.script"), listFilesInZip(zip.getAbsolutePath()));
+        Assertions.assertEquals(List.of("database.log", zip.getName()),
+                Arrays.stream(Objects.requireNonNull(dbDir.list())).sorted().toList());
+    }
+
     @AfterEach
     void cleanup() {
         File[] files = new File(testResourcesDir, "db").listFiles();
@@ -0,0 +1,44 @@
+package core.file.xml;
+
+import core.model.cup.CupLevel;
+import core.model.enums.MatchType;
+import core.model.match.MatchKurzInfo;
+import core.util.HODateTime;
+import core.util.ResourceUtils;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class XMLMatchArchivParserTest {
+
+    @Test
+    void parseMatchesFromString() throws IOException {
+        final var content = ResourceUtils.getResourceFileAsString("matchesarchive.xml");
+
+        var matches = XMLMatchArchivParser.parseMatchesFromString(content);
+
+        assertThat(matches).hasSize(40);
+        var first = matches.get(0);
+        assertThat(first.getMatchID()).isEqualTo(710000000);
+        assertThat(first.getMatchType()).isEqualTo(MatchType.LEAGUE);
+        assertThat(first.getMatchContextId()).isEqualTo(12345);
+        assertThat(first.getMatchSchedule()).isEqualTo(HODateTime.fromHT("2024-06-01 20:00:00"));
+        assertThat(first.getHomeTeamName()).isEqualTo("Team0");
+        assertThat(first.getGuestTeamID()).isEqualTo(3456781);
+        assertThat(first.getHomeTeamGoals()).isEqualTo(3);
+        assertThat(first.getGuestTeamGoals()).isEqualTo(2);
+        assertThat(first.getMatchStatus()).isEqualTo(MatchKurzInfo.FINISHED);
+
+        var cup = matches.get(2);
+        assertThat(cup.getMatchType()).isEqualTo(MatchType.CUP);
+        assertThat(cup.getCupLevel()).isEqualTo(CupLevel.fromInt(1));
+    }
+
+    @Test
+    void parseMatchesFromString_invalidMatch() {
+        var xml = "<HattrickData><IsYouth>False</IsYouth><Match><MatchID>x</MatchID></Match></HattrickData>";
+        assertThat(XMLMatchArchivParser.parseMatchesFromString(xml)).isEmpty();
+    }
+}
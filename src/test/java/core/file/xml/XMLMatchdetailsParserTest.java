@@ -0,0 +1,69 @@
+package core.file.xml;
+
+import core.model.cup.CupLevel;
+import core.model.enums.MatchType;
+import core.model.match.MatchEvent;
+import core.model.match.MatchLineup;
+import core.model.match.MatchLineupTeam;
+import core.model.match.MatchTeamAttitude;
+import core.model.match.Matchdetails;
+import core.util.ResourceUtils;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class XMLMatchdetailsParserTest {
+
+    @Test
+    void parseMatchdetailsFromString() throws IOException {
+        final var content = ResourceUtils.getResourceFileAsString("matchdetails.xml");
+
+        var md = XMLMatchdetailsParser.parseMatchdetailsFromString(content, null);
+
+        assertThat(md).isNotNull();
+        assertThat(md.getMatchID()).isEqualTo(710000002);
+        assertThat(md.getMatchType()).isEqualTo(MatchType.CUP);
+        assertThat(md.getCupLevel()).isEqualTo(CupLevel.fromInt(1));
+        assertThat(md.getArenaID()).isEqualTo(2345678);
+        assertThat(md.getArenaName()).isEqualTo("ArenaName");
+        assertThat(md.getWetterId()).isEqualTo(2);
+        assertThat(md.getZuschauer()).isEqualTo(13074);
+        assertThat(md.getSoldVIP()).isEqualTo(282);
+        assertThat(md.getHomeTeamName()).isEqualTo("Team0");
+        assertThat(md.getGuestTeamName()).isEqualTo("Team1");
+        assertThat(md.getHomeGoals()).isEqualTo(2);
+        assertThat(md.getGuestGoals()).isEqualTo(1);
+        assertThat(md.getHomeTacticType()).isZero();
+        assertThat(md.getGuestTacticType()).isEqualTo(1);
+        assertThat(md.getGuestTacticSkill()).isEqualTo(12);
+        assertThat(md.getHomeMidfield()).isEqualTo(55);
+        assertThat(md.getGuestMidfield()).isEqualTo(48);
+        assertThat(md.getGuestEinstellung()).isEqualTo(1);
+        assertThat(md.getM_Injuries()).hasSize(1);
+        assertThat(md.getM_Injuries().get(0).getInjuryPlayerID()).isEqualTo(480000003);
+    }
+
+    @Test
+    void parseMatchdetailsFromString_withHighlights() throws IOException {
+        final var content = ResourceUtils.getResourceFileAsString("matchdetails.xml");
+        var lineup = new MatchLineup();
+        lineup.setHomeTeam(new MatchLineupTeam());
+        lineup.setGuestTeam(new MatchLineupTeam());
+
+        var md = XMLMatchdetailsParser.parseMatchdetailsFromString(content, lineup);
+
+        assertThat(md).isNotNull();
+        var highlights = md.getHighlights();
+        assertThat(highlights).hasSize(76);
+        assertThat(highlights.get(0).getMatchEventIndex()).isEqualTo(1);
+        assertThat(highlights.get(0).getMatchEventID()).isEqualTo(MatchEvent.MatchEventID.PLAYERS_ENTER_THE_FIELD);
+        var goal = highlights.get(20);
+        assertThat(goal.getPlayerId()).isEqualTo(480000009);
+        assertThat(goal.getEventText()).startsWith("<a href=\"/Club/Players/Player.aspx?playerId=480000009\"");
+        assertThat(highlights.get(50).getM_eInjuryType()).isEqualTo(Matchdetails.eInjuryType.INJURY);
+        assertThat(md.getMatchreport()).contains("scored from the free kick.");
+        assertThat(lineup.getGuestTeam().getMatchTeamAttitude()).isEqualTo(MatchTeamAttitude.fromInt(1));
+    }
+}
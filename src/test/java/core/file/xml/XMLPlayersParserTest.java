@@ -0,0 +1,45 @@
+package core.file.xml;
+
+import core.util.ResourceUtils;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class XMLPlayersParserTest {
+
+    @Test
+    void parsePlayersFromString() throws IOException {
+        final var content = ResourceUtils.getResourceFileAsString("players.xml");
+
+        var players = new XMLPlayersParser().parsePlayersFromString(content);
+
+        assertThat(players).hasSize(30);
+        var first = players.get(0);
+        assertThat(first)
+                .containsEntry("TeamID", "3456780")
+                .containsEntry("PlayerID", "480000000")
+                .containsEntry("FirstName", "Anton")
+                .containsEntry("NickName", "")
+                .containsEntry("LastName", "Meier")
+                .containsEntry("MarketValue", "1000")
+                .containsEntry("MotherClubBonus", "True")
+                .containsEntry("InjuryLevel", "1")
+                .containsEntry("StaminaSkill", "5")
+                .containsEntry("PlayerCategoryId", "0")
+                .doesNotContainKeys("TrainerType", "LastMatch_Date");
+
+        var trainer = players.get(29);
+        assertThat(trainer)
+                .containsEntry("PlayerID", "480000029")
+                .containsEntry("TrainerType", "2")
+                .containsEntry("TrainerSkill", "4");
+    }
+
+    @Test
+    void parsePlayersFromString_invalidInput() {
+        assertThat(new XMLPlayersParser().parsePlayersFromString("")).isEmpty();
+        assertThat(new XMLPlayersParser().parsePlayersFromString("<HattrickData><Team>")).isEmpty();
+    }
+}
@@ -0,0 +1,40 @@
+package core.file.xml;
+
+import core.util.HODateTime;
+import core.util.ResourceUtils;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class XMLSpielplanParserTest {
+
+    @Test
+    void parseSpielplanFromString() throws IOException {
+        final var content = ResourceUtils.getResourceFileAsString("leaguefixtures.xml");
+
+        var fixtures = XMLSpielplanParser.parseSpielplanFromString(content);
+
+        assertThat(fixtures).isNotNull();
+        assertThat(fixtures.getLigaId()).isEqualTo(12345);
+        assertThat(fixtures.getLigaName()).isEqualTo("V.123");
+        assertThat(fixtures.getSaison()).isEqualTo(88);
+        assertThat(fixtures.getFetchDate()).isEqualTo(HODateTime.fromHT("2024-08-21 01:13:12"));
+        assertThat(fixtures.getMatches()).hasSize(56);
+
+        var first = fixtures.getMatches().get(0);
+        assertThat(first.getMatchId()).isEqualTo(700000001);
+        assertThat(first.getSpieltag()).isEqualTo(1);
+        assertThat(first.getHeimId()).isEqualTo(3456781);
+        assertThat(first.getHeimName()).isEqualTo("Team1");
+        assertThat(first.getGastId()).isEqualTo(3456780);
+        assertThat(first.getGastName()).isEqualTo("Team0");
+        assertThat(first.getDatum()).isEqualTo(HODateTime.fromHT("2024-06-08 20:00:00"));
+        assertThat(first.getToreHeim()).isEqualTo(2);
+        assertThat(first.getToreGast()).isEqualTo(1);
+
+        // not yet played
+        assertThat(fixtures.getMatches().get(55).getToreGast()).isEqualTo(-1);
+    }
+}
@@ -0,0 +1,84 @@
+package core.file.xml;
+
+import org.junit.jupiter.api.Test;
+
+import javax.xml.stream.XMLStreamException;
+import java.util.ArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class XMLStreamParserTest {
+
+    private static final String XML = """
+            <?xml version="1.0" encoding="utf-8"?>
+            <!-- comment -->
+            <HattrickData>
+              <FileName>test.xml</FileName>
+              <Match Index="0">
+                <MatchID>1</MatchID>
+                <HomeTeam>
+                  <TeamID>10</TeamID>
+                  <Name>Home &amp; Co</Name>
+                </HomeTeam>
+                <AwayTeam>
+                  <TeamID>20</TeamID>
+                  <Name />
+                </AwayTeam>
+              </Match>
+              <Match Index="1">
+                <MatchID>2</MatchID>
+              </Match>
+            </HattrickData>
+            """;
+
+    @Test
+    void readValuesKeepsFirstOccurrence() throws XMLStreamException {
+        try (var parser = XMLStreamParser.open(XML)) {
+            assertThat(parser).isNotNull();
+            var values = new ArrayList<java.util.Map<String, String>>();
+            var indices = new ArrayList<String>();
+            var root = parser.getDepth();
+            while (parser.nextElement(root)) {
+                if (parser.getName().equals("Match")) {
+                    indices.add(parser.getAttribute("Index"));
+                    values.add(parser.readValues());
+                }
+            }
+
+            assertThat(indices).containsExactly("0", "1");
+            assertThat(values.get(0))
+                    .containsEntry("MatchID", "1")
+                    .containsEntry("TeamID", "10")
+                    .containsEntry("Name", "Home & Co")
+                    .doesNotContainKey("HomeTeam");
+            assertThat(values.get(1)).containsOnlyKeys("MatchID");
+        }
+    }
+
+    @Test
+    void nextElementEntersUnreadElements() throws XMLStreamException {
+        try (var parser = XMLStreamParser.open(XML)) {
+            var names = new ArrayList<String>();
+            var root = parser.getDepth();
+            while (parser.nextElement(root)) {
+                names.add(parser.getName());
+                switch (parser.getName()) {
+                    case "FileName", "MatchID" -> assertThat(parser.readText()).isNotEmpty();
+                    case "AwayTeam" -> parser.skipElement();
+                    default -> {
+                    }
+                }
+            }
+
+            assertThat(names).containsExactly("FileName", "Match", "MatchID", "HomeTeam", "TeamID", "Name",
+                    "AwayTeam", "Match", "MatchID");
+        }
+    }
+
+    @Test
+    void openReturnsNullWithoutHattrickData() throws XMLStreamException {
+        assertThat(XMLStreamParser.open(null)).isNull();
+        assertThat(XMLStreamParser.open("")).isNull();
+        assertThat(XMLStreamParser.open("<Error><Message>failed</Message></Error>")).isNull();
+    }
+}
@@ -0,0 +1,98 @@
+package core.gui;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.JPanel;
+import javax.swing.SwingUtilities;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RefreshManagerTest {
+
+    private final List<IRefreshable> registered = new ArrayList<>();
+
+    private static class Counter implements Refreshable {
+        int refreshed;
+        int reInitialized;
+
+        @Override
+        public void refresh() {
+            refreshed++;
+        }
+
+        @Override
+        public void reInit() {
+            reInitialized++;
+        }
+    }
+
+    private static class HiddenPanel extends JPanel implements IRefreshable {
+        int refreshed;
+
+        @Override
+        public void refresh() {
+            refreshed++;
+        }
+    }
+
+    private void register(IRefreshable refreshable, DataDomain... domains) {
+        RefreshManager.instance().registerRefreshable(refreshable, domains);
+        registered.add(refreshable);
+    }
+
+    private static void onEdt(Runnable runnable) throws InterruptedException, InvocationTargetException {
+        SwingUtilities.invokeAndWait(runnable);
+    }
+
+    @AfterEach
+    void unregister() {
+        registered.forEach(RefreshManager.instance()::unregisterRefreshable);
+    }
+
+    @Test
+    void onlyAffectedObjectsAreInformed() throws Exception {
+        var players = new Counter();
+        var all = new Counter();
+        register(players, DataDomain.PLAYERS);
+        register(all, DataDomain.values());
+
+        onEdt(() -> RefreshManager.instance().doReInit(DataDomain.MATCHES));
+        assertEquals(0, players.reInitialized);
+        assertEquals(1, all.reInitialized);
+
+        onEdt(() -> RefreshManager.instance().doRefresh(DataDomain.PLAYERS, DataDomain.YOUTH));
+        assertEquals(1, players.refreshed);
+        assertEquals(0, players.reInitialized);
+        assertEquals(1, all.refreshed);
+    }
+
+    @Test
+    void callsOffTheEventDispatchThreadAreRunOnIt() throws Exception {
+        var onEdt = new boolean[1];
+        register(() -> onEdt[0] = SwingUtilities.isEventDispatchThread(), DataDomain.ECONOMY);
+
+        RefreshManager.instance().doRefresh(DataDomain.ECONOMY);
+        onEdt(() -> {});
+        assertTrue(onEdt[0]);
+    }
+
+    @Test
+    void hiddenComponentsAreOnlyMarkedDirty() throws Exception {
+        var panel = new HiddenPanel();
+        register(panel, DataDomain.TRAINING);
+
+        onEdt(() -> RefreshManager.instance().doRefresh(DataDomain.PLAYERS));
+        assertFalse(RefreshManager.instance().isDirty(panel));
+
+        onEdt(() -> RefreshManager.instance().doRefresh(DataDomain.TRAINING));
+        assertEquals(0, panel.refreshed);
+        assertTrue(RefreshManager.instance().isDirty(panel));
+
+        RefreshManager.instance().unregisterRefreshable(panel);
+        assertFalse(RefreshManager.instance().isDirty(panel));
+    }
+}
@@ -0,0 +1,83 @@
+package core.gui.comp.table;
+
+import core.gui.model.UserColumnController;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HOTableModelTest {
+
+    /**
+     * Lazy model with value row * 10 + column, which records the computed cells
+     */
+    private static class LazyModel extends HOTableModel {
+        final List<String> computed = new ArrayList<>();
+        int offset;
+
+        LazyModel() {
+            super(UserColumnController.ColumnModelId.PLAYEROVERVIEW, "test");
+            setLazy(true);
+            columns = new UserColumn[3];
+            for (int i = 0; i < columns.length; i++) {
+                columns[i] = new UserColumn(i + 1, "column" + i) {};
+                columns[i].setDisplay(true);
+            }
+        }
+
+        @Override
+        protected void initData() {
+            initLazyData(4);
+        }
+
+        @Override
+        protected Object computeValueAt(int row, int column) {
+            computed.add(row + ":" + column);
+            return offset + row * 10 + column;
+        }
+    }
+
+    @Test
+    void cellsAreComputedOnceWhenRead() {
+        var model = new LazyModel();
+        model.initData();
+        assertTrue(model.computed.isEmpty());
+        assertEquals(4, model.getRowCount());
+
+        assertEquals(21, model.getValueAt(2, 1));
+        assertEquals(21, model.getValueAt(2, 1));
+        assertEquals(List.of("2:1"), model.computed);
+        assertNull(model.getValueAt(4, 0));
+    }
+
+    @Test
+    void invalidateRowRecomputesOnlyThatRow() {
+        var model = new LazyModel();
+        model.initData();
+        for (int row = 0; row < 4; row++) {
+            model.getValueAt(row, 0);
+        }
+        model.computed.clear();
+        model.offset = 100;
+
+        model.invalidateRow(1);
+        assertEquals(0, model.getValueAt(0, 0));
+        assertEquals(110, model.getValueAt(1, 0));
+        assertEquals(List.of("1:0"), model.computed);
+    }
+
+    @Test
+    void invalidateColumnsRecomputesOnlyThoseColumns() {
+        var model = new LazyModel();
+        model.initData();
+        model.getValueAt(0, 0);
+        model.getValueAt(0, 2);
+        model.offset = 100;
+
+        model.invalidateColumns(3);
+        assertEquals(0, model.getValueAt(0, 0));
+        assertEquals(102, model.getValueAt(0, 2));
+    }
+}
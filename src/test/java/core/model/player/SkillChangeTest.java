@@ -0,0 +1,47 @@
+package core.model.player;
+
+import core.constants.player.PlayerSkill;
+import core.util.HODateTime;
+import org.junit.jupiter.api.Test;
+
+import java.time.temporal.ChronoUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SkillChangeTest {
+
+    private static Player player(int hrfId, HODateTime date, int playmaking, int stamina) {
+        var player = new Player();
+        player.setPlayerId(4711);
+        player.setHrfId(hrfId);
+        player.setHrfDate(date);
+        player.setValue4Skill(PlayerSkill.PLAYMAKING, playmaking);
+        player.setValue4Skill(PlayerSkill.STAMINA, stamina);
+        return player;
+    }
+
+    @Test
+    void compareReturnsChangedSkillsOfNextState() {
+        var date = HODateTime.now();
+        var previous = player(1, date.minus(7, ChronoUnit.DAYS), 7, 6);
+        var next = player(2, date, 8, 5);
+
+        var changes = SkillChange.compare(previous, next);
+        assertEquals(2, changes.size());
+        var playmaking = changes.stream().filter(c -> c.getType() == PlayerSkill.PLAYMAKING).findFirst().orElseThrow();
+        assertEquals(1, playmaking.getChange());
+        assertEquals(8, playmaking.getValue());
+        assertEquals(4711, playmaking.getPlayerId());
+        assertEquals(2, playmaking.getHrfId());
+        assertEquals(date, playmaking.getDate());
+        var stamina = changes.stream().filter(c -> c.getType() == PlayerSkill.STAMINA).findFirst().orElseThrow();
+        assertEquals(-1, stamina.getChange());
+    }
+
+    @Test
+    void compareWithoutPreviousStateReturnsNoChanges() {
+        assertTrue(SkillChange.compare(null, player(1, HODateTime.now(), 7, 6)).isEmpty());
+        var date = HODateTime.now();
+        assertTrue(SkillChange.compare(player(1, date, 7, 6), player(2, date, 7, 6)).isEmpty());
+    }
+}
@@ -0,0 +1,50 @@
+package core.model.player;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SquadSnapshotsTest {
+
+    private static Player player(int id) {
+        var ret = new Player();
+        ret.setPlayerId(id);
+        return ret;
+    }
+
+    @Test
+    void squadIsLoadedOnce() {
+        var loads = new ArrayList<Integer>();
+        var snapshots = new SquadSnapshots(hrfId -> {
+            loads.add(hrfId);
+            return List.of(player(hrfId * 10 + 1), player(hrfId * 10 + 2));
+        });
+
+        assertNotNull(snapshots.getPlayer(1, 11));
+        assertNotNull(snapshots.getPlayer(1, 12));
+        assertNull(snapshots.getPlayer(1, 21));
+        assertEquals(2, snapshots.getSquad(2).size());
+        assertEquals(List.of(1, 2), loads);
+    }
+
+    @Test
+    void putReplacesDatabaseSquad() {
+        var loads = new ArrayList<Integer>();
+        var snapshots = new SquadSnapshots(hrfId -> {
+            loads.add(hrfId);
+            return List.of();
+        });
+        var calculated = player(7);
+        snapshots.put(3, List.of(calculated));
+
+        assertSame(calculated, snapshots.getPlayer(3, 7));
+        assertTrue(loads.isEmpty());
+
+        snapshots.remove(3);
+        assertNull(snapshots.getPlayer(3, 7));
+        assertEquals(List.of(3), loads);
+    }
+}
@@ -0,0 +1,210 @@
+package core.net;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DownloadPipelineTest {
+
+    /** Mock CHPP server, answers "file=x" with "<x/>", fails the first requests of "file=flaky" */
+    private HttpServer server;
+    private final Map<String, AtomicInteger> requests = new ConcurrentHashMap<>();
+    private final AtomicInteger running = new AtomicInteger();
+    private final AtomicInteger maxRunning = new AtomicInteger();
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/chppxml.ashx", exchange -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            var file = exchange.getRequestURI().getQuery().substring("file=".length());
+            var count = requests.computeIfAbsent(file, k -> new AtomicInteger()).incrementAndGet();
+            int code = file.equals("missing") ? 404 : file.equals("flaky") && count < 3 ? 503 : 200;
+            var body = ("<" + file + "/>").getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(code, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+            running.decrementAndGet();
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    private String url(String file) {
+        return "http://localhost:" + server.getAddress().getPort() + "/chppxml.ashx?file=" + file;
+    }
+
+    /** Fetcher with the error handling of MyConnector.fetchCHPPWebFile */
+    private String fetch(String url) throws IOException {
+        try {
+            var response = client.send(HttpRequest.newBuilder(URI.create(url)).build(),
+                    HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() >= 500) {
+                throw new IOException("HTTP Response Code: " + response.statusCode());
+            }
+            return response.statusCode() == 200 ? response.body() : null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        }
+    }
+
+    @Test
+    void itemsAreCommittedInOrderByTheCallingThread() {
+        var items = new ArrayList<Integer>();
+        for (int i = 0; i < 12; i++) {
+            items.add(i);
+        }
+        var caller = Thread.currentThread();
+        var committed = new ArrayList<Integer>();
+        var batches = new AtomicInteger();
+        var progress = new ArrayList<String>();
+
+        var result = new DownloadPipeline<Integer>(this::fetch, 4, 0)
+                .setBatch(5, batch -> {
+                    batches.incrementAndGet();
+                    batch.run();
+                    return true;
+                })
+                .setProgressListener((done, total) -> progress.add(done + "/" + total))
+                .run(items, i -> List.of(url("a" + i), url("b" + i)), (item, files) -> {
+                    assertSame(caller, Thread.currentThread());
+                    assertEquals(Map.of(url("a" + item), "<a" + item + "/>", url("b" + item), "<b" + item + "/>"), files);
+                    committed.add(item);
+                    return true;
+                });
+
+        assertEquals(new DownloadPipeline.Result(12, 0, false), result);
+        assertEquals(items, committed);
+        assertEquals(3, batches.get());
+        assertEquals("12/12", progress.get(progress.size() - 1));
+        assertTrue(maxRunning.get() > 1);
+        assertTrue(maxRunning.get() <= 4);
+    }
+
+    @Test
+    void failedRequestsAreRetried() {
+        var received = new ArrayList<Map<String, String>>();
+        var result = new DownloadPipeline<String>(this::fetch, 2, 0)
+                .setRetries(3, 10)
+                .run(List.of("x"), x -> List.of(url("flaky"), url("missing")), (item, files) -> received.add(files));
+
+        assertEquals(1, result.committed());
+        assertEquals(List.of(Map.of(url("flaky"), "<flaky/>")), received);
+        assertEquals(3, requests.get("flaky").get());
+        assertEquals(1, requests.get("missing").get());
+    }
+
+    @Test
+    void requestRateIsLimited() {
+        var start = System.nanoTime();
+        new DownloadPipeline<Integer>(this::fetch, 4, 50)
+                .run(List.of(1, 2, 3, 4, 5, 6), i -> List.of(url("r" + i)), (item, files) -> true);
+
+        // six requests at 50 per second are spaced by at least 5 * 20ms
+        assertTrue(System.nanoTime() - start >= 100_000_000L);
+    }
+
+    @Test
+    void downloadIsAbortedAfterConsecutiveFailures() {
+        var committed = new ArrayList<Integer>();
+        var result = new DownloadPipeline<Integer>(this::fetch, 2, 0)
+                .setMaxConsecutiveFailures(2)
+                .run(List.of(1, 2, 3, 4, 5), i -> List.of(url("f" + i)), (item, files) -> {
+                    committed.add(item);
+                    return item == 1;
+                });
+
+        assertEquals(new DownloadPipeline.Result(1, 2, true), result);
+        assertEquals(List.of(1, 2, 3), committed);
+    }
+
+    @Test
+    void itemsOfADiscardedBatchAreCountedAsFailed() {
+        var result = new DownloadPipeline<Integer>(this::fetch, 2, 0)
+                .setBatch(2, batch -> {
+                    batch.run();
+                    return false;
+                })
+                .setMaxConsecutiveFailures(Integer.MAX_VALUE)
+                .run(List.of(1, 2, 3), i -> List.of(url("d" + i)), (item, files) -> item != 2);
+
+        assertEquals(new DownloadPipeline.Result(0, 3, false), result);
+    }
+
+    @Test
+    void batchesWithMissingFilesAreCommittedWithoutTheBatchRunner() {
+        var batches = new ArrayList<List<Integer>>();
+        var committed = new ArrayList<Integer>();
+        var result = new DownloadPipeline<Integer>(this::fetch, 2, 0)
+                .setBatch(2, batch -> {
+                    batches.add(List.copyOf(committed));
+                    batch.run();
+                    return true;
+                })
+                .run(List.of(1, 2, 3, 4), i -> List.of(url(i == 3 ? "missing" : "m" + i)), (item, files) -> {
+                    committed.add(item);
+                    return true;
+                });
+
+        assertEquals(new DownloadPipeline.Result(4, 0, false), result);
+        assertEquals(List.of(1, 2, 3, 4), committed);
+        // only the first batch is complete
+        assertEquals(List.of(List.of()), batches);
+    }
+
+    @Test
+    void downloadsRunAheadOfTheCommitsByALimitedNumberOfItems() {
+        var items = new ArrayList<Integer>();
+        for (int i = 0; i < 20; i++) {
+            items.add(i);
+        }
+        var started = new AtomicInteger();
+        var committed = new AtomicInteger();
+        var maxAhead = new AtomicInteger();
+
+        var result = new DownloadPipeline<Integer>(url -> {
+            started.incrementAndGet();
+            return fetch(url);
+        }, 4, 0)
+                .setBatch(2, batch -> {
+                    batch.run();
+                    return true;
+                })
+                .setMaxPrefetchedItems(5)
+                .run(items, i -> List.of(url("w" + i)), (item, files) -> {
+                    maxAhead.accumulateAndGet(started.get() - committed.getAndIncrement(), Math::max);
+                    return true;
+                });
+        assertEquals(20, result.committed());
+        assertTrue(maxAhead.get() <= 5, "items ahead: " + maxAhead.get());
+    }
+}
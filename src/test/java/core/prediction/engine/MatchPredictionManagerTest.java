@@ -0,0 +1,165 @@
+package core.prediction.engine;
+
+import core.model.match.IMatchDetails;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MatchPredictionManagerTest {
+
+    private final MatchPredictionManager manager = MatchPredictionManager.instance();
+
+    private TeamData team(String name, double strength, int tactic) {
+        return manager.generateTeamData(name,
+                manager.generateTeamRatings(strength, strength, strength, strength, strength, strength, strength),
+                tactic, 10);
+    }
+
+    @Test
+    void parallelSimulationIsReproducible() {
+        var home = team("home", 10, IMatchDetails.TAKTIK_NORMAL);
+        var away = team("away", 8, IMatchDetails.TAKTIK_KONTER);
+
+        var first = manager.calculateNMatches(5500, home, away, 42);
+        var second = manager.calculateNMatches(5500, home, away, 42);
+
+        assertEquals(5500, first.getMatchNumber());
+        assertEquals(first.getMatchNumber(), first.getHomeWin() + first.getDraw() + first.getAwayWin());
+        assertEquals(first.getMatchNumber(), Arrays.stream(first.getResultDetail()).sum());
+        assertArrayEquals(first.getResultDetail(), second.getResultDetail());
+        assertEquals(first.getHomeGoals(), second.getHomeGoals());
+        assertEquals(first.getGuestChances(), second.getGuestChances());
+        assertArrayEquals(first.getGuestSuccess(), second.getGuestSuccess());
+    }
+
+    @Test
+    void outcomeSimulationEqualsActionSimulation() {
+        var home = team("home", 9, IMatchDetails.TAKTIK_KONTER);
+        var away = team("away", 11, IMatchDetails.TAKTIK_KONTER);
+
+        var actionRandom = new SplittableRandom(7);
+        var actionResult = new MatchResult();
+        for (int i = 0; i < 2000; i++) {
+            var generator = new ActionGenerator(actionRandom);
+            generator.setTeams(home, away);
+            actionResult.addActions(generator.simulate());
+        }
+
+        var outcomeResult = new MatchResult();
+        var generator = new ActionGenerator(new SplittableRandom(7));
+        generator.setTeams(home, away);
+        for (int i = 0; i < 2000; i++) {
+            generator.simulate(outcomeResult);
+        }
+
+        assertEquals(actionResult.getMatchNumber(), outcomeResult.getMatchNumber());
+        assertArrayEquals(actionResult.getResultDetail(), outcomeResult.getResultDetail());
+        assertEquals(actionResult.getHomeChances(), outcomeResult.getHomeChances());
+        assertEquals(actionResult.getGuestGoals(), outcomeResult.getGuestGoals());
+        assertArrayEquals(actionResult.getHomeSuccess(), outcomeResult.getHomeSuccess());
+        assertArrayEquals(actionResult.getHomeFailed(), outcomeResult.getHomeFailed());
+        assertArrayEquals(actionResult.getGuestSuccess(), outcomeResult.getGuestSuccess());
+        assertArrayEquals(actionResult.getGuestFailed(), outcomeResult.getGuestFailed());
+        assertEquals(actionResult.getDraw(), outcomeResult.getDraw());
+    }
+
+    @Test
+    void parallelSimulationMatchesTheDistributionOfTheOriginalEngine() {
+        var home = team("home", 10, IMatchDetails.TAKTIK_NORMAL);
+        var away = team("away", 8, IMatchDetails.TAKTIK_KONTER);
+        var n = 20_000;
+
+        var original = manager.calculateNMatches(n, home, away);
+        var parallel = manager.calculateNMatches(n, home, away, 11);
+
+        // differences of the two samples within 5 standard errors
+        assertSameProportion(original.getHomeWin(), parallel.getHomeWin(), n);
+        assertSameProportion(original.getDraw(), parallel.getDraw(), n);
+        assertSameProportion(original.getAwayWin(), parallel.getAwayWin(), n);
+        assertSameMeanGoals(original.getHomeGoals(), parallel.getHomeGoals(), n);
+        assertSameMeanGoals(original.getGuestGoals(), parallel.getGuestGoals(), n);
+
+        // two sample chi-square test of the results, scores with few matches are pooled
+        var chiSquare = 0.0;
+        var degreesOfFreedom = -1;
+        long pooledOriginal = 0;
+        long pooledParallel = 0;
+        for (int i = 0; i < original.getResultDetail().length; i++) {
+            long o = original.getResultDetail()[i];
+            long p = parallel.getResultDetail()[i];
+            if (o + p < 20) {
+                pooledOriginal += o;
+                pooledParallel += p;
+            } else {
+                chiSquare += chiSquareTerm(o, p);
+                degreesOfFreedom++;
+            }
+        }
+        if (pooledOriginal + pooledParallel > 0) {
+            chiSquare += chiSquareTerm(pooledOriginal, pooledParallel);
+            degreesOfFreedom++;
+        }
+        // critical value of the 0.001 significance level, bounded by the one of 24 degrees of freedom
+        assertTrue(degreesOfFreedom <= 24);
+        assertTrue(chiSquare < 51.2, "chi-square " + chiSquare + " with " + degreesOfFreedom + " degrees of freedom");
+    }
+
+    private static void assertSameProportion(int original, int parallel, int n) {
+        var p = (original + parallel) / (2.0 * n);
+        var standardError = Math.sqrt(p * (1 - p) * 2 / n);
+        assertEquals((double) original / n, (double) parallel / n, 5 * standardError + 1e-9);
+    }
+
+    private static void assertSameMeanGoals(int original, int parallel, int n) {
+        // goals of a match are about Poisson distributed, their variance is about their mean
+        var mean = (original + parallel) / (2.0 * n);
+        var standardError = Math.sqrt(mean * 2 / n);
+        assertEquals((double) original / n, (double) parallel / n, 5 * standardError + 1e-9);
+    }
+
+    /**
+     * Chi-square term of one category of two samples of equal size
+     */
+    private static double chiSquareTerm(long original, long parallel) {
+        var expected = (original + parallel) / 2.0;
+        return expected > 0 ? ((original - expected) * (original - expected)
+                + (parallel - expected) * (parallel - expected)) / expected : 0;
+    }
+
+    @Test
+    void mergeAddsAllCounters() {
+        var home = team("home", 10, IMatchDetails.TAKTIK_NORMAL);
+        var away = team("away", 10, IMatchDetails.TAKTIK_NORMAL);
+        var result = manager.calculateNMatches(100, home, away, 1);
+        var other = manager.calculateNMatches(200, home, away, 2);
+        var homeGoals = result.getHomeGoals() + other.getHomeGoals();
+        var draws = result.getDraw() + other.getDraw();
+
+        result.merge(other);
+        assertEquals(300, result.getMatchNumber());
+        assertEquals(homeGoals, result.getHomeGoals());
+        assertEquals(draws, result.getDraw());
+        assertEquals(300, Arrays.stream(result.getResultDetail()).sum());
+    }
+
+    @Test
+    void progressIsReportedByTheCallingThread() {
+        var home = team("home", 10, IMatchDetails.TAKTIK_NORMAL);
+        var away = team("away", 9, IMatchDetails.TAKTIK_NORMAL);
+        var caller = Thread.currentThread();
+        var progress = new ArrayList<Integer>();
+
+        var result = manager.calculateNMatches(50_000, home, away, 3, p -> {
+            assertSame(caller, Thread.currentThread());
+            progress.add(p);
+        });
+
+        assertEquals(50_000, result.getMatchNumber());
+        assertArrayEquals(manager.calculateNMatches(50_000, home, away, 3).getResultDetail(), result.getResultDetail());
+        assertTrue(progress.stream().allMatch(p -> p >= 0 && p <= 100));
+    }
+}
@@ -0,0 +1,70 @@
+package core.rating;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PackedKeyMapTest {
+
+    @Test
+    void getReturnsStoredValuesAfterResize() {
+        var map = new PackedKeyMap();
+        for (int i = 0; i < 1000; i++) {
+            map.put(Double.doubleToLongBits(i / 10.), PackedKeyMap.pack(i, -1, 120), i);
+        }
+        assertEquals(1000, map.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, map.get(Double.doubleToLongBits(i / 10.), PackedKeyMap.pack(i, -1, 120)));
+        }
+        assertTrue(Double.isNaN(map.get(0, PackedKeyMap.pack(0, 1, 120))));
+
+        map.clear();
+        assertEquals(0, map.size());
+        assertTrue(Double.isNaN(map.get(0, PackedKeyMap.pack(0, -1, 120))));
+    }
+
+    @Test
+    void packSeparatesNegativeValues() {
+        assertNotEquals(PackedKeyMap.pack(0, -1, 0), PackedKeyMap.pack(0, 0, -1));
+        assertNotEquals(PackedKeyMap.pack(-1, 0, 0), PackedKeyMap.pack(0, -1, 0));
+    }
+
+    @Test
+    void calculationBlocksOnlyCallersOfTheSameKey() throws Exception {
+        var map = new PackedKeyMap();
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var slow = new Thread(() -> map.computeIfAbsent(1, 1, () -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return 2;
+        }));
+        slow.start();
+        started.await();
+
+        // the slow calculation does not hold the map
+        assertEquals(3, map.computeIfAbsent(2, 2, () -> 3));
+        // a caller of the same key waits for the running calculation
+        var calculations = new AtomicInteger();
+        var waiting = new Thread(() -> map.computeIfAbsent(1, 1, () -> {
+            calculations.incrementAndGet();
+            return 1;
+        }));
+        waiting.start();
+        waiting.join(100);
+        assertTrue(waiting.isAlive());
+        release.countDown();
+        slow.join();
+        waiting.join();
+        assertEquals(0, calculations.get());
+        assertEquals(2, map.get(1, 1));
+        assertEquals(2, map.size());
+    }
+}
@@ -0,0 +1,110 @@
+package core.rating;
+
+import core.constants.player.PlayerSkill;
+import core.model.Team;
+import core.model.match.IMatchDetails;
+import core.model.match.Weather;
+import core.model.player.IMatchRoleID;
+import core.model.player.MatchRoleID;
+import core.model.player.Player;
+import core.model.player.Specialty;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RatingPredictionModelTest {
+
+    private static Player createPlayer(int id, Random random) {
+        var player = new Player();
+        player.setPlayerId(id);
+        for (var skill : new PlayerSkill[]{PlayerSkill.KEEPER, PlayerSkill.DEFENDING, PlayerSkill.PLAYMAKING,
+                PlayerSkill.WINGER, PlayerSkill.PASSING, PlayerSkill.SCORING, PlayerSkill.SETPIECES}) {
+            player.setValue4Skill(skill, 2 + random.nextInt(15));
+        }
+        player.setExperience(3 + random.nextInt(8));
+        player.setForm(3 + random.nextInt(6));
+        player.setStamina(4 + random.nextInt(5));
+        return player;
+    }
+
+    private static double[] ratings(RatingPredictionModel model, List<Player> players) {
+        var ret = new ArrayList<Double>();
+        for (int roleId = IMatchRoleID.keeper; roleId <= IMatchRoleID.leftForward; roleId++) {
+            for (var behaviour : MatchRoleID.getBehaviours(roleId)) {
+                for (var player : players) {
+                    ret.add(model.getPlayerMatchAverageRating(player, roleId, behaviour));
+                    ret.add(model.getPlayerRating(player, roleId, behaviour, 45));
+                }
+            }
+        }
+        return ret.stream().mapToDouble(Double::doubleValue).toArray();
+    }
+
+    @Test
+    void removePlayerInvalidatesRatings() {
+        var model = new RatingPredictionModel(new Team());
+        var player = new Player();
+        player.setPlayerId(1);
+        player.setValue4Skill(PlayerSkill.SCORING, 10);
+        player.setStamina(8);
+        player.setForm(6);
+        var rating = model.getPlayerRatingMatchBeginning(player, IMatchRoleID.leftForward, IMatchRoleID.NORMAL);
+        assertTrue(rating > 0);
+
+        player.setValue4Skill(PlayerSkill.SCORING, 15);
+        assertEquals(rating, model.getPlayerRatingMatchBeginning(player, IMatchRoleID.leftForward, IMatchRoleID.NORMAL));
+
+        model.removePlayer(player);
+        assertTrue(model.getPlayerRatingMatchBeginning(player, IMatchRoleID.leftForward, IMatchRoleID.NORMAL) > rating);
+    }
+
+    @Test
+    void concurrentReadersGetSequentialRatings() throws Exception {
+        var random = new Random(3);
+        var players = new ArrayList<Player>();
+        for (int i = 1; i <= 20; i++) {
+            players.add(createPlayer(i, random));
+        }
+        var team = new Team();
+        var expected = ratings(new RatingPredictionModel(team), players);
+
+        var model = new RatingPredictionModel(team);
+        var executor = Executors.newFixedThreadPool(8);
+        try {
+            var tasks = new ArrayList<Callable<double[]>>();
+            for (int i = 0; i < 16; i++) {
+                tasks.add(() -> ratings(model, players));
+            }
+            for (var result : executor.invokeAll(tasks)) {
+                assertArrayEquals(expected, result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void ratingsOfPoolThreadsDoNotReplaceRatingsOfOtherWeather() {
+        var player = createPlayer(1, new Random(5));
+        player.setSpecialty(Specialty.Technical.getValue());
+        var team = new Team();
+
+        var expectedModel = new RatingPredictionModel(team);
+        expectedModel.setCalculationContext(null, null, Weather.SUNNY, IMatchDetails.TAKTIK_PRESSING);
+        var expected = expectedModel.getPlayerRating(player, IMatchRoleID.centralInnerMidfield, IMatchRoleID.NORMAL, 90);
+
+        var model = new RatingPredictionModel(team);
+        var neutral = ForkJoinPool.commonPool().submit(() -> model.getPlayerRating(player,
+                IMatchRoleID.centralInnerMidfield, IMatchRoleID.NORMAL, 90)).join();
+        model.setCalculationContext(null, null, Weather.SUNNY, IMatchDetails.TAKTIK_PRESSING);
+        assertEquals(expected, model.getPlayerRating(player, IMatchRoleID.centralInnerMidfield, IMatchRoleID.NORMAL, 90));
+        assertNotEquals(neutral, expected);
+    }
+}
@@ -0,0 +1,90 @@
+package core.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LogRingBufferTest {
+
+    @Test
+    void offerAndPollKeepOrderUntilFull() {
+        var buffer = new LogRingBuffer<Integer>(5);
+        assertEquals(8, buffer.capacity());
+        for (int i = 0; i < 8; i++) {
+            assertTrue(buffer.offer(i));
+        }
+        assertFalse(buffer.offer(8));
+        assertEquals(8, buffer.size());
+
+        assertEquals(0, buffer.poll());
+        assertTrue(buffer.offer(8));
+        for (int i = 1; i <= 8; i++) {
+            assertEquals(i, buffer.poll());
+        }
+        assertNull(buffer.poll());
+        assertEquals(0, buffer.size());
+        assertEquals(9, buffer.consumed());
+    }
+
+    @Test
+    void canPollTellsWhetherAnElementIsPublished() {
+        var buffer = new LogRingBuffer<Integer>(2);
+        assertFalse(buffer.canPoll());
+        assertTrue(buffer.offer(1));
+        assertTrue(buffer.canPoll());
+        assertEquals(1, buffer.poll());
+        assertFalse(buffer.canPoll());
+    }
+
+    @Test
+    void concurrentProducersLoseNoElements() throws InterruptedException {
+        var buffer = new LogRingBuffer<Integer>(64);
+        int producers = 4;
+        int perProducer = 5_000;
+        var start = new CountDownLatch(1);
+        var threads = new ArrayList<Thread>();
+        for (int p = 0; p < producers; p++) {
+            int offset = p * perProducer;
+            var thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < perProducer; i++) {
+                    while (!buffer.offer(offset + i)) {
+                        Thread.yield();
+                    }
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        start.countDown();
+
+        var received = new HashSet<Integer>();
+        var last = new int[producers];
+        Arrays.fill(last, -1);
+        while (received.size() < producers * perProducer) {
+            var element = buffer.poll();
+            if (element == null) {
+                Thread.onSpinWait();
+                continue;
+            }
+            assertTrue(received.add(element));
+            // elements of one producer arrive in order
+            int producer = element / perProducer;
+            assertTrue(element % perProducer > last[producer]);
+            last[producer] = element % perProducer;
+        }
+        for (var thread : threads) {
+            thread.join();
+        }
+        assertNull(buffer.poll());
+    }
+}
@@ -0,0 +1,80 @@
+package core.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StartupTaskGraphTest {
+
+    @Test
+    void runStartsTasksAfterTheirDependencies() {
+        var profiler = new StartupProfiler();
+        var finished = new CopyOnWriteArrayList<String>();
+        // a and b can only finish, if they run concurrently
+        var bothStarted = new CountDownLatch(2);
+        Runnable concurrent = () -> {
+            bothStarted.countDown();
+            try {
+                assertTrue(bothStarted.await(10, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        };
+        new StartupTaskGraph(profiler)
+                .add("a", () -> { concurrent.run(); finished.add("a"); })
+                .add("b", () -> { concurrent.run(); finished.add("b"); })
+                .add("c", () -> finished.add("c"), "a", "b")
+                .add("d", () -> finished.add("d"), "c")
+                .run();
+
+        assertEquals(List.of("c", "d"), finished.subList(2, 4));
+        assertEquals(List.of("a", "b", "c", "d"), profiler.getPhaseMillis().keySet().stream().sorted().toList());
+    }
+
+    @Test
+    void runSerializesTasksOfTheSameLock() {
+        var running = new AtomicInteger();
+        var maxRunning = new AtomicInteger();
+        var graph = new StartupTaskGraph(new StartupProfiler());
+        for (int i = 0; i < 4; i++) {
+            graph.add("task" + i, "database", () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(20);
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+                running.decrementAndGet();
+            });
+        }
+        graph.run();
+
+        assertEquals(1, maxRunning.get());
+    }
+
+    @Test
+    void runSkipsDependentsOfFailedTask() {
+        var dependentRan = new AtomicInteger();
+        var graph = new StartupTaskGraph(new StartupProfiler())
+                .add("fails", () -> {
+                    throw new IllegalStateException("boom");
+                })
+                .add("dependent", dependentRan::incrementAndGet, "fails");
+
+        var e = assertThrows(IllegalStateException.class, graph::run);
+        assertEquals("boom", e.getMessage());
+        assertEquals(0, dependentRan.get());
+    }
+
+    @Test
+    void addRejectsUnknownDependency() {
+        var graph = new StartupTaskGraph(new StartupProfiler());
+        assertThrows(IllegalArgumentException.class, () -> graph.add("a", () -> {}, "b"));
+    }
+}
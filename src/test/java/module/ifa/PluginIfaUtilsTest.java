@@ -0,0 +1,39 @@
+package module.ifa;
+
+import core.model.enums.MatchType;
+import core.util.HODateTime;
+import core.util.ResourceUtils;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PluginIfaUtilsTest {
+
+    @Test
+    void parseMatchesArchiveReturnsFriendliesOfOwnTeam() throws IOException {
+        var content = ResourceUtils.getResourceFileAsString("matchesarchive.xml");
+
+        var archive = PluginIfaUtils.parseMatchesArchive(content, 3456780);
+
+        assertEquals(40, archive.matchCount());
+        assertEquals(14, archive.friendlies().size());
+        var first = archive.friendlies().get(0);
+        assertEquals(710000001, first.getMatchId());
+        assertEquals(MatchType.FRIENDLYNORMAL.getId(), first.getMatchTyp());
+        assertEquals(HODateTime.fromHT("2024-06-03 20:00:00"), first.getPlayedDate());
+        assertEquals(3456782, first.getHomeTeamId());
+        assertEquals(3456780, first.getAwayTeamId());
+        assertEquals(5, first.getHomeTeamGoals());
+        assertEquals(3, first.getAwayTeamGoals());
+        assertNotNull(archive.lastMatchDate());
+    }
+
+    @Test
+    void parseMatchesArchiveSkipsMatchesOfOtherTeams() throws IOException {
+        var content = ResourceUtils.getResourceFileAsString("matchesarchive.xml");
+
+        assertTrue(PluginIfaUtils.parseMatchesArchive(content, 1).friendlies().isEmpty());
+    }
+}
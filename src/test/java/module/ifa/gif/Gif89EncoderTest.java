@@ -0,0 +1,48 @@
+package module.ifa.gif;
+
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class Gif89EncoderTest {
+
+    private static BufferedImage frame(int seed) {
+        var image = new BufferedImage(50, 20, BufferedImage.TYPE_INT_RGB);
+        for (int x = 0; x < image.getWidth(); x++) {
+            for (int y = 0; y < image.getHeight(); y++) {
+                image.setRGB(x, y, ((x + seed) / 10 % 4) * 0x3F0000 | (y / 5) * 0x003F00);
+            }
+        }
+        return image;
+    }
+
+    @Test
+    void framesAreEncodedInOrder() throws IOException {
+        var encoder = new Gif89Encoder();
+        var frames = new BufferedImage[]{frame(0), frame(10), frame(20)};
+        for (var frame : frames) {
+            encoder.addFrame(frame);
+        }
+        encoder.setLoopCount(0);
+        var out = new ByteArrayOutputStream();
+        encoder.encode(out);
+
+        var reader = ImageIO.getImageReadersByFormatName("gif").next();
+        reader.setInput(ImageIO.createImageInputStream(new ByteArrayInputStream(out.toByteArray())));
+        assertEquals(frames.length, reader.getNumImages(true));
+        for (int i = 0; i < frames.length; i++) {
+            var decoded = reader.read(i);
+            for (int x = 0; x < 50; x += 7) {
+                for (int y = 0; y < 20; y += 3) {
+                    assertEquals(frames[i].getRGB(x, y), decoded.getRGB(x, y), "frame " + i + " at " + x + "," + y);
+                }
+            }
+        }
+    }
+}
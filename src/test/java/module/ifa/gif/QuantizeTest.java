@@ -0,0 +1,55 @@
+package module.ifa.gif;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QuantizeTest {
+
+    @Test
+    void imageWithFewColorsKeepsItsColors() {
+        int[] pixels = {0xFFFF0000, 0xFFFF0000, 0xFF00FF00, 0xFF0000FF, 0xFFFF0000};
+
+        int[] palette = Quantize.quantizeImage(pixels.clone(), 256);
+        assertArrayEquals(new int[]{0xFFFF0000, 0xFF00FF00, 0xFF0000FF}, palette);
+
+        int[] indexed = pixels.clone();
+        Quantize.quantizeImage(indexed, 256);
+        assertArrayEquals(new int[]{0, 0, 1, 2, 0}, indexed);
+    }
+
+    @Test
+    void imageWithManyColorsIsReduced() {
+        int[] pixels = new int[64 * 64];
+        for (int i = 0; i < pixels.length; i++) {
+            pixels[i] = 0xFF000000 | (i % 64) * 4 << 16 | (i / 64) * 4 << 8 | 0x80;
+        }
+
+        int[] palette = Quantize.quantizeImage(pixels, 16);
+        assertTrue(palette.length <= 16);
+        assertTrue(Arrays.stream(pixels).allMatch(p -> p >= 0 && p < palette.length));
+    }
+
+    @Test
+    void flatAndTwoDimensionalPixelsGiveSameResult() {
+        int width = 40;
+        int height = 30;
+        int[][] pixels = new int[width][height];
+        int[] flat = new int[width * height];
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                pixels[x][y] = 0xFF000000 | x * 6 << 16 | y * 8 << 8 | (x + y) * 3;
+                flat[y * width + x] = pixels[x][y];
+            }
+        }
+
+        assertArrayEquals(Quantize.quantizeImage(flat, 32), Quantize.quantizeImage(pixels, 32));
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                assertEquals(flat[y * width + x], pixels[x][y]);
+            }
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package module.lineup.assistant;
+
+import core.model.player.IMatchRoleID;
+import core.model.player.MatchRoleID;
+import core.model.player.Player;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LineupOptimizerTest {
+
+    private static List<Player> players(int count) {
+        var ret = new ArrayList<Player>();
+        for (int i = 1; i <= count; i++) {
+            var player = new Player();
+            player.setPlayerId(i);
+            ret.add(player);
+        }
+        return ret;
+    }
+
+    /**
+     * Random score table indexed by player id, role id and behaviour
+     */
+    private static LineupOptimizer.Objective randomObjective(long seed) {
+        var random = new Random(seed);
+        var scores = new double[40][IMatchRoleID.leftForward + 1][5];
+        for (var player : scores) {
+            for (var role : player) {
+                for (int b = 0; b < role.length; b++) {
+                    role[b] = random.nextInt(100) / 10.;
+                }
+            }
+        }
+        return (player, roleId, behaviour) -> scores[player.getPlayerId()][roleId][behaviour];
+    }
+
+    /**
+     * Exhaustive search of the best score
+     */
+    private static double bruteForce(LineupOptimizer.Objective objective, List<Integer> roleIds, List<Player> players, int index, boolean[] used, int picksLeft) {
+        if (index == roleIds.size() || picksLeft == 0) return 0;
+        var ret = bruteForce(objective, roleIds, players, index + 1, used, picksLeft);
+        var roleId = roleIds.get(index);
+        for (int p = 0; p < players.size(); p++) {
+            if (!used[p]) {
+                var best = 0.;
+                for (var behaviour : MatchRoleID.getBehaviours(roleId)) {
+                    best = Math.max(best, objective.score(players.get(p), roleId, behaviour));
+                }
+                if (MatchRoleID.getBehaviours(roleId).isEmpty()) {
+                    best = objective.score(players.get(p), roleId, IMatchRoleID.NORMAL);
+                }
+                used[p] = true;
+                ret = Math.max(ret, best + bruteForce(objective, roleIds, players, index + 1, used, picksLeft - 1));
+                used[p] = false;
+            }
+        }
+        return ret;
+    }
+
+    @Test
+    void optimizeFindsBestAssignment() {
+        var players = players(7);
+        var roleIds = List.of(IMatchRoleID.keeper, IMatchRoleID.rightBack, IMatchRoleID.rightCentralDefender,
+                IMatchRoleID.middleCentralDefender, IMatchRoleID.rightWinger, IMatchRoleID.centralForward);
+        for (long seed = 0; seed < 5; seed++) {
+            var objective = randomObjective(seed);
+            var result = new LineupOptimizer(objective, 10_000).optimize(roleIds, players, 4, null);
+
+            assertTrue(result.complete());
+            assertEquals(bruteForce(objective, roleIds, players, 0, new boolean[players.size()], 4), result.score(), 1e-9);
+            assertEquals(4, result.assignments().size());
+            var sum = 0.;
+            var assignedPlayers = new HashSet<Player>();
+            for (var assignment : result.assignments()) {
+                assertTrue(assignedPlayers.add(assignment.player()));
+                sum += objective.score(assignment.player(), assignment.roleId(), assignment.behaviour());
+            }
+            assertEquals(result.score(), sum, 1e-9);
+        }
+    }
+
+    @Test
+    void optimizeReportsImprovementsAndStopsAtTimeBudget() {
+        var players = players(35);
+        var roleIds = new ArrayList<Integer>();
+        for (int roleId = IMatchRoleID.keeper; roleId <= IMatchRoleID.leftForward; roleId++) {
+            roleIds.add(roleId);
+        }
+        var improvements = new AtomicInteger();
+        var result = new LineupOptimizer(randomObjective(42), 0).optimize(roleIds, players, 11,
+                r -> improvements.incrementAndGet());
+
+        assertFalse(result.complete());
+        assertTrue(improvements.get() > 0);
+        assertTrue(result.assignments().size() <= 11);
+    }
+
+    @Test
+    void sectorPriorityPrefersFirstSector() {
+        var players = players(1);
+        var roleIds = List.of(IMatchRoleID.middleCentralDefender, IMatchRoleID.centralForward);
+        LineupOptimizer.Objective objective = (player, roleId, behaviour) -> 5;
+        var weights = Map.of(MatchRoleID.Sector.Forward, 1.2, MatchRoleID.Sector.CentralDefence, 1.1);
+
+        var result = new LineupOptimizer(LineupOptimizer.sectorPriority(objective, weights), 10_000)
+                .optimize(roleIds, players, 1, null);
+
+        assertEquals(1, result.assignments().size());
+        assertEquals(IMatchRoleID.centralForward, result.assignments().get(0).roleId());
+        assertEquals(6, result.score(), 1e-9);
+    }
+}
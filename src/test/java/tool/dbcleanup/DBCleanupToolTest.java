@@ -0,0 +1,36 @@
+package tool.dbcleanup;
+
+import core.file.hrf.HRF;
+import core.util.HODateTime;
+import org.junit.jupiter.api.Test;
+
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DBCleanupToolTest {
+
+    private static final HODateTime WEEK_START = HODateTime.fromHTWeek(new HODateTime.HTWeek(90, 5));
+
+    private static HRF hrf(int hrfId, int days) {
+        return new HRF(hrfId, WEEK_START.plus(days, ChronoUnit.DAYS).plus(12, ChronoUnit.HOURS));
+    }
+
+    private static final List<HRF> HRFS = List.of(hrf(1, 0), hrf(2, 3), hrf(3, 8), hrf(4, 9), hrf(5, 10), hrf(6, 15));
+
+    @Test
+    void selectHRFsKeepsFirstHrfPerTrainingWeek() {
+        assertEquals(List.of(2, 4, 5), DBCleanupTool.selectHRFs(HRFS, 6, null, true, HODateTime::toHTWeek));
+        // the latest hrf is never removed
+        assertEquals(List.of(2, 4), DBCleanupTool.selectHRFs(HRFS, 5, null, true, HODateTime::toHTWeek));
+    }
+
+    @Test
+    void selectHRFsRemovesHrfsBeforeDate() {
+        var removeDate = hrf(0, 9).getDatum().toDbTimestamp();
+        assertEquals(List.of(1, 2, 3), DBCleanupTool.selectHRFs(HRFS, 6, removeDate, false, HODateTime::toHTWeek));
+        // first remaining hrf of a training week is kept
+        assertEquals(List.of(1, 2, 3, 5), DBCleanupTool.selectHRFs(HRFS, 6, removeDate, true, HODateTime::toHTWeek));
+    }
+}